@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.test.bench;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import net.coobird.thumbnailator.resizers.Resizers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks each {@link Resizers} constant, over a matrix of source
+ * image types, source sizes, scale ratios, and executors.
+ * 
+ * Destination images are TYPE_INT_ARGB, as typically used for thumbnails
+ * of images with alpha, and for indexed ones.
+ * 
+ * The whole matrix takes hours, so parameters are typically restricted
+ * with JMH -p option, for example:
+ * mvn -P benchmark test-compile exec:exec
+ *     -Djmh.args="ResizersBenchmark -p resizer=PARALLEL_BICUBIC,BICUBIC -p executor=NONE,THREAD_POOL"
+ * 
+ * Results are written as JSON into target/jmh-result.json (see pom.xml).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class ResizersBenchmark {
+	
+	/**
+	 * Sequential resize being done in the benchmark thread.
+	 */
+	public enum ExecutorKind {
+		NONE,
+		THREAD_POOL,
+		FORK_JOIN,
+	}
+	
+	/**
+	 * No values, meaning all constants.
+	 */
+	@Param
+	public Resizers resizer;
+	
+	@Param({"INT_ARGB", "INT_RGB", "3BYTE_BGR", "BYTE_GRAY", "BYTE_INDEXED"})
+	public String srcType;
+	
+	/**
+	 * "width x height".
+	 */
+	@Param({"640x480", "3000x2000"})
+	public String srcSize;
+	
+	/**
+	 * Destination span / source span.
+	 */
+	@Param({"0.1", "0.5", "1.5"})
+	public double scale;
+	
+	@Param
+	public ExecutorKind executor;
+	
+	private BufferedImage srcImage;
+	
+	private BufferedImage destImage;
+	
+	private ExecutorService executorService;
+	
+	/*
+	 * 
+	 */
+	
+	@Setup(Level.Trial)
+	public void setup() {
+		final String[] spans = this.srcSize.split("x");
+		final int sw = Integer.parseInt(spans[0]);
+		final int sh = Integer.parseInt(spans[1]);
+		this.srcImage = newNoiseImage(sw, sh, toImageType(this.srcType));
+		
+		final int dw = Math.max(1, (int) Math.round(sw * this.scale));
+		final int dh = Math.max(1, (int) Math.round(sh * this.scale));
+		this.destImage = new BufferedImage(dw, dh, BufferedImage.TYPE_INT_ARGB);
+		
+		final int parallelism = Runtime.getRuntime().availableProcessors();
+		switch (this.executor) {
+			case NONE:
+				this.executorService = null;
+				break;
+			case THREAD_POOL:
+				this.executorService = new ThreadPoolExecutor(
+					parallelism,
+					parallelism,
+					0L,
+					TimeUnit.MILLISECONDS,
+					new LinkedBlockingQueue<Runnable>());
+				break;
+			case FORK_JOIN:
+				this.executorService = new ForkJoinPool(parallelism);
+				break;
+			default:
+				throw new AssertionError(this.executor);
+		}
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() throws InterruptedException {
+		if (this.executorService != null) {
+			this.executorService.shutdown();
+			this.executorService.awaitTermination(1L, TimeUnit.MINUTES);
+		}
+	}
+	
+	@Benchmark
+	public BufferedImage resize() {
+		this.resizer.resize(this.srcImage, this.destImage, this.executorService);
+		return this.destImage;
+	}
+	
+	/*
+	 * 
+	 */
+	
+	private static int toImageType(String typeName) {
+		if ("INT_ARGB".equals(typeName)) {
+			return BufferedImage.TYPE_INT_ARGB;
+		} else if ("INT_RGB".equals(typeName)) {
+			return BufferedImage.TYPE_INT_RGB;
+		} else if ("3BYTE_BGR".equals(typeName)) {
+			return BufferedImage.TYPE_3BYTE_BGR;
+		} else if ("BYTE_GRAY".equals(typeName)) {
+			return BufferedImage.TYPE_BYTE_GRAY;
+		} else if ("BYTE_INDEXED".equals(typeName)) {
+			return BufferedImage.TYPE_BYTE_INDEXED;
+		} else {
+			throw new IllegalArgumentException(typeName);
+		}
+	}
+	
+	/**
+	 * Noise, for no uniform pixels special case to kick in,
+	 * and a same seed for reproducibility.
+	 */
+	private static BufferedImage newNoiseImage(int width, int height, int imageType) {
+		final BufferedImage ret = new BufferedImage(width, height, imageType);
+		final Random random = new Random(123L);
+		final int[] rowArgbArr = new int[width];
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				rowArgbArr[x] = random.nextInt();
+			}
+			ret.setRGB(0, y, width, 1, rowArgbArr, 0, width);
+		}
+		return ret;
+	}
+}
@@ -0,0 +1,304 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the jobs of a batch, one per source, used by the output methods of
+ * {@link Thumbnails.Builder} which create multiple thumbnails, and by
+ * {@link Thumbnails#probe(Iterable, java.util.concurrent.Executor)}.
+ * <p>
+ * When no parallelism is configured, jobs are run in the calling thread as
+ * they are submitted, and any exception they throw is propagated as-is,
+ * which aborts the batch.
+ * <p>
+ * Otherwise, jobs are run concurrently, with a bounded number of jobs being
+ * in flight at any time, so that only a bounded number of images are held
+ * in memory. Exceptions thrown by jobs are collected, and reported at the
+ * end of the batch by a {@link ThumbnailBatchException}.
+ * <p>
+ * Instances of this class are meant to be used by a single thread,
+ * and {@link #close()} must be called once done.
+ * 
+ * @param <R>		The type of the results of the jobs.
+ * @author coobird
+ *
+ */
+final class BatchRunner<R> {
+	/**
+	 * A job creating the thumbnail for one source.
+	 * 
+	 * @param <R>		The type of the result of the job.
+	 */
+	interface Job<R> {
+		/**
+		 * Creates the thumbnail.
+		 * 
+		 * @return				The result, or {@code null} if the result is
+		 * 						not to be included in the results.
+		 * @throws IOException	If a problem occurred while creating the
+		 * 						thumbnail.
+		 */
+		public R run() throws IOException;
+	}
+	
+	/**
+	 * Creates daemon threads, so that an owned pool which would not have been
+	 * shut down doesn't prevent the JVM from exiting.
+	 */
+	private static class DaemonThreadFactory implements ThreadFactory {
+		private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+		private final int poolNumber = POOL_NUMBER.incrementAndGet();
+		private final AtomicInteger threadNumber = new AtomicInteger();
+		
+		public Thread newThread(Runnable r) {
+			Thread thread = new Thread(
+					r,
+					"thumbnailator-batch-" + poolNumber + "-" + threadNumber.incrementAndGet()
+			);
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+	
+	/**
+	 * The executor to run jobs with, or {@code null} if jobs are to be
+	 * run sequentially in the calling thread.
+	 */
+	private final Executor executor;
+	
+	/**
+	 * The executor created by this runner, which is to be shut down
+	 * on {@link #close()}, or {@code null}.
+	 */
+	private final ExecutorService ownedExecutor;
+	
+	/**
+	 * Bounds the number of jobs in flight, or {@code null} if jobs are
+	 * run sequentially.
+	 */
+	private final Semaphore inFlightPermits;
+	
+	/*
+	 * The following fields are guarded by this runner's lock.
+	 */
+	
+	/**
+	 * The results, by source index.
+	 */
+	private final List<R> results = new ArrayList<R>();
+	
+	private final List<ThumbnailBatchException.Failure> failures =
+		new ArrayList<ThumbnailBatchException.Failure>();
+	
+	/**
+	 * The first {@link Error} thrown by a job, which is not collected as
+	 * a failure but rethrown.
+	 */
+	private Error error;
+	
+	private int submittedCount;
+	private int completedCount;
+	
+	/**
+	 * Instantiates a {@link BatchRunner}.
+	 * 
+	 * @param parallelism	The maximum number of jobs in flight, or
+	 * 						{@code 0} if not specified.
+	 * @param executor		The executor to run jobs with, or {@code null}
+	 * 						if not specified.
+	 */
+	BatchRunner(int parallelism, Executor executor) {
+		if (executor == null && parallelism <= 1) {
+			this.executor = null;
+			this.ownedExecutor = null;
+			this.inFlightPermits = null;
+			return;
+		}
+		
+		if (parallelism == 0) {
+			parallelism = Runtime.getRuntime().availableProcessors();
+		}
+		
+		if (executor == null) {
+			this.ownedExecutor =
+				Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory());
+			this.executor = this.ownedExecutor;
+		} else {
+			this.ownedExecutor = null;
+			this.executor = executor;
+		}
+		this.inFlightPermits = new Semaphore(parallelism);
+	}
+	
+	/**
+	 * Submits the job for the next source of the batch.
+	 * <p>
+	 * If jobs are run sequentially, the job is run before this method
+	 * returns. Otherwise, this method blocks while the maximum number of
+	 * jobs are in flight.
+	 * 
+	 * @param source		The source, for failure reporting.
+	 * @param job			The job.
+	 * @throws IOException	If jobs are run sequentially and the job threw
+	 * 						it, or if interrupted while waiting for a job
+	 * 						to complete.
+	 */
+	void submit(Object source, Job<R> job) throws IOException {
+		if (executor == null) {
+			results.add(job.run());
+			return;
+		}
+		
+		try {
+			inFlightPermits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for a thumbnail to be created.");
+		}
+		
+		final int index;
+		synchronized (this) {
+			index = submittedCount++;
+			results.add(null);
+		}
+		
+		Runnable runnable = newRunnable(index, source, job);
+		try {
+			executor.execute(runnable);
+		} catch (RejectedExecutionException e) {
+			// Not giving up on the source because of the executor.
+			runnable.run();
+		}
+	}
+	
+	/**
+	 * Waits for all submitted jobs to complete, and returns their results.
+	 * 
+	 * @return				The non-{@code null} results, in input order.
+	 * @throws ThumbnailBatchException	If some jobs threw an exception.
+	 */
+	List<R> getResults() throws ThumbnailBatchException {
+		awaitCompletion();
+		
+		synchronized (this) {
+			if (error != null) {
+				throw error;
+			}
+			
+			List<R> nonNullResults = new ArrayList<R>(results.size());
+			for (R result : results) {
+				if (result != null) {
+					nonNullResults.add(result);
+				}
+			}
+			
+			if (!failures.isEmpty()) {
+				Collections.sort(failures, new Comparator<ThumbnailBatchException.Failure>() {
+					public int compare(ThumbnailBatchException.Failure f1, ThumbnailBatchException.Failure f2) {
+						return f1.getIndex() - f2.getIndex();
+					}
+				});
+				throw new ThumbnailBatchException(failures, nonNullResults);
+			}
+			
+			return nonNullResults;
+		}
+	}
+	
+	/**
+	 * Waits for all submitted jobs to complete, and releases resources.
+	 * <p>
+	 * Is to be called even if the batch was aborted, for jobs in flight not to
+	 * keep writing into destinations after the output method has returned.
+	 */
+	void close() {
+		awaitCompletion();
+		
+		if (ownedExecutor != null) {
+			ownedExecutor.shutdown();
+		}
+	}
+	
+	private Runnable newRunnable(final int index, final Object source, final Job<R> job) {
+		return new Runnable() {
+			public void run() {
+				try {
+					R result = job.run();
+					synchronized (BatchRunner.this) {
+						results.set(index, result);
+					}
+				} catch (Exception e) {
+					synchronized (BatchRunner.this) {
+						failures.add(new ThumbnailBatchException.Failure(index, source, e));
+					}
+				} catch (Error e) {
+					synchronized (BatchRunner.this) {
+						if (error == null) {
+							error = e;
+						}
+					}
+				} finally {
+					inFlightPermits.release();
+					synchronized (BatchRunner.this) {
+						completedCount++;
+						BatchRunner.this.notifyAll();
+					}
+				}
+			}
+		};
+	}
+	
+	/**
+	 * Waits, uninterruptibly, for all submitted jobs to complete, since jobs
+	 * in flight are still writing into their destinations.
+	 */
+	private synchronized void awaitCompletion() {
+		boolean interrupted = false;
+		while (completedCount != submittedCount) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
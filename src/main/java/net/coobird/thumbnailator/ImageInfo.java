@@ -0,0 +1,140 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator;
+
+import javax.imageio.ImageReader;
+
+import net.coobird.thumbnailator.util.exif.Orientation;
+
+/**
+ * Information about an image, obtained from its headers without decoding
+ * its pixels.
+ * <p>
+ * Instances of this class are obtained by calling one of the
+ * {@code Thumbnails.probe(...)} methods, and are immutable.
+ * 
+ * @author coobird
+ * @since	0.4.21
+ */
+public final class ImageInfo {
+	private final int width;
+	private final int height;
+	private final String formatName;
+	private final Orientation orientation;
+	
+	/**
+	 * Instantiates an {@link ImageInfo}.
+	 * <p>
+	 * Instances are usually obtained from the {@code Thumbnails.probe(...)}
+	 * methods, which read them with
+	 * {@link net.coobird.thumbnailator.tasks.io.ImageInfoReader}.
+	 * 
+	 * @param width			The width of the image, as stored.
+	 * @param height		The height of the image, as stored.
+	 * @param formatName	The format name of the image.
+	 * @param orientation	The Exif orientation of the image, or
+	 * 						{@code null} if none.
+	 */
+	public ImageInfo(int width, int height, String formatName, Orientation orientation) {
+		this.width = width;
+		this.height = height;
+		this.formatName = formatName;
+		this.orientation = orientation;
+	}
+	
+	/**
+	 * Returns the width of the image, as stored.
+	 * 
+	 * @return				The width of the image.
+	 */
+	public int getWidth() {
+		return width;
+	}
+	
+	/**
+	 * Returns the height of the image, as stored.
+	 * 
+	 * @return				The height of the image.
+	 */
+	public int getHeight() {
+		return height;
+	}
+	
+	/**
+	 * Returns the width of the image once the Exif orientation is applied.
+	 * 
+	 * @return				The width of the image as displayed.
+	 */
+	public int getOrientedWidth() {
+		return isSwapDimensions() ? height : width;
+	}
+	
+	/**
+	 * Returns the height of the image once the Exif orientation is applied.
+	 * 
+	 * @return				The height of the image as displayed.
+	 */
+	public int getOrientedHeight() {
+		return isSwapDimensions() ? width : height;
+	}
+	
+	/**
+	 * Returns the format name of the image, as given by its
+	 * {@link ImageReader}.
+	 * 
+	 * @return				The format name of the image.
+	 */
+	public String getFormatName() {
+		return formatName;
+	}
+	
+	/**
+	 * Returns the Exif orientation of the image.
+	 * 
+	 * @return				The Exif orientation of the image, or
+	 * 						{@code null} if the image does not have one.
+	 */
+	public Orientation getOrientation() {
+		return orientation;
+	}
+	
+	private boolean isSwapDimensions() {
+		return orientation == Orientation.LEFT_TOP ||
+				orientation == Orientation.RIGHT_TOP ||
+				orientation == Orientation.RIGHT_BOTTOM ||
+				orientation == Orientation.LEFT_BOTTOM;
+	}
+	
+	/**
+	 * Returns a {@code String} representation of this object.
+	 * 
+	 * @return		{@code String} representation of this object.
+	 */
+	@Override
+	public String toString() {
+		return "ImageInfo [width=" + width + ", height=" + height +
+				", formatName=" + formatName + ", orientation=" + orientation + "]";
+	}
+}
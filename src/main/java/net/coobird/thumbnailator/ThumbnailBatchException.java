@@ -0,0 +1,157 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An exception used to indicate that thumbnails could not be created for
+ * some of the sources of a batch processed in parallel.
+ * <p>
+ * The sources which failed do not prevent the other sources of the batch
+ * from being processed. The failures, and the results of the sources which
+ * were processed successfully, are available through this exception.
+ * 
+ * @author coobird
+ * @since	0.4.21
+ */
+public class ThumbnailBatchException extends IOException {
+	/**
+	 * An ID used for serialization.
+	 */
+	private static final long serialVersionUID = -4102367390518470923L;
+	
+	/**
+	 * A failure to create the thumbnail for one source of a batch.
+	 * 
+	 * @author coobird
+	 *
+	 */
+	public static final class Failure {
+		private final int index;
+		private final Object source;
+		private final Throwable cause;
+		
+		/**
+		 * Instantiates a {@link Failure}.
+		 * 
+		 * @param index		The index of the source in the batch.
+		 * @param source	The source, as returned by
+		 * 					{@link net.coobird.thumbnailator.tasks.io.ImageSource#getSource()}.
+		 * @param cause		The exception thrown while processing the
+		 * 					source.
+		 */
+		public Failure(int index, Object source, Throwable cause) {
+			this.index = index;
+			this.source = source;
+			this.cause = cause;
+		}
+		
+		/**
+		 * Returns the index of the source in the batch, in input order.
+		 * 
+		 * @return			The index of the source.
+		 */
+		public int getIndex() {
+			return index;
+		}
+		
+		/**
+		 * Returns the source for which the thumbnail could not be created.
+		 * 
+		 * @return			The source, such as a {@link java.io.File}.
+		 */
+		public Object getSource() {
+			return source;
+		}
+		
+		/**
+		 * Returns the exception thrown while processing the source.
+		 * 
+		 * @return			The exception.
+		 */
+		public Throwable getCause() {
+			return cause;
+		}
+		
+		@Override
+		public String toString() {
+			return "[" + index + "] " + source + ": " + cause;
+		}
+	}
+	
+	/**
+	 * The failures, in input order.
+	 * <p>
+	 * Sources and results are not necessarily serializable, hence not
+	 * retained upon serialization.
+	 */
+	private final transient List<Failure> failures;
+	
+	/**
+	 * The results of the sources which were processed successfully,
+	 * in input order.
+	 */
+	private final transient List<?> results;
+	
+	/**
+	 * Instantiates a {@link ThumbnailBatchException}.
+	 * <p>
+	 * The cause of the first failure is used as the cause of this exception.
+	 * 
+	 * @param failures		The failures, in input order. Must not be empty.
+	 * @param results		The results of the sources which were processed
+	 * 						successfully, in input order.
+	 */
+	public ThumbnailBatchException(List<Failure> failures, List<?> results) {
+		super(failures.size() + " source(s) of the batch failed, first: " + failures.get(0));
+		this.failures = Collections.unmodifiableList(new ArrayList<Failure>(failures));
+		this.results = Collections.unmodifiableList(new ArrayList<Object>(results));
+		initCause(failures.get(0).getCause());
+	}
+	
+	/**
+	 * Returns the failures, in input order.
+	 * 
+	 * @return			The failures.
+	 */
+	public List<Failure> getFailures() {
+		return failures;
+	}
+	
+	/**
+	 * Returns the results of the sources which were processed successfully,
+	 * in input order, as they would have been returned by the output method
+	 * if no failure had occurred.
+	 * 
+	 * @return			The results of the successful sources.
+	 */
+	public List<?> getResults() {
+		return results;
+	}
+}
@@ -28,12 +28,14 @@ import java.awt.Dimension;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import net.coobird.thumbnailator.filters.ImageFilter;
 import net.coobird.thumbnailator.resizers.FixedResizerFactory;
 import net.coobird.thumbnailator.geometry.Region;
 import net.coobird.thumbnailator.resizers.Resizer;
 import net.coobird.thumbnailator.resizers.ResizerFactory;
+import net.coobird.thumbnailator.tasks.io.DecodeSubsampling;
 
 /**
  * This class is used to specify the parameters to use when creating a thumbnail.
@@ -194,6 +196,23 @@ public class ThumbnailParameter {
 	 */
 	private final boolean useExifOrientation;
 	
+	/**
+	 * The {@link Executor} to use to parallelize the resizing operation,
+	 * or {@code null} if it is to be performed in the calling thread.
+	 */
+	private final Executor parallelExecutor;
+	
+	/**
+	 * Whether or not the source image may be subsampled while being decoded.
+	 */
+	private final DecodeSubsampling decodeSubsampling;
+	
+	/**
+	 * Whether or not the thumbnail embedded in the Exif metadata of the
+	 * source image may be used instead of the source image.
+	 */
+	private final boolean useEmbeddedThumbnail;
+	
 	/**
 	 * Private constructor which sets all the required fields, and performs
 	 * validation of the given arguments.
@@ -270,6 +289,19 @@ public class ThumbnailParameter {
 	 * 								If {@code true} is specified, then the
 	 * 								Exif metadata will be used to determine
 	 * 								the orientation of the thumbnail.
+	 * @param parallelExecutor	The {@link Executor} to use to parallelize
+	 * 							the resizing operation.
+	 * 							A value of {@code null} indicates that the
+	 * 							resizing operation is performed in the calling
+	 * 							thread.
+	 * @param decodeSubsampling	Whether or not the source image may be
+	 * 								subsampled while being decoded.
+	 * 								A value of {@code null} is recognized
+	 * 								as {@link DecodeSubsampling#NONE}.
+	 * @param useEmbeddedThumbnail	Whether or not the thumbnail embedded in
+	 * 								the Exif metadata of the source image may
+	 * 								be used instead of the source image, when
+	 * 								it is large enough.
 	 * 
 	 * @throws IllegalArgumentException 	If the scaling factor is not a
 	 * 										rational number or is less than or
@@ -289,7 +321,10 @@ public class ThumbnailParameter {
 			List<ImageFilter> filters,
 			ResizerFactory resizerFactory,
 			boolean fitWithinDimensions,
-			boolean useExifOrientation
+			boolean useExifOrientation,
+			Executor parallelExecutor,
+			DecodeSubsampling decodeSubsampling,
+			boolean useEmbeddedThumbnail
 	) {
 		// The following 2 fields are set by the public constructors.
 		this.thumbnailSize = thumbnailSize;
@@ -332,6 +367,10 @@ public class ThumbnailParameter {
 		this.resizerFactory = resizerFactory;
 		this.fitWithinDimensions = fitWithinDimensions;
 		this.useExifOrientation = useExifOrientation;
+		this.parallelExecutor = parallelExecutor;
+		this.decodeSubsampling =
+			decodeSubsampling == null ? DecodeSubsampling.NONE : decodeSubsampling;
+		this.useEmbeddedThumbnail = useEmbeddedThumbnail;
 	}
 	
 	/**
@@ -460,7 +499,10 @@ public class ThumbnailParameter {
 				filters,
 				new FixedResizerFactory(resizer),
 				fitWithinDimensions,
-				useExifOrientation
+				useExifOrientation,
+				null,
+				null,
+				false
 		);
 		
 		validateThumbnailSize();
@@ -572,7 +614,10 @@ public class ThumbnailParameter {
 				filters,
 				new FixedResizerFactory(resizer),
 				fitWithinDimensions,
-				useExifOrientation
+				useExifOrientation,
+				null,
+				null,
+				false
 		);
 		
 		validateScalingFactor();
@@ -678,7 +723,10 @@ public class ThumbnailParameter {
 				filters,
 				resizerFactory,
 				fitWithinDimensions,
-				useExifOrientation
+				useExifOrientation,
+				null,
+				null,
+				false
 		);
 		
 		validateThumbnailSize();
@@ -791,7 +839,269 @@ public class ThumbnailParameter {
 				filters,
 				resizerFactory,
 				fitWithinDimensions,
-				useExifOrientation
+				useExifOrientation,
+				null,
+				null,
+				false
+		);
+		
+		validateScalingFactor();
+	}
+	
+	/**
+	 * Creates an object holding the parameters needed in order to make a
+	 * thumbnail.
+	 * 
+	 * @param thumbnailSize		The size of the thumbnail to generate.
+	 * @param sourceRegion		The region of the source image to use when
+	 * 							creating a thumbnail.
+	 * 							A value of {@code null} indicates that the
+	 * 							entire source image should be used to create
+	 * 							the thumbnail.
+	 * @param keepAspectRatio	Indicates whether or not the thumbnail should
+	 * 							maintain the aspect ratio of the original image.
+	 * @param outputFormat		A string indicating the compression format
+	 * 							that should be applied on the thumbnail.
+	 * 							A value of
+	 * 							{@link ThumbnailParameter#ORIGINAL_FORMAT}
+	 * 							should be provided if the same image format as
+	 * 							the original should	be used for the thumbnail.
+	 * 							A value of
+	 * 							{@link ThumbnailParameter#DETERMINE_FORMAT}
+	 * 							should be provided if the output format of the
+	 * 							thumbnail should be the determined from the
+	 * 							information available, such as the output file
+	 * 							name of the thumbnail.
+	 * @param outputFormatType	A string indicating the compression type that
+	 * 							should be used when writing the thumbnail.
+	 * 							A value of
+	 * 							{@link ThumbnailParameter#DEFAULT_FORMAT_TYPE}
+	 * 							should be provided if the thumbnail should be
+	 * 							written using the default compression type of
+	 * 							the codec specified in {@code outputFormat}.
+	 * @param outputQuality		A value from {@code 0.0f} to {@code 1.0f} which
+	 * 							indicates the quality setting to use for the
+	 * 							compression of the thumbnail. {@code 0.0f}
+	 * 							indicates the lowest quality, {@code 1.0f}
+	 * 							indicates the highest quality setting for the
+	 * 							compression.
+	 * 							{@link ThumbnailParameter#DEFAULT_QUALITY}
+	 * 							should be specified when the codec's default
+	 * 							compression quality settings should be used.
+	 * @param imageType 		The {@link BufferedImage} image type of the
+	 * 							thumbnail.
+	 * 							A value of
+	 * 							{@link ThumbnailParameter#DEFAULT_IMAGE_TYPE}
+	 *							should be specified when the default image
+	 *							type should be used when creating the thumbnail.
+	 * @param filters			The {@link ImageFilter}s to apply to the
+	 * 							thumbnail.
+	 * 							A value of {@code null} will be recognized as
+	 * 							no filters are to be applied.
+	 * 							The filters are applied after the original
+	 * 							image has been resized.
+	 * @param resizerFactory	The {@link ResizerFactory} for obtaining a
+	 * 							{@link Resizer} that is to be used when
+	 * 							performing an image resizing operation.
+	 * @param fitWithinDimensions	Whether or not to fit the thumbnail within
+	 * 								the specified dimensions.
+	 * 								<p>
+	 * 								If {@code true} is specified, then the
+	 * 								thumbnail will be sized to fit within the
+	 * 								specified dimensions, if the thumbnail is
+	 * 								going to exceed those dimensions.
+	 * @param useExifOrientation	Whether or not to use the Exif metadata to
+	 * 								determine the orientation of the thumbnail.
+	 * 								<p>
+	 * 								If {@code true} is specified, then the
+	 * 								Exif metadata will be used to determine
+	 * 								the orientation of the thumbnail.
+	 * @param parallelExecutor	The {@link Executor} to use to parallelize
+	 * 							the resizing operation, when the
+	 * 							{@link Resizer} supports it.
+	 * 							A value of {@code null} indicates that the
+	 * 							resizing operation is performed in the calling
+	 * 							thread.
+	 * @param decodeSubsampling	Whether or not the source image may be
+	 * 								subsampled while being decoded.
+	 * 								A value of {@code null} is recognized
+	 * 								as {@link DecodeSubsampling#NONE}.
+	 * @param useEmbeddedThumbnail	Whether or not the thumbnail embedded in
+	 * 								the Exif metadata of the source image may
+	 * 								be used instead of the source image, when
+	 * 								it is large enough.
+	 * 
+	 * @throws IllegalArgumentException 	If size is {@code null} or if the
+	 * 										dimensions are negative, or if the
+	 * 										{@link ResizerFactory} is null.
+	 * @since	0.4.21
+	 */
+	public ThumbnailParameter(
+			Dimension thumbnailSize,
+			Region sourceRegion,
+			boolean keepAspectRatio,
+			String outputFormat,
+			String outputFormatType,
+			float outputQuality,
+			int imageType,
+			List<ImageFilter> filters,
+			ResizerFactory resizerFactory,
+			boolean fitWithinDimensions,
+			boolean useExifOrientation,
+			Executor parallelExecutor,
+			DecodeSubsampling decodeSubsampling,
+			boolean useEmbeddedThumbnail
+	) {
+		this(
+				thumbnailSize,
+				Double.NaN,
+				Double.NaN,
+				sourceRegion,
+				keepAspectRatio,
+				outputFormat,
+				outputFormatType,
+				outputQuality,
+				imageType,
+				filters,
+				resizerFactory,
+				fitWithinDimensions,
+				useExifOrientation,
+				parallelExecutor,
+				decodeSubsampling,
+				useEmbeddedThumbnail
+		);
+		
+		validateThumbnailSize();
+	}
+	
+	/**
+	 * Creates an object holding the parameters needed in order to make a
+	 * thumbnail.
+	 * 
+	 * @param widthScalingFactor	The scaling factor to apply to the width
+	 * 								when creating a	thumbnail from the original
+	 * 								image.
+	 * @param heightScalingFactor	The scaling factor to apply to the height
+	 * 								when creating a	thumbnail from the original
+	 * 								image.
+	 * @param sourceRegion		The region of the source image to use when
+	 * 							creating a thumbnail.
+	 * 							A value of {@code null} indicates that the
+	 * 							entire source image should be used to create
+	 * 							the thumbnail.
+	 * @param keepAspectRatio	Indicates whether or not the thumbnail should
+	 * 							maintain the aspect ratio of the original image.
+	 * @param outputFormat		A string indicating the compression format
+	 * 							that should be applied on the thumbnail.
+	 * 							A value of
+	 * 							{@link ThumbnailParameter#ORIGINAL_FORMAT}
+	 * 							should be provided if the same image format as
+	 * 							the original should	be used for the thumbnail.
+	 * 							A value of
+	 * 							{@link ThumbnailParameter#DETERMINE_FORMAT}
+	 * 							should be provided if the output format of the
+	 * 							thumbnail should be the determined from the
+	 * 							information available, such as the output file
+	 * 							name of the thumbnail.
+	 * @param outputFormatType	A string indicating the compression type that
+	 * 							should be used when writing the thumbnail.
+	 * 							A value of
+	 * 							{@link ThumbnailParameter#DEFAULT_FORMAT_TYPE}
+	 * 							should be provided if the thumbnail should be
+	 * 							written using the default compression type of
+	 * 							the codec specified in {@code outputFormat}.
+	 * @param outputQuality		A value from {@code 0.0f} to {@code 1.0f} which
+	 * 							indicates the quality setting to use for the
+	 * 							compression of the thumbnail. {@code 0.0f}
+	 * 							indicates the lowest quality, {@code 1.0f}
+	 * 							indicates the highest quality setting for the
+	 * 							compression.
+	 * 							{@link ThumbnailParameter#DEFAULT_QUALITY}
+	 * 							should be specified when the codec's default
+	 * 							compression quality settings should be used.
+	 * @param imageType 		The {@link BufferedImage} image type of the
+	 * 							thumbnail.
+	 * 							A value of
+	 * 							{@link ThumbnailParameter#DEFAULT_IMAGE_TYPE}
+	 *							should be specified when the default image
+	 *							type should be used when creating the thumbnail.
+	 * @param filters			The {@link ImageFilter}s to apply to the
+	 * 							thumbnail.
+	 * 							A value of {@code null} will be recognized as
+	 * 							no filters are to be applied.
+	 * 							The filters are applied after the original
+	 * 							image has been resized.
+	 * @param resizerFactory	The {@link ResizerFactory} for obtaining a
+	 * 							{@link Resizer} that is to be used when
+	 * 							performing an image resizing operation.
+	 * @param fitWithinDimensions	Whether or not to fit the thumbnail within
+	 * 								the specified dimensions.
+	 * 								<p>
+	 * 								If {@code true} is specified, then the
+	 * 								thumbnail will be sized to fit within the
+	 * 								specified dimensions, if the thumbnail is
+	 * 								going to exceed those dimensions.
+	 * @param useExifOrientation	Whether or not to use the Exif metadata to
+	 * 								determine the orientation of the thumbnail.
+	 * 								<p>
+	 * 								If {@code true} is specified, then the
+	 * 								Exif metadata will be used to determine
+	 * 								the orientation of the thumbnail.
+	 * @param parallelExecutor	The {@link Executor} to use to parallelize
+	 * 							the resizing operation, when the
+	 * 							{@link Resizer} supports it.
+	 * 							A value of {@code null} indicates that the
+	 * 							resizing operation is performed in the calling
+	 * 							thread.
+	 * @param decodeSubsampling	Whether or not the source image may be
+	 * 								subsampled while being decoded.
+	 * 								A value of {@code null} is recognized
+	 * 								as {@link DecodeSubsampling#NONE}.
+	 * @param useEmbeddedThumbnail	Whether or not the thumbnail embedded in
+	 * 								the Exif metadata of the source image may
+	 * 								be used instead of the source image, when
+	 * 								it is large enough.
+	 * 
+	 * @throws IllegalArgumentException 	If the scaling factor is not a
+	 * 										rational number or is less than or
+	 * 										equal to 0, or if the
+	 * 										{@link ResizerFactory} is null.
+	 * @since	0.4.21
+	 */
+	public ThumbnailParameter(
+			double widthScalingFactor,
+			double heightScalingFactor,
+			Region sourceRegion,
+			boolean keepAspectRatio,
+			String outputFormat,
+			String outputFormatType,
+			float outputQuality,
+			int imageType,
+			List<ImageFilter> filters,
+			ResizerFactory resizerFactory,
+			boolean fitWithinDimensions,
+			boolean useExifOrientation,
+			Executor parallelExecutor,
+			DecodeSubsampling decodeSubsampling,
+			boolean useEmbeddedThumbnail
+	) {
+		this(
+				null,
+				widthScalingFactor,
+				heightScalingFactor,
+				sourceRegion,
+				keepAspectRatio,
+				outputFormat,
+				outputFormatType,
+				outputQuality,
+				imageType,
+				filters,
+				resizerFactory,
+				fitWithinDimensions,
+				useExifOrientation,
+				parallelExecutor,
+				decodeSubsampling,
+				useEmbeddedThumbnail
 		);
 		
 		validateScalingFactor();
@@ -993,4 +1303,44 @@ public class ThumbnailParameter {
 	public boolean useExifOrientation() {
 		return useExifOrientation;
 	}
+	
+	/**
+	 * Returns the {@link Executor} to use to parallelize the resizing
+	 * operation.
+	 * <p>
+	 * The executor is only used by {@link Resizer}s which support
+	 * parallelization.
+	 * 
+	 * @return		The {@link Executor} to use, or {@code null} if the
+	 * 				resizing operation is to be performed in the calling
+	 * 				thread.
+	 * @since	0.4.21
+	 */
+	public Executor getParallelExecutor() {
+		return parallelExecutor;
+	}
+	
+	/**
+	 * Returns whether or not the source image may be subsampled while being
+	 * decoded.
+	 * 
+	 * @return		The {@link DecodeSubsampling} to use when reading the
+	 * 				source image. Never {@code null}.
+	 * @since	0.4.21
+	 */
+	public DecodeSubsampling getDecodeSubsampling() {
+		return decodeSubsampling;
+	}
+	
+	/**
+	 * Returns whether or not the thumbnail embedded in the Exif metadata of
+	 * the source image may be used instead of the source image, when it is
+	 * at least as large as the thumbnail to create.
+	 * 
+	 * @return		{@code true} if the embedded thumbnail may be used.
+	 * @since	0.4.21
+	 */
+	public boolean useEmbeddedThumbnail() {
+		return useEmbeddedThumbnail;
+	}
 }
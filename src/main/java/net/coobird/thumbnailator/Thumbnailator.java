@@ -27,6 +27,8 @@ package net.coobird.thumbnailator;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
@@ -39,8 +41,11 @@ import java.util.List;
 
 import net.coobird.thumbnailator.builders.BufferedImageBuilder;
 import net.coobird.thumbnailator.builders.ThumbnailParameterBuilder;
+import net.coobird.thumbnailator.filters.Canvas;
+import net.coobird.thumbnailator.filters.Flip;
 import net.coobird.thumbnailator.filters.ImageFilter;
 import net.coobird.thumbnailator.filters.Pipeline;
+import net.coobird.thumbnailator.filters.Rotation;
 import net.coobird.thumbnailator.filters.SwapDimensions;
 import net.coobird.thumbnailator.makers.FixedSizeThumbnailMaker;
 import net.coobird.thumbnailator.makers.ScaledThumbnailMaker;
@@ -48,6 +53,7 @@ import net.coobird.thumbnailator.name.Rename;
 import net.coobird.thumbnailator.resizers.DefaultResizerFactory;
 import net.coobird.thumbnailator.resizers.Resizer;
 import net.coobird.thumbnailator.tasks.ThumbnailTask;
+import net.coobird.thumbnailator.util.ThumbnailatorUtils;
 
 /**
  * This class provides static utility methods which perform generation of
@@ -96,11 +102,42 @@ public final class Thumbnailator {
 				imageType = sourceImage.getType();
 			}
 		}
+		
+		/*
+		 * If the output format does not store alpha, the thumbnail would be
+		 * drawn over black into a TYPE_INT_RGB copy before being written.
+		 * Making it as TYPE_INT_RGB in the first place flattens it during
+		 * the resize instead, and filters drawing over it give the same
+		 * result as they would over a transparent image flattened afterwards.
+		 */
+		if (hasAlpha(imageType)
+				&& ThumbnailatorUtils.isOpaqueOutputFormat(task.getOutputFormatName())) {
+			imageType = BufferedImage.TYPE_INT_RGB;
+		}
 
 		// Check for presence of marker indicating to swap the width and height.
 		boolean isSwapDimensions = hasSwapDimensionsFilter(param.getImageFilters());
 
 		BufferedImage destinationImage;
+		List<ImageFilter> imageFilters = param.getImageFilters();
+		
+		/*
+		 * Rotations by multiples of 90 degrees and flips leading the image
+		 * filters, such as the ones orienting the image according to its
+		 * Exif metadata, are performed by the resizer while it resamples
+		 * the image, rather than as separate passes over the thumbnail.
+		 */
+		AffineTransform orientation = new AffineTransform();
+		int orientingFilterCount = 0;
+		for (ImageFilter imageFilter : imageFilters) {
+			AffineTransform transform = getOrientingTransform(imageFilter);
+			if (transform == null) {
+				break;
+			}
+			orientation.preConcatenate(transform);
+			orientingFilterCount++;
+		}
+		imageFilters = imageFilters.subList(orientingFilterCount, imageFilters.size());
 		
 		if (param.getSize() != null) {
 			// Get the dimensions of the original and thumbnail images.
@@ -108,15 +145,42 @@ public final class Thumbnailator {
 			int destinationWidth = !isSwapDimensions ? size.width : size.height;
 			int destinationHeight = !isSwapDimensions ? size.height : size.width;
 			
+			BufferedImage imageToResize = sourceImage;
+			boolean keepAspectRatio = param.isKeepAspectRatio();
+			
+			/*
+			 * If the source image was subsampled while being decoded, the
+			 * aspect ratio to keep is the one of the image at full
+			 * resolution.
+			 */
+			Dimension originalSize = task.getOriginalSize();
+			
+			/*
+			 * When the thumbnail is cropped right after being resized, only
+			 * the part of the source image which would be kept is resized,
+			 * directly into the final dimensions.
+			 */
+			Canvas crop = getFoldableCrop(param, isSwapDimensions);
+			if (crop != null) {
+				imageToResize = cropForCanvas(sourceImage, crop);
+				keepAspectRatio = false;
+				originalSize = null;
+				imageFilters = imageFilters.subList(1, imageFilters.size());
+			}
+			
 			// Create the thumbnail.
 			destinationImage =
 				new FixedSizeThumbnailMaker()
 					.size(destinationWidth, destinationHeight)
-					.keepAspectRatio(param.isKeepAspectRatio())
+					.keepAspectRatio(keepAspectRatio)
 					.fitWithinDimensions(param.fitWithinDimenions())
+					.originalSize(originalSize)
 					.imageType(imageType)
 					.resizerFactory(param.getResizerFactory())
-					.make(sourceImage);
+					.parallel(param.getParallelExecutor())
+					.transform(orientation)
+					.destination(imageFilters.isEmpty() ? task.getDestinationImage() : null)
+					.make(imageToResize);
 
 		} else if (!Double.isNaN(param.getWidthScalingFactor())) {
 			// Create the thumbnail.
@@ -124,12 +188,25 @@ public final class Thumbnailator {
 					param.getWidthScalingFactor() : param.getHeightScalingFactor();
 			double heightScalingFactor = !isSwapDimensions ?
 					param.getHeightScalingFactor() : param.getWidthScalingFactor();
+			
+			/*
+			 * If the source image was subsampled while being decoded, the
+			 * scaling factors are relative to the image at full resolution.
+			 */
+			Dimension originalSize = task.getOriginalSize();
+			if (originalSize != null) {
+				widthScalingFactor *= originalSize.width / (double)sourceImage.getWidth();
+				heightScalingFactor *= originalSize.height / (double)sourceImage.getHeight();
+			}
 
 			destinationImage =
 				new ScaledThumbnailMaker()
 					.scale(widthScalingFactor, heightScalingFactor)
 					.imageType(imageType)
 					.resizerFactory(param.getResizerFactory())
+					.parallel(param.getParallelExecutor())
+					.transform(orientation)
+					.destination(imageFilters.isEmpty() ? task.getDestinationImage() : null)
 					.make(sourceImage);
 
 		} else {
@@ -137,10 +214,13 @@ public final class Thumbnailator {
 					" does not have scaling factor nor thumbnail size specified.");
 		}
 		
-		// Perform the image filters
-		for (ImageFilter filter : param.getImageFilters()) {
-			destinationImage = filter.apply(destinationImage);
-		}
+		/*
+		 * Perform the image filters, in place where possible, as the
+		 * thumbnail was just made and can be modified.
+		 */
+		destinationImage = new Pipeline(imageFilters).apply(
+				destinationImage, true, param.getParallelExecutor()
+		);
 		
 		// Write the thumbnail image to the destination.
 		task.write(destinationImage);
@@ -149,6 +229,141 @@ public final class Thumbnailator {
 		destinationImage.flush();
 	}
 
+	/**
+	 * Returns the {@link Canvas} which crops the thumbnail right after it is
+	 * resized, if that crop can be performed on the source image instead.
+	 * <p>
+	 * This is the case for the {@link Canvas} added for
+	 * {@link Thumbnails.Builder#crop(net.coobird.thumbnailator.geometry.Position)},
+	 * which is the first filter, has the dimensions of the thumbnail, and is
+	 * applied to an image which covers it entirely.
+	 * 
+	 * @param param				The parameters of the thumbnail.
+	 * @param isSwapDimensions	Whether the width and height of the
+	 * 							thumbnail are swapped.
+	 * @return					The {@link Canvas} to fold into the resize,
+	 * 							or {@code null} if there is none.
+	 */
+	private static Canvas getFoldableCrop(
+			ThumbnailParameter param,
+			boolean isSwapDimensions
+	) {
+		List<ImageFilter> imageFilters = param.getImageFilters();
+		if (
+				isSwapDimensions ||
+				imageFilters.isEmpty() ||
+				!(imageFilters.get(0) instanceof Canvas) ||
+				!param.isKeepAspectRatio() ||
+				param.fitWithinDimenions()
+		) {
+			return null;
+		}
+		
+		Canvas canvas = (Canvas)imageFilters.get(0);
+		Dimension size = param.getSize();
+		if (
+				!canvas.isCrop() ||
+				canvas.getFillColor() != null ||
+				canvas.getWidth() != size.width ||
+				canvas.getHeight() != size.height
+		) {
+			return null;
+		}
+		
+		return canvas;
+	}
+	
+	/**
+	 * Returns the region of the source image which ends up in the
+	 * thumbnail, once resized to cover the dimensions of the specified
+	 * {@link Canvas} and cropped by it.
+	 * 
+	 * @param img				The source image.
+	 * @param canvas			The {@link Canvas} performing the crop.
+	 * @return					A view of the region of the source image
+	 * 							which is kept.
+	 */
+	private static BufferedImage cropForCanvas(BufferedImage img, Canvas canvas) {
+		Rectangle region = canvas.calculateCropRegion(img.getWidth(), img.getHeight());
+		
+		if (region.width == img.getWidth() && region.height == img.getHeight()) {
+			return img;
+		}
+		return img.getSubimage(region.x, region.y, region.width, region.height);
+	}
+
+	/**
+	 * Returns whether images of the specified type have an alpha channel.
+	 * 
+	 * @param imageType		The image type.
+	 * @return				{@code true} if the image type has alpha.
+	 */
+	private static boolean hasAlpha(int imageType) {
+		return imageType == BufferedImage.TYPE_INT_ARGB
+				|| imageType == BufferedImage.TYPE_INT_ARGB_PRE
+				|| imageType == BufferedImage.TYPE_4BYTE_ABGR
+				|| imageType == BufferedImage.TYPE_4BYTE_ABGR_PRE;
+	}
+	
+	/**
+	 * Returns the rotation and/or flip performed by the specified
+	 * {@link ImageFilter}, if it only rotates by a multiple of 90 degrees
+	 * and/or flips the image.
+	 * <p>
+	 * These are the {@link Flip} filters, the {@link Rotation.Rotator}s
+	 * rotating by a multiple of 90 degrees, the {@link SwapDimensions}
+	 * marker, and {@link Pipeline}s only made of those, such as the ones
+	 * orienting images according to their Exif metadata.
+	 * 
+	 * @param imageFilter	The image filter.
+	 * @return				The transform performed by the image filter,
+	 * 						without translation, or {@code null} if it
+	 * 						does not only rotate and/or flip the image.
+	 */
+	private static AffineTransform getOrientingTransform(ImageFilter imageFilter) {
+		if (imageFilter == Flip.HORIZONTAL) {
+			return AffineTransform.getScaleInstance(-1, 1);
+			
+		} else if (imageFilter == Flip.VERTICAL) {
+			return AffineTransform.getScaleInstance(1, -1);
+			
+		} else if (imageFilter == SwapDimensions.getInstance()) {
+			return new AffineTransform();
+			
+		} else if (imageFilter instanceof Rotation.Rotator) {
+			double angle = ((Rotation.Rotator)imageFilter).getAngle();
+			if (angle % 90 != 0) {
+				return null;
+			}
+			int quadrants = ((int)(angle / 90) % 4 + 4) % 4;
+			/*
+			 * Clockwise quadrant rotations, as the y axis points down.
+			 * Matrices are given as {m00, m10, m01, m11}.
+			 */
+			if (quadrants == 1) {
+				return new AffineTransform(0, 1, -1, 0, 0, 0);
+			} else if (quadrants == 2) {
+				return new AffineTransform(-1, 0, 0, -1, 0, 0);
+			} else if (quadrants == 3) {
+				return new AffineTransform(0, -1, 1, 0, 0, 0);
+			}
+			return new AffineTransform();
+			
+		} else if (imageFilter instanceof Pipeline) {
+			AffineTransform transform = new AffineTransform();
+			for (ImageFilter filter : ((Pipeline)imageFilter).getFilters()) {
+				AffineTransform filterTransform = getOrientingTransform(filter);
+				if (filterTransform == null) {
+					return null;
+				}
+				transform.preConcatenate(filterTransform);
+			}
+			return transform;
+		}
+		
+		return null;
+	}
+	
 	private static boolean hasSwapDimensionsFilter(List<ImageFilter> imageFilters) {
 		boolean hasSwapDimenionsFilter = false;
 		for (ImageFilter imageFilter : imageFilters) {
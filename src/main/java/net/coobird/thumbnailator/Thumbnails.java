@@ -29,18 +29,22 @@ import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageInputStream;
 
 import net.coobird.thumbnailator.filters.Canvas;
 import net.coobird.thumbnailator.filters.ImageFilter;
@@ -66,11 +70,19 @@ import net.coobird.thumbnailator.resizers.configurations.Antialiasing;
 import net.coobird.thumbnailator.resizers.configurations.Dithering;
 import net.coobird.thumbnailator.resizers.configurations.Rendering;
 import net.coobird.thumbnailator.resizers.configurations.ScalingMode;
+import net.coobird.thumbnailator.resizers.prl.ConvolutionKernel;
+import net.coobird.thumbnailator.resizers.prl.ParallelConvolutionResizer;
+import net.coobird.thumbnailator.resizers.prl.SharedPrlExecutor;
 import net.coobird.thumbnailator.tasks.SourceSinkThumbnailTask;
 import net.coobird.thumbnailator.tasks.io.BufferedImageSink;
 import net.coobird.thumbnailator.tasks.io.BufferedImageSource;
+import net.coobird.thumbnailator.tasks.io.ByteArrayImageSource;
+import net.coobird.thumbnailator.tasks.io.ByteBufferImageSink;
+import net.coobird.thumbnailator.tasks.io.ByteBufferImageSource;
+import net.coobird.thumbnailator.tasks.io.DecodeSubsampling;
 import net.coobird.thumbnailator.tasks.io.FileImageSink;
 import net.coobird.thumbnailator.tasks.io.FileImageSource;
+import net.coobird.thumbnailator.tasks.io.ImageInfoReader;
 import net.coobird.thumbnailator.tasks.io.ImageSource;
 import net.coobird.thumbnailator.tasks.io.InputStreamImageSource;
 import net.coobird.thumbnailator.tasks.io.OutputStreamImageSink;
@@ -278,6 +290,48 @@ public final class Thumbnails {
 		return Builder.ofBufferedImages(Arrays.asList(images));
 	}
 	
+	/**
+	 * Indicate to make thumbnails from the encoded images held in the
+	 * specified byte arrays.
+	 * <p>
+	 * The arrays are read in place, without being copied.
+	 * 
+	 * @param images	Byte arrays holding the encoded images for which
+	 * 					thumbnails are to be produced for.
+	 * @return			Reference to a builder object which is used to
+	 * 					specify the parameters for creating the thumbnail.
+	 * @throws NullPointerException		If the argument is {@code null}.
+	 * @throws IllegalArgumentException	If the argument is an empty array.
+	 * @since	0.4.21
+	 */
+	public static Builder<byte[]> of(byte[]... images) {
+		checkForNull(images, "Cannot specify null for byte arrays.");
+		checkForEmpty(images, "Cannot specify an empty array for byte arrays.");
+		return Builder.ofByteArrays(Arrays.asList(images));
+	}
+	
+	/**
+	 * Indicate to make thumbnails from the encoded images held in the
+	 * specified {@link ByteBuffer}s.
+	 * <p>
+	 * The data between the position and the limit of each buffer is read
+	 * in place, without being copied. The positions and limits of the
+	 * buffers are not changed.
+	 * 
+	 * @param buffers	{@link ByteBuffer}s holding the encoded images for
+	 * 					which thumbnails are to be produced for.
+	 * @return			Reference to a builder object which is used to
+	 * 					specify the parameters for creating the thumbnail.
+	 * @throws NullPointerException		If the argument is {@code null}.
+	 * @throws IllegalArgumentException	If the argument is an empty array.
+	 * @since	0.4.21
+	 */
+	public static Builder<ByteBuffer> of(ByteBuffer... buffers) {
+		checkForNull(buffers, "Cannot specify null for ByteBuffers.");
+		checkForEmpty(buffers, "Cannot specify an empty array for ByteBuffers.");
+		return Builder.ofByteBuffers(Arrays.asList(buffers));
+	}
+	
 	/**
 	 * Indicate to make thumbnails for images with the specified filenames.
 	 * 
@@ -366,6 +420,133 @@ public final class Thumbnails {
 		checkForEmpty(images, "Cannot specify an empty collection for images.");
 		return Builder.ofBufferedImages(images);
 	}
+	
+	/**
+	 * Returns information about the image in the specified {@link File},
+	 * obtained from its headers without decoding its pixels.
+	 * 
+	 * @param file		The image file.
+	 * @return			Information about the image.
+	 * @throws IOException	If a problem occurs while reading the image.
+	 * @throws NullPointerException		If the argument is {@code null}.
+	 * @since	0.4.21
+	 */
+	public static ImageInfo probe(File file) throws IOException {
+		checkForNull(file, "Cannot specify null for input file.");
+		if (!file.exists()) {
+			throw new FileNotFoundException(
+					"Could not find file: " + file.getAbsolutePath()
+			);
+		}
+		return probe(ImageIO.createImageInputStream(file));
+	}
+	
+	/**
+	 * Returns information about the image read from the specified
+	 * {@link InputStream}, obtained from its headers without decoding its
+	 * pixels.
+	 * <p>
+	 * Only the beginning of the stream is read, and the stream is not
+	 * closed by this method.
+	 * 
+	 * @param is		The {@link InputStream} from which the image is read.
+	 * @return			Information about the image.
+	 * @throws IOException	If a problem occurs while reading the image.
+	 * @throws NullPointerException		If the argument is {@code null}.
+	 * @since	0.4.21
+	 */
+	public static ImageInfo probe(InputStream is) throws IOException {
+		checkForNull(is, "Cannot specify null for InputStream.");
+		return ImageInfoReader.read(is);
+	}
+	
+	/**
+	 * Returns information about the image at the specified {@link URL},
+	 * obtained from its headers without decoding its pixels.
+	 * 
+	 * @param url		The URL of the image.
+	 * @return			Information about the image.
+	 * @throws IOException	If a problem occurs while reading the image.
+	 * @throws NullPointerException		If the argument is {@code null}.
+	 * @since	0.4.21
+	 */
+	public static ImageInfo probe(URL url) throws IOException {
+		checkForNull(url, "Cannot specify null for URL.");
+		InputStream is = url.openStream();
+		try {
+			return probe(is);
+		} finally {
+			is.close();
+		}
+	}
+	
+	/**
+	 * Returns information about the image contained in the specified byte
+	 * array, obtained from its headers without decoding its pixels.
+	 * 
+	 * @param data		The encoded image.
+	 * @return			Information about the image.
+	 * @throws IOException	If a problem occurs while reading the image.
+	 * @throws NullPointerException		If the argument is {@code null}.
+	 * @since	0.4.21
+	 */
+	public static ImageInfo probe(byte[] data) throws IOException {
+		checkForNull(data, "Cannot specify null for image data.");
+		return ImageInfoReader.read(data);
+	}
+	
+	/**
+	 * Returns information about the images in the specified {@link File}s,
+	 * obtained from their headers without decoding their pixels.
+	 * <p>
+	 * If an {@link Executor} is specified, the files are probed
+	 * concurrently using it, and problems with some files do not prevent
+	 * the other files from being probed: they are reported at the end by a
+	 * {@link ThumbnailBatchException}. Otherwise, the files are probed in
+	 * the calling thread, and the first problem is thrown as-is.
+	 * 
+	 * @param files		The image files.
+	 * @param executor	The {@link Executor} used to probe the files, or
+	 * 					{@code null} to probe them in the calling thread.
+	 * @return			Information about the images, in the order of the
+	 * 					files.
+	 * @throws IOException	If a problem occurs while reading an image.
+	 * @throws ThumbnailBatchException	If an {@link Executor} is specified,
+	 * 									and some files could not be probed.
+	 * @throws NullPointerException		If the files are {@code null}.
+	 * @since	0.4.21
+	 */
+	public static List<ImageInfo> probe(Iterable<File> files, Executor executor) throws IOException {
+		checkForNull(files, "Cannot specify null for input files.");
+		
+		BatchRunner<ImageInfo> runner = new BatchRunner<ImageInfo>(0, executor);
+		try {
+			for (final File file : files) {
+				runner.submit(file, new BatchRunner.Job<ImageInfo>() {
+					public ImageInfo run() throws IOException {
+						return probe(file);
+					}
+				});
+			}
+			
+			return runner.getResults();
+			
+		} finally {
+			runner.close();
+		}
+	}
+	
+	private static ImageInfo probe(ImageInputStream iis) throws IOException {
+		if (iis == null) {
+			throw new IOException("Could not open the image data.");
+		}
+		
+		try {
+			return ImageInfoReader.read(iis);
+		} finally {
+			iis.close();
+		}
+	}
 
 	/**
 	 * The builder interface for Thumbnailator to set up the thumbnail
@@ -422,6 +603,8 @@ instance.asFiles("path/to/thumbnail");
 	 * <li>{@link Thumbnails#of(String...)}</li>
 	 * <li>{@link Thumbnails#of(InputStream...)}</li>
 	 * <li>{@link Thumbnails#of(URL...)}</li>
+	 * <li>{@link Thumbnails#of(byte[]...)}</li>
+	 * <li>{@link Thumbnails#of(ByteBuffer...)}</li>
 	 * <li>{@link Thumbnails#fromImages(Iterable)}</li>
 	 * <li>{@link Thumbnails#fromFiles(Iterable)}</li>
 	 * <li>{@link Thumbnails#fromFilenames(Iterable)}</li>
@@ -580,6 +763,62 @@ instance.asFiles("path/to/thumbnail");
 			}
 		}
 
+		private static final class ByteArrayImageSourceIterator implements
+				Iterable<ImageSource<byte[]>> {
+
+			private final Iterable<byte[]> arrays;
+			
+			private ByteArrayImageSourceIterator(Iterable<byte[]> arrays) {
+				this.arrays = arrays;
+			}
+			
+			public Iterator<ImageSource<byte[]>> iterator() {
+				return new Iterator<ImageSource<byte[]>>() {
+					Iterator<byte[]> iter = arrays.iterator();
+					
+					public boolean hasNext() {
+						return iter.hasNext();
+					}
+					
+					public ImageSource<byte[]> next() {
+						return new ByteArrayImageSource(iter.next());
+					}
+					
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+		}
+		
+		private static final class ByteBufferImageSourceIterator implements
+				Iterable<ImageSource<ByteBuffer>> {
+
+			private final Iterable<ByteBuffer> buffers;
+			
+			private ByteBufferImageSourceIterator(Iterable<ByteBuffer> buffers) {
+				this.buffers = buffers;
+			}
+			
+			public Iterator<ImageSource<ByteBuffer>> iterator() {
+				return new Iterator<ImageSource<ByteBuffer>>() {
+					Iterator<ByteBuffer> iter = buffers.iterator();
+					
+					public boolean hasNext() {
+						return iter.hasNext();
+					}
+					
+					public ImageSource<ByteBuffer> next() {
+						return new ByteBufferImageSource(iter.next());
+					}
+					
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+		}
+
 		private static Builder<File> ofStrings(Iterable<String> filenames) {
 			Iterable<ImageSource<File>> iter = new StringImageSourceIterator(filenames);
 			return new Builder<File>(iter);
@@ -604,6 +843,16 @@ instance.asFiles("path/to/thumbnail");
 			Iterable<ImageSource<BufferedImage>> iter = new BufferedImageImageSourceIterator(images);
 			return new Builder<BufferedImage>(iter);
 		}
+		
+		private static Builder<byte[]> ofByteArrays(Iterable<byte[]> arrays) {
+			Iterable<ImageSource<byte[]>> iter = new ByteArrayImageSourceIterator(arrays);
+			return new Builder<byte[]>(iter);
+		}
+		
+		private static Builder<ByteBuffer> ofByteBuffers(Iterable<ByteBuffer> buffers) {
+			Iterable<ImageSource<ByteBuffer>> iter = new ByteBufferImageSourceIterator(buffers);
+			return new Builder<ByteBuffer>(iter);
+		}
 
 		private final class BufferedImageIterable implements
 				Iterable<BufferedImage> {
@@ -691,6 +940,11 @@ instance.asFiles("path/to/thumbnail");
 			ALLOW_OVERWRITE("allowOverwrite"),
 			CROP("crop"),
 			USE_EXIF_ORIENTATION("useExifOrientation"),
+			BATCH_PARALLELISM("batchParallelism"),
+			BATCH_EXECUTOR("batchExecutor"),
+			PARALLEL("parallel"),
+			DECODE_SUBSAMPLING("decodeSubsampling"),
+			USE_EMBEDDED_THUMBNAIL("useEmbeddedThumbnail"),
 			;
 			
 			private final String name;
@@ -733,6 +987,11 @@ instance.asFiles("path/to/thumbnail");
 			statusMap.put(Properties.ALLOW_OVERWRITE, Status.OPTIONAL);
 			statusMap.put(Properties.CROP, Status.OPTIONAL);
 			statusMap.put(Properties.USE_EXIF_ORIENTATION, Status.OPTIONAL);
+			statusMap.put(Properties.BATCH_PARALLELISM, Status.OPTIONAL);
+			statusMap.put(Properties.BATCH_EXECUTOR, Status.OPTIONAL);
+			statusMap.put(Properties.PARALLEL, Status.OPTIONAL);
+			statusMap.put(Properties.DECODE_SUBSAMPLING, Status.OPTIONAL);
+			statusMap.put(Properties.USE_EMBEDDED_THUMBNAIL, Status.OPTIONAL);
 		}
 
 		/**
@@ -801,6 +1060,31 @@ instance.asFiles("path/to/thumbnail");
 		
 		private boolean useExifOrientation = true;
 		
+		/**
+		 * The maximum number of sources being processed at once by the
+		 * output methods which create multiple thumbnails, or {@code 0}
+		 * if not specified.
+		 */
+		private int batchParallelism = 0;
+		
+		/**
+		 * The {@link Executor} used to process sources concurrently by the
+		 * output methods which create multiple thumbnails, or {@code null}
+		 * if not specified.
+		 */
+		private Executor batchExecutor = null;
+		
+		/**
+		 * The {@link Executor} used to parallelize the resizing of each
+		 * image, or {@code null} if resizing is performed in the thread
+		 * creating the thumbnail.
+		 */
+		private Executor parallelExecutor = null;
+		
+		private DecodeSubsampling decodeSubsampling = DecodeSubsampling.NONE;
+		
+		private boolean useEmbeddedThumbnail = false;
+		
 		/**
 		 * This field should be set to the {@link Position} to be used for
 		 * cropping if cropping is enabled. If cropping is disabled, then
@@ -2022,6 +2306,224 @@ watermark(Positions.CENTER, image, opacity);
 			return this;
 		}
 		
+		/**
+		 * Sets the maximum number of sources to process concurrently when
+		 * creating multiple thumbnails.
+		 * <p>
+		 * The following output methods are affected:
+		 * <ul>
+		 * <li>{@link #asBufferedImages()}</li>
+		 * <li>{@link #asFiles(Iterable)}</li>
+		 * <li>{@link #asFiles(Rename)}</li>
+		 * <li>{@link #asFiles(File, Rename)}</li>
+		 * <li>{@link #toFiles(Iterable)}</li>
+		 * <li>{@link #toFiles(Rename)}</li>
+		 * <li>{@link #toFiles(File, Rename)}</li>
+		 * <li>{@link #toOutputStreams(Iterable)}</li>
+		 * </ul>
+		 * <p>
+		 * When a parallelism greater than {@code 1} is set, or when an
+		 * executor is set through {@link #batchExecutor(Executor)}, sources
+		 * are processed concurrently, and:
+		 * <ul>
+		 * <li>results are returned in the same order as the sources,</li>
+		 * <li>no more than {@code parallelism} sources are being processed
+		 * at once, which bounds the number of images held in memory,</li>
+		 * <li>a source which fails does not prevent the remaining sources
+		 * from being processed, and the failures are reported once the
+		 * whole batch has been processed, by throwing a
+		 * {@link ThumbnailBatchException}.</li>
+		 * </ul>
+		 * <p>
+		 * If no executor is set, a pool of {@code parallelism} daemon threads
+		 * is created for each batch, and shut down once the batch has been
+		 * processed.
+		 * <p>
+		 * Calling this method to set this parameter is optional.
+		 * By default, sources are processed one at a time in the calling
+		 * thread, and the first failure aborts the batch.
+		 * <p>
+		 * Calling this method multiple times will result in an
+		 * {@link IllegalStateException} to be thrown.
+		 * 
+		 * @param parallelism		The maximum number of sources to process
+		 * 							concurrently.
+		 * @return					Reference to this object.
+		 * @throws IllegalArgumentException		If the parallelism is less
+		 * 										than {@code 1}.
+		 * @since	0.4.21
+		 */
+		public Builder<T> batchParallelism(int parallelism) {
+			if (parallelism < 1) {
+				throw new IllegalArgumentException("Parallelism must be at least 1.");
+			}
+			
+			updateStatus(Properties.BATCH_PARALLELISM, Status.ALREADY_SET);
+			this.batchParallelism = parallelism;
+			return this;
+		}
+		
+		/**
+		 * Sets the {@link Executor} to use to process sources concurrently
+		 * when creating multiple thumbnails.
+		 * <p>
+		 * The affected output methods and their behavior are described in
+		 * {@link #batchParallelism(int)}. If the parallelism is not set,
+		 * the number of sources processed at once is bounded by the number
+		 * of available processors.
+		 * <p>
+		 * The executor is not shut down by Thumbnailator. If it rejects
+		 * a source, that source is processed in the calling thread.
+		 * <p>
+		 * Calling this method to set this parameter is optional.
+		 * <p>
+		 * Calling this method multiple times will result in an
+		 * {@link IllegalStateException} to be thrown.
+		 * 
+		 * @param executor			The executor to process sources with.
+		 * @return					Reference to this object.
+		 * @since	0.4.21
+		 */
+		public Builder<T> batchExecutor(Executor executor) {
+			checkForNull(executor, "Executor is null.");
+			updateStatus(Properties.BATCH_EXECUTOR, Status.ALREADY_SET);
+			this.batchExecutor = executor;
+			return this;
+		}
+		
+		/**
+		 * Sets the {@link Executor} to use to resize each image using
+		 * multiple threads.
+		 * <p>
+		 * Only the resizers which support parallelization make use of the
+		 * executor, such as the ones used by the
+		 * {@link ScalingMode#LANCZOS3}, {@link ScalingMode#MITCHELL} and
+		 * {@link ScalingMode#CATMULL_ROM} scaling modes, and the parallel
+		 * resizers returned by {@link DefaultResizerFactory}. Small images
+		 * are still resized by a single thread, as splitting the work would
+		 * not make it faster.
+		 * <p>
+		 * This is complementary to {@link #batchParallelism(int)}, which
+		 * processes multiple sources at once: when there are many sources,
+		 * processing them concurrently is usually enough to use all cores,
+		 * whereas this method allows a single large image to use them.
+		 * The executor specified here must not be the one specified through
+		 * {@link #batchExecutor(Executor)}, as threads processing sources
+		 * would wait for resizing work queued behind other sources.
+		 * <p>
+		 * Calling this method to set this parameter is optional.
+		 * <p>
+		 * Calling this method multiple times, or in conjunction with the
+		 * {@link #parallel()} method, will result in an
+		 * {@link IllegalStateException} to be thrown.
+		 * 
+		 * @param executor			The executor to resize images with.
+		 * @return					Reference to this object.
+		 * @since	0.4.21
+		 */
+		public Builder<T> parallel(Executor executor) {
+			checkForNull(executor, "Executor is null.");
+			updateStatus(Properties.PARALLEL, Status.ALREADY_SET);
+			this.parallelExecutor = executor;
+			return this;
+		}
+		
+		/**
+		 * Resizes each image using multiple threads, from a pool shared by
+		 * all thumbnail creations.
+		 * <p>
+		 * The shared pool has one daemon thread per available processor,
+		 * and is created when first used. It does not need to be shut down.
+		 * <p>
+		 * See {@link #parallel(Executor)} for details.
+		 * 
+		 * @return					Reference to this object.
+		 * @since	0.4.21
+		 */
+		public Builder<T> parallel() {
+			return parallel(SharedPrlExecutor.getInstance());
+		}
+		
+		/**
+		 * Sets whether or not the source images may be subsampled while
+		 * being decoded.
+		 * <p>
+		 * When {@link DecodeSubsampling#AUTO} is specified, images read
+		 * through an {@link javax.imageio.ImageReader}, such as images from
+		 * files, URLs and {@link InputStream}s, are decoded with the largest
+		 * subsampling which still leaves at least twice as many pixels as
+		 * the thumbnail along each axis. For large images, such as photos
+		 * from digital cameras, this reduces the time and memory it takes
+		 * to read them several-fold.
+		 * <p>
+		 * The size of the thumbnails is not affected, but the thumbnails
+		 * may slightly differ from the ones created from the images decoded
+		 * at full resolution.
+		 * <p>
+		 * Calling this method to set this parameter is optional.
+		 * By default, images are decoded at full resolution.
+		 * <p>
+		 * Calling this method multiple times will result in an
+		 * {@link IllegalStateException} to be thrown.
+		 * 
+		 * @param decodeSubsampling		Whether or not to subsample the
+		 * 								source images while decoding them.
+		 * @return						Reference to this object.
+		 * @since	0.4.21
+		 */
+		public Builder<T> decodeSubsampling(DecodeSubsampling decodeSubsampling) {
+			checkForNull(decodeSubsampling, "DecodeSubsampling is null.");
+			updateStatus(Properties.DECODE_SUBSAMPLING, Status.ALREADY_SET);
+			this.decodeSubsampling = decodeSubsampling;
+			return this;
+		}
+		
+		/**
+		 * Sets whether or not to use the thumbnail embedded in the Exif
+		 * metadata of the source images, when it is large enough.
+		 * <p>
+		 * Many JPEG images from digital cameras carry a small preview of the
+		 * image, typically 160 pixels by 120 pixels. When enabled, and when
+		 * that preview is at least as large as the thumbnail to create and
+		 * has the same aspect ratio as the image, only the preview is
+		 * decoded, which is orders of magnitude faster than decoding the
+		 * whole image. The orientation from the Exif metadata is applied to
+		 * the preview as it would be to the image.
+		 * <p>
+		 * As the preview is a lower quality version of the image, the
+		 * thumbnails may be of lower quality than the ones created from the
+		 * image itself.
+		 * <p>
+		 * The preview is not used when a source region is specified.
+		 * <p>
+		 * Calling this method to set this parameter is optional.
+		 * By default, the embedded thumbnail is not used.
+		 * <p>
+		 * Calling this method multiple times will result in an
+		 * {@link IllegalStateException} to be thrown.
+		 * 
+		 * @param useEmbeddedThumbnail	{@code true} if the embedded
+		 * 								thumbnail may be used,
+		 * 								{@code false} otherwise.
+		 * @return						Reference to this object.
+		 * @since	0.4.21
+		 */
+		public Builder<T> useEmbeddedThumbnail(boolean useEmbeddedThumbnail) {
+			updateStatus(Properties.USE_EMBEDDED_THUMBNAIL, Status.ALREADY_SET);
+			this.useEmbeddedThumbnail = useEmbeddedThumbnail;
+			return this;
+		}
+		
+		/**
+		 * Returns a {@link BatchRunner} to process the sources of a batch
+		 * according to the current builder state.
+		 * 
+		 * @return			A {@link BatchRunner}.
+		 */
+		private <R> BatchRunner<R> makeBatchRunner() {
+			return new BatchRunner<R>(batchParallelism, batchExecutor);
+		}
+		
 		/**
 		 * Checks whether the builder is ready to create thumbnails.
 		 * 
@@ -2062,6 +2564,12 @@ watermark(Positions.CENTER, image, opacity);
 				return new BicubicResizer(hints);
 			} else if (mode == ScalingMode.PROGRESSIVE_BILINEAR) {
 				return new ProgressiveBilinearResizer(hints);
+			} else if (mode == ScalingMode.LANCZOS3) {
+				return new ParallelConvolutionResizer(ConvolutionKernel.LANCZOS3, hints);
+			} else if (mode == ScalingMode.MITCHELL) {
+				return new ParallelConvolutionResizer(ConvolutionKernel.MITCHELL, hints);
+			} else if (mode == ScalingMode.CATMULL_ROM) {
+				return new ParallelConvolutionResizer(ConvolutionKernel.CATMULL_ROM, hints);
 			} else {
 				return new ProgressiveBilinearResizer(hints);
 			}
@@ -2094,9 +2602,14 @@ watermark(Positions.CENTER, image, opacity);
 			/*
 			 * croppingPosition being non-null means that a crop should
 			 * take place.
+			 * 
+			 * The Canvas is only added to the filters of this parameter, as
+			 * this method is called for each source.
 			 */
+			List<ImageFilter> filters = filterPipeline.getFilters();
 			if (croppingPosition != null) {
-				filterPipeline.addFirst(new Canvas(width, height, croppingPosition));
+				filters = new ArrayList<ImageFilter>(filters);
+				filters.add(0, new Canvas(width, height, croppingPosition));
 			}
 			
 			if (Double.isNaN(scaleWidth)) {
@@ -2131,10 +2644,13 @@ watermark(Positions.CENTER, image, opacity);
 						outputFormatType,
 						outputQuality,
 						imageTypeToUse,
-						filterPipeline.getFilters(),
+						filters,
 						resizerFactory,
 						fitWithinDimenions,
-						useExifOrientation
+						useExifOrientation,
+						parallelExecutor,
+						decodeSubsampling,
+						useEmbeddedThumbnail
 				);
 
 			} else {
@@ -2148,10 +2664,13 @@ watermark(Positions.CENTER, image, opacity);
 						outputFormatType,
 						outputQuality,
 						imageTypeToUse,
-						filterPipeline.getFilters(),
+						filters,
 						resizerFactory,
 						fitWithinDimenions,
-						useExifOrientation
+						useExifOrientation,
+						parallelExecutor,
+						decodeSubsampling,
+						useEmbeddedThumbnail
 				);
 			}
 		}
@@ -2268,29 +2787,43 @@ watermark(Positions.CENTER, image, opacity);
 		 * If many thumbnails are being processed at once, then using the
 		 * {@link #iterableBufferedImages()} method would be preferable.
 		 * </p>
+		 * <p>
+		 * Sources can be processed concurrently, as described in
+		 * {@link #batchParallelism(int)}.
+		 * </p>
 		 * 
 		 * @return		A list of thumbnails.
 		 * @throws IOException					If a problem occurred during
 		 * 										the reading of the original
 		 * 										images.
+		 * @throws ThumbnailBatchException	If sources are processed
+		 * 										concurrently, and some of them
+		 * 										failed.
 		 */
 		public List<BufferedImage> asBufferedImages() throws IOException {
 			checkReadiness();
 			
-			List<BufferedImage> thumbnails = new ArrayList<BufferedImage>();
-			
-			// Create thumbnails
-			for (ImageSource<T> source : sources) {
-				BufferedImageSink destination = new BufferedImageSink();
+			BatchRunner<BufferedImage> runner = makeBatchRunner();
+			try {
+				// Create thumbnails
+				for (ImageSource<T> source : sources) {
+					final BufferedImageSink destination = new BufferedImageSink();
+					final SourceSinkThumbnailTask<T, BufferedImage> task =
+						new SourceSinkThumbnailTask<T, BufferedImage>(makeParam(), source, destination);
+					
+					runner.submit(source.getSource(), new BatchRunner.Job<BufferedImage>() {
+						public BufferedImage run() throws IOException {
+							Thumbnailator.createThumbnail(task);
+							return destination.getSink();
+						}
+					});
+				}
 				
-				Thumbnailator.createThumbnail(
-					new SourceSinkThumbnailTask<T, BufferedImage>(makeParam(), source, destination)
-				);
+				return runner.getResults();
 				
-				thumbnails.add(destination.getSink());
+			} finally {
+				runner.close();
 			}
-			
-			return thumbnails;
 		}
 		
 		/**
@@ -2371,6 +2904,9 @@ watermark(Positions.CENTER, image, opacity);
 		 * <p>
 		 * The file names for the thumbnails are obtained from the given
 		 * {@link Iterable}.
+		 * <p>
+		 * Sources can be processed concurrently, as described in
+		 * {@link #batchParallelism(int)}.
 		 * 
 		 * @param iterable			An {@link Iterable} which returns an
 		 * 							{@link Iterator} which returns file names
@@ -2380,6 +2916,9 @@ watermark(Positions.CENTER, image, opacity);
 		 * @throws IOException		If a problem occurs while reading the
 		 * 							original images or writing the thumbnails
 		 * 							to files.
+		 * @throws ThumbnailBatchException	If sources are processed
+		 * 										concurrently, and some of them
+		 * 										failed.
 		 * @since 	0.3.7
 		 */
 		public List<File> asFiles(Iterable<File> iterable) throws IOException {
@@ -2389,38 +2928,29 @@ watermark(Positions.CENTER, image, opacity);
 				throw new NullPointerException("File name iterable is null.");
 			}
 			
-			List<File> destinationFiles = new ArrayList<File>();
-			
 			Iterator<File> filenameIter = iterable.iterator();
 			
-			for (ImageSource<T> source : sources) {
-				if (!filenameIter.hasNext()) {
-					throw new IndexOutOfBoundsException(
-							"Not enough file names provided by iterator."
-					);
+			BatchRunner<File> runner = makeBatchRunner();
+			try {
+				for (ImageSource<T> source : sources) {
+					if (!filenameIter.hasNext()) {
+						throw new IndexOutOfBoundsException(
+								"Not enough file names provided by iterator."
+						);
+					}
+					
+					ThumbnailParameter param = makeParam();
+					
+					FileImageSink destination = new FileImageSink(filenameIter.next(), allowOverwrite);
+					
+					runner.submit(source.getSource(), newFileJob(param, source, destination));
 				}
 				
-				ThumbnailParameter param = makeParam();
-				
-				FileImageSink destination = new FileImageSink(filenameIter.next(), allowOverwrite);
+				return runner.getResults();
 				
-				try {
-					Thumbnailator.createThumbnail(
-							new SourceSinkThumbnailTask<T, File>(param, source, destination)
-					);
-					
-					destinationFiles.add(destination.getSink());
-
-				} catch (IllegalArgumentException e) {
-					/*
-					 * Handle the IllegalArgumentException which is thrown when
-					 * the destination file already exists by not adding the
-					 * current file to the destinationFiles list.
-					 */
-				}
+			} finally {
+				runner.close();
 			}
-			
-			return destinationFiles;
 		}
 		
 		/**
@@ -2499,6 +3029,9 @@ watermark(Positions.CENTER, image, opacity);
 		 * <p>
 		 * To call this method, the thumbnails must have been creates from
 		 * files by calling the {@link Thumbnails#of(File...)} method.
+		 * <p>
+		 * Sources can be processed concurrently, as described in
+		 * {@link #batchParallelism(int)}.
 		 *
 		 * @param destinationDir	The destination directory to which the
 		 * 							thumbnails should be written to.
@@ -2514,6 +3047,9 @@ watermark(Positions.CENTER, image, opacity);
 		 * 										from files.
 		 * @throws IllegalArgumentException		If the destination directory
 		 * 										is not a directory.
+		 * @throws ThumbnailBatchException	If sources are processed
+		 * 										concurrently, and some of them
+		 * 										failed.
 		 * @since 	0.4.7
 		 */
 		public List<File> asFiles(File destinationDir, Rename rename) throws IOException {
@@ -2527,39 +3063,66 @@ watermark(Positions.CENTER, image, opacity);
 				throw new IllegalArgumentException("Given destination is not a directory.");
 			}
 
-			List<File> destinationFiles = new ArrayList<File>();
-			
-			for (ImageSource<T> source : sources) {
-				if (!(source instanceof FileImageSource)) {
-					throw new IllegalStateException("Cannot create thumbnails to files if original images are not from files.");
+			BatchRunner<File> runner = makeBatchRunner();
+			try {
+				for (ImageSource<T> source : sources) {
+					if (!(source instanceof FileImageSource)) {
+						throw new IllegalStateException("Cannot create thumbnails to files if original images are not from files.");
+					}
+					
+					ThumbnailParameter param = makeParam();
+					
+					File f = ((FileImageSource)source).getSource();
+					
+					File actualDestDir = destinationDir == null ? f.getParentFile() : destinationDir;
+					File destinationFile = new File(actualDestDir, rename.apply(f.getName(), param));
+					
+					FileImageSink destination = new FileImageSink(destinationFile, allowOverwrite);
+					
+					runner.submit(f, newFileJob(param, source, destination));
 				}
 				
-				ThumbnailParameter param = makeParam();
-				
-				File f = ((FileImageSource)source).getSource();
-				
-				File actualDestDir = destinationDir == null ? f.getParentFile() : destinationDir;
-				File destinationFile = new File(actualDestDir, rename.apply(f.getName(), param));
-				
-				FileImageSink destination = new FileImageSink(destinationFile, allowOverwrite);
+				return runner.getResults();
 				
-				try {
-					Thumbnailator.createThumbnail(
-							new SourceSinkThumbnailTask<T, File>(param, source, destination)
-					);
-					
-					destinationFiles.add(destination.getSink());
-
-				} catch (IllegalArgumentException e) {
-					/*
-					 * Handle the IllegalArgumentException which is thrown when
-					 * the destination file already exists by not adding the
-					 * current file to the destinationFiles list.
-					 */
-				}
+			} finally {
+				runner.close();
 			}
-			
-			return destinationFiles;
+		}
+		
+		/**
+		 * Returns a job which creates a thumbnail to a file, and returns
+		 * the file, or {@code null} if the file already exists and
+		 * overwriting files is disabled.
+		 * 
+		 * @param param			The parameters to create the thumbnail with.
+		 * @param source		The source of the image.
+		 * @param destination	The destination of the thumbnail.
+		 * @return				A job which creates the thumbnail.
+		 */
+		private BatchRunner.Job<File> newFileJob(
+				final ThumbnailParameter param,
+				final ImageSource<T> source,
+				final FileImageSink destination
+		) {
+			return new BatchRunner.Job<File>() {
+				public File run() throws IOException {
+					try {
+						Thumbnailator.createThumbnail(
+								new SourceSinkThumbnailTask<T, File>(param, source, destination)
+						);
+						
+						return destination.getSink();
+						
+					} catch (IllegalArgumentException e) {
+						/*
+						 * Handle the IllegalArgumentException which is thrown when
+						 * the destination file already exists by not adding the
+						 * current file to the destinationFiles list.
+						 */
+						return null;
+					}
+				}
+			};
 		}
 
 		/**
@@ -2755,6 +3318,88 @@ watermark(Positions.CENTER, image, opacity);
 			);
 		}
 		
+		/**
+		 * Creates a thumbnail and returns it encoded in a new
+		 * {@link ByteBuffer}.
+		 * <p>
+		 * To call this method, the thumbnail must have been created from a
+		 * single source.
+		 * <p>
+		 * The encoded thumbnail is written to memory which is allocated as
+		 * needed, and is copied once into the returned buffer, whose
+		 * position is zero and whose limit is the size of the thumbnail.
+		 * 
+		 * @return					The buffer holding the encoded thumbnail.
+		 * @throws IOException		If a problem occurs while reading the
+		 * 							original image or writing the thumbnail.
+		 * @throws IllegalArgumentException		If multiple original images
+		 * 										are specified.
+		 * @throws IllegalStateException		If the output format has not
+		 * 										been specified through the
+		 * 										{@link #outputFormat(String)}
+		 * 										method, and the original image
+		 * 										is a {@link BufferedImage}.
+		 * @since	0.4.21
+		 */
+		public ByteBuffer asByteBuffer() throws IOException {
+			ByteBufferImageSink destination = new ByteBufferImageSink();
+			writeToByteBuffer(destination);
+			return destination.getSink();
+		}
+		
+		/**
+		 * Creates a thumbnail and writes it encoded to the specified
+		 * {@link ByteBuffer}.
+		 * <p>
+		 * To call this method, the thumbnail must have been created from a
+		 * single source.
+		 * <p>
+		 * The thumbnail is written from the position of the buffer, which is
+		 * then advanced past the thumbnail. If there is not enough space
+		 * remaining in the buffer, an {@link IOException} is thrown, and the
+		 * position of the buffer is left unchanged.
+		 * 
+		 * @param buffer			The buffer to which the thumbnail is to be
+		 * 							written to.
+		 * @throws IOException		If a problem occurs while reading the
+		 * 							original image or writing the thumbnail.
+		 * @throws NullPointerException			If the buffer is {@code null}.
+		 * @throws IllegalArgumentException		If multiple original images
+		 * 										are specified.
+		 * @throws IllegalStateException		If the output format has not
+		 * 										been specified through the
+		 * 										{@link #outputFormat(String)}
+		 * 										method, and the original image
+		 * 										is a {@link BufferedImage}.
+		 * @since	0.4.21
+		 */
+		public void toByteBuffer(ByteBuffer buffer) throws IOException {
+			writeToByteBuffer(new ByteBufferImageSink(buffer));
+		}
+		
+		private void writeToByteBuffer(ByteBufferImageSink destination) throws IOException {
+			checkReadiness();
+			
+			Iterator<ImageSource<T>> iter = sources.iterator();
+			ImageSource<T> source = iter.next();
+			
+			if (iter.hasNext()) {
+				throw new IllegalArgumentException("Cannot output multiple thumbnails to a single ByteBuffer.");
+			}
+			
+			if (source instanceof BufferedImageSource) {
+				if (isOutputFormatNotSet()) {
+					throw new IllegalStateException(
+							"Output format not specified."
+					);
+				}
+			}
+			
+			Thumbnailator.createThumbnail(
+					new SourceSinkThumbnailTask<T, ByteBuffer>(makeParam(), source, destination)
+			);
+		}
+		
 		/**
 		 * Creates the thumbnails and writes them to {@link OutputStream}s
 		 * provided by the {@link Iterable}.
@@ -2762,6 +3407,9 @@ watermark(Positions.CENTER, image, opacity);
 		 * Note that the {@link OutputStream#close()} method will not be
 		 * called upon the completion of the thumbnail being written to the
 		 * {@link OutputStream}.
+		 * <p>
+		 * Sources can be processed concurrently, as described in
+		 * {@link #batchParallelism(int)}.
 		 * 
 		 * @param iterable			An {@link Iterable} which returns an
 		 * 							{@link Iterator} which returns the
@@ -2773,6 +3421,9 @@ watermark(Positions.CENTER, image, opacity);
 		 * 										been specified through the
 		 * 										{@link #outputFormat(String)}
 		 * 										method.
+		 * @throws ThumbnailBatchException	If sources are processed
+		 * 										concurrently, and some of them
+		 * 										failed.
 		 */
 		public void toOutputStreams(Iterable<? extends OutputStream> iterable) throws IOException {
 			checkReadiness();
@@ -2783,31 +3434,45 @@ watermark(Positions.CENTER, image, opacity);
 			
 			Iterator<? extends OutputStream> osIter = iterable.iterator();
 			
-			for (ImageSource<T> source : sources) {
-				/*
-				 * if the image is from a BufferedImage, then we require that the
-				 * output format be set. (or else, we can't tell what format to
-				 * output as!)
-				 */
-				if (source instanceof BufferedImageSource) {
-					if (isOutputFormatNotSet()) {
-						throw new IllegalStateException(
-								"Output format not specified."
+			BatchRunner<Void> runner = makeBatchRunner();
+			try {
+				for (ImageSource<T> source : sources) {
+					/*
+					 * if the image is from a BufferedImage, then we require that the
+					 * output format be set. (or else, we can't tell what format to
+					 * output as!)
+					 */
+					if (source instanceof BufferedImageSource) {
+						if (isOutputFormatNotSet()) {
+							throw new IllegalStateException(
+									"Output format not specified."
+							);
+						}
+					}
+					
+					if (!osIter.hasNext()) {
+						throw new IndexOutOfBoundsException(
+								"Not enough file names provided by iterator."
 						);
 					}
+					
+					OutputStreamImageSink destination = new OutputStreamImageSink(osIter.next());
+					
+					final SourceSinkThumbnailTask<T, OutputStream> task =
+						new SourceSinkThumbnailTask<T, OutputStream>(makeParam(), source, destination);
+					
+					runner.submit(source.getSource(), new BatchRunner.Job<Void>() {
+						public Void run() throws IOException {
+							Thumbnailator.createThumbnail(task);
+							return null;
+						}
+					});
 				}
 				
-				if (!osIter.hasNext()) {
-					throw new IndexOutOfBoundsException(
-							"Not enough file names provided by iterator."
-					);
-				}
-				
-				OutputStreamImageSink destination = new OutputStreamImageSink(osIter.next());
+				runner.getResults();
 				
-				Thumbnailator.createThumbnail(
-						new SourceSinkThumbnailTask<T, OutputStream>(makeParam(), source, destination)
-				);
+			} finally {
+				runner.close();
 			}
 		}
 	}
@@ -28,6 +28,7 @@ import java.awt.Dimension;
 import java.awt.image.BufferedImage;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import net.coobird.thumbnailator.ThumbnailParameter;
 import net.coobird.thumbnailator.filters.ImageFilter;
@@ -36,6 +37,7 @@ import net.coobird.thumbnailator.resizers.FixedResizerFactory;
 import net.coobird.thumbnailator.geometry.Region;
 import net.coobird.thumbnailator.resizers.Resizer;
 import net.coobird.thumbnailator.resizers.ResizerFactory;
+import net.coobird.thumbnailator.tasks.io.DecodeSubsampling;
 
 /**
  * <p>
@@ -76,6 +78,13 @@ import net.coobird.thumbnailator.resizers.ResizerFactory;
  * <dd>The default {@link Resizer} returned by the {@link ResizerFactory}.</dd>
  * <dt>use of Exif metadata for orientation</dt>
  * <dd>Use the Exif metadata to determine the orientation of the thumbnail.</dd>
+ * <dt>parallel executor</dt>
+ * <dd>None. The resizing operation is performed in the calling thread.</dd>
+ * <dt>decode subsampling</dt>
+ * <dd>{@link DecodeSubsampling#NONE}. The source image is decoded at full
+ * resolution.</dd>
+ * <dt>use of the embedded thumbnail</dt>
+ * <dd>Do not use the thumbnail embedded in the Exif metadata.</dd>
  * </dl>
  * 
  * @author coobird
@@ -98,6 +107,9 @@ public final class ThumbnailParameterBuilder {
 	private Region sourceRegion = null;
 	private boolean fitWithinDimensions = true;
 	private boolean useExifOrientation = true;
+	private Executor parallelExecutor = null;
+	private DecodeSubsampling decodeSubsampling = DecodeSubsampling.NONE;
+	private boolean useEmbeddedThumbnail = false;
 	
 	/**
 	 * Creates an instance of a {@link ThumbnailParameterBuilder}.
@@ -346,6 +358,55 @@ public final class ThumbnailParameterBuilder {
 		this.useExifOrientation = use;
 		return this;
 	}
+	
+	/**
+	 * Sets the {@link Executor} to use to parallelize the resizing
+	 * operation, when the {@link Resizer} supports it.
+	 * 
+	 * @param executor	The {@link Executor} to use, or {@code null} to
+	 * 					perform the resizing operation in the calling
+	 * 					thread.
+	 * @return			A reference to this object.
+	 * @since	0.4.21
+	 */
+	public ThumbnailParameterBuilder parallel(Executor executor) {
+		this.parallelExecutor = executor;
+		return this;
+	}
+	
+	/**
+	 * Sets whether or not the source image may be subsampled while being
+	 * decoded.
+	 * 
+	 * @param decodeSubsampling	The {@link DecodeSubsampling} to use when
+	 * 							reading the source image.
+	 * @return					A reference to this object.
+	 * @throws NullPointerException		If the argument is {@code null}.
+	 * @since	0.4.21
+	 */
+	public ThumbnailParameterBuilder decodeSubsampling(DecodeSubsampling decodeSubsampling) {
+		if (decodeSubsampling == null) {
+			throw new NullPointerException("DecodeSubsampling is null.");
+		}
+		
+		this.decodeSubsampling = decodeSubsampling;
+		return this;
+	}
+	
+	/**
+	 * Sets whether or not the thumbnail embedded in the Exif metadata of the
+	 * source image may be used instead of the source image, when it is at
+	 * least as large as the thumbnail to create.
+	 * 
+	 * @param use		{@code true} if the embedded thumbnail may be used,
+	 * 					{@code false} otherwise.
+	 * @return			A reference to this object.
+	 * @since	0.4.21
+	 */
+	public ThumbnailParameterBuilder useEmbeddedThumbnail(boolean use) {
+		this.useEmbeddedThumbnail = use;
+		return this;
+	}
 
 	/**
 	 * Returns a {@link ThumbnailParameter} from the parameters which are
@@ -374,7 +435,10 @@ public final class ThumbnailParameterBuilder {
 					filters,
 					resizerFactory,
 					fitWithinDimensions,
-					useExifOrientation
+					useExifOrientation,
+					parallelExecutor,
+					decodeSubsampling,
+					useEmbeddedThumbnail
 			);
 
 		} else if (width != UNINITIALIZED && height != UNINITIALIZED) {
@@ -389,7 +453,10 @@ public final class ThumbnailParameterBuilder {
 					filters,
 					resizerFactory,
 					fitWithinDimensions,
-					useExifOrientation
+					useExifOrientation,
+					parallelExecutor,
+					decodeSubsampling,
+					useEmbeddedThumbnail
 			);
 		} else {
 			throw new IllegalStateException(
@@ -0,0 +1,55 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.filters;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * An {@link InPlaceImageFilter} which can be applied to bands of rows of an
+ * image separately, as the result for each pixel does not depend on the
+ * other rows being filtered.
+ * <p>
+ * A {@link Pipeline} given an {@link java.util.concurrent.Executor} applies
+ * such filters to several bands of rows concurrently.
+ * 
+ * @author coobird
+ * @since	0.4.21
+ */
+public interface BandedImageFilter extends InPlaceImageFilter {
+	/**
+	 * Applies this filter to a band of rows of an image, changing the
+	 * contents of those rows only.
+	 * <p>
+	 * Applying this filter to all rows, in one or several bands, must give
+	 * the same result as {@link #applyInPlace(BufferedImage)}.
+	 * 
+	 * @param img		The image to apply the filtering on, for which
+	 * 					{@link #canApplyInPlace(BufferedImage)} returns
+	 * 					{@code true}.
+	 * @param startRow	The first row of the band.
+	 * @param endRow	The last row of the band, inclusive.
+	 */
+	public void applyInPlace(BufferedImage img, int startRow, int endRow);
+}
@@ -27,6 +27,7 @@ package net.coobird.thumbnailator.filters;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 
 import net.coobird.thumbnailator.builders.BufferedImageBuilder;
@@ -150,6 +151,97 @@ public class Canvas implements ImageFilter {
 		this.fillColor = fillColor;
 	}
 
+	/**
+	 * Returns the width of the enclosing image.
+	 * 
+	 * @return				The width of the enclosing image.
+	 * @since	0.4.21
+	 */
+	public int getWidth() {
+		return width;
+	}
+	
+	/**
+	 * Returns the height of the enclosing image.
+	 * 
+	 * @return				The height of the enclosing image.
+	 * @since	0.4.21
+	 */
+	public int getHeight() {
+		return height;
+	}
+	
+	/**
+	 * Returns the position of the enclosed image.
+	 * 
+	 * @return				The position of the enclosed image.
+	 * @since	0.4.21
+	 */
+	public Position getPosition() {
+		return position;
+	}
+	
+	/**
+	 * Returns the fill color for the background.
+	 * 
+	 * @return				The fill color, or {@code null} if no fill color
+	 * 						was specified.
+	 * @since	0.4.21
+	 */
+	public Color getFillColor() {
+		return fillColor;
+	}
+	
+	/**
+	 * Returns whether or not the enclosed image is cropped if it is larger
+	 * than the enclosing image.
+	 * 
+	 * @return				{@code true} if the enclosed image is cropped.
+	 * @since	0.4.21
+	 */
+	public boolean isCrop() {
+		return crop;
+	}
+	
+	/**
+	 * Returns the region of an image of the specified dimensions which is
+	 * kept by this {@code Canvas}, once the image is resized to cover the
+	 * dimensions of the enclosing image and cropped by it.
+	 * 
+	 * @param sourceWidth	The width of the image.
+	 * @param sourceHeight	The height of the image.
+	 * @return				The region of the image which is kept.
+	 * @since	0.4.21
+	 */
+	public Rectangle calculateCropRegion(int sourceWidth, int sourceHeight) {
+		// Dimensions of the resized image, as computed when covering.
+		double scale = Math.max(
+				width / (double)sourceWidth,
+				height / (double)sourceHeight
+		);
+		int resizedWidth = Math.max(width, (int)Math.round(sourceWidth * scale));
+		int resizedHeight = Math.max(height, (int)Math.round(sourceHeight * scale));
+		
+		Point p = position.calculate(
+				width, height, resizedWidth, resizedHeight,
+				0, 0, 0, 0
+		);
+		
+		double widthRatio = sourceWidth / (double)resizedWidth;
+		double heightRatio = sourceHeight / (double)resizedHeight;
+		
+		int regionWidth = clamp((int)Math.round(width * widthRatio), 1, sourceWidth);
+		int regionHeight = clamp((int)Math.round(height * heightRatio), 1, sourceHeight);
+		int regionX = clamp((int)Math.round(-p.x * widthRatio), 0, sourceWidth - regionWidth);
+		int regionY = clamp((int)Math.round(-p.y * heightRatio), 0, sourceHeight - regionHeight);
+		
+		return new Rectangle(regionX, regionY, regionWidth, regionHeight);
+	}
+	
+	private static int clamp(int value, int min, int max) {
+		return Math.max(min, Math.min(max, value));
+	}
+
 	public BufferedImage apply(BufferedImage img) {
 		int widthToUse = width;
 		int heightToUse = height;
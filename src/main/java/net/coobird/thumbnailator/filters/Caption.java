@@ -27,8 +27,10 @@ package net.coobird.thumbnailator.filters;
 import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Font;
+import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 
 import net.coobird.thumbnailator.geometry.Position;
@@ -40,7 +42,7 @@ import net.coobird.thumbnailator.util.BufferedImages;
  * @author coobird
  *
  */
-public class Caption implements ImageFilter {
+public class Caption implements BandedImageFilter, RegionImageFilter {
 	/**
 	 * The text of the caption.
 	 */
@@ -135,32 +137,119 @@ public class Caption implements ImageFilter {
 
 	public BufferedImage apply(BufferedImage img) {
 		BufferedImage newImage = BufferedImages.copy(img);
+		applyInPlace(newImage);
 		
-		Graphics2D g = newImage.createGraphics();
+		return newImage;
+	}
+	
+	/**
+	 * Returns whether the caption can be drawn directly on the specified
+	 * image, which is not the case for images of a custom type, as
+	 * {@link #apply(BufferedImage)} returns them as
+	 * {@link BufferedImage#TYPE_INT_ARGB}.
+	 * 
+	 * @since	0.4.21
+	 */
+	public boolean canApplyInPlace(BufferedImage img) {
+		return img.getType() != BufferedImage.TYPE_CUSTOM;
+	}
+	
+	/**
+	 * Draws the caption directly on the specified image.
+	 * 
+	 * @since	0.4.21
+	 */
+	public void applyInPlace(BufferedImage img) {
+		applyInPlace(img, 0, img.getHeight() - 1);
+	}
+	
+	/**
+	 * Draws the caption directly on the specified rows of the
+	 * specified image.
+	 * 
+	 * @since	0.4.21
+	 */
+	public void applyInPlace(BufferedImage img, int startRow, int endRow) {
+		Graphics2D g = img.createGraphics();
+		g.clipRect(0, startRow, img.getWidth(), endRow - startRow + 1);
+		draw(g, img.getWidth(), img.getHeight());
+		g.dispose();
+	}
+	
+	/**
+	 * Returns the bounds of the caption, with a margin of the font size
+	 * around the advance and the maximum ascent and descent of the text,
+	 * for glyphs drawn beyond them.
+	 * 
+	 * @since	0.4.21
+	 */
+	public Rectangle getAffectedBounds(BufferedImage img) {
+		Graphics2D g = img.createGraphics();
+		g.setFont(font);
+		FontMetrics metrics = g.getFontMetrics();
+		Point p = calculateBaseline(metrics, img.getWidth(), img.getHeight());
+		g.dispose();
+		
+		int margin = font.getSize();
+		return new Rectangle(
+				p.x - margin,
+				p.y - metrics.getMaxAscent() - margin,
+				metrics.stringWidth(caption) + 2 * margin,
+				metrics.getMaxAscent() + metrics.getMaxDescent() + 2 * margin
+		);
+	}
+	
+	/**
+	 * Draws the caption directly on the specified region of an image.
+	 * 
+	 * @since	0.4.21
+	 */
+	public void applyToRegion(BufferedImage region, int x, int y, int width, int height) {
+		Graphics2D g = region.createGraphics();
+		g.translate(-x, -y);
+		draw(g, width, height);
+		g.dispose();
+	}
+	
+	/**
+	 * Draws the caption.
+	 * 
+	 * @param g				The graphics context of the image.
+	 * @param imageWidth	The width of the image.
+	 * @param imageHeight	The height of the image.
+	 */
+	private void draw(Graphics2D g, int imageWidth, int imageHeight) {
 		g.setFont(font);
 		g.setColor(c);
 		g.setComposite(
 				AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha)
 		);
 		
-		int imageWidth = img.getWidth();
-		int imageHeight = img.getHeight();
+		Point p = calculateBaseline(g.getFontMetrics(), imageWidth, imageHeight);
 		
-		int captionWidth = g.getFontMetrics().stringWidth(caption);
-		int captionHeight = g.getFontMetrics().getHeight() / 2;
+		g.drawString(caption, p.x, p.y);
+	}
+	
+	/**
+	 * Calculates the point at which the baseline of the caption starts.
+	 * 
+	 * @param metrics		The metrics of the font of the caption.
+	 * @param imageWidth	The width of the image.
+	 * @param imageHeight	The height of the image.
+	 * @return				The start of the baseline.
+	 */
+	private Point calculateBaseline(FontMetrics metrics, int imageWidth, int imageHeight) {
+		int captionWidth = metrics.stringWidth(caption);
+		int captionHeight = metrics.getHeight() / 2;
 		
 		Point p = position.calculate(
 				imageWidth,	imageHeight, captionWidth, 0,
 				insets, insets, insets, insets
 		);
 
-		double yRatio = p.y / (double)img.getHeight();
+		double yRatio = p.y / (double)imageHeight;
 		int yOffset = (int)((1.0 - yRatio) * captionHeight);
 		
-		g.drawString(caption, p.x, p.y + yOffset);
-		
-		g.dispose();
-		
-		return newImage;
+		return new Point(p.x, p.y + yOffset);
 	}
 }
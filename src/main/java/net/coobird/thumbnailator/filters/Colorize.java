@@ -37,7 +37,7 @@ import net.coobird.thumbnailator.util.BufferedImages;
  * @author coobird
  *
  */
-public final class Colorize implements ImageFilter {
+public final class Colorize implements BandedImageFilter {
 	/**
 	 * The color to tint a target image with.
 	 */
@@ -112,4 +112,38 @@ public final class Colorize implements ImageFilter {
 
 		return newImage;
 	}
+	
+	/**
+	 * Returns whether the tint can be painted directly on the specified
+	 * image, which is not the case for images of a custom type, as
+	 * {@link #apply(BufferedImage)} returns them as
+	 * {@link BufferedImage#TYPE_INT_ARGB}.
+	 * 
+	 * @since	0.4.21
+	 */
+	public boolean canApplyInPlace(BufferedImage img) {
+		return img.getType() != BufferedImage.TYPE_CUSTOM;
+	}
+	
+	/**
+	 * Paints the tint directly on the specified image.
+	 * 
+	 * @since	0.4.21
+	 */
+	public void applyInPlace(BufferedImage img) {
+		applyInPlace(img, 0, img.getHeight() - 1);
+	}
+	
+	/**
+	 * Paints the tint directly on the specified rows of the
+	 * specified image.
+	 * 
+	 * @since	0.4.21
+	 */
+	public void applyInPlace(BufferedImage img, int startRow, int endRow) {
+		Graphics2D g = img.createGraphics();
+		g.setColor(c);
+		g.fillRect(0, startRow, img.getWidth(), endRow - startRow + 1);
+		g.dispose();
+	}
 }
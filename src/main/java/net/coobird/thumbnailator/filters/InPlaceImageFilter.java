@@ -0,0 +1,62 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.filters;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * An {@link ImageFilter} which can also be applied directly to an image,
+ * changing its contents rather than returning a filtered copy.
+ * <p>
+ * A {@link Pipeline} applies such filters to a single working image, which
+ * is only copied when the image it was given must be left unchanged, or
+ * when a filter which is not applied in place returns another image.
+ * <p>
+ * Applying the filter in place must give the same result as
+ * {@link #apply(BufferedImage)}.
+ * 
+ * @author coobird
+ * @since	0.4.21
+ */
+public interface InPlaceImageFilter extends ImageFilter {
+	/**
+	 * Returns whether this filter can be applied in place to an image.
+	 * 
+	 * @param img		The image to apply the filtering on.
+	 * @return			{@code true} if {@link #applyInPlace(BufferedImage)}
+	 * 					can be used on the image, {@code false} if
+	 * 					{@link #apply(BufferedImage)} must be used instead.
+	 */
+	public boolean canApplyInPlace(BufferedImage img);
+	
+	/**
+	 * Applies this filter to an image, changing its contents.
+	 * 
+	 * @param img		The image to apply the filtering on, for which
+	 * 					{@link #canApplyInPlace(BufferedImage)} returns
+	 * 					{@code true}.
+	 */
+	public void applyInPlace(BufferedImage img);
+}
@@ -24,12 +24,16 @@
 
 package net.coobird.thumbnailator.filters;
 
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 
+import net.coobird.thumbnailator.resizers.prl.PrlImageUtils;
+import net.coobird.thumbnailator.resizers.prl.RowRangeProcessor;
 import net.coobird.thumbnailator.util.BufferedImages;
 
 /**
@@ -142,16 +146,170 @@ public final class Pipeline implements ImageFilter {
 	}
 	
 	public BufferedImage apply(BufferedImage img) {
+		return apply(img, false);
+	}
+	
+	/**
+	 * Applies the filters of this pipeline to an image.
+	 * <p>
+	 * Filters which are {@link InPlaceImageFilter}s are applied in place to
+	 * a single working image. That image is only copied before such a
+	 * filter if it is the specified image and that image cannot be
+	 * modified, and other filters return images of their own, which can
+	 * then be modified by the following filters.
+	 * 
+	 * @param img			The image to apply the filters on.
+	 * @param canModify		Whether the specified image can be modified,
+	 * 						and returned after being modified.
+	 * @return				The resulting image after applying the
+	 * 						filters, which is the specified image if there
+	 * 						are no filters.
+	 * @since	0.4.21
+	 */
+	public BufferedImage apply(BufferedImage img, boolean canModify) {
+		return apply(img, canModify, null);
+	}
+	
+	/**
+	 * Applies the filters of this pipeline to an image, as
+	 * {@link #apply(BufferedImage, boolean)} does, using the specified
+	 * {@link Executor} to copy the image and to apply
+	 * {@link BandedImageFilter}s to bands of rows in parallel.
+	 * 
+	 * @param img				The image to apply the filters on.
+	 * @param canModify			Whether the specified image can be modified,
+	 * 							and returned after being modified.
+	 * @param parallelExecutor	The {@link Executor} to use for
+	 * 							parallelization, or {@code null} to apply
+	 * 							the filters in the current thread.
+	 * @return					The resulting image after applying the
+	 * 							filters, which is the specified image if
+	 * 							there are no filters.
+	 * @since	0.4.21
+	 */
+	public BufferedImage apply(BufferedImage img, boolean canModify, Executor parallelExecutor) {
 		if (filtersToApply.isEmpty()) {
 			return img;
 		}
 		
-		BufferedImage image = BufferedImages.copy(img);
+		BufferedImage image = img;
+		boolean isWorkingImage = canModify;
 		
 		for (ImageFilter filter : filtersToApply) {
-			image = filter.apply(image);
+			if (filter instanceof Pipeline) {
+				BufferedImage result = ((Pipeline)filter).apply(image, isWorkingImage, parallelExecutor);
+				isWorkingImage = isWorkingImage || !sharesData(result, image);
+				image = result;
+				continue;
+			}
+			
+			if (filter instanceof InPlaceImageFilter) {
+				InPlaceImageFilter inPlaceFilter = (InPlaceImageFilter)filter;
+				
+				/*
+				 * Checked before copying, as the filter would otherwise
+				 * return a copy of its own after the working copy.
+				 */
+				if (inPlaceFilter.canApplyInPlace(image)) {
+					if (!isWorkingImage) {
+						image = BufferedImages.copy(image, image.getType(), parallelExecutor);
+						isWorkingImage = true;
+					}
+					applyInPlace(inPlaceFilter, image, parallelExecutor);
+					continue;
+				}
+			}
+			
+			BufferedImage result = filter.apply(image);
+			
+			/*
+			 * A filter may return a view of the image it was given, such
+			 * as a subimage, which must then be copied like that image
+			 * before being modified.
+			 */
+			isWorkingImage = isWorkingImage || !sharesData(result, image);
+			image = result;
+		}
+		
+		/*
+		 * The specified image is copied even if no filter changed it, as
+		 * the returned image was always a copy before filters could be
+		 * applied in place.
+		 */
+		if (!isWorkingImage) {
+			image = BufferedImages.copy(image, image.getType(), parallelExecutor);
 		}
 		
 		return image;
 	}
+	
+	/**
+	 * Returns whether two images are backed by the same pixel data.
+	 * 
+	 * @param img1		An image.
+	 * @param img2		Another image.
+	 * @return			{@code true} if modifying one of the images could
+	 * 					modify the other.
+	 */
+	private static boolean sharesData(BufferedImage img1, BufferedImage img2) {
+		if (img1 == img2) {
+			return true;
+		}
+		if (img1 == null || img2 == null) {
+			return false;
+		}
+		return img1.getRaster().getDataBuffer() == img2.getRaster().getDataBuffer();
+	}
+	
+	/**
+	 * Applies a filter in place, only to the region it affects if it is a
+	 * {@link RegionImageFilter} affecting part of the image, or else in
+	 * parallel bands of rows if it is a {@link BandedImageFilter} and an
+	 * {@link Executor} is specified.
+	 * 
+	 * @param filter			The filter to apply.
+	 * @param image				The image to apply the filter on.
+	 * @param parallelExecutor	The {@link Executor} to use for
+	 * 							parallelization, or {@code null}.
+	 */
+	private static void applyInPlace(
+			InPlaceImageFilter filter,
+			final BufferedImage image,
+			Executor parallelExecutor
+	) {
+		if (filter instanceof RegionImageFilter) {
+			RegionImageFilter regionFilter = (RegionImageFilter)filter;
+			int width = image.getWidth();
+			int height = image.getHeight();
+			
+			Rectangle bounds = regionFilter.getAffectedBounds(image)
+					.intersection(new Rectangle(0, 0, width, height));
+			
+			if (bounds.isEmpty()) {
+				return;
+			}
+			if (bounds.width < width || bounds.height < height) {
+				regionFilter.applyToRegion(
+						image.getSubimage(bounds.x, bounds.y, bounds.width, bounds.height),
+						bounds.x, bounds.y, width, height
+				);
+				return;
+			}
+		}
+		
+		if (!(filter instanceof BandedImageFilter) || parallelExecutor == null) {
+			filter.applyInPlace(image);
+			return;
+		}
+		
+		final BandedImageFilter bandedFilter = (BandedImageFilter)filter;
+		RowRangeProcessor processor = new RowRangeProcessor() {
+			public void processRows(int startRow, int endRow) {
+				bandedFilter.applyInPlace(image, startRow, endRow);
+			}
+		};
+		PrlImageUtils.processRowsEventuallyInParallel(
+				image.getWidth(), image.getHeight(), processor, parallelExecutor
+		);
+	}
 }
@@ -0,0 +1,69 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.filters;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+/**
+ * An {@link InPlaceImageFilter} which only changes the pixels within some
+ * bounds of an image, such as the area on which a watermark is drawn.
+ * <p>
+ * A {@link Pipeline} applies such filters to a child image sharing the
+ * pixels of its working image within those bounds, so that the cost of
+ * the filter depends on the size of the bounds rather than on the size of
+ * the image.
+ * 
+ * @author coobird
+ * @since	0.4.21
+ */
+public interface RegionImageFilter extends InPlaceImageFilter {
+	/**
+	 * Returns the bounds of the pixels this filter changes in an image.
+	 * 
+	 * @param img		The image to apply the filtering on.
+	 * @return			The bounds of the pixels which are changed, which
+	 * 					may extend beyond the image.
+	 */
+	public Rectangle getAffectedBounds(BufferedImage img);
+	
+	/**
+	 * Applies this filter to a region of an image, given as a child image
+	 * which shares the pixels of the image, changing its contents.
+	 * <p>
+	 * Applying this filter to the region of an image which contains its
+	 * affected bounds must give the same result as
+	 * {@link #applyInPlace(BufferedImage)}.
+	 * 
+	 * @param region	The child image of the region, for which
+	 * 					{@link #canApplyInPlace(BufferedImage)} returns
+	 * 					{@code true}.
+	 * @param x			The x coordinate of the region in the image.
+	 * @param y			The y coordinate of the region in the image.
+	 * @param width		The width of the image.
+	 * @param height	The height of the image.
+	 */
+	public void applyToRegion(BufferedImage region, int x, int y, int width, int height);
+}
@@ -57,10 +57,30 @@ public class Rotation {
 	 *
 	 */
 	public abstract static class Rotator implements ImageFilter {
+		/**
+		 * The angle of the rotation, in degrees.
+		 */
+		private final double angle;
+		
 		/**
 		 * This class is not intended to be instantiated.
+		 * 
+		 * @param angle			The angle of the rotation, in degrees.
+		 */
+		private Rotator(double angle) {
+			this.angle = angle;
+		}
+		
+		/**
+		 * Returns the angle at which this {@code Rotator} rotates images
+		 * clockwise.
+		 * 
+		 * @return				The angle of the rotation, in degrees.
+		 * @since	0.4.21
 		 */
-		private Rotator() {}
+		public double getAngle() {
+			return angle;
+		}
 	}
 	
 	/**
@@ -76,7 +96,7 @@ public class Rotation {
 	 * 						a given image.
 	 */
 	public static Rotator newRotator(final double angle) {
-		Rotator r = new Rotator() {
+		Rotator r = new Rotator(angle) {
 			
 			private double[] calculatePosition(double x, double y, double angle) {
 				angle = Math.toRadians(angle);
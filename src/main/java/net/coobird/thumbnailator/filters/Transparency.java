@@ -40,7 +40,7 @@ import java.awt.image.BufferedImage;
  * @author coobird
  *
  */
-public class Transparency implements ImageFilter {
+public class Transparency implements BandedImageFilter {
 	/**
 	 * The alpha composite to use when drawing the transparent image.
 	 */
@@ -104,6 +104,43 @@ public class Transparency implements ImageFilter {
 		return finalImage;
 	}
 	
+	/**
+	 * Returns whether the opacity can be changed directly in the specified
+	 * image, which is only the case for {@link BufferedImage#TYPE_INT_ARGB}
+	 * images, as other images are returned in their own type by
+	 * {@link #apply(BufferedImage)} after being made translucent.
+	 * 
+	 * @since	0.4.21
+	 */
+	public boolean canApplyInPlace(BufferedImage img) {
+		return img.getType() == BufferedImage.TYPE_INT_ARGB;
+	}
+	
+	/**
+	 * Multiplies the alpha of the specified image by the opacity of this
+	 * filter.
+	 * 
+	 * @since	0.4.21
+	 */
+	public void applyInPlace(BufferedImage img) {
+		applyInPlace(img, 0, img.getHeight() - 1);
+	}
+	
+	/**
+	 * Multiplies the alpha of the specified rows of the specified image by
+	 * the opacity of this filter.
+	 * 
+	 * @since	0.4.21
+	 */
+	public void applyInPlace(BufferedImage img, int startRow, int endRow) {
+		Graphics2D g = img.createGraphics();
+		g.setComposite(
+				AlphaComposite.getInstance(AlphaComposite.DST_IN, composite.getAlpha())
+		);
+		g.fillRect(0, startRow, img.getWidth(), endRow - startRow + 1);
+		g.dispose();
+	}
+	
 	/**
 	 * Returns the opacity of this filter.
 	 * 
@@ -27,10 +27,11 @@ package net.coobird.thumbnailator.filters;
 import java.awt.AlphaComposite;
 import java.awt.Graphics2D;
 import java.awt.Point;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 
-import net.coobird.thumbnailator.builders.BufferedImageBuilder;
 import net.coobird.thumbnailator.geometry.Position;
+import net.coobird.thumbnailator.util.BufferedImages;
 
 /**
  * This class applies a watermark to an image.
@@ -38,7 +39,7 @@ import net.coobird.thumbnailator.geometry.Position;
  * @author coobird
  *
  */
-public class Watermark implements ImageFilter {
+public class Watermark implements BandedImageFilter, RegionImageFilter {
 	/**
 	 * The position of the watermark.
 	 */
@@ -111,25 +112,79 @@ public class Watermark implements ImageFilter {
 	}
 
 	public BufferedImage apply(BufferedImage img) {
-		int width = img.getWidth();
-		int height = img.getHeight();
-		int type = img.getType();
-
-		BufferedImage imgWithWatermark =
-			new BufferedImageBuilder(width, height, type).build();
+		BufferedImage imgWithWatermark = BufferedImages.copy(img);
+		applyInPlace(imgWithWatermark);
 		
-		int watermarkWidth = watermarkImg.getWidth();
-		int watermarkHeight = watermarkImg.getHeight();
-
-		Point p = position.calculate(
-				width, height, watermarkWidth, watermarkHeight,
-				insets, insets, insets, insets
+		return imgWithWatermark;
+	}
+	
+	/**
+	 * Returns whether the watermark can be drawn directly on the specified
+	 * image, which is not the case for images of a custom type, as
+	 * {@link #apply(BufferedImage)} returns them as
+	 * {@link BufferedImage#TYPE_INT_ARGB}.
+	 * 
+	 * @since	0.4.21
+	 */
+	public boolean canApplyInPlace(BufferedImage img) {
+		return img.getType() != BufferedImage.TYPE_CUSTOM;
+	}
+	
+	/**
+	 * Draws the watermark directly on the specified image.
+	 * 
+	 * @since	0.4.21
+	 */
+	public void applyInPlace(BufferedImage img) {
+		applyInPlace(img, 0, img.getHeight() - 1);
+	}
+	
+	/**
+	 * Draws the watermark directly on the specified rows of the
+	 * specified image.
+	 * 
+	 * @since	0.4.21
+	 */
+	public void applyInPlace(BufferedImage img, int startRow, int endRow) {
+		Graphics2D g = img.createGraphics();
+		g.clipRect(0, startRow, img.getWidth(), endRow - startRow + 1);
+		draw(g, img.getWidth(), img.getHeight());
+		g.dispose();
+	}
+	
+	/**
+	 * Returns the bounds of the watermark.
+	 * 
+	 * @since	0.4.21
+	 */
+	public Rectangle getAffectedBounds(BufferedImage img) {
+		Point p = calculatePosition(img.getWidth(), img.getHeight());
+		return new Rectangle(
+				p.x, p.y, watermarkImg.getWidth(), watermarkImg.getHeight()
 		);
-
-		Graphics2D g = imgWithWatermark.createGraphics();
-		
-		// Draw the actual image.
-		g.drawImage(img, 0, 0, null);
+	}
+	
+	/**
+	 * Draws the watermark directly on the specified region of an image.
+	 * 
+	 * @since	0.4.21
+	 */
+	public void applyToRegion(BufferedImage region, int x, int y, int width, int height) {
+		Graphics2D g = region.createGraphics();
+		g.translate(-x, -y);
+		draw(g, width, height);
+		g.dispose();
+	}
+	
+	/**
+	 * Draws the watermark.
+	 * 
+	 * @param g			The graphics context of the image.
+	 * @param width		The width of the image.
+	 * @param height	The height of the image.
+	 */
+	private void draw(Graphics2D g, int width, int height) {
+		Point p = calculatePosition(width, height);
 		
 		// Draw the watermark on top.
 		g.setComposite(
@@ -137,9 +192,20 @@ public class Watermark implements ImageFilter {
 		);
 		
 		g.drawImage(watermarkImg, p.x, p.y, null);
-		
-		g.dispose();
-
-		return imgWithWatermark;
+	}
+	
+	/**
+	 * Calculates the position of the watermark.
+	 * 
+	 * @param width		The width of the image.
+	 * @param height	The height of the image.
+	 * @return			The position of the upper-left corner of the
+	 * 					watermark.
+	 */
+	private Point calculatePosition(int width, int height) {
+		return position.calculate(
+				width, height, watermarkImg.getWidth(), watermarkImg.getHeight(),
+				insets, insets, insets, insets
+		);
 	}
 }
@@ -24,6 +24,7 @@
 
 package net.coobird.thumbnailator.makers;
 
+import java.awt.Dimension;
 import java.awt.image.BufferedImage;
 
 /**
@@ -81,6 +82,12 @@ public final class FixedSizeThumbnailMaker extends ThumbnailMaker {
 	private boolean keepRatio;
 	private boolean fitWithinDimensions;
 	
+	/**
+	 * The size of the source image at full resolution, if the image given
+	 * to {@link #make(BufferedImage)} was subsampled, or {@code null}.
+	 */
+	private Dimension originalSize;
+	
 	/**
 	 * Creates a {@link FixedSizeThumbnailMaker}.
 	 * <p>
@@ -261,14 +268,35 @@ public final class FixedSizeThumbnailMaker extends ThumbnailMaker {
 		return this;
 	}
 	
+	/**
+	 * Sets the size of the source image at full resolution, when the image
+	 * given to {@link #make(BufferedImage)} was subsampled while being
+	 * decoded.
+	 * <p>
+	 * When the aspect ratio is kept, it is the one of this size, so that
+	 * the thumbnail has the same dimensions as if the source image had been
+	 * decoded at full resolution, the rounding of the subsampled dimensions
+	 * being able to change the aspect ratio.
+	 * 
+	 * @param originalSize	The size of the source image at full
+	 * 						resolution, or {@code null} to use the
+	 * 						dimensions of the given image.
+	 * @return				A reference to this object.
+	 * @since	0.4.21
+	 */
+	public FixedSizeThumbnailMaker originalSize(Dimension originalSize) {
+		this.originalSize = originalSize;
+		return this;
+	}
+	
 	@Override
 	public BufferedImage make(BufferedImage img) {
 		int targetWidth = this.width;
 		int targetHeight = this.height;
 
 		if (keepRatio) {
-			int sourceWidth = img.getWidth();
-			int sourceHeight = img.getHeight();
+			int sourceWidth = originalSize != null ? originalSize.width : img.getWidth();
+			int sourceHeight = originalSize != null ? originalSize.height : img.getHeight();
 			
 			double sourceRatio = (double)sourceWidth / (double)sourceHeight;
 			double targetRatio = (double)targetWidth / (double)targetHeight;
@@ -24,7 +24,11 @@
 
 package net.coobird.thumbnailator.makers;
 
+import java.awt.AlphaComposite;
 import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.util.HashMap;
 import java.util.Map;
@@ -160,6 +164,18 @@ public abstract class ThumbnailMaker {
 	protected ResizerFactory resizerFactory;
 
 	protected Executor parallelExecutor;
+	
+	/**
+	 * The image into which the thumbnail is resized, if it has the
+	 * dimensions of the thumbnail, or {@code null} to create a new image.
+	 */
+	protected BufferedImage destination;
+	
+	/**
+	 * The rotation and/or flip applied to the thumbnail while it is resized,
+	 * or {@code null} if none is applied.
+	 */
+	protected AffineTransform transform;
 
 	/**
 	 * Creates and initializes an instance of {@link ThumbnailMaker}.
@@ -185,6 +201,9 @@ public abstract class ThumbnailMaker {
 	/**
 	 * Makes a thumbnail of the specified dimensions, from the specified
 	 * source image.
+	 * <p>
+	 * If a transform has been set by {@link #transform(AffineTransform)},
+	 * the thumbnail is rotated and/or flipped accordingly.
 	 * 
 	 * @param img		The source image.
 	 * @param width		The target width of the thumbnail.
@@ -211,8 +230,50 @@ public abstract class ThumbnailMaker {
 			);
 		}
 
-		BufferedImage thumbnailImage =
-			new BufferedImageBuilder(width, height, imageType).build();
+		/*
+		 * The transform maps the thumbnail of the specified dimensions onto
+		 * the image it is resized into, which can have swapped dimensions.
+		 */
+		AffineTransform resizeTransform = null;
+		int thumbnailWidth = width;
+		int thumbnailHeight = height;
+		if (transform != null && !transform.isIdentity()) {
+			// Rounding, for rotations computed from angles to be exact.
+			resizeTransform = new AffineTransform(
+					Math.round(transform.getScaleX()),
+					Math.round(transform.getShearY()),
+					Math.round(transform.getShearX()),
+					Math.round(transform.getScaleY()),
+					0, 0
+			);
+			Rectangle bounds = resizeTransform
+					.createTransformedShape(new Rectangle(0, 0, width, height))
+					.getBounds();
+			resizeTransform.preConcatenate(
+					AffineTransform.getTranslateInstance(-bounds.x, -bounds.y)
+			);
+			thumbnailWidth = bounds.width;
+			thumbnailHeight = bounds.height;
+		}
+
+		BufferedImage thumbnailImage;
+		if (destination != null
+				&& destination.getWidth() == thumbnailWidth
+				&& destination.getHeight() == thumbnailHeight) {
+			/*
+			 * Resizers may blend the thumbnail with the previous content of
+			 * the image, which is therefore cleared as a new image would be.
+			 */
+			thumbnailImage = destination;
+			Graphics2D g = thumbnailImage.createGraphics();
+			g.setComposite(AlphaComposite.Clear);
+			g.fillRect(0, 0, thumbnailWidth, thumbnailHeight);
+			g.dispose();
+		} else {
+			thumbnailImage = new BufferedImageBuilder(
+					thumbnailWidth, thumbnailHeight, imageType
+			).build();
+		}
 		
 		Dimension imgSize = new Dimension(img.getWidth(), img.getHeight());
 		Dimension thumbnailSize = new Dimension(width, height);
@@ -223,6 +284,7 @@ public abstract class ThumbnailMaker {
 			resizer,
 			img,
 			thumbnailImage,
+			resizeTransform,
 			this.parallelExecutor);
 		
 		return thumbnailImage;
@@ -274,6 +336,43 @@ public abstract class ThumbnailMaker {
 	    return this;
 	}
 	
+	/**
+	 * Sets the image into which the thumbnail is to be resized, instead of
+	 * a newly created image.
+	 * <p>
+	 * The image is only used if it has the dimensions of the thumbnail,
+	 * in which case the image type set by {@link #imageType(int)} is
+	 * ignored, and the previous content of the image is discarded.
+	 * 
+	 * @param destination	The image to resize into, or {@code null} to
+	 * 						create a new image.
+	 * @return				A reference to this object.
+	 * @since	0.4.21
+	 */
+	public ThumbnailMaker destination(BufferedImage destination) {
+		this.destination = destination;
+		return this;
+	}
+	
+	/**
+	 * Sets a rotation by a multiple of 90 degrees and/or a flip to apply to
+	 * the thumbnail while it is resized.
+	 * <p>
+	 * Only the rotation and flip are retained from the specified transform,
+	 * which are applied around the thumbnail so that the thumbnail image
+	 * contains all of it: when rotating by 90 or 270 degrees, the width and
+	 * height of the thumbnail image are swapped.
+	 * 
+	 * @param transform		The rotation and/or flip, or {@code null} to
+	 * 						apply none.
+	 * @return				A reference to this object.
+	 * @since	0.4.21
+	 */
+	public ThumbnailMaker transform(AffineTransform transform) {
+		this.transform = transform;
+		return this;
+	}
+	
 	/**
 	 * Sets the {@link Resizer} to use the default {@link Resizer}.
 	 * 
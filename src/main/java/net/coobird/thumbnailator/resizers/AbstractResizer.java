@@ -26,6 +26,7 @@ package net.coobird.thumbnailator.resizers;
 
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.util.Collections;
 import java.util.HashMap;
@@ -106,6 +107,41 @@ public abstract class AbstractResizer implements Resizer {
 		g.dispose();
 	}
 	
+	/**
+	 * Performs a resize operation from a source image, and outputs to a
+	 * destination image through the specified transform, as specified by
+	 * {@link TransformingResizer#resizeTransformed(BufferedImage, BufferedImage, AffineTransform)}.
+	 * <p>
+	 * This is the implementation for subclasses which resize by drawing the
+	 * source image with {@link #createGraphics(BufferedImage)}, and which
+	 * implement {@link TransformingResizer}.
+	 * 
+	 * @param srcImage		The source image.
+	 * @param destImage		The destination image.
+	 * @param transform		The transform from the resized image to the
+	 * 						destination image.
+	 * 
+	 * @throws NullPointerException		When the source and/or the destination
+	 * 									image is {@code null}.
+	 * @since	0.4.21
+	 */
+	public void resizeTransformed(
+			BufferedImage srcImage,
+			BufferedImage destImage,
+			AffineTransform transform
+	) {
+		performChecks(srcImage, destImage);
+		
+		boolean isSwapDimensions = transform.getScaleX() == 0.0;
+		int width = !isSwapDimensions ? destImage.getWidth() : destImage.getHeight();
+		int height = !isSwapDimensions ? destImage.getHeight() : destImage.getWidth();
+		
+		Graphics2D g = createGraphics(destImage);
+		g.transform(transform);
+		g.drawImage(srcImage, 0, 0, width, height, null);
+		g.dispose();
+	}
+	
 	/**
 	 * Returns a {@link Graphics2D} object with rendering hints pre-applied.
 	 * @param img	{@link BufferedImage} for which the {@link Graphics2D}
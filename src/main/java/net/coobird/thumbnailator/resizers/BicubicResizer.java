@@ -35,7 +35,8 @@ import java.util.Map;
  * @author coobird
  *
  */
-public class BicubicResizer extends AbstractResizer {
+public class BicubicResizer extends AbstractResizer
+		implements TransformingResizer {
 	/**
 	 * Instantiates a {@link BicubicResizer} with default rendering hints.
 	 */
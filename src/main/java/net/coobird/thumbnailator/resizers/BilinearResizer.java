@@ -35,7 +35,8 @@ import java.util.Map;
  * @author coobird
  *
  */
-public class BilinearResizer extends AbstractResizer {
+public class BilinearResizer extends AbstractResizer
+		implements TransformingResizer {
 	/**
 	 * Instantiates a {@link BilinearResizer} with default rendering hints.
 	 */
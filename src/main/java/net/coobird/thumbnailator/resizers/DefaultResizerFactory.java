@@ -144,7 +144,8 @@ public class DefaultResizerFactory implements ResizerFactory {
 		if (thumbWidth < origWidth && thumbHeight < origHeight) {
 			if (thumbWidth < (origWidth / 2) && thumbHeight < (origHeight / 2)) {
 				if (MUST_USE_PRL_RESIZERS) {
-					return Resizers.PARALLEL_PROGRESSIVE_BILINEAR;
+					// Single pass, and no intermediate images.
+					return Resizers.PARALLEL_BOX;
 				} else {
 					return Resizers.PROGRESSIVE;
 				}
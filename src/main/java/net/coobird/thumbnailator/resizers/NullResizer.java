@@ -25,8 +25,10 @@
 package net.coobird.thumbnailator.resizers;
 
 import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.RenderingHints.Key;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.util.Collections;
 import java.util.Map;
@@ -40,7 +42,8 @@ import java.util.Map;
  * @since	0.4.0
  *
  */
-public class NullResizer extends AbstractResizer {
+public class NullResizer extends AbstractResizer
+		implements TransformingResizer {
 	/**
 	 * Instantiates the {@code NullResizer} which draws the source image at
 	 * the origin of the destination image.
@@ -70,4 +73,28 @@ public class NullResizer extends AbstractResizer {
 		g.drawImage(srcImage, 0, 0, null);
 		g.dispose();
 	}
+	
+	/**
+	 * Draws the source image at the origin of the image it would be resized
+	 * into, through the specified transform.
+	 * 
+	 * @param srcImage		The source image.
+	 * @param destImage		The destination image.
+	 * @param transform		The transform from the resized image to the
+	 * 						destination image.
+	 * @since	0.4.21
+	 */
+	@Override
+	public void resizeTransformed(
+			BufferedImage srcImage,
+			BufferedImage destImage,
+			AffineTransform transform
+	) {
+		super.performChecks(srcImage, destImage);
+		
+		Graphics2D g = destImage.createGraphics();
+		g.transform(transform);
+		g.drawImage(srcImage, 0, 0, null);
+		g.dispose();
+	}
 }
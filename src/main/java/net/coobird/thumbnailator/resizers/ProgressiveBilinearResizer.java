@@ -29,6 +29,7 @@ import net.coobird.thumbnailator.builders.BufferedImageBuilder;
 import java.awt.AlphaComposite;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.util.Collections;
 import java.util.Map;
@@ -48,7 +49,8 @@ import java.util.Map;
  * @author coobird
  *
  */
-public class ProgressiveBilinearResizer extends AbstractResizer {
+public class ProgressiveBilinearResizer extends AbstractResizer
+		implements TransformingResizer {
 	/**
 	 * Instantiates a {@link ProgressiveBilinearResizer} with default
 	 * rendering hints.
@@ -82,10 +84,39 @@ public class ProgressiveBilinearResizer extends AbstractResizer {
 	@Override
 	public void resize(BufferedImage srcImage, BufferedImage destImage)
 			throws NullPointerException {
+		resizeTransformed(srcImage, destImage, new AffineTransform());
+	}
+	
+	/**
+	 * Resizes an image using the progressive bilinear scaling technique,
+	 * the last step drawing into the destination image through the
+	 * specified transform.
+	 * <p>
+	 * If the source and/or destination image is {@code null}, then a
+	 * {@link NullPointerException} will be thrown.
+	 * 
+	 * @param srcImage		The source image.
+	 * @param destImage		The destination image.
+	 * @param transform		The transform from the resized image to the
+	 * 						destination image.
+	 * 
+	 * @throws NullPointerException		When the source and/or the destination
+	 * 									image is {@code null}.
+	 * @since	0.4.21
+	 */
+	@Override
+	public void resizeTransformed(
+			BufferedImage srcImage,
+			BufferedImage destImage,
+			AffineTransform transform
+	) throws NullPointerException {
 		super.performChecks(srcImage, destImage);
 		
-		final int targetWidth = destImage.getWidth();
-		final int targetHeight = destImage.getHeight();
+		final boolean isSwapDimensions = transform.getScaleX() == 0.0;
+		final int targetWidth =
+			!isSwapDimensions ? destImage.getWidth() : destImage.getHeight();
+		final int targetHeight =
+			!isSwapDimensions ? destImage.getHeight() : destImage.getWidth();
 		
 		BufferedImage currentSrcImage = srcImage;
 		int currentSrcWidth = currentSrcImage.getWidth();
@@ -135,6 +166,7 @@ public class ProgressiveBilinearResizer extends AbstractResizer {
 		
 		// Last resizing: target spans onto the destination image.
 		Graphics2D destg = createGraphics(destImage);
+		destg.transform(transform);
 		destg.drawImage(currentSrcImage, 0, 0, targetWidth, targetHeight, 0, 0, currentSrcWidth, currentSrcHeight, null);
 		destg.dispose();
 	}
@@ -24,13 +24,17 @@
 
 package net.coobird.thumbnailator.resizers;
 
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.util.concurrent.Executor;
 
+import net.coobird.thumbnailator.resizers.prl.ConvolutionKernel;
 import net.coobird.thumbnailator.resizers.prl.ParallelBicubicResizer;
 import net.coobird.thumbnailator.resizers.prl.ParallelBilinearResizer;
+import net.coobird.thumbnailator.resizers.prl.ParallelBoxResizer;
+import net.coobird.thumbnailator.resizers.prl.ParallelConvolutionResizer;
 import net.coobird.thumbnailator.resizers.prl.ParallelNearestResizer;
-import net.coobird.thumbnailator.resizers.prl.ParallelResizer;
+import net.coobird.thumbnailator.resizers.prl.ParallelTransformingResizer;
 import net.coobird.thumbnailator.resizers.prl.PrlResizersUtils;
 import net.coobird.thumbnailator.resizers.prl.ProgressiveResizer;
 
@@ -67,7 +71,7 @@ Resizers.BILINEAR.resize(sourceImage, destImage);
  * @author coobird
  *
  */
-public enum Resizers implements ParallelResizer {
+public enum Resizers implements ParallelTransformingResizer {
 	/**
 	 * A {@link Resizer} which does not perform resizing operations. The source
 	 * image will be drawn at the origin of the destination image.
@@ -138,7 +142,44 @@ public enum Resizers implements ParallelResizer {
 	 * For details on this technique, refer to the documentation of the
 	 * {@link ProgressiveResizer} and {@link ParallelBicubicResizer} classes.
 	 */
-	PARALLEL_PROGRESSIVE_BICUBIC(new ProgressiveResizer(new ParallelBicubicResizer()))
+	PARALLEL_PROGRESSIVE_BICUBIC(new ProgressiveResizer(new ParallelBicubicResizer())),
+	
+	/**
+	 * A {@link Resizer} which performs resizing operations using
+	 * separable convolution with a Lanczos3 kernel, and possibly in parallel.
+	 * <p>
+	 * For details on this technique, refer to the documentation of the
+	 * {@link ParallelConvolutionResizer} class.
+	 */
+	PARALLEL_LANCZOS3(new ParallelConvolutionResizer(ConvolutionKernel.LANCZOS3)),
+	
+	/**
+	 * A {@link Resizer} which performs resizing operations using
+	 * separable convolution with a Mitchell kernel, and possibly in parallel.
+	 * <p>
+	 * For details on this technique, refer to the documentation of the
+	 * {@link ParallelConvolutionResizer} class.
+	 */
+	PARALLEL_MITCHELL(new ParallelConvolutionResizer(ConvolutionKernel.MITCHELL)),
+	
+	/**
+	 * A {@link Resizer} which performs resizing operations using
+	 * separable convolution with a Catmull-Rom kernel, and possibly in parallel.
+	 * <p>
+	 * For details on this technique, refer to the documentation of the
+	 * {@link ParallelConvolutionResizer} class.
+	 */
+	PARALLEL_CATMULL_ROM(new ParallelConvolutionResizer(ConvolutionKernel.CATMULL_ROM)),
+	
+	/**
+	 * A {@link Resizer} which performs downscaling operations using
+	 * box sampling (area averaging) in a single pass, and possibly
+	 * in parallel.
+	 * <p>
+	 * For details on this technique, refer to the documentation of the
+	 * {@link ParallelBoxResizer} class.
+	 */
+	PARALLEL_BOX(new ParallelBoxResizer())
 	;
 	
 	private final Resizer resizer;
@@ -156,4 +197,14 @@ public enum Resizers implements ParallelResizer {
 	public void resize(BufferedImage srcImage, BufferedImage destImage, Executor parallelExecutor) {
 		PrlResizersUtils.resizeEventuallyInParallel(resizer, srcImage, destImage, parallelExecutor);
 	}
+
+	@Override
+	public void resizeTransformed(BufferedImage srcImage, BufferedImage destImage, AffineTransform transform) {
+		PrlResizersUtils.resizeEventuallyInParallel(resizer, srcImage, destImage, transform, null);
+	}
+
+	@Override
+	public void resizeTransformed(BufferedImage srcImage, BufferedImage destImage, AffineTransform transform, Executor parallelExecutor) {
+		PrlResizersUtils.resizeEventuallyInParallel(resizer, srcImage, destImage, transform, parallelExecutor);
+	}
 }
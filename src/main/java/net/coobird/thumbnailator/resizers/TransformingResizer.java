@@ -0,0 +1,64 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2020 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.resizers;
+
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * A {@link Resizer} which can also rotate and flip the image it resizes,
+ * as part of the resizing operation.
+ * <p>
+ * This allows transformations such as the ones orienting an image according
+ * to its Exif metadata to be performed while the image is resampled,
+ * rather than as separate passes over the resized image.
+ * 
+ * @author coobird
+ * @since	0.4.21
+ */
+public interface TransformingResizer extends Resizer {
+	/**
+	 * Resizes an image, and draws it transformed by the specified
+	 * transform.
+	 * <p>
+	 * The source image is resized to the dimensions of the destination
+	 * image, swapped if the transform rotates by 90 or 270 degrees, and the
+	 * transform maps the resized image onto the destination image.
+	 * <p>
+	 * The transform must only consist of a rotation by a multiple of 90
+	 * degrees and/or a flip, followed by a translation which maps the
+	 * resized image exactly onto the destination image.
+	 * 
+	 * @param srcImage		The source image.
+	 * @param destImage		The destination image.
+	 * @param transform		The transform from the resized image to the
+	 * 						destination image.
+	 */
+	public void resizeTransformed(
+			BufferedImage srcImage,
+			BufferedImage destImage,
+			AffineTransform transform
+	);
+}
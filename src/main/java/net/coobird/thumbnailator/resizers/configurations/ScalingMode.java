@@ -28,6 +28,7 @@
 package net.coobird.thumbnailator.resizers.configurations;
 
 import net.coobird.thumbnailator.resizers.ProgressiveBilinearResizer;
+import net.coobird.thumbnailator.resizers.prl.ParallelConvolutionResizer;
 
 /**
  * An enum which is used to specify how to scale images when creating
@@ -54,5 +55,32 @@ public enum ScalingMode {
 	 * {@link ProgressiveBilinearResizer} class.
 	 */
 	PROGRESSIVE_BILINEAR,
+	
+	/**
+	 * A hint to use separable convolution with a Lanczos3 kernel when
+	 * resizing images.
+	 * <p>
+	 * For details on this technique, refer to the documentation of the
+	 * {@link ParallelConvolutionResizer} class.
+	 */
+	LANCZOS3,
+	
+	/**
+	 * A hint to use separable convolution with a Mitchell kernel when
+	 * resizing images.
+	 * <p>
+	 * For details on this technique, refer to the documentation of the
+	 * {@link ParallelConvolutionResizer} class.
+	 */
+	MITCHELL,
+	
+	/**
+	 * A hint to use separable convolution with a Catmull-Rom kernel when
+	 * resizing images.
+	 * <p>
+	 * For details on this technique, refer to the documentation of the
+	 * {@link ParallelConvolutionResizer} class.
+	 */
+	CATMULL_ROM,
 	;
 }
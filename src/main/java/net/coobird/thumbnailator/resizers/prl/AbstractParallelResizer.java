@@ -17,9 +17,10 @@ package net.coobird.thumbnailator.resizers.prl;
 
 import java.awt.Graphics2D;
 import java.awt.RenderingHints.Key;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.awt.image.MultiPixelPackedSampleModel;
 import java.util.Map;
-import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 
 import net.coobird.thumbnailator.resizers.AbstractResizer;
@@ -28,89 +29,55 @@ import net.coobird.thumbnailator.util.ThbUtils;
 /**
  * Abstract class to implement parallel resizers.
  * 
+ * Parallelization is done by splitting work in rows,
+ * and delegated to a {@link PrlEngine}.
+ * 
  * To ensure no actual parallelization, return Integer.MAX_VALUE
  * for both abstract thresholds methods (Integer.MAX_VALUE is a prime,
  * so no int product of width * height can be equal to it).
  */
-public abstract class AbstractParallelResizer extends AbstractResizer implements ParallelResizer {
+public abstract class AbstractParallelResizer extends AbstractResizer implements ParallelTransformingResizer {
 	
 	/**
-	 * To avoid over-splitting, since we don't use
-	 * a split-as-needed parallelization engine.
-	 * 
-	 * Must not be too small else work will not be cut into small enough chunks
-	 * to keep all workers busy until near completion.
-	 * Must not be too large else might split into more chunks than needed
-	 * and add useless overhead.
-	 * 
-	 * Our work load being split into approximately equal amounts,
-	 * a value of 10 should allow an execution time usually not larger
-	 * than "theoretical optimal * 1.1", with 1.1 = 1 + 1/10.
+	 * Stateless, so can be shared.
 	 */
-	private static final int MAX_RUNNABLE_COUNT_PER_CORE = 10;
+	private static final PrlEngine DEFAULT_PRL_ENGINE = new ChunkingPrlEngine();
 	
-	private static final int CORE_COUNT = Runtime.getRuntime().availableProcessors();
+	private final PrlEngine prlEngine;
 	
 	/*
 	 * 
 	 */
 	
-	private class MyCmnData {
-		final BufferedImage srcImage;
-		final BufferedImage destImage;
-		final CountDownLatch latch;
-		public MyCmnData(
-			BufferedImage srcImage,
-			BufferedImage destImage,
-			CountDownLatch latch) {
-			this.srcImage = srcImage;
-			this.destImage = destImage;
-			this.latch = latch;
-		}
+	/**
+	 * Uses a {@link ChunkingPrlEngine}.
+	 */
+	protected AbstractParallelResizer(
+		Object interpolationValue,
+		Map<Key, Object> hints) {
+		this(interpolationValue, hints, DEFAULT_PRL_ENGINE);
 	}
 	
-	private class MyPrlRunnable implements Runnable {
-		private final MyCmnData cmn;
-		private final int destStartRow;
-		private final int destEndRow;
-		public MyPrlRunnable(
-			MyCmnData cmn,
-			int destStartRow,
-			int destEndRow) {
-			if (destStartRow > destEndRow) {
-				throw new IllegalArgumentException(
-					destStartRow + " > " + destEndRow);
-			}
-			if (destEndRow >= cmn.destImage.getHeight()) {
-				throw new IllegalArgumentException(
-					destEndRow + " >= " + cmn.destImage.getHeight());
-			}
-			this.cmn = cmn;
-			this.destStartRow = destStartRow;
-			this.destEndRow = destEndRow;
-		}
-		@Override
-		public void run() {
-			try {
-				resizePart(
-					this.cmn.srcImage,
-					this.destStartRow,
-					this.destEndRow,
-					this.cmn.destImage);
-			} finally {
-				this.cmn.latch.countDown();
-			}
-		}
+	/**
+	 * @param prlEngine Engine to use for parallelization.
+	 */
+	protected AbstractParallelResizer(
+		Object interpolationValue,
+		Map<Key, Object> hints,
+		PrlEngine prlEngine) {
+		super(interpolationValue, hints);
+		this.prlEngine = ThbUtils.requireNonNull(prlEngine);
 	}
 	
 	/*
 	 * 
 	 */
 	
-	protected AbstractParallelResizer(
-		Object interpolationValue,
-		Map<Key, Object> hints) {
-		super(interpolationValue, hints);
+	/**
+	 * @return The engine used for parallelization.
+	 */
+	public PrlEngine getPrlEngine() {
+		return this.prlEngine;
 	}
 	
 	/*
@@ -122,71 +89,84 @@ public abstract class AbstractParallelResizer extends AbstractResizer implements
 		BufferedImage srcImage,
 		BufferedImage destImage,
 		Executor parallelExecutor) {
+		this.resizeTransformed(srcImage, destImage, new AffineTransform(), parallelExecutor);
+	}
+	
+	@Override
+	public void resizeTransformed(
+		BufferedImage srcImage,
+		BufferedImage destImage,
+		AffineTransform transform) {
+		this.resizeTransformed(srcImage, destImage, transform, null);
+	}
+	
+	@Override
+	public void resizeTransformed(
+		BufferedImage srcImage,
+		final BufferedImage destImage,
+		final AffineTransform transform,
+		Executor parallelExecutor) {
 		
 		this.performChecks(srcImage, destImage);
 		
+		/*
+		 * Working in the space of the resized image,
+		 * which the transform maps onto the destination image.
+		 */
+		final boolean swap = swapsAxes(transform);
 		final int sw = srcImage.getWidth();
 		final int sh = srcImage.getHeight();
-		final int dw = destImage.getWidth();
-		final int dh = destImage.getHeight();
+		final int dw = (swap ? destImage.getHeight() : destImage.getWidth());
+		final int dh = (swap ? destImage.getWidth() : destImage.getHeight());
+		
+		final Executor executor =
+			executorForTransform(parallelExecutor, destImage, transform);
 		
 		/*
-		 * Images spans can be assumed not to be zero,
-		 * thanks to SampleModel constructor check.
+		 * Converting slow types once if splitting,
+		 * else each part would convert the whole image.
 		 */
-		
-		// 1 when going sequential, 2 or more when going parallel.
-		final int partCount;
-		if (parallelExecutor != null) {
-			final int srcAreaThreshold = this.getSrcAreaThresholdForSplit();
-			final int destAreaThreshold = this.getDestAreaThresholdForSplit();
-			ThbUtils.requireSupOrEq(2, srcAreaThreshold, "getSrcAreaThresholdForSplit()");
-			ThbUtils.requireSupOrEq(2, destAreaThreshold, "getDestAreaThresholdForSplit()");
-			
-			// Areas always < Integer.MAX_VALUE, since it's a prime.
-			final int srcArea = sw * sh;
-			final int destArea = dw * dh;
-			
-			final int partCountDueToSrc =
-				ThbUtils.toRange(1, dh,
-					(int) Math.ceil((srcArea + 1) / (double) srcAreaThreshold));
-			final int partCountDueToDest =
-				ThbUtils.toRange(1, dh,
-					(int) Math.ceil((destArea + 1) / (double) destAreaThreshold));
-			final int theoreticalPartCount = Math.max(partCountDueToSrc, partCountDueToDest);
-			
-			final int maxPartCount = CORE_COUNT * MAX_RUNNABLE_COUNT_PER_CORE;
-			partCount = Math.min(maxPartCount, theoreticalPartCount);
+		final BufferedImage partsSrcImage;
+		if (SourceNormalizer.isSlowType(srcImage)
+			&& (this.computePartCount(
+				sw * sh,
+				dw * dh,
+				srcImage.getType(),
+				dh,
+				executor) >= 2)) {
+			partsSrcImage = SourceNormalizer.normalize(srcImage, executor);
 		} else {
-			partCount = 1;
+			partsSrcImage = srcImage;
 		}
 		
-		final boolean prlElseSeq = (partCount >= 2);
+		/*
+		 * Not calling this.resize(_,_) for parts, since it might
+		 * delegate to resize(_,_,_), and cause stack overflow.
+		 * 
+		 * Not calling super.resize(), since it would not allow
+		 * for overriding sequential behavior, if we wanted to.
+		 */
+		final RowRangeProcessor processor = new RowRangeProcessor() {
+			@Override
+			public void processRows(int startRow, int endRow) {
+				resizePart(
+					partsSrcImage,
+					startRow,
+					endRow,
+					dw,
+					dh,
+					destImage,
+					transform);
+			}
+		};
 		
-		if (prlElseSeq) {
-			parallelResize(
-				partCount,
-				srcImage,
-				destImage,
-				parallelExecutor);
-		} else {
-			/*
-			 * Part is the whole images.
-			 * 
-			 * Not calling this.resize(_,_), since it might
-			 * delegate to resize(_,_,_), and cause stack overflow.
-			 * 
-			 * Not calling super.resize(), since it would not allow
-			 * for overriding sequential behavior, if we wanted to.
-			 */
-			final int destYStart = 0;
-			final int destYEnd = dh - 1;
-			resizePart(
-				srcImage,
-				destYStart,
-				destYEnd,
-				destImage);
-		}
+		this.processRowsEventuallyInParallel(
+			dh,
+			sw * sh,
+			dw * dh,
+			srcImage.getType(),
+			processor,
+			executor);
 	}
 	
 	/*
@@ -212,74 +192,172 @@ public abstract class AbstractParallelResizer extends AbstractResizer implements
 	 */
 	protected abstract int getDestAreaThresholdForSplit();
 	
+	/**
+	 * Key for thresholds of this resizer in a {@link SplitThresholdsProfile}.
+	 * 
+	 * Resizers of a same class must override it if their workload
+	 * can differ for same images, for example due to configuration.
+	 * 
+	 * @return The class name of this resizer.
+	 */
+	public String getSplitThresholdsKey() {
+		return this.getClass().getName();
+	}
+	
 	/*
 	 * 
 	 */
 	
 	/**
-	 * Called in case of parallel resizing.
+	 * @param transform A transform as specified by TransformingResizer.
+	 * @return True if the specified transform turns rows of the resized
+	 *         image into columns of the destination image.
+	 */
+	protected static boolean swapsAxes(AffineTransform transform) {
+		return transform.getScaleX() == 0.0;
+	}
+	
+	/**
+	 * When rows of the resized image are columns of the destination image,
+	 * parts writing disjoint rows could write into the same array elements
+	 * of images packing multiple pixels per element, so we don't split then.
 	 * 
-	 * @param partCount Always >= 2.
-	 * @param parallelExecutor Never null.
+	 * @param parallelExecutor Executor for parallelization. Can be null.
+	 * @param destImage Destination image.
+	 * @param transform A transform as specified by TransformingResizer.
+	 * @return The specified executor, or null if it must not be used.
 	 */
-	private void parallelResize(
-		int partCount,
-		BufferedImage srcImage,
+	protected static Executor executorForTransform(
+		Executor parallelExecutor,
 		BufferedImage destImage,
+		AffineTransform transform) {
+		if (swapsAxes(transform)
+			&& (destImage.getSampleModel() instanceof MultiPixelPackedSampleModel)) {
+			return null;
+		}
+		return parallelExecutor;
+	}
+	
+	/**
+	 * Processes the specified rows range, in parallel if worth it
+	 * considering the thresholds of this resizer, and in a single part
+	 * (the whole range) in the current thread otherwise.
+	 * 
+	 * @param rowCount Number of rows to process, starting from row 0.
+	 *        Must be >= 1.
+	 * @param srcArea Area, in pixels, of the image read from.
+	 * @param destArea Area, in pixels, of the image written into.
+	 * @param srcImageType Type of the source image of the resize,
+	 *        for thresholds lookup in current profile.
+	 * @param processor Processor to use for each part.
+	 * @param parallelExecutor Executor for parallelization. Can be null.
+	 */
+	protected void processRowsEventuallyInParallel(
+		int rowCount,
+		int srcArea,
+		int destArea,
+		int srcImageType,
+		RowRangeProcessor processor,
 		Executor parallelExecutor) {
 		
-		final int dh = destImage.getHeight();
-		
-		final Runnable[] runnableArr = new Runnable[partCount];
+		// 1 when going sequential, 2 or more when going parallel.
+		final int partCount = this.computePartCount(
+			srcArea,
+			destArea,
+			srcImageType,
+			rowCount,
+			parallelExecutor);
 		
-		final CountDownLatch latch =
-			new CountDownLatch(partCount);
+		final boolean prlElseSeq = (partCount >= 2);
 		
-		final MyCmnData cmn =
-			new MyCmnData(
-				srcImage,
-				destImage,
-				latch);
+		if (prlElseSeq) {
+			this.prlEngine.processRows(
+				rowCount,
+				partCount,
+				processor,
+				parallelExecutor);
+		} else {
+			// Part is the whole range.
+			processor.processRows(0, rowCount - 1);
+		}
+	}
+	
+	/**
+	 * Computes in how many parts some row-based work can be split,
+	 * considering the thresholds of this resizer, engines
+	 * splitting at most into that many parts.
+	 * 
+	 * Thresholds are taken from current {@link SplitThresholdsProfile}
+	 * if it has some for this resizer and the specified image type,
+	 * and from getSrcAreaThresholdForSplit()
+	 * and getDestAreaThresholdForSplit() otherwise.
+	 * 
+	 * Images spans can be assumed not to be zero,
+	 * thanks to SampleModel constructor check,
+	 * and areas to be < Integer.MAX_VALUE, since it's a prime.
+	 * 
+	 * @param srcArea Area, in pixels, of the image read from.
+	 * @param destArea Area, in pixels, of the image written into.
+	 * @param srcImageType Type of the source image of the resize.
+	 * @param rowCount Number of rows to split, i.e. max number of parts.
+	 * @param parallelExecutor Executor for parallelization. Can be null.
+	 * @return 1 when going sequential, 2 or more when going parallel.
+	 */
+	protected int computePartCount(
+		int srcArea,
+		int destArea,
+		int srcImageType,
+		int rowCount,
+		Executor parallelExecutor) {
 		
-		final double partHeightFp = dh / (double) partCount;
+		if (parallelExecutor == null) {
+			return 1;
+		}
 		
-		int prevDestEndRowIndex = -1;
-		for (int i = 0; i < partCount; i++) {
-			final int destStartRowIndex = prevDestEndRowIndex + 1;
-			final double destEndRowIndexFp = partHeightFp * i + (partHeightFp - 1.0);
-			final int destEndRowIndex = (int) (destEndRowIndexFp + 0.5);
-			runnableArr[i] = new MyPrlRunnable(
-				cmn,
-				destStartRowIndex,
-				destEndRowIndex);
-			prevDestEndRowIndex = destEndRowIndex;
+		int srcAreaThreshold = 0;
+		int destAreaThreshold = 0;
+		final SplitThresholdsProfile profile = SplitThresholdsProfile.getEffective();
+		if (profile != null) {
+			final String key = this.getSplitThresholdsKey();
+			srcAreaThreshold = profile.getSrcAreaThreshold(key, srcImageType);
+			destAreaThreshold = profile.getDestAreaThreshold(key, srcImageType);
+		}
+		if (srcAreaThreshold == 0) {
+			srcAreaThreshold = this.getSrcAreaThresholdForSplit();
 		}
-		if (prevDestEndRowIndex != dh - 1) {
-			// Means our algo doesn't go to last row.
-			throw new AssertionError();
+		if (destAreaThreshold == 0) {
+			destAreaThreshold = this.getDestAreaThresholdForSplit();
 		}
+		ThbUtils.requireSupOrEq(2, srcAreaThreshold, "getSrcAreaThresholdForSplit()");
+		ThbUtils.requireSupOrEq(2, destAreaThreshold, "getDestAreaThresholdForSplit()");
 		
-		ThbPrlEngine.parallelRun(
-			runnableArr,
-			parallelExecutor,
-			latch);
+		final int partCountDueToSrc =
+			ThbUtils.toRange(1, rowCount,
+				(int) Math.ceil((srcArea + 1) / (double) srcAreaThreshold));
+		final int partCountDueToDest =
+			ThbUtils.toRange(1, rowCount,
+				(int) Math.ceil((destArea + 1) / (double) destAreaThreshold));
+		return Math.max(partCountDueToSrc, partCountDueToDest);
 	}
 	
 	/**
 	 * @param srcImage Source image.
-	 * @param destYStart Destination "y" to start from (inclusive).
-	 * @param destYEnd Destination "y" to end at (inclusive).
+	 * @param destYStart Resized image "y" to start from (inclusive).
+	 * @param destYEnd Resized image "y" to end at (inclusive).
+	 * @param dw Resized image width.
+	 * @param dh Resized image height.
 	 * @param destImage Destination image.
+	 * @param transform Transform from resized image to destination image.
 	 */
 	private void resizePart(
 		BufferedImage srcImage,
 		//
 		int destYStart,
 		int destYEnd,
-		BufferedImage destImage) {
-		
-		final int dw = destImage.getWidth();
-		final int dh = destImage.getHeight();
+		int dw,
+		int dh,
+		BufferedImage destImage,
+		AffineTransform transform) {
 		
 		/*
 		 * We assume we can do that concurrently,
@@ -287,11 +365,15 @@ public abstract class AbstractParallelResizer extends AbstractResizer implements
 		 */
 		final Graphics2D g = this.createGraphics(destImage);
 		try {
+			g.transform(transform);
 			/*
 			 * This clip is what allows parallel work chunks
 			 * not to step on each other's toes.
-			 * We only pass here when we have actual parts,
-			 * so we always need to make this clip.
+			 * It is always set: it covers the whole image
+			 * when resizing sequentially, and one band of rows
+			 * when resizing in parallel.
+			 * Being set after the transform, it's in resized image
+			 * coordinates.
 			 */
 			final int destYSpan = (destYEnd - destYStart + 1);
 			g.setClip(0, destYStart, dw, destYSpan);
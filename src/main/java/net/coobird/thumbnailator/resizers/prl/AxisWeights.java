@@ -0,0 +1,213 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+/**
+ * Weights to compute destination pixels along one axis,
+ * as weighted sums of consecutive source pixels.
+ * 
+ * Immutable once computed, so usable concurrently.
+ */
+class AxisWeights {
+	
+	/**
+	 * For each destination pixel, index of the first source pixel.
+	 */
+	final int[] startArr;
+	
+	/**
+	 * For each destination pixel, number of source pixels.
+	 */
+	final int[] countArr;
+	
+	/**
+	 * For each destination pixel, weights of source pixels,
+	 * at [destIndex * maxCount, destIndex * maxCount + count[.
+	 */
+	final float[] weightArr;
+	
+	final int maxCount;
+	
+	/*
+	 * 
+	 */
+	
+	/**
+	 * @param destSpan Number of destination pixels.
+	 * @param maxCount Max number of source pixels per destination pixel.
+	 */
+	public AxisWeights(int destSpan, int maxCount) {
+		this.startArr = new int[destSpan];
+		this.countArr = new int[destSpan];
+		this.weightArr = new float[destSpan * maxCount];
+		this.maxCount = maxCount;
+	}
+	
+	/**
+	 * Weights for exact area averaging: source pixel at index i
+	 * covers [i, i+1[, destination pixel at index j covers
+	 * [j * scale, (j+1) * scale[, and weights are the normalized
+	 * overlaps.
+	 * 
+	 * @param srcSpan Number of source pixels.
+	 * @param destSpan Number of destination pixels.
+	 * @return Box weights.
+	 */
+	public static AxisWeights newBoxWeights(int srcSpan, int destSpan) {
+		final double scale = srcSpan / (double) destSpan;
+		final int maxCount = Math.min(srcSpan, (int) Math.ceil(scale) + 1);
+		final AxisWeights ret = new AxisWeights(destSpan, maxCount);
+		final double[] tmpWeightArr = new double[maxCount];
+		for (int j = 0; j < destSpan; j++) {
+			final double x0 = j * scale;
+			final double x1 = Math.min(srcSpan, (j + 1) * scale);
+			final int start = Math.min(srcSpan - 1, (int) x0);
+			final int end = Math.max(start + 1, Math.min(srcSpan, (int) Math.ceil(x1)));
+			final int count = Math.min(maxCount, end - start);
+			for (int k = 0; k < count; k++) {
+				final int i = start + k;
+				tmpWeightArr[k] = Math.max(0.0, Math.min(i + 1, x1) - Math.max(i, x0));
+			}
+			ret.setWeights(j, start, tmpWeightArr, count);
+		}
+		return ret;
+	}
+	
+	/**
+	 * Normalizes the specified weights, and sets them for the specified
+	 * destination pixel. If their sum is zero, the source pixel
+	 * nearest to the middle of the range is used.
+	 * 
+	 * @param destIndex Destination pixel index.
+	 * @param start Index of first source pixel.
+	 * @param tmpWeightArr Weights, not normalized.
+	 * @param count Number of weights, in [1,maxCount].
+	 */
+	public void setWeights(int destIndex, int start, double[] tmpWeightArr, int count) {
+		double weightSum = 0.0;
+		for (int k = 0; k < count; k++) {
+			weightSum += tmpWeightArr[k];
+		}
+		final int wi = destIndex * this.maxCount;
+		if (weightSum == 0.0) {
+			this.startArr[destIndex] = start + (count - 1) / 2;
+			this.countArr[destIndex] = 1;
+			this.weightArr[wi] = 1.0f;
+			return;
+		}
+		final double invWeightSum = 1.0 / weightSum;
+		for (int k = 0; k < count; k++) {
+			this.weightArr[wi + k] = (float) (tmpWeightArr[k] * invWeightSum);
+		}
+		this.startArr[destIndex] = start;
+		this.countArr[destIndex] = count;
+	}
+	
+	/**
+	 * @return Index of the first source pixel used by the first destination pixel.
+	 */
+	public int getMinSrcIndex() {
+		return this.startArr[0];
+	}
+	
+	/**
+	 * @return Index of the last source pixel used by the last destination pixel.
+	 */
+	public int getMaxSrcIndex() {
+		final int last = this.startArr.length - 1;
+		return this.startArr[last] + this.countArr[last] - 1;
+	}
+	
+	/**
+	 * Computes a row of destination pixels from a row of source pixels.
+	 * 
+	 * @param compCount Number of float components per pixel (3 or 4).
+	 * @param srcRow Source pixels components.
+	 * @param destRow (out) Destination pixels components.
+	 */
+	public void convolveRow(
+		int compCount,
+		float[] srcRow,
+		float[] destRow) {
+		final int destSpan = this.startArr.length;
+		final int[] startArr = this.startArr;
+		final int[] countArr = this.countArr;
+		final float[] weightArr = this.weightArr;
+		final int maxCount = this.maxCount;
+		int di = 0;
+		if (compCount == 4) {
+			for (int x = 0; x < destSpan; x++) {
+				final int count = countArr[x];
+				int wi = x * maxCount;
+				int si = startArr[x] * 4;
+				float r = 0.0f;
+				float g = 0.0f;
+				float b = 0.0f;
+				float a = 0.0f;
+				for (int k = 0; k < count; k++) {
+					final float w = weightArr[wi++];
+					r += w * srcRow[si];
+					g += w * srcRow[si + 1];
+					b += w * srcRow[si + 2];
+					a += w * srcRow[si + 3];
+					si += 4;
+				}
+				destRow[di++] = r;
+				destRow[di++] = g;
+				destRow[di++] = b;
+				destRow[di++] = a;
+			}
+		} else {
+			for (int x = 0; x < destSpan; x++) {
+				final int count = countArr[x];
+				int wi = x * maxCount;
+				int si = startArr[x] * 3;
+				float r = 0.0f;
+				float g = 0.0f;
+				float b = 0.0f;
+				for (int k = 0; k < count; k++) {
+					final float w = weightArr[wi++];
+					r += w * srcRow[si];
+					g += w * srcRow[si + 1];
+					b += w * srcRow[si + 2];
+					si += 3;
+				}
+				destRow[di++] = r;
+				destRow[di++] = g;
+				destRow[di++] = b;
+			}
+		}
+	}
+	
+	/**
+	 * Adds the weighted source row into the destination row,
+	 * component-wise.
+	 * 
+	 * @param weight Weight.
+	 * @param srcRow Source components.
+	 * @param destRow (in,out) Destination components.
+	 * @param length Number of components.
+	 */
+	public static void addWeightedRow(
+		float weight,
+		float[] srcRow,
+		float[] destRow,
+		int length) {
+		for (int k = 0; k < length; k++) {
+			destRow[k] += weight * srcRow[k];
+		}
+	}
+}
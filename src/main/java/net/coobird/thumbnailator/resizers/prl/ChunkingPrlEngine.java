@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+
+/**
+ * Engine cutting work up front into parts of approximately equal heights,
+ * and running them with {@link ThbPrlEngine}, the current thread
+ * waiting for their completion.
+ * 
+ * Simple and with little overhead, but a part queued behind
+ * unrelated tasks of a busy executor delays completion
+ * (see {@link StealingPrlEngine} for that case).
+ * 
+ * Exceptions thrown by parts run in executor threads
+ * are handled by the executor.
+ */
+public class ChunkingPrlEngine implements PrlEngine {
+	
+	/**
+	 * To avoid over-splitting, since we don't use
+	 * a split-as-needed parallelization engine.
+	 * 
+	 * Must not be too small else work will not be cut into small enough chunks
+	 * to keep all workers busy until near completion.
+	 * Must not be too large else might split into more chunks than needed
+	 * and add useless overhead.
+	 * 
+	 * Our work load being split into approximately equal amounts,
+	 * a value of 10 should allow an execution time usually not larger
+	 * than "theoretical optimal * 1.1", with 1.1 = 1 + 1/10.
+	 */
+	private static final int MAX_RUNNABLE_COUNT_PER_CORE = 10;
+	
+	private static final int CORE_COUNT = Runtime.getRuntime().availableProcessors();
+	
+	private static class MyPrlRunnable implements Runnable {
+		private final RowRangeProcessor processor;
+		private final CountDownLatch latch;
+		private final int startRow;
+		private final int endRow;
+		public MyPrlRunnable(
+			RowRangeProcessor processor,
+			CountDownLatch latch,
+			int startRow,
+			int endRow) {
+			if (startRow > endRow) {
+				throw new IllegalArgumentException(
+					startRow + " > " + endRow);
+			}
+			this.processor = processor;
+			this.latch = latch;
+			this.startRow = startRow;
+			this.endRow = endRow;
+		}
+		@Override
+		public void run() {
+			try {
+				this.processor.processRows(
+					this.startRow,
+					this.endRow);
+			} finally {
+				this.latch.countDown();
+			}
+		}
+	}
+	
+	/*
+	 * 
+	 */
+	
+	public ChunkingPrlEngine() {
+	}
+	
+	@Override
+	public void processRows(
+		int rowCount,
+		int maxPartCount,
+		RowRangeProcessor processor,
+		Executor parallelExecutor) {
+		
+		final int partCount = Math.min(
+			CORE_COUNT * MAX_RUNNABLE_COUNT_PER_CORE,
+			maxPartCount);
+		
+		final Runnable[] runnableArr = new Runnable[partCount];
+		
+		final CountDownLatch latch =
+			new CountDownLatch(partCount);
+		
+		final double partHeightFp = rowCount / (double) partCount;
+		
+		int prevEndRowIndex = -1;
+		for (int i = 0; i < partCount; i++) {
+			final int startRowIndex = prevEndRowIndex + 1;
+			final double endRowIndexFp = partHeightFp * i + (partHeightFp - 1.0);
+			final int endRowIndex = (int) (endRowIndexFp + 0.5);
+			runnableArr[i] = new MyPrlRunnable(
+				processor,
+				latch,
+				startRowIndex,
+				endRowIndex);
+			prevEndRowIndex = endRowIndex;
+		}
+		if (prevEndRowIndex != rowCount - 1) {
+			// Means our algo doesn't go to last row.
+			throw new AssertionError();
+		}
+		
+		ThbPrlEngine.parallelRun(
+			runnableArr,
+			parallelExecutor,
+			latch);
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+/**
+ * Kernels usable for separable convolution resampling.
+ * 
+ * Kernels are defined for an upscaling or a scaling of 1,
+ * i.e. in source pixels coordinates, and are stretched
+ * by the resizer when downscaling.
+ */
+public enum ConvolutionKernel {
+	/**
+	 * Lanczos windowed sinc, with 3 lobes.
+	 * Sharpest, with some ringing near strong edges.
+	 */
+	LANCZOS3(3.0) {
+		@Override
+		public double value(double x) {
+			if (x < 0.0) {
+				x = -x;
+			}
+			if (x >= 3.0) {
+				return 0.0;
+			}
+			return sinc(x) * sinc(x * (1.0 / 3.0));
+		}
+	},
+	/**
+	 * Mitchell-Netravali cubic (B = 1/3, C = 1/3).
+	 * Good compromise between blurring and ringing.
+	 */
+	MITCHELL(2.0) {
+		@Override
+		public double value(double x) {
+			return cubicBC(1.0 / 3.0, 1.0 / 3.0, x);
+		}
+	},
+	/**
+	 * Catmull-Rom cubic (B = 0, C = 1/2).
+	 * Interpolating, sharper than Mitchell.
+	 */
+	CATMULL_ROM(2.0) {
+		@Override
+		public double value(double x) {
+			return cubicBC(0.0, 0.5, x);
+		}
+	};
+	
+	private final double support;
+	
+	private ConvolutionKernel(double support) {
+		this.support = support;
+	}
+	
+	/**
+	 * @return The radius, in source pixels, out of which
+	 *         the kernel is zero, for scalings >= 1.
+	 */
+	public double getSupport() {
+		return this.support;
+	}
+	
+	/**
+	 * @param x Distance to kernel center, in source pixels.
+	 * @return Kernel value at the specified distance (not normalized).
+	 */
+	public abstract double value(double x);
+	
+	/*
+	 * 
+	 */
+	
+	private static double sinc(double x) {
+		if (x == 0.0) {
+			return 1.0;
+		}
+		final double pix = Math.PI * x;
+		return Math.sin(pix) / pix;
+	}
+	
+	/**
+	 * Mitchell-Netravali family of cubic filters.
+	 */
+	private static double cubicBC(double b, double c, double x) {
+		if (x < 0.0) {
+			x = -x;
+		}
+		final double x2 = x * x;
+		final double x3 = x2 * x;
+		final double ret;
+		if (x < 1.0) {
+			ret = (12.0 - 9.0 * b - 6.0 * c) * x3
+				+ (-18.0 + 12.0 * b + 6.0 * c) * x2
+				+ (6.0 - 2.0 * b);
+		} else if (x < 2.0) {
+			ret = (-b - 6.0 * c) * x3
+				+ (6.0 * b + 30.0 * c) * x2
+				+ (-12.0 * b - 48.0 * c) * x
+				+ (8.0 * b + 24.0 * c);
+		} else {
+			return 0.0;
+		}
+		return ret * (1.0 / 6.0);
+	}
+}
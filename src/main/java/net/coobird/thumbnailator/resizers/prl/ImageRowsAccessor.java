@@ -0,0 +1,533 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.ComponentColorModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.PixelInterleavedSampleModel;
+import java.awt.image.SampleModel;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+
+/**
+ * Reads and writes rows of pixels of a BufferedImage,
+ * as premultiplied float components in [0,255] range
+ * (R, G, B, and then A if any), directly from/into
+ * the DataBuffer array for common layouts, and through
+ * getRGB()/setRGB() for others.
+ * 
+ * Using the DataBuffer array makes the image unmanaged,
+ * which is fine for the images we resize, which are
+ * typically only drawn once.
+ * 
+ * Rows can also be accessed through a transform, as specified by
+ * TransformingResizer, in which case they are rows of the image
+ * the transform maps onto this image, which can be columns of this image.
+ * 
+ * Reads and writes of disjoint rows can be done concurrently,
+ * except writes through a transform swapping axes for images
+ * packing multiple pixels per array element.
+ */
+class ImageRowsAccessor {
+	
+	/*
+	 * Layouts.
+	 */
+	
+	private static final int LAYOUT_GENERIC = 0;
+	private static final int LAYOUT_INT_ARGB = 1;
+	private static final int LAYOUT_INT_ARGB_PRE = 2;
+	private static final int LAYOUT_INT_RGB = 3;
+	/**
+	 * 8 bits per component, sRGB, with 3 or 4 interleaved bands.
+	 */
+	private static final int LAYOUT_BYTE_INTERLEAVED = 4;
+	
+	private static final float INV_255 = 1.0f / 255.0f;
+	
+	/*
+	 * 
+	 */
+	
+	private final BufferedImage image;
+	
+	/**
+	 * Width of accessed rows.
+	 */
+	private final int width;
+	
+	private final int layout;
+	
+	private final boolean hasAlpha;
+	
+	private final boolean premul;
+	
+	private final int[] intArr;
+	
+	private final byte[] byteArr;
+	
+	/**
+	 * Index of first pixel of row 0, in the array.
+	 */
+	private final int row0Index;
+	
+	/**
+	 * Index increment from a pixel to the next in a row.
+	 */
+	private final int xStep;
+	
+	/**
+	 * Index increment from a row to the next.
+	 */
+	private final int yStep;
+	
+	/**
+	 * Mapping of accessed (x,y) into image (x,y), for generic layout,
+	 * null if there is no transform.
+	 */
+	private final int[] pixelMapping;
+	
+	private final int rOffset;
+	private final int gOffset;
+	private final int bOffset;
+	private final int aOffset;
+	
+	/*
+	 * 
+	 */
+	
+	public ImageRowsAccessor(BufferedImage image) {
+		this(image, null);
+	}
+	
+	/**
+	 * @param image Image to access.
+	 * @param transform Transform mapping accessed rows onto the image,
+	 *        as specified by TransformingResizer. Can be null,
+	 *        for no transform.
+	 */
+	public ImageRowsAccessor(BufferedImage image, AffineTransform transform) {
+		this.image = image;
+		
+		/*
+		 * Image (x,y) = (x0 + xx * x + xy * y, y0 + yx * x + yy * y),
+		 * from pixels centers.
+		 */
+		int xx = 1;
+		int xy = 0;
+		int yx = 0;
+		int yy = 1;
+		int x0 = 0;
+		int y0 = 0;
+		if ((transform != null) && !transform.isIdentity()) {
+			xx = (int) Math.round(transform.getScaleX());
+			xy = (int) Math.round(transform.getShearX());
+			yx = (int) Math.round(transform.getShearY());
+			yy = (int) Math.round(transform.getScaleY());
+			x0 = (int) Math.floor(0.5 * (xx + xy) + transform.getTranslateX());
+			y0 = (int) Math.floor(0.5 * (yx + yy) + transform.getTranslateY());
+			this.pixelMapping = new int[] {x0, xx, xy, y0, yx, yy};
+		} else {
+			this.pixelMapping = null;
+		}
+		this.width = ((xx == 0) ? image.getHeight() : image.getWidth());
+		
+		final ColorModel cm = image.getColorModel();
+		final WritableRaster raster = image.getRaster();
+		final SampleModel sm = raster.getSampleModel();
+		final DataBuffer db = raster.getDataBuffer();
+		final int tx = raster.getSampleModelTranslateX();
+		final int ty = raster.getSampleModelTranslateY();
+		
+		final int imageType = image.getType();
+		
+		int layout = LAYOUT_GENERIC;
+		int[] intArr = null;
+		byte[] byteArr = null;
+		int row0Index = 0;
+		int scanlineStride = 0;
+		int pixelStride = 1;
+		int[] bandOffsets = null;
+		
+		if ((db instanceof DataBufferInt)
+			&& (db.getNumBanks() == 1)
+			&& (sm instanceof SinglePixelPackedSampleModel)) {
+			if (imageType == BufferedImage.TYPE_INT_ARGB) {
+				layout = LAYOUT_INT_ARGB;
+			} else if (imageType == BufferedImage.TYPE_INT_ARGB_PRE) {
+				layout = LAYOUT_INT_ARGB_PRE;
+			} else if (imageType == BufferedImage.TYPE_INT_RGB) {
+				layout = LAYOUT_INT_RGB;
+			}
+			if (layout != LAYOUT_GENERIC) {
+				final SinglePixelPackedSampleModel sppsm =
+					(SinglePixelPackedSampleModel) sm;
+				intArr = ((DataBufferInt) db).getData();
+				scanlineStride = sppsm.getScanlineStride();
+				row0Index = db.getOffset() + sppsm.getOffset(-tx, -ty);
+			}
+		} else if ((db instanceof DataBufferByte)
+			&& (db.getNumBanks() == 1)
+			&& (sm instanceof PixelInterleavedSampleModel)
+			&& (cm instanceof ComponentColorModel)
+			&& cm.getColorSpace().isCS_sRGB()
+			&& isAll8Bits(sm)
+			&& ((sm.getNumBands() == 3 && !cm.hasAlpha())
+				|| (sm.getNumBands() == 4 && cm.hasAlpha()))) {
+			final PixelInterleavedSampleModel pism =
+				(PixelInterleavedSampleModel) sm;
+			layout = LAYOUT_BYTE_INTERLEAVED;
+			byteArr = ((DataBufferByte) db).getData();
+			scanlineStride = pism.getScanlineStride();
+			pixelStride = pism.getPixelStride();
+			bandOffsets = pism.getBandOffsets();
+			row0Index = db.getOffset()
+				+ (-ty) * scanlineStride
+				+ (-tx) * pixelStride;
+		}
+		
+		this.layout = layout;
+		this.hasAlpha = cm.hasAlpha();
+		this.premul = cm.isAlphaPremultiplied();
+		this.intArr = intArr;
+		this.byteArr = byteArr;
+		this.row0Index = row0Index + y0 * scanlineStride + x0 * pixelStride;
+		this.xStep = yx * scanlineStride + xx * pixelStride;
+		this.yStep = yy * scanlineStride + xy * pixelStride;
+		if (bandOffsets != null) {
+			this.rOffset = bandOffsets[0];
+			this.gOffset = bandOffsets[1];
+			this.bOffset = bandOffsets[2];
+			this.aOffset = (bandOffsets.length == 4) ? bandOffsets[3] : -1;
+		} else {
+			this.rOffset = -1;
+			this.gOffset = -1;
+			this.bOffset = -1;
+			this.aOffset = -1;
+		}
+	}
+	
+	/**
+	 * @return True if the image has an alpha channel.
+	 */
+	public boolean hasAlpha() {
+		return this.hasAlpha;
+	}
+	
+	/**
+	 * @return True if rows are accessed directly in the DataBuffer array,
+	 *         false if through getRGB()/setRGB().
+	 */
+	public boolean isDirect() {
+		return this.layout != LAYOUT_GENERIC;
+	}
+	
+	/**
+	 * @param y Row to read.
+	 * @param compCount 3 to read R, G, B, or 4 to also read A
+	 *        (in which case R, G, B are premultiplied).
+	 * @param dst (out) Array of at least width * compCount floats.
+	 * @param tmpArgbArr Array of at least width ints, used
+	 *        for generic layouts.
+	 */
+	public void readRow(int y, int compCount, float[] dst, int[] tmpArgbArr) {
+		final int w = this.width;
+		final boolean withAlpha = (compCount == 4);
+		switch (this.layout) {
+			case LAYOUT_INT_ARGB_PRE: {
+				readIntRow(this.intArr, this.rowIndex(y), this.xStep, w, true, withAlpha, dst);
+			} break;
+			case LAYOUT_INT_ARGB: {
+				readIntRow(this.intArr, this.rowIndex(y), this.xStep, w, false, withAlpha, dst);
+			} break;
+			case LAYOUT_INT_RGB: {
+				// Alpha bits are garbage here.
+				final int[] arr = this.intArr;
+				final int step = this.xStep;
+				int si = this.rowIndex(y);
+				int di = 0;
+				for (int x = 0; x < w; x++) {
+					final int argb = arr[si];
+					si += step;
+					dst[di++] = ((argb >> 16) & 0xFF);
+					dst[di++] = ((argb >> 8) & 0xFF);
+					dst[di++] = (argb & 0xFF);
+					if (withAlpha) {
+						dst[di++] = 255.0f;
+					}
+				}
+			} break;
+			case LAYOUT_BYTE_INTERLEAVED: {
+				final byte[] arr = this.byteArr;
+				final int ps = this.xStep;
+				final int ro = this.rOffset;
+				final int go = this.gOffset;
+				final int bo = this.bOffset;
+				final int ao = this.aOffset;
+				final boolean premulSrc = this.premul;
+				int si = this.rowIndex(y);
+				int di = 0;
+				for (int x = 0; x < w; x++) {
+					final float r = (arr[si + ro] & 0xFF);
+					final float g = (arr[si + go] & 0xFF);
+					final float b = (arr[si + bo] & 0xFF);
+					if (ao < 0) {
+						dst[di++] = r;
+						dst[di++] = g;
+						dst[di++] = b;
+						if (withAlpha) {
+							dst[di++] = 255.0f;
+						}
+					} else {
+						final int a = (arr[si + ao] & 0xFF);
+						final float k = ((premulSrc || !withAlpha) ? 1.0f : a * INV_255);
+						dst[di++] = r * k;
+						dst[di++] = g * k;
+						dst[di++] = b * k;
+						if (withAlpha) {
+							dst[di++] = a;
+						}
+					}
+					si += ps;
+				}
+			} break;
+			default: {
+				final int[] m = this.pixelMapping;
+				if (m == null) {
+					this.image.getRGB(0, y, w, 1, tmpArgbArr, 0, w);
+				} else {
+					for (int x = 0; x < w; x++) {
+						tmpArgbArr[x] = this.image.getRGB(
+							m[0] + m[1] * x + m[2] * y,
+							m[3] + m[4] * x + m[5] * y);
+					}
+				}
+				readIntRow(tmpArgbArr, 0, 1, w, false, withAlpha, dst);
+			} break;
+		}
+	}
+	
+	/**
+	 * Components are rounded and clamped into [0,255],
+	 * and color components into [0,alpha] as well
+	 * if they are premultiplied.
+	 * 
+	 * When writing into an image without alpha,
+	 * premultiplied components are used as is,
+	 * which is equivalent to drawing over black.
+	 * 
+	 * @param y Row to write.
+	 * @param compCount 3 if src contains R, G, B, or 4 if it also
+	 *        contains A (in which case R, G, B are premultiplied).
+	 * @param src Array of at least width * compCount floats.
+	 * @param tmpArgbArr Array of at least width ints, used
+	 *        for generic layouts.
+	 */
+	public void writeRow(int y, int compCount, float[] src, int[] tmpArgbArr) {
+		final int w = this.width;
+		final boolean withAlpha = (compCount == 4);
+		switch (this.layout) {
+			case LAYOUT_INT_ARGB_PRE: {
+				writeIntRow(src, withAlpha, true, this.intArr, this.rowIndex(y), this.xStep, w);
+			} break;
+			case LAYOUT_INT_ARGB: {
+				writeIntRow(src, withAlpha, false, this.intArr, this.rowIndex(y), this.xStep, w);
+			} break;
+			case LAYOUT_INT_RGB: {
+				final int[] arr = this.intArr;
+				final int step = this.xStep;
+				int si = 0;
+				int di = this.rowIndex(y);
+				for (int x = 0; x < w; x++) {
+					final int r = toByte(src[si]);
+					final int g = toByte(src[si + 1]);
+					final int b = toByte(src[si + 2]);
+					si += compCount;
+					arr[di] = 0xFF000000 | (r << 16) | (g << 8) | b;
+					di += step;
+				}
+			} break;
+			case LAYOUT_BYTE_INTERLEAVED: {
+				final byte[] arr = this.byteArr;
+				final int ps = this.xStep;
+				final int ro = this.rOffset;
+				final int go = this.gOffset;
+				final int bo = this.bOffset;
+				final int ao = this.aOffset;
+				final boolean premulDst = this.premul;
+				int si = 0;
+				int di = this.rowIndex(y);
+				for (int x = 0; x < w; x++) {
+					int r;
+					int g;
+					int b;
+					if ((ao >= 0) && withAlpha) {
+						final float af = clamp255(src[si + 3]);
+						final int a = (int) (af + 0.5f);
+						if (premulDst) {
+							r = toByte(Math.min(af, src[si]));
+							g = toByte(Math.min(af, src[si + 1]));
+							b = toByte(Math.min(af, src[si + 2]));
+						} else if (a == 0) {
+							r = 0;
+							g = 0;
+							b = 0;
+						} else {
+							final float k = 255.0f / af;
+							r = toByte(src[si] * k);
+							g = toByte(src[si + 1] * k);
+							b = toByte(src[si + 2] * k);
+						}
+						arr[di + ao] = (byte) a;
+					} else {
+						r = toByte(src[si]);
+						g = toByte(src[si + 1]);
+						b = toByte(src[si + 2]);
+						if (ao >= 0) {
+							arr[di + ao] = (byte) 0xFF;
+						}
+					}
+					arr[di + ro] = (byte) r;
+					arr[di + go] = (byte) g;
+					arr[di + bo] = (byte) b;
+					si += compCount;
+					di += ps;
+				}
+			} break;
+			default: {
+				writeIntRow(src, withAlpha, false, tmpArgbArr, 0, 1, w);
+				final int[] m = this.pixelMapping;
+				if (m == null) {
+					this.image.setRGB(0, y, w, 1, tmpArgbArr, 0, w);
+				} else {
+					for (int x = 0; x < w; x++) {
+						this.image.setRGB(
+							m[0] + m[1] * x + m[2] * y,
+							m[3] + m[4] * x + m[5] * y,
+							tmpArgbArr[x]);
+					}
+				}
+			} break;
+		}
+	}
+	
+	/*
+	 * 
+	 */
+	
+	private int rowIndex(int y) {
+		return this.row0Index + y * this.yStep;
+	}
+	
+	private static boolean isAll8Bits(SampleModel sm) {
+		final int[] sampleSizes = sm.getSampleSize();
+		for (int size : sampleSizes) {
+			if (size != 8) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	private static float clamp255(float v) {
+		if (v <= 0.0f) {
+			return 0.0f;
+		} else if (v >= 255.0f) {
+			return 255.0f;
+		} else {
+			return v;
+		}
+	}
+	
+	private static int toByte(float v) {
+		return (int) (clamp255(v) + 0.5f);
+	}
+	
+	private static void readIntRow(
+		int[] arr,
+		int index,
+		int step,
+		int w,
+		boolean premulSrc,
+		boolean withAlpha,
+		float[] dst) {
+		int si = index;
+		int di = 0;
+		for (int x = 0; x < w; x++) {
+			final int argb = arr[si];
+			si += step;
+			final int a = (argb >>> 24);
+			final float k = ((premulSrc || !withAlpha) ? 1.0f : a * INV_255);
+			dst[di++] = ((argb >> 16) & 0xFF) * k;
+			dst[di++] = ((argb >> 8) & 0xFF) * k;
+			dst[di++] = (argb & 0xFF) * k;
+			if (withAlpha) {
+				dst[di++] = a;
+			}
+		}
+	}
+	
+	private static void writeIntRow(
+		float[] src,
+		boolean withAlpha,
+		boolean premulDst,
+		int[] arr,
+		int index,
+		int step,
+		int w) {
+		int si = 0;
+		int di = index;
+		if (!withAlpha) {
+			for (int x = 0; x < w; x++) {
+				final int r = toByte(src[si++]);
+				final int g = toByte(src[si++]);
+				final int b = toByte(src[si++]);
+				arr[di] = 0xFF000000 | (r << 16) | (g << 8) | b;
+				di += step;
+			}
+			return;
+		}
+		for (int x = 0; x < w; x++) {
+			final float rf = src[si++];
+			final float gf = src[si++];
+			final float bf = src[si++];
+			final float af = clamp255(src[si++]);
+			final int a = (int) (af + 0.5f);
+			final int argb;
+			if (a == 0) {
+				argb = 0;
+			} else if (premulDst) {
+				argb = (a << 24)
+					| (toByte(Math.min(af, rf)) << 16)
+					| (toByte(Math.min(af, gf)) << 8)
+					| toByte(Math.min(af, bf));
+			} else {
+				final float k = 255.0f / af;
+				argb = (a << 24)
+					| (toByte(rf * k) << 16)
+					| (toByte(gf * k) << 8)
+					| toByte(bf * k);
+			}
+			arr[di] = argb;
+			di += step;
+		}
+	}
+}
@@ -44,6 +44,19 @@ public class ParallelBicubicResizer extends AbstractParallelResizer {
 		super(RenderingHints.VALUE_INTERPOLATION_BICUBIC, hints);
 	}
 	
+	/**
+	 * Instantiates a {@link ParallelBicubicResizer} with the specified
+	 * rendering hints and parallelization engine.
+	 * 
+	 * @param hints     Additional rendering hints to apply.
+	 * @param prlEngine Engine to use for parallelization.
+	 */
+	public ParallelBicubicResizer(
+		Map<RenderingHints.Key, Object> hints,
+		PrlEngine prlEngine) {
+		super(RenderingHints.VALUE_INTERPOLATION_BICUBIC, hints, prlEngine);
+	}
+	
 	@Override
 	protected int getSrcAreaThresholdForSplit() {
 		return Integer.MAX_VALUE;
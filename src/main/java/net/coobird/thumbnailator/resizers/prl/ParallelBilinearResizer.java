@@ -46,6 +46,19 @@ public class ParallelBilinearResizer extends AbstractParallelResizer {
 		super(RenderingHints.VALUE_INTERPOLATION_BILINEAR, hints);
 	}
 	
+	/**
+	 * Instantiates a {@link ParallelBilinearResizer} with the specified
+	 * rendering hints and parallelization engine.
+	 * 
+	 * @param hints     Additional rendering hints to apply.
+	 * @param prlEngine Engine to use for parallelization.
+	 */
+	public ParallelBilinearResizer(
+		Map<RenderingHints.Key, Object> hints,
+		PrlEngine prlEngine) {
+		super(RenderingHints.VALUE_INTERPOLATION_BILINEAR, hints, prlEngine);
+	}
+	
 	@Override
 	protected int getSrcAreaThresholdForSplit() {
 		return Integer.MAX_VALUE;
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Parallel box sampling (area averaging) resizer,
+ * without using Graphics2D.
+ * 
+ * Each destination pixel is the exact average of the source area
+ * it covers, source pixels partially covered being weighted
+ * by their covered fraction, which makes it an alternative
+ * to progressive downscaling that only takes one pass
+ * and doesn't create intermediate images.
+ * 
+ * Meant for downscaling: when upscaling, it degenerates into
+ * a nearest neighbor with blended boundaries.
+ * 
+ * Work is split in destination rows, but mostly depends on source area.
+ * 
+ * Pixels are read and written as in {@link ParallelConvolutionResizer},
+ * and destination pixels are replaced, not blended with previous content.
+ * 
+ * Rendering hints are only retained for {@link #getRenderingHints()}.
+ */
+public class ParallelBoxResizer extends AbstractParallelResizer {
+	
+	/**
+	 * Each source pixel is read about once, and cheaply processed.
+	 */
+	private static final int SRC_AREA_THRESHOLD_FOR_SPLIT = 64 * 1024;
+	
+	/**
+	 * For when not downscaling much.
+	 */
+	private static final int DEST_AREA_THRESHOLD_FOR_SPLIT = 16 * 1024;
+	
+	/**
+	 * Instantiates a {@link ParallelBoxResizer} with default
+	 * rendering hints.
+	 */
+	public ParallelBoxResizer() {
+		this(Collections.<RenderingHints.Key, Object>emptyMap());
+	}
+	
+	/**
+	 * Instantiates a {@link ParallelBoxResizer} with the specified
+	 * rendering hints.
+	 * 
+	 * @param hints     Additional rendering hints to apply.
+	 */
+	public ParallelBoxResizer(Map<RenderingHints.Key, Object> hints) {
+		super(RenderingHints.VALUE_INTERPOLATION_BILINEAR, hints);
+	}
+	
+	/**
+	 * Instantiates a {@link ParallelBoxResizer} with the specified
+	 * rendering hints and parallelization engine.
+	 * 
+	 * @param hints     Additional rendering hints to apply.
+	 * @param prlEngine Engine to use for parallelization.
+	 */
+	public ParallelBoxResizer(
+		Map<RenderingHints.Key, Object> hints,
+		PrlEngine prlEngine) {
+		super(RenderingHints.VALUE_INTERPOLATION_BILINEAR, hints, prlEngine);
+	}
+	
+	/**
+	 * Overriding to avoid Graphics2D-based resizing.
+	 */
+	@Override
+	public void resize(
+		BufferedImage srcImage,
+		BufferedImage destImage) {
+		this.resize(srcImage, destImage, null);
+	}
+	
+	@Override
+	public void resize(
+		BufferedImage srcImage,
+		BufferedImage destImage,
+		Executor parallelExecutor) {
+		this.resizeTransformed(srcImage, destImage, new AffineTransform(), parallelExecutor);
+	}
+	
+	/**
+	 * Destination rows are written through the transform.
+	 */
+	@Override
+	public void resizeTransformed(
+		BufferedImage srcImage,
+		BufferedImage destImage,
+		AffineTransform transform,
+		Executor parallelExecutor) {
+		
+		this.performChecks(srcImage, destImage);
+		
+		final boolean swap = swapsAxes(transform);
+		final int sw = srcImage.getWidth();
+		final int sh = srcImage.getHeight();
+		final int dw = (swap ? destImage.getHeight() : destImage.getWidth());
+		final int dh = (swap ? destImage.getWidth() : destImage.getHeight());
+		
+		final Executor executor =
+			executorForTransform(parallelExecutor, destImage, transform);
+		
+		final AxisWeights hWeights = AxisWeights.newBoxWeights(sw, dw);
+		final AxisWeights vWeights = AxisWeights.newBoxWeights(sh, dh);
+		
+		final ImageRowsAccessor srcAccessor = new ImageRowsAccessor(srcImage);
+		final ImageRowsAccessor destAccessor = new ImageRowsAccessor(destImage, transform);
+		
+		// Not bothering with alpha if source is opaque.
+		final int compCount = (srcAccessor.hasAlpha() ? 4 : 3);
+		
+		final RowRangeProcessor processor = new RowRangeProcessor() {
+			@Override
+			public void processRows(int startRow, int endRow) {
+				final int rowLength = dw * compCount;
+				final float[] srcRow = new float[sw * compCount];
+				final int[] tmpSrcArgbArr = new int[sw];
+				final int[] tmpDestArgbArr = new int[dw];
+				/*
+				 * Source row horizontally reduced, kept from a destination
+				 * row to the next, since boundary source rows are typically
+				 * used by both.
+				 */
+				final float[] hRow = new float[rowLength];
+				int hRowY = -1;
+				final float[] destRow = new float[rowLength];
+				final float[] weightArr = vWeights.weightArr;
+				for (int y = startRow; y <= endRow; y++) {
+					final int start = vWeights.startArr[y];
+					final int count = vWeights.countArr[y];
+					final int wi = y * vWeights.maxCount;
+					for (int k = 0; k < rowLength; k++) {
+						destRow[k] = 0.0f;
+					}
+					for (int j = 0; j < count; j++) {
+						final int srcY = start + j;
+						if (srcY != hRowY) {
+							srcAccessor.readRow(srcY, compCount, srcRow, tmpSrcArgbArr);
+							hWeights.convolveRow(compCount, srcRow, hRow);
+							hRowY = srcY;
+						}
+						AxisWeights.addWeightedRow(
+							weightArr[wi + j],
+							hRow,
+							destRow,
+							rowLength);
+					}
+					destAccessor.writeRow(y, compCount, destRow, tmpDestArgbArr);
+				}
+			}
+		};
+		
+		this.processRowsEventuallyInParallel(
+			dh,
+			sw * sh,
+			dw * dh,
+			srcImage.getType(),
+			processor,
+			executor);
+	}
+	
+	/*
+	 * 
+	 */
+	
+	@Override
+	protected int getSrcAreaThresholdForSplit() {
+		return SRC_AREA_THRESHOLD_FOR_SPLIT;
+	}
+	
+	@Override
+	protected int getDestAreaThresholdForSplit() {
+		return DEST_AREA_THRESHOLD_FOR_SPLIT;
+	}
+}
@@ -0,0 +1,439 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import net.coobird.thumbnailator.util.ThbUtils;
+
+/**
+ * Parallel resizer using separable convolution with a {@link ConvolutionKernel},
+ * without using Graphics2D.
+ * 
+ * Does a horizontal pass from source rows into an intermediate image
+ * of destination width and source height, and then a vertical pass
+ * from it into destination rows, each pass being split in rows
+ * through the {@link PrlEngine} of this resizer.
+ * 
+ * Kernels are stretched when downscaling, so that all source pixels
+ * contribute to the result, which allows for good quality even
+ * for large downscalings, in a single step.
+ * When downscaling by 6 or more, source pixels are first averaged
+ * into boxes of an integer size, on the fly during horizontal pass,
+ * such as the kernel is only applied on a downscaling of at least 3,
+ * which divides the number of samples by about the box area
+ * while giving indistinguishable results.
+ * 
+ * Pixels are read and written directly from/into DataBuffer arrays
+ * for usual layouts (TYPE_INT_ARGB, TYPE_INT_ARGB_PRE, TYPE_INT_RGB,
+ * and 8 bits interleaved sRGB such as TYPE_3BYTE_BGR or TYPE_4BYTE_ABGR),
+ * and through getRGB()/setRGB() otherwise.
+ * Computations are done in premultiplied alpha.
+ * 
+ * Destination pixels are replaced, not blended with previous content.
+ * 
+ * Rendering hints are only retained for {@link #getRenderingHints()}.
+ */
+public class ParallelConvolutionResizer extends AbstractParallelResizer {
+	
+	/**
+	 * Only matters when downscaling a lot, in which case
+	 * the workload is mostly proportional to source area.
+	 */
+	private static final int SRC_AREA_THRESHOLD_FOR_SPLIT = 64 * 1024;
+	
+	/**
+	 * Lower than for Graphics2D-based resizers,
+	 * since we use a lot of samples per pixel.
+	 */
+	private static final int DEST_AREA_THRESHOLD_FOR_SPLIT = 2 * 1024;
+	
+	/**
+	 * Min downscaling to apply with the kernel, after eventual
+	 * box pre-reduction by an integer factor.
+	 */
+	private static final double REDUCING_GAP = 3.0;
+	
+	private final ConvolutionKernel kernel;
+	
+	/*
+	 * 
+	 */
+	
+	/**
+	 * Instantiates a {@link ParallelConvolutionResizer} with default
+	 * rendering hints.
+	 * 
+	 * @param kernel    Kernel to use.
+	 * @throws NullPointerException if kernel is null.
+	 */
+	public ParallelConvolutionResizer(ConvolutionKernel kernel) {
+		this(kernel, Collections.<RenderingHints.Key, Object>emptyMap());
+	}
+	
+	/**
+	 * Instantiates a {@link ParallelConvolutionResizer} with the specified
+	 * rendering hints.
+	 * 
+	 * @param kernel    Kernel to use.
+	 * @param hints     Additional rendering hints to apply.
+	 * @throws NullPointerException if kernel is null.
+	 */
+	public ParallelConvolutionResizer(
+		ConvolutionKernel kernel,
+		Map<RenderingHints.Key, Object> hints) {
+		super(RenderingHints.VALUE_INTERPOLATION_BICUBIC, hints);
+		this.kernel = ThbUtils.requireNonNull(kernel);
+	}
+	
+	/**
+	 * Instantiates a {@link ParallelConvolutionResizer} with the specified
+	 * rendering hints and parallelization engine.
+	 * 
+	 * @param kernel    Kernel to use.
+	 * @param hints     Additional rendering hints to apply.
+	 * @param prlEngine Engine to use for parallelization.
+	 * @throws NullPointerException if kernel or prlEngine is null.
+	 */
+	public ParallelConvolutionResizer(
+		ConvolutionKernel kernel,
+		Map<RenderingHints.Key, Object> hints,
+		PrlEngine prlEngine) {
+		super(RenderingHints.VALUE_INTERPOLATION_BICUBIC, hints, prlEngine);
+		this.kernel = ThbUtils.requireNonNull(kernel);
+	}
+	
+	/**
+	 * @return The kernel used by this resizer.
+	 */
+	public ConvolutionKernel getKernel() {
+		return this.kernel;
+	}
+	
+	/**
+	 * Kernels having different supports, and thus workloads,
+	 * thresholds are per kernel.
+	 * 
+	 * @return The class name of this resizer, followed by
+	 *         a dot and the name of its kernel.
+	 */
+	@Override
+	public String getSplitThresholdsKey() {
+		return super.getSplitThresholdsKey() + "." + this.kernel.name();
+	}
+	
+	/**
+	 * Overriding to avoid Graphics2D-based resizing.
+	 */
+	@Override
+	public void resize(
+		BufferedImage srcImage,
+		BufferedImage destImage) {
+		this.resize(srcImage, destImage, null);
+	}
+	
+	@Override
+	public void resize(
+		BufferedImage srcImage,
+		BufferedImage destImage,
+		Executor parallelExecutor) {
+		this.resizeTransformed(srcImage, destImage, new AffineTransform(), parallelExecutor);
+	}
+	
+	/**
+	 * The vertical pass writes destination rows through the transform,
+	 * the horizontal pass being the same as without transform.
+	 */
+	@Override
+	public void resizeTransformed(
+		BufferedImage srcImage,
+		BufferedImage destImage,
+		AffineTransform transform,
+		Executor parallelExecutor) {
+		
+		this.performChecks(srcImage, destImage);
+		
+		final boolean swap = swapsAxes(transform);
+		final int sw = srcImage.getWidth();
+		final int sh = srcImage.getHeight();
+		final int dw = (swap ? destImage.getHeight() : destImage.getWidth());
+		final int dh = (swap ? destImage.getWidth() : destImage.getHeight());
+		
+		final Executor executor =
+			executorForTransform(parallelExecutor, destImage, transform);
+		
+		final int boxWidth = computeBoxSpan(sw, dw);
+		final int boxHeight = computeBoxSpan(sh, dh);
+		
+		final AxisWeights hWeights = this.computeWeights(sw, dw, boxWidth);
+		final AxisWeights vWeights = this.computeWeights(sh, dh, boxHeight);
+		
+		final ImageRowsAccessor srcAccessor = new ImageRowsAccessor(srcImage);
+		final ImageRowsAccessor destAccessor = new ImageRowsAccessor(destImage, transform);
+		
+		// Not bothering with alpha if source is opaque.
+		final int compCount = (srcAccessor.hasAlpha() ? 4 : 3);
+		
+		/*
+		 * Only computing (reduced) source rows that the vertical pass uses.
+		 */
+		final int minSrcY = vWeights.getMinSrcIndex();
+		final int maxSrcY = vWeights.getMaxSrcIndex();
+		final int tmpRowCount = maxSrcY - minSrcY + 1;
+		
+		/*
+		 * Using one array per row, to avoid int overflow
+		 * and huge contiguous allocations.
+		 * Rows are written by horizontal pass parts, and read
+		 * by vertical pass parts, which is properly synchronized
+		 * thanks to parallel runs being awaited on.
+		 */
+		final float[][] tmpRowArr = new float[tmpRowCount][];
+		
+		final int reducedWidth = (sw + boxWidth - 1) / boxWidth;
+		
+		final RowRangeProcessor hProcessor = new RowRangeProcessor() {
+			@Override
+			public void processRows(int startRow, int endRow) {
+				final float[] srcRow = new float[sw * compCount];
+				final int[] tmpArgbArr = new int[sw];
+				final boolean mustReduce = (boxWidth > 1) || (boxHeight > 1);
+				final float[] boxRow =
+					(mustReduce ? new float[reducedWidth * compCount] : null);
+				for (int i = startRow; i <= endRow; i++) {
+					final float[] convSrcRow;
+					if (mustReduce) {
+						final int srcStartY = (minSrcY + i) * boxHeight;
+						final int srcEndY = Math.min(sh, srcStartY + boxHeight);
+						for (int k = boxRow.length; --k >= 0;) {
+							boxRow[k] = 0.0f;
+						}
+						for (int y = srcStartY; y < srcEndY; y++) {
+							srcAccessor.readRow(y, compCount, srcRow, tmpArgbArr);
+							addBoxedRow(srcRow, sw, boxWidth, compCount, boxRow);
+						}
+						normalizeBoxedRow(sw, boxWidth, srcEndY - srcStartY, compCount, boxRow);
+						convSrcRow = boxRow;
+					} else {
+						srcAccessor.readRow(minSrcY + i, compCount, srcRow, tmpArgbArr);
+						convSrcRow = srcRow;
+					}
+					final float[] tmpRow = new float[dw * compCount];
+					hWeights.convolveRow(compCount, convSrcRow, tmpRow);
+					tmpRowArr[i] = tmpRow;
+				}
+			}
+		};
+		this.processRowsEventuallyInParallel(
+			tmpRowCount,
+			areaOf(sw, tmpRowCount * boxHeight),
+			areaOf(dw, tmpRowCount),
+			srcImage.getType(),
+			hProcessor,
+			executor);
+		
+		final RowRangeProcessor vProcessor = new RowRangeProcessor() {
+			@Override
+			public void processRows(int startRow, int endRow) {
+				final int rowLength = dw * compCount;
+				final float[] destRow = new float[rowLength];
+				final int[] tmpArgbArr = new int[dw];
+				final float[] weightArr = vWeights.weightArr;
+				for (int y = startRow; y <= endRow; y++) {
+					final int start = vWeights.startArr[y] - minSrcY;
+					final int count = vWeights.countArr[y];
+					final int wi = y * vWeights.maxCount;
+					{
+						final float w = weightArr[wi];
+						final float[] tmpRow = tmpRowArr[start];
+						for (int k = 0; k < rowLength; k++) {
+							destRow[k] = w * tmpRow[k];
+						}
+					}
+					for (int j = 1; j < count; j++) {
+						AxisWeights.addWeightedRow(
+							weightArr[wi + j],
+							tmpRowArr[start + j],
+							destRow,
+							rowLength);
+					}
+					destAccessor.writeRow(y, compCount, destRow, tmpArgbArr);
+				}
+			}
+		};
+		this.processRowsEventuallyInParallel(
+			dh,
+			areaOf(dw, tmpRowCount),
+			dw * dh,
+			srcImage.getType(),
+			vProcessor,
+			executor);
+	}
+	
+	/*
+	 * 
+	 */
+	
+	@Override
+	protected int getSrcAreaThresholdForSplit() {
+		return SRC_AREA_THRESHOLD_FOR_SPLIT;
+	}
+	
+	@Override
+	protected int getDestAreaThresholdForSplit() {
+		return DEST_AREA_THRESHOLD_FOR_SPLIT;
+	}
+	
+	/*
+	 * 
+	 */
+	
+	/**
+	 * Intermediate image area can be larger than source and destination
+	 * areas, when upscaling in X and downscaling in Y.
+	 */
+	private static int areaOf(int width, int height) {
+		return (int) Math.min(Integer.MAX_VALUE - 1, width * (long) height);
+	}
+	
+	/**
+	 * Source pixel at index i covers [i, i+1[, so destination pixel
+	 * at index j is centered on source coordinate (j + 0.5) * scale,
+	 * and reduced source pixel at index k on the center of the source
+	 * pixels it covers.
+	 * Weights of out of range source pixels are dropped,
+	 * and remaining weights normalized.
+	 */
+	private AxisWeights computeWeights(int srcSpan, int destSpan, int boxSpan) {
+		final double scale = srcSpan / (double) destSpan;
+		// Stretching kernel when downscaling.
+		final double kernelScale = Math.max(1.0, scale);
+		final double support = this.kernel.getSupport() * kernelScale;
+		final double invKernelScale = 1.0 / kernelScale;
+		
+		final int reducedSpan = (srcSpan + boxSpan - 1) / boxSpan;
+		
+		final int maxCount = Math.min(
+			reducedSpan,
+			(int) Math.ceil(2.0 * support / boxSpan) + 2);
+		
+		final AxisWeights ret = new AxisWeights(destSpan, maxCount);
+		final double[] tmpWeightArr = new double[maxCount];
+		
+		for (int j = 0; j < destSpan; j++) {
+			final double center = (j + 0.5) * scale;
+			final int srcStart = Math.max(0, (int) (center - support + 0.5));
+			final int srcEnd = Math.min(srcSpan, (int) (center + support + 0.5));
+			final int start = Math.min(reducedSpan - 1, srcStart / boxSpan);
+			final int end = Math.min(reducedSpan, (srcEnd + boxSpan - 1) / boxSpan);
+			final int count = ThbUtils.toRange(1, maxCount, end - start);
+			
+			for (int k = 0; k < count; k++) {
+				final int boxStart = (start + k) * boxSpan;
+				final int boxEnd = Math.min(srcSpan, boxStart + boxSpan);
+				final double boxCenter = (boxStart + boxEnd) * 0.5;
+				tmpWeightArr[k] = this.kernel.value(
+					(boxCenter - center) * invKernelScale);
+			}
+			
+			ret.setWeights(j, start, tmpWeightArr, count);
+		}
+		
+		return ret;
+	}
+	
+	/**
+	 * @return Number of source pixels to average into each reduced
+	 *         source pixel, before applying the kernel.
+	 */
+	private static int computeBoxSpan(int srcSpan, int destSpan) {
+		final double scale = srcSpan / (double) destSpan;
+		return Math.max(1, (int) (scale / REDUCING_GAP));
+	}
+	
+	/**
+	 * Adds sums of boxWidth consecutive pixels of srcRow into boxRow.
+	 */
+	private static void addBoxedRow(
+		float[] srcRow,
+		int srcWidth,
+		int boxWidth,
+		int compCount,
+		float[] boxRow) {
+		int si = 0;
+		int di = 0;
+		if (compCount == 4) {
+			for (int x = 0; x < srcWidth; x += boxWidth) {
+				final int n = Math.min(boxWidth, srcWidth - x);
+				float r = 0.0f;
+				float g = 0.0f;
+				float b = 0.0f;
+				float a = 0.0f;
+				for (int k = 0; k < n; k++) {
+					r += srcRow[si];
+					g += srcRow[si + 1];
+					b += srcRow[si + 2];
+					a += srcRow[si + 3];
+					si += 4;
+				}
+				boxRow[di++] += r;
+				boxRow[di++] += g;
+				boxRow[di++] += b;
+				boxRow[di++] += a;
+			}
+		} else {
+			for (int x = 0; x < srcWidth; x += boxWidth) {
+				final int n = Math.min(boxWidth, srcWidth - x);
+				float r = 0.0f;
+				float g = 0.0f;
+				float b = 0.0f;
+				for (int k = 0; k < n; k++) {
+					r += srcRow[si];
+					g += srcRow[si + 1];
+					b += srcRow[si + 2];
+					si += 3;
+				}
+				boxRow[di++] += r;
+				boxRow[di++] += g;
+				boxRow[di++] += b;
+			}
+		}
+	}
+	
+	/**
+	 * Divides sums in boxRow by the number of pixels they sum.
+	 */
+	private static void normalizeBoxedRow(
+		int srcWidth,
+		int boxWidth,
+		int boxHeight,
+		int compCount,
+		float[] boxRow) {
+		int di = 0;
+		for (int x = 0; x < srcWidth; x += boxWidth) {
+			final int n = Math.min(boxWidth, srcWidth - x);
+			final float k = 1.0f / (n * boxHeight);
+			for (int c = 0; c < compCount; c++) {
+				boxRow[di++] *= k;
+			}
+		}
+	}
+}
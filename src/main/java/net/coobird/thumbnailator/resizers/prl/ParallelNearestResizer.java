@@ -44,6 +44,19 @@ public class ParallelNearestResizer extends AbstractParallelResizer {
 		super(RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR, hints);
 	}
 	
+	/**
+	 * Instantiates a {@link ParallelNearestResizer} with the specified
+	 * rendering hints and parallelization engine.
+	 * 
+	 * @param hints     Additional rendering hints to apply.
+	 * @param prlEngine Engine to use for parallelization.
+	 */
+	public ParallelNearestResizer(
+		Map<RenderingHints.Key, Object> hints,
+		PrlEngine prlEngine) {
+		super(RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR, hints, prlEngine);
+	}
+	
 	@Override
 	protected int getSrcAreaThresholdForSplit() {
 		return Integer.MAX_VALUE;
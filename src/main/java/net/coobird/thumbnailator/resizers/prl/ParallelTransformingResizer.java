@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.Executor;
+
+import net.coobird.thumbnailator.resizers.TransformingResizer;
+
+/**
+ * Interface for parallel resizers which can also rotate and flip
+ * the image they resize, as specified by {@link TransformingResizer}.
+ */
+public interface ParallelTransformingResizer extends ParallelResizer, TransformingResizer {
+	
+	/**
+	 * Resizes an image through the specified transform, using
+	 * the specified parallel executor if any.
+	 * 
+	 * @param srcImage      The source image.
+	 * @param destImage     The destination image.
+	 * @param transform     The transform from the resized image
+	 *        to the destination image.
+	 * @param parallelExecutor     The executor used for parallelization. Can be null.
+	 */
+	public void resizeTransformed(
+		BufferedImage srcImage,
+		BufferedImage destImage,
+		AffineTransform transform,
+		Executor parallelExecutor);
+}
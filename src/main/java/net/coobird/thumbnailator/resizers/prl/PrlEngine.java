@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Interface for engines running rows-based work in parallel,
+ * used by {@link AbstractParallelResizer}.
+ * 
+ * Implementations must be thread-safe, since resizers
+ * (such as those of Resizers enum) are shared.
+ * 
+ * @see ChunkingPrlEngine
+ * @see StealingPrlEngine
+ */
+public interface PrlEngine {
+	
+	/**
+	 * Processes rows [0,rowCount-1] with the specified processor,
+	 * in parallel using the specified executor and the current thread,
+	 * and returns when all rows have been processed.
+	 * 
+	 * @param rowCount Number of rows to process, starting from row 0.
+	 *        Must be >= 2.
+	 * @param maxPartCount Number of parts, in [2,rowCount], beyond which
+	 *        it's not worth splitting the work further,
+	 *        i.e. processed ranges should not be smaller
+	 *        than rowCount / maxPartCount rows.
+	 * @param processor Processor to use for each part.
+	 * @param parallelExecutor Executor for parallelization. Must not be null.
+	 * @throws RejectedExecutionException if one has been thrown
+	 *         by the specified executor, after completion
+	 *         of the work without the rejected runnable(s).
+	 */
+	public void processRows(
+		int rowCount,
+		int maxPartCount,
+		RowRangeProcessor processor,
+		Executor parallelExecutor);
+}
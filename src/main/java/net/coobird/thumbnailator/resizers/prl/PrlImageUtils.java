@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import java.util.concurrent.Executor;
+
+import net.coobird.thumbnailator.util.ThbUtils;
+
+/**
+ * Runs per-pixel work on images, such as filters drawing over them
+ * or copies converting their type, in parallel row bands.
+ * 
+ * Such work must give the same pixels whether it's done
+ * for the whole image at once or band by band, for example
+ * by drawing with a clip restricted to the band.
+ */
+public class PrlImageUtils {
+	
+	/**
+	 * Compositing and converting pixels with Graphics2D fast loops
+	 * is cheap per pixel, so splitting is only worth it
+	 * for rather large images.
+	 */
+	private static final int AREA_THRESHOLD_FOR_SPLIT = 64 * 1024;
+	
+	private static final PrlEngine PRL_ENGINE = new ChunkingPrlEngine();
+	
+	private PrlImageUtils() {
+	}
+	
+	/**
+	 * Processes rows [0,height-1] of an image, in parallel if worth it
+	 * considering its area, and in a single part (the whole range)
+	 * in the current thread otherwise.
+	 * 
+	 * @param width Width of the image.
+	 * @param height Height of the image, i.e. number of rows to process.
+	 *        Must be >= 1.
+	 * @param processor Processor to use for each part.
+	 * @param parallelExecutor Executor for parallelization. Can be null.
+	 */
+	public static void processRowsEventuallyInParallel(
+		int width,
+		int height,
+		RowRangeProcessor processor,
+		Executor parallelExecutor) {
+		
+		processRowsEventuallyInParallel(
+			width,
+			height,
+			AREA_THRESHOLD_FOR_SPLIT,
+			processor,
+			parallelExecutor);
+	}
+	
+	/**
+	 * Processes rows [0,height-1] of an image, in parallel parts
+	 * of about the specified area if the image is larger than that,
+	 * and in a single part (the whole range) in the current thread
+	 * otherwise.
+	 * 
+	 * @param width Width of the image.
+	 * @param height Height of the image, i.e. number of rows to process.
+	 *        Must be >= 1.
+	 * @param areaThresholdForSplit Area (in pixels) per part, above which
+	 *        splitting is worth it for the work done. Must be >= 1.
+	 * @param processor Processor to use for each part.
+	 * @param parallelExecutor Executor for parallelization. Can be null.
+	 */
+	public static void processRowsEventuallyInParallel(
+		int width,
+		int height,
+		int areaThresholdForSplit,
+		RowRangeProcessor processor,
+		Executor parallelExecutor) {
+		
+		final int partCount = (parallelExecutor == null) ? 1
+			: ThbUtils.toRange(1, height,
+				(int) Math.ceil((width * (double) height + 1) / areaThresholdForSplit));
+		if (partCount >= 2) {
+			PRL_ENGINE.processRows(height, partCount, processor, parallelExecutor);
+		} else {
+			processor.processRows(0, height - 1);
+		}
+	}
+}
@@ -15,10 +15,14 @@
  */
 package net.coobird.thumbnailator.resizers.prl;
 
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.util.concurrent.Executor;
 
+import net.coobird.thumbnailator.builders.BufferedImageBuilder;
 import net.coobird.thumbnailator.resizers.Resizer;
+import net.coobird.thumbnailator.resizers.TransformingResizer;
 
 public class PrlResizersUtils {
 	
@@ -44,4 +48,47 @@ public class PrlResizersUtils {
 			resizer.resize(srcImage, destImage);
 		}
 	}
+	
+	/**
+	 * Resizes through the specified transform, with the transforming
+	 * resize method of the specified resizer if it implements
+	 * TransformingResizer or ParallelTransformingResizer,
+	 * and otherwise by resizing into a temporary image which is
+	 * then drawn into the destination image through the transform.
+	 * 
+	 * @param transform As specified by TransformingResizer.
+	 *        Can be null, for no transform.
+	 * @param parallelExecutor Can be null, even if resizer implements ParallelResizer.
+	 */
+	public static void resizeEventuallyInParallel(
+		Resizer resizer,
+		BufferedImage srcImage,
+		BufferedImage destImage,
+		AffineTransform transform,
+		Executor parallelExecutor) {
+		if ((transform == null) || transform.isIdentity()) {
+			resizeEventuallyInParallel(resizer, srcImage, destImage, parallelExecutor);
+		} else if (resizer instanceof ParallelTransformingResizer) {
+			final ParallelTransformingResizer prlResizer = (ParallelTransformingResizer) resizer;
+			prlResizer.resizeTransformed(srcImage, destImage, transform, parallelExecutor);
+		} else if (resizer instanceof TransformingResizer) {
+			((TransformingResizer) resizer).resizeTransformed(srcImage, destImage, transform);
+		} else {
+			final boolean swap = (transform.getScaleX() == 0.0);
+			final int type = destImage.getType();
+			final BufferedImage tmpImage = new BufferedImageBuilder(
+				(swap ? destImage.getHeight() : destImage.getWidth()),
+				(swap ? destImage.getWidth() : destImage.getHeight()),
+				((type == BufferedImage.TYPE_CUSTOM) ? BufferedImage.TYPE_INT_ARGB : type)
+				).build();
+			resizeEventuallyInParallel(resizer, srcImage, tmpImage, parallelExecutor);
+			// Exact mapping of pixels, so default hints are fine.
+			final Graphics2D g = destImage.createGraphics();
+			try {
+				g.drawImage(tmpImage, transform, null);
+			} finally {
+				g.dispose();
+			}
+		}
+	}
 }
@@ -15,7 +15,9 @@
  */
 package net.coobird.thumbnailator.resizers.prl;
 
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.util.Arrays;
 import java.util.concurrent.Executor;
 
 import net.coobird.thumbnailator.resizers.Resizer;
@@ -24,13 +26,22 @@ import net.coobird.thumbnailator.util.ThbUtils;
 /**
  * Wraps itself around a resizer or parallel resizer,
  * and uses it in a progressive way for downscaling.
+ * 
+ * Temporary images are backed by two scratch arrays from a
+ * {@link ScratchBufferPool}, used alternately as source and destination,
+ * each step using the start of its array, and released at the end
+ * of the resize.
+ * 
+ * When resizing through a transform, only the last step uses it.
  */
-public class ProgressiveResizer implements ParallelResizer {
+public class ProgressiveResizer implements ParallelTransformingResizer {
 	
 	private static final double MAX_STEP_DOWNSCALING = 2.0;
 	
 	private final Resizer resizer;
 	
+	private final ScratchBufferPool bufferPool;
+	
 	/*
 	 * 
 	 */
@@ -44,7 +55,30 @@ public class ProgressiveResizer implements ParallelResizer {
 	 * @throws NullPointerException if resizer is null.
 	 */
 	public ProgressiveResizer(Resizer resizer) {
+		this(resizer, ScratchBufferPool.getDefaultInstance());
+	}
+	
+	/**
+	 * If the specified resizer implements ParallelResizer,
+	 * each resizing step is done using its resize method
+	 * taking an eventual parallel executor as argument.
+	 * 
+	 * @param resizer Must not be null.
+	 * @param bufferPool Pool for temporary images arrays. Must not be null.
+	 * @throws NullPointerException if resizer or bufferPool is null.
+	 */
+	public ProgressiveResizer(
+		Resizer resizer,
+		ScratchBufferPool bufferPool) {
 		this.resizer = ThbUtils.requireNonNull(resizer);
+		this.bufferPool = ThbUtils.requireNonNull(bufferPool);
+	}
+	
+	/**
+	 * @return The pool used for temporary images arrays.
+	 */
+	public ScratchBufferPool getBufferPool() {
+		return this.bufferPool;
 	}
 	
 	@Override
@@ -59,59 +93,97 @@ public class ProgressiveResizer implements ParallelResizer {
 		BufferedImage srcImage,
 		BufferedImage destImage,
 		Executor parallelExecutor) {
+		this.resizeTransformed(srcImage, destImage, null, parallelExecutor);
+	}
+	
+	@Override
+	public void resizeTransformed(
+		BufferedImage srcImage,
+		BufferedImage destImage,
+		AffineTransform transform) {
+		this.resizeTransformed(srcImage, destImage, transform, null);
+	}
+	
+	/**
+	 * @param transform Can be null, for no transform.
+	 */
+	@Override
+	public void resizeTransformed(
+		BufferedImage srcImage,
+		BufferedImage destImage,
+		AffineTransform transform,
+		Executor parallelExecutor) {
 		
+		final boolean swap =
+			(transform != null) && AbstractParallelResizer.swapsAxes(transform);
 		final int sw = srcImage.getWidth();
 		final int sh = srcImage.getHeight();
-		final int dw = destImage.getWidth();
-		final int dh = destImage.getHeight();
+		final int dw = (swap ? destImage.getHeight() : destImage.getWidth());
+		final int dh = (swap ? destImage.getWidth() : destImage.getHeight());
 		
-		BufferedImage tmpSrcImage = srcImage;
-		int tmpSw = sw;
-		int tmpSh = sh;
-		while (true) {
-			final int tmpDw = this.computeDownscaledSpan(tmpSw, dw);
-			final int tmpDh = this.computeDownscaledSpan(tmpSh, dh);
-			if ((tmpDw <= dw)
-				&& (tmpDh <= dh)) {
-				/*
-				 * We got too far down,
-				 * or just reached destination spans:
-				 * will finish with destination image.
-				 */
-				break;
+		/*
+		 * Not drawing an image into itself, for it creates
+		 * dynamic artifacts in case of parallelization,
+		 * and possibly harder to detect static ones in sequential case,
+		 * so alternating between two arrays, the first one being large
+		 * enough for any step after the second one.
+		 */
+		int[] tmpDestArr = null;
+		int[] otherArr = null;
+		try {
+			BufferedImage tmpSrcImage = srcImage;
+			int tmpSw = sw;
+			int tmpSh = sh;
+			while (true) {
+				final int tmpDw = this.computeDownscaledSpan(tmpSw, dw);
+				final int tmpDh = this.computeDownscaledSpan(tmpSh, dh);
+				if ((tmpDw <= dw)
+					&& (tmpDh <= dh)) {
+					/*
+					 * We got too far down,
+					 * or just reached destination spans:
+					 * will finish with destination image.
+					 */
+					break;
+				}
+				
+				final int tmpDestLength = tmpDw * tmpDh;
+				if (tmpDestArr == null) {
+					tmpDestArr = this.bufferPool.acquire(tmpDestLength);
+				}
+				// Resizers might blend into previous content.
+				Arrays.fill(tmpDestArr, 0, tmpDestLength, 0);
+				final BufferedImage tmpDestImage =
+					ScratchBufferPool.newArgbPreImage(
+						tmpDestArr,
+						tmpDw,
+						tmpDh);
+				
+				PrlResizersUtils.resizeEventuallyInParallel(
+					this.resizer,
+					tmpSrcImage,
+					tmpDestImage,
+					parallelExecutor);
+				
+				// For next round or post-loop scaling.
+				tmpSrcImage = tmpDestImage;
+				tmpSw = tmpDw;
+				tmpSh = tmpDh;
+				final int[] tmpSrcArr = tmpDestArr;
+				tmpDestArr = otherArr;
+				otherArr = tmpSrcArr;
 			}
 			
-			/*
-			 * Not reusing temporary image array to draw it into itself,
-			 * for it creates dynamic artifacts in case of parallelization,
-			 * and possibly harder to detect static ones in sequential case.
-			 * Not bothering to reuse array in case of 3 or more temporary
-			 * images, because the third one should be relatively small
-			 * already (at most 1/8th of source image).
-			 */
-			final BufferedImage tmpDestImage =
-				new BufferedImage(
-					tmpDw,
-					tmpDh,
-					BufferedImage.TYPE_INT_ARGB_PRE);
-			
 			PrlResizersUtils.resizeEventuallyInParallel(
 				this.resizer,
 				tmpSrcImage,
-				tmpDestImage,
+				destImage,
+				transform,
 				parallelExecutor);
-			
-			// For next round or post-loop scaling.
-			tmpSrcImage = tmpDestImage;
-			tmpSw = tmpDw;
-			tmpSh = tmpDh;
+		} finally {
+			this.bufferPool.release(tmpDestArr);
+			this.bufferPool.release(otherArr);
 		}
-		
-		PrlResizersUtils.resizeEventuallyInParallel(
-			this.resizer,
-			tmpSrcImage,
-			destImage,
-			parallelExecutor);
 	}
 	
 	/*
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+/**
+ * Processes a contiguous range of rows of some image.
+ * 
+ * Must be safe to call concurrently for disjoint ranges.
+ */
+public interface RowRangeProcessor {
+	
+	/**
+	 * @param startRow Row to start from (inclusive).
+	 * @param endRow Row to end at (inclusive).
+	 */
+	public void processRows(int startRow, int endRow);
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded and thread-safe pool of int arrays, to use as scratch
+ * pixel buffers instead of allocating large temporary images.
+ * 
+ * Arrays are pooled by size classes, each power of two range
+ * being divided into four classes, so that an array is at most
+ * 25 percent larger than requested (above the smallest class).
+ * 
+ * Released arrays are only retained while the total size
+ * of retained arrays doesn't exceed the specified bound,
+ * and are dropped otherwise.
+ */
+public class ScratchBufferPool {
+	
+	/**
+	 * Smallest arrays are not worth pooling, but we still
+	 * hand them out with this min capacity so that they can be reused
+	 * for small images.
+	 */
+	private static final int MIN_CAPACITY_LOG2 = 12;
+	
+	/**
+	 * Above that (4 GB), arrays are allocated with exact length,
+	 * and not pooled.
+	 */
+	private static final int MAX_CAPACITY_LOG2 = 30;
+	
+	private static final int CLASS_COUNT_PER_LOG2 = 4;
+	
+	private static final int CLASS_COUNT =
+		(MAX_CAPACITY_LOG2 - MIN_CAPACITY_LOG2 + 1) * CLASS_COUNT_PER_LOG2;
+	
+	private static final ColorModel ARGB_PRE_COLOR_MODEL =
+		new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB_PRE).getColorModel();
+	
+	private static final int[] ARGB_MASKS;
+	static {
+		final DirectColorModel cm = (DirectColorModel) ARGB_PRE_COLOR_MODEL;
+		ARGB_MASKS = new int[] {
+			cm.getRedMask(),
+			cm.getGreenMask(),
+			cm.getBlueMask(),
+			cm.getAlphaMask()};
+	}
+	
+	/**
+	 * Lazily created, not to retain memory if never used.
+	 */
+	private static class MyDefaultInstanceHolder {
+		/**
+		 * Enough for the two scratch buffers of a 6000x4000 source
+		 * downscaled progressively (about 24 MB + 6 MB),
+		 * and a few smaller concurrent ones,
+		 * unless the heap is small.
+		 */
+		static final ScratchBufferPool INSTANCE = new ScratchBufferPool(
+			Math.min(64L * 1024 * 1024, Runtime.getRuntime().maxMemory() / 16));
+	}
+	
+	private final long maxRetainedByteCount;
+	
+	private final ConcurrentLinkedQueue<int[]>[] queueByClass;
+	
+	private final AtomicLong retainedByteCount = new AtomicLong();
+	
+	private final AtomicLong hitCount = new AtomicLong();
+	
+	private final AtomicLong missCount = new AtomicLong();
+	
+	/*
+	 * 
+	 */
+	
+	/**
+	 * @param maxRetainedByteCount Max total size, in bytes, of arrays
+	 *        retained by this pool. Can be 0, for no pooling.
+	 * @throws IllegalArgumentException if maxRetainedByteCount is negative.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public ScratchBufferPool(long maxRetainedByteCount) {
+		if (maxRetainedByteCount < 0) {
+			throw new IllegalArgumentException(
+				"maxRetainedByteCount [" + maxRetainedByteCount + "] must be >= 0");
+		}
+		this.maxRetainedByteCount = maxRetainedByteCount;
+		this.queueByClass = new ConcurrentLinkedQueue[CLASS_COUNT];
+		for (int i = 0; i < CLASS_COUNT; i++) {
+			this.queueByClass[i] = new ConcurrentLinkedQueue<int[]>();
+		}
+	}
+	
+	/**
+	 * @return A pool shared by default by progressive resizers,
+	 *         retaining at most 64 MB or a sixteenth of max heap.
+	 */
+	public static ScratchBufferPool getDefaultInstance() {
+		return MyDefaultInstanceHolder.INSTANCE;
+	}
+	
+	/**
+	 * @return Max total size, in bytes, of arrays retained by this pool.
+	 */
+	public long getMaxRetainedByteCount() {
+		return this.maxRetainedByteCount;
+	}
+	
+	/**
+	 * @return Current total size, in bytes, of arrays retained by this pool.
+	 */
+	public long getRetainedByteCount() {
+		return this.retainedByteCount.get();
+	}
+	
+	/**
+	 * @return Number of acquisitions served with a retained array.
+	 */
+	public long getHitCount() {
+		return this.hitCount.get();
+	}
+	
+	/**
+	 * @return Number of acquisitions that required a new array.
+	 */
+	public long getMissCount() {
+		return this.missCount.get();
+	}
+	
+	/**
+	 * @return Ratio of acquisitions served with a retained array,
+	 *         in [0,1], or 0 if there was no acquisition yet.
+	 */
+	public double getHitRate() {
+		final long hits = this.hitCount.get();
+		final long total = hits + this.missCount.get();
+		return (total == 0) ? 0.0 : hits / (double) total;
+	}
+	
+	/**
+	 * Returned arrays contents is undefined.
+	 * 
+	 * @param minLength Min length of the array. Must be >= 0.
+	 * @return An array of length >= minLength, to release with
+	 *         {@link #release(int[])} when no longer used.
+	 */
+	public int[] acquire(int minLength) {
+		if (minLength < 0) {
+			throw new IllegalArgumentException(
+				"minLength [" + minLength + "] must be >= 0");
+		}
+		final int capacity = computeCapacity(minLength);
+		final int classIndex = computeClassIndex(capacity);
+		if (classIndex >= 0) {
+			final int[] arr = this.queueByClass[classIndex].poll();
+			if (arr != null) {
+				this.retainedByteCount.addAndGet(-byteCountOf(arr));
+				this.hitCount.incrementAndGet();
+				return arr;
+			}
+		}
+		this.missCount.incrementAndGet();
+		return new int[capacity];
+	}
+	
+	/**
+	 * Retains the specified array for later acquisitions,
+	 * unless it would make this pool exceed its bound,
+	 * or the array doesn't come from {@link #acquire(int)}.
+	 * 
+	 * The array must not be used after this call.
+	 * 
+	 * @param arr Array to release. Can be null, in which case
+	 *        this method does nothing.
+	 */
+	public void release(int[] arr) {
+		if (arr == null) {
+			return;
+		}
+		final int classIndex = computeClassIndex(arr.length);
+		if (classIndex < 0) {
+			return;
+		}
+		final long byteCount = byteCountOf(arr);
+		while (true) {
+			final long retained = this.retainedByteCount.get();
+			if (retained + byteCount > this.maxRetainedByteCount) {
+				// Letting GC have it.
+				return;
+			}
+			if (this.retainedByteCount.compareAndSet(retained, retained + byteCount)) {
+				break;
+			}
+		}
+		this.queueByClass[classIndex].offer(arr);
+	}
+	
+	/**
+	 * Creates an image using the start of the specified array
+	 * as pixels, with no padding between rows.
+	 * 
+	 * @param arr Array of length >= width * height.
+	 * @param width Image width.
+	 * @param height Image height.
+	 * @return A TYPE_INT_ARGB_PRE image backed by the specified array.
+	 */
+	public static BufferedImage newArgbPreImage(int[] arr, int width, int height) {
+		final int length = width * height;
+		if (arr.length < length) {
+			throw new IllegalArgumentException(
+				"array length [" + arr.length + "] must be >= " + width + " * " + height);
+		}
+		final WritableRaster raster = Raster.createPackedRaster(
+			new DataBufferInt(arr, length),
+			width,
+			height,
+			width,
+			ARGB_MASKS,
+			null);
+		return new BufferedImage(ARGB_PRE_COLOR_MODEL, raster, true, null);
+	}
+	
+	/*
+	 * 
+	 */
+	
+	private static long byteCountOf(int[] arr) {
+		return 4L * arr.length;
+	}
+	
+	/**
+	 * @return Smallest class capacity >= length, or length if too large
+	 *         for pooling.
+	 */
+	private static int computeCapacity(int length) {
+		if (length <= (1 << MIN_CAPACITY_LOG2)) {
+			return 1 << MIN_CAPACITY_LOG2;
+		}
+		if (length > (1 << MAX_CAPACITY_LOG2)) {
+			return length;
+		}
+		// Span of a class in the power of two range of (length - 1).
+		final int log2 = 31 - Integer.numberOfLeadingZeros(length - 1);
+		final int classSpan = 1 << (log2 - 2);
+		return ((length + classSpan - 1) / classSpan) * classSpan;
+	}
+	
+	/**
+	 * @param capacity An array length.
+	 * @return Index of the class for the specified capacity,
+	 *         or -1 if it is not a class capacity.
+	 */
+	private static int computeClassIndex(int capacity) {
+		if ((capacity < (1 << MIN_CAPACITY_LOG2))
+			|| (capacity > (1 << MAX_CAPACITY_LOG2))) {
+			return -1;
+		}
+		final int log2 = 31 - Integer.numberOfLeadingZeros(capacity);
+		// In [4,7] for a class capacity.
+		final int quarters = capacity >> (log2 - 2);
+		if ((quarters << (log2 - 2)) != capacity) {
+			return -1;
+		}
+		return (log2 - MIN_CAPACITY_LOG2) * CLASS_COUNT_PER_LOG2
+			+ (quarters - CLASS_COUNT_PER_LOG2);
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lazily created executor, shared by all users that don't want
+ * to bother with creating and shutting down their own,
+ * for parallel resizing of large images.
+ * 
+ * It's a ThreadPoolExecutor (which is what ThbPrlEngine works best with),
+ * with one daemon thread per core, threads being started on demand
+ * and not preventing JVM exit, and an unbounded queue so that
+ * submitted work is never rejected.
+ * 
+ * Since resizers wait for their parts to complete, the caller
+ * doing its share of the work, this executor must not be used
+ * to run tasks that themselves resize in parallel with it,
+ * else all workers could end up waiting on parts queued behind them.
+ */
+public class SharedPrlExecutor {
+	
+	private static class MyThreadFactory implements ThreadFactory {
+		private final AtomicInteger threadNum = new AtomicInteger();
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread(
+				runnable,
+				"thumbnailator-prl-" + this.threadNum.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+	
+	/**
+	 * Only exposing execute(), for the shared pool not to be shut down
+	 * by one of its users.
+	 */
+	private static class MyExecutor implements Executor {
+		private final Executor executor;
+		public MyExecutor(Executor executor) {
+			this.executor = executor;
+		}
+		@Override
+		public void execute(Runnable command) {
+			this.executor.execute(command);
+		}
+	}
+	
+	/**
+	 * Lazy initialization holder.
+	 */
+	private static class MyHolder {
+		private static final Executor INSTANCE = newExecutor();
+	}
+	
+	private SharedPrlExecutor() {
+	}
+	
+	/**
+	 * Creates the shared executor on first call.
+	 * 
+	 * @return The shared executor.
+	 */
+	public static Executor getInstance() {
+		return MyHolder.INSTANCE;
+	}
+	
+	/*
+	 * 
+	 */
+	
+	private static Executor newExecutor() {
+		final int parallelism = Runtime.getRuntime().availableProcessors();
+		return new MyExecutor(new ThreadPoolExecutor(
+			parallelism,
+			parallelism,
+			0L,
+			TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<Runnable>(),
+			new MyThreadFactory()));
+	}
+}
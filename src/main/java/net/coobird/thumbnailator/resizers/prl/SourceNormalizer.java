@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Converts source images of types Graphics2D has no fast loops for
+ * into TYPE_INT_ARGB_PRE or TYPE_INT_RGB, in parallel row bands.
+ * 
+ * For such types, each drawImage() converts the whole source image
+ * before scaling, even if clipped to a band of the destination,
+ * so that split resizes convert it once per part.
+ * Converting it once beforehand is about as costly as a single
+ * conversion done by drawImage(), so it's only worth it
+ * when the resize is split.
+ * 
+ * Keeps global metrics of conversions done.
+ */
+public class SourceNormalizer {
+	
+	/**
+	 * Conversion is slow per pixel, since using generic loops.
+	 */
+	private static final int AREA_THRESHOLD_FOR_SPLIT = 16 * 1024;
+	
+	private static final AtomicLong NORMALIZED_IMAGE_COUNT = new AtomicLong();
+	
+	private static final AtomicLong NORMALIZED_PIXEL_COUNT = new AtomicLong();
+	
+	private static final AtomicLong NORMALIZATION_TIME_NS = new AtomicLong();
+	
+	private SourceNormalizer() {
+	}
+	
+	/**
+	 * @param image An image.
+	 * @return True if the specified image is of a type for which
+	 *         Graphics2D uses generic (slow) loops, i.e. TYPE_CUSTOM
+	 *         (such as 16 bits per component PNGs, or CMYK rasters)
+	 *         or TYPE_USHORT_GRAY.
+	 */
+	public static boolean isSlowType(BufferedImage image) {
+		final int type = image.getType();
+		return (type == BufferedImage.TYPE_CUSTOM)
+			|| (type == BufferedImage.TYPE_USHORT_GRAY);
+	}
+	
+	/**
+	 * @param image Image to convert.
+	 * @param parallelExecutor Executor for parallelization. Can be null.
+	 * @return A new TYPE_INT_ARGB_PRE image if the specified one
+	 *         has alpha, or TYPE_INT_RGB image otherwise,
+	 *         with same pixels.
+	 * @throws NullPointerException if image is null.
+	 */
+	public static BufferedImage normalize(
+		final BufferedImage image,
+		Executor parallelExecutor) {
+		
+		final long startNs = System.nanoTime();
+		
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		final int type = (image.getColorModel().hasAlpha()
+			? BufferedImage.TYPE_INT_ARGB_PRE
+			: BufferedImage.TYPE_INT_RGB);
+		final BufferedImage ret = new BufferedImage(width, height, type);
+		
+		final RowRangeProcessor processor = new RowRangeProcessor() {
+			@Override
+			public void processRows(int startRow, int endRow) {
+				final int rowCount = endRow - startRow + 1;
+				final Graphics2D g = ret.createGraphics();
+				try {
+					g.setComposite(AlphaComposite.Src);
+					// Sub-image, for drawImage() to only convert this band.
+					g.drawImage(
+						image.getSubimage(0, startRow, width, rowCount),
+						0,
+						startRow,
+						null);
+				} finally {
+					g.dispose();
+				}
+			}
+		};
+		
+		PrlImageUtils.processRowsEventuallyInParallel(
+			width,
+			height,
+			AREA_THRESHOLD_FOR_SPLIT,
+			processor,
+			parallelExecutor);
+		
+		NORMALIZED_IMAGE_COUNT.incrementAndGet();
+		NORMALIZED_PIXEL_COUNT.addAndGet(width * (long) height);
+		NORMALIZATION_TIME_NS.addAndGet(System.nanoTime() - startNs);
+		
+		return ret;
+	}
+	
+	/*
+	 * Metrics.
+	 */
+	
+	/**
+	 * @return Number of images converted so far.
+	 */
+	public static long getNormalizedImageCount() {
+		return NORMALIZED_IMAGE_COUNT.get();
+	}
+	
+	/**
+	 * @return Number of pixels converted so far.
+	 */
+	public static long getNormalizedPixelCount() {
+		return NORMALIZED_PIXEL_COUNT.get();
+	}
+	
+	/**
+	 * @return Total time spent converting images so far,
+	 *         in nanoseconds.
+	 */
+	public static long getNormalizationTimeNs() {
+		return NORMALIZATION_TIME_NS.get();
+	}
+}
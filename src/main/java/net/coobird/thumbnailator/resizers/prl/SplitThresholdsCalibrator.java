@@ -0,0 +1,289 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+
+import net.coobird.thumbnailator.util.ThbUtils;
+
+/**
+ * Computes split thresholds for parallel resizers, by timing
+ * sequential and two parts parallel resizes of increasing areas,
+ * on the current machine and with the specified executor.
+ * 
+ * For each resizer and image type, the destination area threshold
+ * is the smallest power of two area (from 1K to 1M pixels)
+ * for which a 2x downscale gets a speed-up of at least 1.1
+ * when split in two (for two consecutive areas, to dampen noise),
+ * and the source area threshold (for resizers using one)
+ * is computed the same way with a 16x downscale.
+ * If there is no such area, the threshold is Integer.MAX_VALUE,
+ * i.e. no split.
+ * 
+ * Takes from a fraction of second to a few seconds per resizer
+ * and image type, so is meant to be run at startup or on demand,
+ * with the executor to use for resizes, and ideally while
+ * the machine is otherwise idle.
+ * Usage:
+ * <pre>
+ * SplitThresholdsProfile.setCurrent(
+ *     new SplitThresholdsCalibrator(executor).calibrateDefaults());
+ * </pre>
+ */
+public class SplitThresholdsCalibrator {
+	
+	private static final int MIN_AREA_LOG2 = 10;
+	
+	private static final int MAX_DEST_AREA_LOG2 = 20;
+	
+	private static final int MAX_SRC_AREA_LOG2 = 22;
+	
+	private static final int DEST_CALIBRATION_DOWNSCALING = 2;
+	
+	private static final int SRC_CALIBRATION_DOWNSCALING = 16;
+	
+	private static final double MIN_SPEEDUP = 1.1;
+	
+	private static final int WARMUP_RUN_COUNT = 10;
+	
+	/**
+	 * We keep the min duration over these runs.
+	 */
+	private static final int TIMED_RUN_COUNT = 5;
+	
+	private static final int[] DEFAULT_IMAGE_TYPES = new int[] {
+		BufferedImage.TYPE_INT_ARGB,
+		BufferedImage.TYPE_INT_ARGB_PRE,
+		BufferedImage.TYPE_INT_RGB,
+		BufferedImage.TYPE_3BYTE_BGR,
+		BufferedImage.TYPE_4BYTE_ABGR,
+	};
+	
+	private final Executor parallelExecutor;
+	
+	/*
+	 * 
+	 */
+	
+	/**
+	 * @param parallelExecutor Executor to calibrate for. Must not be null.
+	 * @throws NullPointerException if parallelExecutor is null.
+	 */
+	public SplitThresholdsCalibrator(Executor parallelExecutor) {
+		this.parallelExecutor = ThbUtils.requireNonNull(parallelExecutor);
+	}
+	
+	/**
+	 * Calibrates thresholds for each parallel resizer class
+	 * of this package (and each kernel), for common image types.
+	 * 
+	 * @return A profile with the computed thresholds.
+	 */
+	public SplitThresholdsProfile calibrateDefaults() {
+		final List<AbstractParallelResizer> resizerList =
+			new ArrayList<AbstractParallelResizer>();
+		resizerList.add(new ParallelNearestResizer());
+		resizerList.add(new ParallelBilinearResizer());
+		resizerList.add(new ParallelBicubicResizer());
+		resizerList.add(new ParallelBoxResizer());
+		for (ConvolutionKernel kernel : ConvolutionKernel.values()) {
+			resizerList.add(new ParallelConvolutionResizer(kernel));
+		}
+		return this.calibrate(
+			SplitThresholdsProfile.EMPTY,
+			resizerList,
+			DEFAULT_IMAGE_TYPES);
+	}
+	
+	/**
+	 * @param baseProfile Profile to start from. Must not be null.
+	 * @param resizerList Resizers to calibrate.
+	 * @param imageTypes Types of source images to calibrate for.
+	 * @return A profile with the thresholds of the base profile,
+	 *         and the computed ones.
+	 * @throws IllegalArgumentException if an image type is
+	 *         not a predefined one.
+	 */
+	public SplitThresholdsProfile calibrate(
+		SplitThresholdsProfile baseProfile,
+		List<? extends AbstractParallelResizer> resizerList,
+		int[] imageTypes) {
+		SplitThresholdsProfile ret = ThbUtils.requireNonNull(baseProfile);
+		for (AbstractParallelResizer resizer : resizerList) {
+			for (int imageType : imageTypes) {
+				ret = this.calibrate(ret, resizer, imageType);
+			}
+		}
+		return ret;
+	}
+	
+	/**
+	 * @param baseProfile Profile to start from. Must not be null.
+	 * @param resizer Resizer to calibrate.
+	 * @param imageType Type of source images to calibrate for.
+	 * @return A profile with the thresholds of the base profile,
+	 *         and the computed ones.
+	 * @throws IllegalArgumentException if the image type is
+	 *         not a predefined one.
+	 */
+	public SplitThresholdsProfile calibrate(
+		SplitThresholdsProfile baseProfile,
+		AbstractParallelResizer resizer,
+		int imageType) {
+		ThbUtils.requireNonNull(baseProfile);
+		if (imageType == BufferedImage.TYPE_CUSTOM) {
+			throw new IllegalArgumentException("image type must not be TYPE_CUSTOM");
+		}
+		
+		this.warmup(resizer, imageType);
+		
+		final int destAreaThreshold = this.computeThreshold(
+			resizer,
+			imageType,
+			MAX_DEST_AREA_LOG2,
+			false);
+		
+		final int srcAreaThreshold;
+		if (resizer.getSrcAreaThresholdForSplit() == Integer.MAX_VALUE) {
+			// Resizer doesn't split due to source area.
+			srcAreaThreshold = Integer.MAX_VALUE;
+		} else {
+			srcAreaThreshold = this.computeThreshold(
+				resizer,
+				imageType,
+				MAX_SRC_AREA_LOG2,
+				true);
+		}
+		
+		return baseProfile.withThresholds(
+			resizer.getSplitThresholdsKey(),
+			imageType,
+			srcAreaThreshold,
+			destAreaThreshold);
+	}
+	
+	/*
+	 * 
+	 */
+	
+	private void warmup(
+		AbstractParallelResizer resizer,
+		int imageType) {
+		final BufferedImage srcImage = newImage(imageType, 512, 512);
+		final BufferedImage destImage = newImage(imageType, 256, 256);
+		final String key = resizer.getSplitThresholdsKey();
+		final SplitThresholdsProfile seqProfile = SplitThresholdsProfile.EMPTY.withThresholds(
+			key, imageType, Integer.MAX_VALUE, Integer.MAX_VALUE);
+		final SplitThresholdsProfile prlProfile = SplitThresholdsProfile.EMPTY.withThresholds(
+			key, imageType, Integer.MAX_VALUE, 256 * 256);
+		this.measureMinNs(resizer, srcImage, destImage, seqProfile, WARMUP_RUN_COUNT);
+		this.measureMinNs(resizer, srcImage, destImage, prlProfile, WARMUP_RUN_COUNT);
+	}
+	
+	/**
+	 * @param srcElseDest True to compute source area threshold,
+	 *        false to compute destination area threshold.
+	 */
+	private int computeThreshold(
+		AbstractParallelResizer resizer,
+		int imageType,
+		int maxAreaLog2,
+		boolean srcElseDest) {
+		final String key = resizer.getSplitThresholdsKey();
+		final SplitThresholdsProfile seqProfile = SplitThresholdsProfile.EMPTY.withThresholds(
+			key, imageType, Integer.MAX_VALUE, Integer.MAX_VALUE);
+		final int downscaling = (srcElseDest ? SRC_CALIBRATION_DOWNSCALING : DEST_CALIBRATION_DOWNSCALING);
+		
+		// Area for which parallel was worth it on previous round, if any.
+		int candidateArea = 0;
+		for (int log2 = MIN_AREA_LOG2; log2 <= maxAreaLog2; log2++) {
+			final int area = 1 << log2;
+			final int side = (int) Math.ceil(Math.sqrt(area));
+			final BufferedImage srcImage;
+			final BufferedImage destImage;
+			if (srcElseDest) {
+				srcImage = newImage(imageType, side, side);
+				final int destSide = Math.max(1, side / downscaling);
+				destImage = newImage(imageType, destSide, destSide);
+			} else {
+				srcImage = newImage(imageType, side * downscaling, side * downscaling);
+				destImage = newImage(imageType, side, side);
+			}
+			// Splitting into exactly two parts.
+			final SplitThresholdsProfile prlProfile = SplitThresholdsProfile.EMPTY.withThresholds(
+				key,
+				imageType,
+				(srcElseDest ? side * side : Integer.MAX_VALUE),
+				(srcElseDest ? Integer.MAX_VALUE : side * side));
+			
+			final long seqNs = this.measureMinNs(resizer, srcImage, destImage, seqProfile, TIMED_RUN_COUNT);
+			final long prlNs = this.measureMinNs(resizer, srcImage, destImage, prlProfile, TIMED_RUN_COUNT);
+			
+			final boolean prlWorthIt = (seqNs >= MIN_SPEEDUP * prlNs);
+			if (prlWorthIt) {
+				if (candidateArea != 0) {
+					return candidateArea;
+				}
+				candidateArea = area;
+			} else {
+				candidateArea = 0;
+			}
+		}
+		return (candidateArea != 0) ? candidateArea : Integer.MAX_VALUE;
+	}
+	
+	private long measureMinNs(
+		AbstractParallelResizer resizer,
+		BufferedImage srcImage,
+		BufferedImage destImage,
+		SplitThresholdsProfile profile,
+		int runCount) {
+		long minNs = Long.MAX_VALUE;
+		SplitThresholdsProfile.CALIBRATION_PROFILE.set(profile);
+		try {
+			for (int i = 0; i < runCount; i++) {
+				final long a = System.nanoTime();
+				resizer.resize(srcImage, destImage, this.parallelExecutor);
+				final long b = System.nanoTime();
+				minNs = Math.min(minNs, b - a);
+			}
+		} finally {
+			SplitThresholdsProfile.CALIBRATION_PROFILE.remove();
+		}
+		return minNs;
+	}
+	
+	/**
+	 * @return An image filled with noise, not to have
+	 *         uniform pixels special cases.
+	 */
+	private static BufferedImage newImage(int imageType, int width, int height) {
+		final BufferedImage ret = new BufferedImage(width, height, imageType);
+		final Random random = new Random(width * 31L + height);
+		final int[] rowArgbArr = new int[width];
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				rowArgbArr[x] = random.nextInt();
+			}
+			ret.setRGB(0, y, width, 1, rowArgbArr, 0, width);
+		}
+		return ret;
+	}
+}
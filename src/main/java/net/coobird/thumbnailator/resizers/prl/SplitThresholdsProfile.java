@@ -0,0 +1,202 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import net.coobird.thumbnailator.util.ThbUtils;
+
+/**
+ * Immutable set of split thresholds, by resizer and source image type,
+ * overriding the built-in thresholds of {@link AbstractParallelResizer}
+ * implementations when set as current profile.
+ * 
+ * Typically computed with {@link SplitThresholdsCalibrator}
+ * on the machine it is used on, and eventually stored
+ * as properties, to be loaded on later startups.
+ * 
+ * Properties keys are of the form
+ * "&lt;resizer key&gt;.&lt;image type&gt;.src" and
+ * "&lt;resizer key&gt;.&lt;image type&gt;.dest",
+ * with resizer keys as returned by
+ * {@link AbstractParallelResizer#getSplitThresholdsKey()},
+ * image types as returned by BufferedImage.getType(),
+ * and values being thresholds (>= 2).
+ */
+public class SplitThresholdsProfile {
+	
+	private static final String SRC_SUFFIX = ".src";
+	
+	private static final String DEST_SUFFIX = ".dest";
+	
+	/**
+	 * Profile with no threshold.
+	 */
+	public static final SplitThresholdsProfile EMPTY =
+		new SplitThresholdsProfile(Collections.<String, Integer>emptyMap());
+	
+	private static volatile SplitThresholdsProfile current = null;
+	
+	/**
+	 * Has priority over current profile, to measure timings
+	 * with specific thresholds without impacting other threads.
+	 */
+	static final ThreadLocal<SplitThresholdsProfile> CALIBRATION_PROFILE =
+		new ThreadLocal<SplitThresholdsProfile>();
+	
+	/**
+	 * Threshold by property key.
+	 */
+	private final Map<String, Integer> thresholdByKey;
+	
+	/*
+	 * 
+	 */
+	
+	private SplitThresholdsProfile(Map<String, Integer> thresholdByKey) {
+		this.thresholdByKey = thresholdByKey;
+	}
+	
+	/**
+	 * @return The profile used by parallel resizers, or null if none
+	 *         (by default), in which case they use their built-in thresholds.
+	 */
+	public static SplitThresholdsProfile getCurrent() {
+		return current;
+	}
+	
+	/**
+	 * Thresholds the specified profile doesn't have are taken
+	 * from resizers built-in thresholds.
+	 * 
+	 * @param profile Profile to use for all parallel resizers.
+	 *        Can be null, for built-in thresholds only.
+	 */
+	public static void setCurrent(SplitThresholdsProfile profile) {
+		current = profile;
+	}
+	
+	/**
+	 * @param properties Properties, as returned by {@link #toProperties()}.
+	 * @return The corresponding profile.
+	 * @throws IllegalArgumentException if a key is neither
+	 *         a source nor a destination threshold key, or a value
+	 *         is not an int >= 2.
+	 */
+	public static SplitThresholdsProfile fromProperties(Properties properties) {
+		final Map<String, Integer> thresholdByKey = new HashMap<String, Integer>();
+		final Enumeration<?> keys = properties.propertyNames();
+		while (keys.hasMoreElements()) {
+			final String key = (String) keys.nextElement();
+			if (!(key.endsWith(SRC_SUFFIX) || key.endsWith(DEST_SUFFIX))) {
+				throw new IllegalArgumentException("unexpected key: " + key);
+			}
+			final String value = properties.getProperty(key);
+			final int threshold;
+			try {
+				threshold = Integer.parseInt(value.trim());
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException(
+					"threshold for " + key + " is not an int: " + value);
+			}
+			thresholdByKey.put(key, ThbUtils.requireSupOrEq(2, threshold, key));
+		}
+		return new SplitThresholdsProfile(thresholdByKey);
+	}
+	
+	/**
+	 * @return Properties for this profile, to be loaded with
+	 *         {@link #fromProperties(Properties)}.
+	 */
+	public Properties toProperties() {
+		final Properties ret = new Properties();
+		for (Map.Entry<String, Integer> entry : this.thresholdByKey.entrySet()) {
+			ret.setProperty(entry.getKey(), entry.getValue().toString());
+		}
+		return ret;
+	}
+	
+	/**
+	 * @param resizerKey Key of a resizer.
+	 * @param imageType Type of source images.
+	 * @param srcAreaThreshold Source area threshold for split. Must be >= 2.
+	 * @param destAreaThreshold Destination area threshold for split. Must be >= 2.
+	 * @return A profile with the thresholds of this one, and the specified ones.
+	 */
+	public SplitThresholdsProfile withThresholds(
+		String resizerKey,
+		int imageType,
+		int srcAreaThreshold,
+		int destAreaThreshold) {
+		ThbUtils.requireNonNull(resizerKey);
+		ThbUtils.requireSupOrEq(2, srcAreaThreshold, "srcAreaThreshold");
+		ThbUtils.requireSupOrEq(2, destAreaThreshold, "destAreaThreshold");
+		final Map<String, Integer> thresholdByKey =
+			new HashMap<String, Integer>(this.thresholdByKey);
+		final String prefix = keyPrefix(resizerKey, imageType);
+		thresholdByKey.put(prefix + SRC_SUFFIX, srcAreaThreshold);
+		thresholdByKey.put(prefix + DEST_SUFFIX, destAreaThreshold);
+		return new SplitThresholdsProfile(thresholdByKey);
+	}
+	
+	/**
+	 * @param resizerKey Key of a resizer.
+	 * @param imageType Type of source images.
+	 * @return The source area threshold for split, or 0 if none.
+	 */
+	public int getSrcAreaThreshold(String resizerKey, int imageType) {
+		return this.getThreshold(keyPrefix(resizerKey, imageType) + SRC_SUFFIX);
+	}
+	
+	/**
+	 * @param resizerKey Key of a resizer.
+	 * @param imageType Type of source images.
+	 * @return The destination area threshold for split, or 0 if none.
+	 */
+	public int getDestAreaThreshold(String resizerKey, int imageType) {
+		return this.getThreshold(keyPrefix(resizerKey, imageType) + DEST_SUFFIX);
+	}
+	
+	@Override
+	public String toString() {
+		return "SplitThresholdsProfile" + this.thresholdByKey;
+	}
+	
+	/*
+	 * 
+	 */
+	
+	/**
+	 * @return The profile to use in current thread, or null if none.
+	 */
+	static SplitThresholdsProfile getEffective() {
+		final SplitThresholdsProfile ret = CALIBRATION_PROFILE.get();
+		return (ret != null) ? ret : current;
+	}
+	
+	private static String keyPrefix(String resizerKey, int imageType) {
+		return resizerKey + "." + imageType;
+	}
+	
+	private int getThreshold(String key) {
+		final Integer ret = this.thresholdByKey.get(key);
+		return (ret != null) ? ret.intValue() : 0;
+	}
+}
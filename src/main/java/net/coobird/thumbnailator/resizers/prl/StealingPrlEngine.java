@@ -0,0 +1,286 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import net.coobird.thumbnailator.util.ThbUtils;
+
+/**
+ * Work-stealing engine, splitting work on demand.
+ * 
+ * The current thread starts with the whole rows range,
+ * which it processes from its start, by chunks of the minimal part height.
+ * Up to (parallelism - 1) helpers are submitted to the executor,
+ * and each of them, once actually running, steals the second half
+ * of the largest remaining range of the other workers,
+ * which can then in turn be stolen from.
+ * Once no range is worth splitting anymore, helpers return,
+ * and the current thread waits for rows being processed to complete.
+ * 
+ * As a result, work is only split when there is a worker available
+ * to process it, and helpers that only get to run late, for example
+ * because the executor is busy with other tasks, don't delay
+ * completion: in the worst case the current thread does all the work.
+ * 
+ * Works with any executor, since helpers never wait for each other.
+ * 
+ * An exception thrown by the processor, in any worker, is rethrown
+ * (as is if unchecked) in the current thread once all workers
+ * are done, remaining rows being skipped.
+ */
+public class StealingPrlEngine implements PrlEngine {
+	
+	private static final int CORE_COUNT = Runtime.getRuntime().availableProcessors();
+	
+	/**
+	 * Shared state of workers for a same processRows() call.
+	 */
+	private static class MyContext {
+		final RowRangeProcessor processor;
+		final int minPartHeight;
+		/**
+		 * Ranges of each worker, index 0 being for the current thread,
+		 * as packed (start << 32) | end, empty if start > end.
+		 */
+		final AtomicLong[] rangeArr;
+		/**
+		 * Number of rows not yet processed (or skipped).
+		 */
+		final AtomicInteger remainingRowCount;
+		final AtomicReference<Throwable> firstThrown =
+			new AtomicReference<Throwable>();
+		public MyContext(
+			RowRangeProcessor processor,
+			int rowCount,
+			int minPartHeight,
+			int workerCount) {
+			this.processor = processor;
+			this.minPartHeight = minPartHeight;
+			this.rangeArr = new AtomicLong[workerCount];
+			for (int i = 0; i < workerCount; i++) {
+				this.rangeArr[i] = new AtomicLong(pack(0, -1));
+			}
+			this.rangeArr[0].set(pack(0, rowCount - 1));
+			this.remainingRowCount = new AtomicInteger(rowCount);
+		}
+		/**
+		 * Processes rows from the range of the specified worker,
+		 * and then from ranges stolen from others,
+		 * until there is nothing worth stealing.
+		 */
+		public void work(int workerIndex) {
+			final AtomicLong range = this.rangeArr[workerIndex];
+			while (true) {
+				final long packed = range.get();
+				final int start = startOf(packed);
+				final int end = endOf(packed);
+				if (start > end) {
+					if (this.stealInto(range)) {
+						continue;
+					} else {
+						break;
+					}
+				}
+				final int chunkEnd = (int) Math.min(end, start + (long) this.minPartHeight - 1);
+				if (range.compareAndSet(packed, pack(chunkEnd + 1, end))) {
+					this.processChunk(start, chunkEnd);
+				}
+			}
+		}
+		/**
+		 * @return True if could steal some rows into the specified range,
+		 *         false if there was nothing worth stealing.
+		 */
+		private boolean stealInto(AtomicLong ownRange) {
+			while (true) {
+				AtomicLong victimRange = null;
+				long victimPacked = 0L;
+				int maxSpan = 0;
+				for (AtomicLong range : this.rangeArr) {
+					final long packed = range.get();
+					final int span = endOf(packed) - startOf(packed) + 1;
+					if (span > maxSpan) {
+						victimRange = range;
+						victimPacked = packed;
+						maxSpan = span;
+					}
+				}
+				if (maxSpan < 2 * this.minPartHeight) {
+					return false;
+				}
+				final int start = startOf(victimPacked);
+				final int end = endOf(victimPacked);
+				final int mid = start + maxSpan / 2;
+				if (victimRange.compareAndSet(victimPacked, pack(start, mid - 1))) {
+					// Only we add rows to our range, which is empty,
+					// so no need for CAS.
+					ownRange.set(pack(mid, end));
+					return true;
+				}
+			}
+		}
+		private void processChunk(int startRow, int endRow) {
+			try {
+				if (this.firstThrown.get() == null) {
+					this.processor.processRows(startRow, endRow);
+				}
+			} catch (Throwable e) {
+				this.firstThrown.compareAndSet(null, e);
+			} finally {
+				final int rowCount = endRow - startRow + 1;
+				if (this.remainingRowCount.addAndGet(-rowCount) == 0) {
+					synchronized (this) {
+						this.notifyAll();
+					}
+				}
+			}
+		}
+		/**
+		 * Waits uninterruptibly for all rows to be processed.
+		 */
+		public void awaitCompletion() {
+			boolean interrupted = false;
+			synchronized (this) {
+				while (this.remainingRowCount.get() != 0) {
+					try {
+						this.wait();
+					} catch (InterruptedException e) {
+						// Uninterruptible wait.
+						interrupted = true;
+					}
+				}
+			}
+			if (interrupted) {
+				// Restoring interrupt status.
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+	
+	private static class MyHelper implements Runnable {
+		private final MyContext context;
+		private final int workerIndex;
+		public MyHelper(
+			MyContext context,
+			int workerIndex) {
+			this.context = context;
+			this.workerIndex = workerIndex;
+		}
+		@Override
+		public void run() {
+			this.context.work(this.workerIndex);
+		}
+	}
+	
+	private final int parallelism;
+	
+	/*
+	 * 
+	 */
+	
+	/**
+	 * Creates an engine with a parallelism equal
+	 * to the number of available processors.
+	 */
+	public StealingPrlEngine() {
+		this(CORE_COUNT);
+	}
+	
+	/**
+	 * @param parallelism Max number of threads working on a same
+	 *        processRows() call, including the current thread.
+	 *        Must be >= 1.
+	 */
+	public StealingPrlEngine(int parallelism) {
+		this.parallelism = ThbUtils.requireSupOrEq(1, parallelism, "parallelism");
+	}
+	
+	/**
+	 * @return Max number of threads working on a same
+	 *         processRows() call, including the current thread.
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+	
+	@Override
+	public void processRows(
+		int rowCount,
+		int maxPartCount,
+		RowRangeProcessor processor,
+		Executor parallelExecutor) {
+		
+		final int minPartHeight = (int) Math.ceil(rowCount / (double) maxPartCount);
+		final int workerCount = Math.min(this.parallelism, maxPartCount);
+		
+		final MyContext context = new MyContext(
+			processor,
+			rowCount,
+			minPartHeight,
+			workerCount);
+		
+		RejectedExecutionException thrownREE = null;
+		for (int i = 1; i < workerCount; i++) {
+			try {
+				parallelExecutor.execute(new MyHelper(context, i));
+			} catch (RejectedExecutionException e) {
+				// Current thread will do the rejected helpers' share.
+				thrownREE = e;
+				break;
+			}
+		}
+		
+		context.work(0);
+		context.awaitCompletion();
+		
+		final Throwable thrown = context.firstThrown.get();
+		if (thrown instanceof RuntimeException) {
+			throw (RuntimeException) thrown;
+		} else if (thrown instanceof Error) {
+			throw (Error) thrown;
+		} else if (thrown != null) {
+			throw new RuntimeException(thrown);
+		}
+		
+		if (thrownREE != null) {
+			// Throwing a new one, because the related helper
+			// has actually been replaced.
+			throw new RejectedExecutionException(
+				"helper(s) rejected, completed without them");
+		}
+	}
+	
+	/*
+	 * 
+	 */
+	
+	private static long pack(int start, int end) {
+		return (((long) start) << 32) | (end & 0xFFFFFFFFL);
+	}
+	
+	private static int startOf(long packed) {
+		return (int) (packed >> 32);
+	}
+	
+	private static int endOf(long packed) {
+		return (int) packed;
+	}
+}
@@ -76,7 +76,12 @@ public class FileThumbnailTask extends ThumbnailTask<File, File> {
 	public void write(BufferedImage img) throws IOException {
 		task.write(img);
 	}
-
+	
+	@Override
+	public String getOutputFormatName() {
+		return task.getOutputFormatName();
+	}
+	
 	@Override
 	public ThumbnailParameter getParam() {
 		return task.getParam();
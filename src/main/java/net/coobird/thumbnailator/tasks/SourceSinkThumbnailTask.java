@@ -30,6 +30,8 @@ import java.io.IOException;
 import net.coobird.thumbnailator.ThumbnailParameter;
 import net.coobird.thumbnailator.tasks.io.ImageSink;
 import net.coobird.thumbnailator.tasks.io.ImageSource;
+import net.coobird.thumbnailator.tasks.io.PixelImageSink;
+import net.coobird.thumbnailator.tasks.io.SubsamplingImageSource;
 
 /**
  * A {@link ThumbnailTask} which holds an {@link ImageSource} from which the
@@ -58,6 +60,16 @@ public class SourceSinkThumbnailTask<S, D> extends ThumbnailTask<S, D> {
 	 * The destination to which the thumbnail is stored or written.
 	 */
 	private final ImageSink<D> destination;
+	
+	/**
+	 * The output format name, once determined for the image read.
+	 */
+	private String outputFormatName;
+	
+	/**
+	 * Indicates whether {@link #outputFormatName} has been determined.
+	 */
+	private boolean isOutputFormatNameDetermined = false;
 
 	/**
 	 * Creates a {@link ThumbnailTask} in which an image is retrived from the
@@ -94,27 +106,64 @@ public class SourceSinkThumbnailTask<S, D> extends ThumbnailTask<S, D> {
 	public BufferedImage read() throws IOException {
 		BufferedImage img = source.read();
 		inputFormatName = source.getInputFormatName();
+		isOutputFormatNameDetermined = false;
+		
+		if (source instanceof SubsamplingImageSource) {
+			originalSize = ((SubsamplingImageSource<S>)source).getOriginalSize();
+		}
 		
 		return img;
 	}
 
 	@Override
 	public void write(BufferedImage img) throws IOException {
+		destination.setOutputFormatName(determineOutputFormatName());
+		destination.write(img);
+	}
+
+	/**
+	 * Returns the output format name, if the destination encodes the
+	 * thumbnail, as {@link PixelImageSink}s ignore it.
+	 */
+	@Override
+	public String getOutputFormatName() {
+		if (destination instanceof PixelImageSink) {
+			return null;
+		}
+		return determineOutputFormatName();
+	}
+
+	/**
+	 * Determines the output format name once per image read, as it may
+	 * be needed both before and when writing the thumbnail.
+	 */
+	private String determineOutputFormatName() {
+		if (isOutputFormatNameDetermined) {
+			return outputFormatName;
+		}
+		
 		String paramOutputFormat = param.getOutputFormat();
-		String formatName = null;
 		
 		if (ThumbnailParameter.DETERMINE_FORMAT.equals(paramOutputFormat)) {
 			paramOutputFormat = destination.preferredOutputFormatName();
 		}
 		
 		if (paramOutputFormat == ThumbnailParameter.ORIGINAL_FORMAT) {
-			formatName = inputFormatName;
+			outputFormatName = inputFormatName;
 		} else {
-			formatName = paramOutputFormat;
+			outputFormatName = paramOutputFormat;
 		}
+		isOutputFormatNameDetermined = true;
+		
+		return outputFormatName;
+	}
 
-		destination.setOutputFormatName(formatName);
-		destination.write(img);
+	@Override
+	public BufferedImage getDestinationImage() {
+		if (destination instanceof PixelImageSink) {
+			return ((PixelImageSink<D>)destination).getDestinationImage();
+		}
+		return null;
 	}
 
 	@Override
@@ -81,7 +81,12 @@ public class StreamThumbnailTask extends ThumbnailTask<InputStream, OutputStream
 	public void write(BufferedImage img) throws IOException {
 		task.write(img);
 	}
-
+	
+	@Override
+	public String getOutputFormatName() {
+		return task.getOutputFormatName();
+	}
+	
 	@Override
 	public ThumbnailParameter getParam() {
 		return task.getParam();
@@ -24,6 +24,7 @@
 
 package net.coobird.thumbnailator.tasks;
 
+import java.awt.Dimension;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 
@@ -57,6 +58,16 @@ public abstract class ThumbnailTask<S, D> {
 	 */
 	protected String inputFormatName;
 	
+	/**
+	 * The size of the input image at full resolution, if the image returned
+	 * by {@link #read()} has been subsampled while being decoded,
+	 * {@code null} otherwise.
+	 * <p>
+	 * To be used to create thumbnails of the expected size when a scaling
+	 * factor is specified.
+	 */
+	protected Dimension originalSize;
+	
 	/**
 	 * Constant used to obtain the first image when reading an image file.
 	 */
@@ -111,6 +122,49 @@ public abstract class ThumbnailTask<S, D> {
 		return param;
 	}
 	
+	/**
+	 * Returns the size of the input image, or of the source region if one
+	 * was specified, at full resolution, if the image returned by
+	 * {@link #read()} has been subsampled while being decoded.
+	 * 
+	 * @return			The size of the input image at full resolution, or
+	 * 					{@code null} if the image returned by {@link #read()}
+	 * 					has not been subsampled.
+	 * @since	0.4.21
+	 */
+	public Dimension getOriginalSize() {
+		return originalSize;
+	}
+	
+	/**
+	 * Returns the name of the format in which the thumbnail will be written,
+	 * so that it can be made in a suitable image type.
+	 * <p>
+	 * As the output format may be the format of the source image, this
+	 * method should be called after {@link #read()}.
+	 * 
+	 * @return			The output format name, or {@code null} if it is not
+	 * 					known before writing the thumbnail.
+	 * @since	0.4.21
+	 */
+	public String getOutputFormatName() {
+		return null;
+	}
+	
+	/**
+	 * Returns an image into which the thumbnail can be resized directly,
+	 * so that writing it to the destination does not require copying it.
+	 * <p>
+	 * The image is only used if it has the dimensions of the thumbnail.
+	 * 
+	 * @return			The image to resize into, or {@code null} if the
+	 * 					destination does not provide one.
+	 * @since	0.4.21
+	 */
+	public BufferedImage getDestinationImage() {
+		return null;
+	}
+	
 	/**
 	 * Returns the source from which the source image is retrieved or read.
 	 * 
@@ -24,6 +24,8 @@
 
 package net.coobird.thumbnailator.tasks.io;
 
+import java.awt.Dimension;
+
 import net.coobird.thumbnailator.ThumbnailParameter;
 
 /**
@@ -32,7 +34,7 @@ import net.coobird.thumbnailator.ThumbnailParameter;
  * @author coobird
  *
  */
-public abstract class AbstractImageSource<T> implements ImageSource<T> {
+public abstract class AbstractImageSource<T> implements SubsamplingImageSource<T> {
 	/**
 	 * The image format of the input image.
 	 */
@@ -48,6 +50,13 @@ public abstract class AbstractImageSource<T> implements ImageSource<T> {
 	 */
 	protected boolean hasReadInput = false;
 	
+	/**
+	 * The size of the input image at full resolution, if the image which
+	 * was read has been subsampled while being decoded, {@code null}
+	 * otherwise.
+	 */
+	protected Dimension originalSize = null;
+	
 	/**
 	 * Default constructor.
 	 */
@@ -83,4 +92,24 @@ return finishedReading(sourceImage);
 		}
 		return inputFormatName;
 	}
+	
+	/**
+	 * Returns the size of the input image, or of the source region if one
+	 * was specified, at full resolution, if the image which was read has
+	 * been subsampled while being decoded.
+	 * 
+	 * @return			The size of the input image at full resolution, or
+	 * 					{@code null} if the image which was read has not been
+	 * 					subsampled.
+	 * @throws IllegalStateException	If the source image has not been
+	 * 									read yet.
+	 * @see DecodeSubsampling
+	 * @since	0.4.21
+	 */
+	public Dimension getOriginalSize() {
+		if (!hasReadInput) {
+			throw new IllegalStateException("Input has not been read yet.");
+		}
+		return originalSize == null ? null : new Dimension(originalSize);
+	}
 }
@@ -0,0 +1,249 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.FileCacheImageInputStream;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageInputStreamImpl;
+
+/**
+ * An {@link ImageInputStream} which caches the data read from an
+ * {@link InputStream} in memory, up to a maximum size, and then in a
+ * temporary file.
+ * <p>
+ * When the maximum size is exceeded, the data cached in memory is moved
+ * to the file, and the memory is released.
+ * <p>
+ * As with {@link javax.imageio.stream.MemoryCacheImageInputStream},
+ * closing this stream does not close the underlying {@link InputStream}.
+ *
+ * @author coobird
+ * @since	0.4.21
+ */
+final class BoundedMemoryCacheImageInputStream extends ImageInputStreamImpl {
+	
+	/**
+	 * The size of the chunks read from the underlying stream.
+	 */
+	private static final int CHUNK_SIZE = 8 * 1024;
+	
+	/**
+	 * The stream to read from.
+	 */
+	private final InputStream stream;
+	
+	/**
+	 * The maximum number of bytes to cache in memory.
+	 */
+	private final long maxMemorySize;
+	
+	/**
+	 * The data read from the underlying stream, while it is cached in
+	 * memory, or {@code null} once it is cached in a file.
+	 */
+	private ByteBufferImageOutputStream memoryCache = new ByteBufferImageOutputStream();
+	
+	/**
+	 * The stream caching the data in a file, once the maximum size has
+	 * been exceeded, or {@code null}.
+	 */
+	private ImageInputStream fileCache;
+	
+	/**
+	 * Indicates whether the end of the underlying stream has been reached.
+	 */
+	private boolean isEndOfStream = false;
+	
+	/**
+	 * Instantiates a {@link BoundedMemoryCacheImageInputStream}.
+	 *
+	 * @param stream		The stream to read from.
+	 * @param maxMemorySize	The maximum number of bytes to cache in memory.
+	 * @throws NullPointerException		If the stream is {@code null}.
+	 */
+	BoundedMemoryCacheImageInputStream(InputStream stream, long maxMemorySize) {
+		if (stream == null) {
+			throw new NullPointerException("InputStream cannot be null.");
+		}
+		
+		this.stream = stream;
+		this.maxMemorySize = maxMemorySize;
+	}
+	
+	@Override
+	public int read() throws IOException {
+		checkClosed();
+		bitOffset = 0;
+		
+		if (fileCache == null && !cacheInMemory(streamPos + 1)) {
+			return -1;
+		}
+		
+		ImageInputStream cache = currentCache();
+		cache.seek(streamPos);
+		int b = cache.read();
+		if (b != -1) {
+			streamPos++;
+		}
+		return b;
+	}
+	
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		checkClosed();
+		if (b == null) {
+			throw new NullPointerException("Byte array cannot be null.");
+		}
+		if (off < 0 || len < 0 || off + len > b.length || off + len < 0) {
+			throw new IndexOutOfBoundsException(
+					"off: " + off + ", len: " + len + ", length: " + b.length
+			);
+		}
+		bitOffset = 0;
+		
+		if (len == 0) {
+			return 0;
+		}
+		if (fileCache == null && !cacheInMemory(streamPos + len)) {
+			len = (int)Math.min(len, memoryCache.length() - streamPos);
+			if (len <= 0) {
+				return -1;
+			}
+		}
+		
+		ImageInputStream cache = currentCache();
+		cache.seek(streamPos);
+		int n = cache.read(b, off, len);
+		if (n > 0) {
+			streamPos += n;
+		}
+		return n;
+	}
+	
+	@Override
+	public void flushBefore(long pos) throws IOException {
+		super.flushBefore(pos);
+		if (fileCache != null) {
+			fileCache.flushBefore(pos);
+		}
+	}
+	
+	@Override
+	public boolean isCached() {
+		return true;
+	}
+	
+	@Override
+	public boolean isCachedMemory() {
+		return fileCache == null;
+	}
+	
+	@Override
+	public boolean isCachedFile() {
+		return fileCache != null;
+	}
+	
+	@Override
+	public void close() throws IOException {
+		super.close();
+		memoryCache = null;
+		if (fileCache != null) {
+			fileCache.close();
+			fileCache = null;
+		}
+	}
+	
+	private ImageInputStream currentCache() {
+		return fileCache != null ? fileCache : memoryCache;
+	}
+	
+	/**
+	 * Reads from the underlying stream into memory until the specified
+	 * number of bytes is cached, moving the cached data to a file if this
+	 * would exceed the maximum size before the end of the stream.
+	 *
+	 * @param end			The number of bytes to cache.
+	 * @return				{@code true} if the bytes are cached in memory,
+	 * 						or if the data is now cached in a file,
+	 * 						{@code false} if the end of the underlying
+	 * 						stream was reached before.
+	 * @throws IOException	When reading or creating the cache file fails.
+	 */
+	private boolean cacheInMemory(long end) throws IOException {
+		long memoryEnd = Math.min(end, maxMemorySize);
+		
+		byte[] chunk = null;
+		while (memoryCache.length() < memoryEnd && !isEndOfStream) {
+			if (chunk == null) {
+				chunk = new byte[CHUNK_SIZE];
+			}
+			int n = stream.read(chunk, 0, (int)Math.min(CHUNK_SIZE, maxMemorySize - memoryCache.length()));
+			if (n == -1) {
+				isEndOfStream = true;
+			} else {
+				memoryCache.seek(memoryCache.length());
+				memoryCache.write(chunk, 0, n);
+			}
+		}
+		
+		if (end > maxMemorySize && !isEndOfStream) {
+			moveToFileCache();
+			return true;
+		}
+		return memoryCache.length() >= end;
+	}
+	
+	/**
+	 * Caches the data in a file from now on, starting with the data which
+	 * was cached in memory.
+	 */
+	private void moveToFileCache() throws IOException {
+		final ByteBufferImageOutputStream cached = memoryCache;
+		cached.seek(0);
+		
+		InputStream cachedStream = new InputStream() {
+			@Override
+			public int read() throws IOException {
+				return cached.read();
+			}
+			
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				return cached.read(b, off, len);
+			}
+		};
+		
+		fileCache = new FileCacheImageInputStream(
+				new SequenceInputStream(cachedStream, stream),
+				ImageIO.getCacheDirectory()
+		);
+		memoryCache = null;
+	}
+}
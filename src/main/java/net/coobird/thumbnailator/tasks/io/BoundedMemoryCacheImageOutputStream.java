@@ -0,0 +1,228 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.FileCacheImageOutputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.ImageOutputStreamImpl;
+
+/**
+ * An {@link ImageOutputStream} which caches the data written to an
+ * {@link OutputStream} in memory, up to a maximum size, and then in a
+ * temporary file.
+ * <p>
+ * When the maximum size is exceeded, the data cached in memory is moved
+ * to the file, and the memory is released.
+ * <p>
+ * As with {@link javax.imageio.stream.MemoryCacheImageOutputStream},
+ * the data is written to the underlying {@link OutputStream} when this
+ * stream is closed, which does not close the underlying stream.
+ *
+ * @author coobird
+ * @since	0.4.21
+ */
+final class BoundedMemoryCacheImageOutputStream extends ImageOutputStreamImpl {
+	
+	/**
+	 * The size of the chunks copied from the memory cache.
+	 */
+	private static final int CHUNK_SIZE = 8 * 1024;
+	
+	/**
+	 * The stream to write to.
+	 */
+	private final OutputStream stream;
+	
+	/**
+	 * The maximum number of bytes to cache in memory.
+	 */
+	private final long maxMemorySize;
+	
+	/**
+	 * The data written, while it is cached in memory, or {@code null} once
+	 * it is cached in a file.
+	 */
+	private ByteBufferImageOutputStream memoryCache = new ByteBufferImageOutputStream();
+	
+	/**
+	 * The stream caching the data in a file, once the maximum size has
+	 * been exceeded, or {@code null}.
+	 */
+	private ImageOutputStream fileCache;
+	
+	/**
+	 * Instantiates a {@link BoundedMemoryCacheImageOutputStream}.
+	 *
+	 * @param stream		The stream to write to.
+	 * @param maxMemorySize	The maximum number of bytes to cache in memory.
+	 * @throws NullPointerException		If the stream is {@code null}.
+	 */
+	BoundedMemoryCacheImageOutputStream(OutputStream stream, long maxMemorySize) {
+		if (stream == null) {
+			throw new NullPointerException("OutputStream cannot be null.");
+		}
+		
+		this.stream = stream;
+		this.maxMemorySize = maxMemorySize;
+	}
+	
+	@Override
+	public int read() throws IOException {
+		checkClosed();
+		bitOffset = 0;
+		
+		ImageOutputStream cache = currentCache();
+		cache.seek(streamPos);
+		int b = cache.read();
+		if (b != -1) {
+			streamPos++;
+		}
+		return b;
+	}
+	
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		checkClosed();
+		bitOffset = 0;
+		
+		ImageOutputStream cache = currentCache();
+		cache.seek(streamPos);
+		int n = cache.read(b, off, len);
+		if (n > 0) {
+			streamPos += n;
+		}
+		return n;
+	}
+	
+	@Override
+	public void write(int b) throws IOException {
+		checkClosed();
+		flushBits();
+		
+		ImageOutputStream cache = cacheFor(streamPos + 1);
+		cache.seek(streamPos);
+		cache.write(b);
+		streamPos++;
+	}
+	
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		checkClosed();
+		flushBits();
+		
+		ImageOutputStream cache = cacheFor(streamPos + len);
+		cache.seek(streamPos);
+		cache.write(b, off, len);
+		streamPos += len;
+	}
+	
+	@Override
+	public long length() {
+		try {
+			return currentCache().length();
+		} catch (IOException e) {
+			return -1L;
+		}
+	}
+	
+	@Override
+	public void flushBefore(long pos) throws IOException {
+		super.flushBefore(pos);
+		if (fileCache != null) {
+			fileCache.flushBefore(pos);
+		}
+	}
+	
+	@Override
+	public boolean isCached() {
+		return true;
+	}
+	
+	@Override
+	public boolean isCachedMemory() {
+		return fileCache == null;
+	}
+	
+	@Override
+	public boolean isCachedFile() {
+		return fileCache != null;
+	}
+	
+	/**
+	 * Writes the data to the underlying stream, and closes this stream.
+	 * The underlying stream is flushed, but not closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (fileCache != null) {
+			fileCache.close();
+			fileCache = null;
+			
+		} else if (memoryCache != null) {
+			copy(memoryCache, new DataOutputStream(stream));
+			stream.flush();
+		}
+		memoryCache = null;
+		super.close();
+	}
+	
+	private ImageOutputStream currentCache() {
+		return fileCache != null ? fileCache : memoryCache;
+	}
+	
+	/**
+	 * Returns the cache to write to, in order to hold the specified number
+	 * of bytes, moving the data cached in memory to a file if it would
+	 * exceed the maximum size.
+	 */
+	private ImageOutputStream cacheFor(long end) throws IOException {
+		if (fileCache == null && end > maxMemorySize) {
+			fileCache = new FileCacheImageOutputStream(
+					stream, ImageIO.getCacheDirectory()
+			);
+			copy(memoryCache, fileCache);
+			memoryCache = null;
+		}
+		return currentCache();
+	}
+	
+	/**
+	 * Copies the data cached in memory to the specified output.
+	 */
+	private static void copy(ByteBufferImageOutputStream cache, DataOutput out) throws IOException {
+		byte[] chunk = new byte[CHUNK_SIZE];
+		cache.seek(0);
+		int n;
+		while ((n = cache.read(chunk, 0, chunk.length)) > 0) {
+			out.write(chunk, 0, n);
+		}
+	}
+}
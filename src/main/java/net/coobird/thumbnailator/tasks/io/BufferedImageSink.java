@@ -34,7 +34,7 @@ import java.io.IOException;
  * @author coobird
  *
  */
-public class BufferedImageSink extends AbstractImageSink<BufferedImage> {
+public class BufferedImageSink extends AbstractImageSink<BufferedImage> implements PixelImageSink<BufferedImage> {
 	/**
 	 * The {@link BufferedImage} which holds the thumbnail.
 	 */
@@ -65,6 +65,15 @@ public class BufferedImageSink extends AbstractImageSink<BufferedImage> {
 		}
 		return img;
 	}
+	
+	/**
+	 * Returns {@code null}, as the thumbnail is stored as it is written.
+	 * 
+	 * @return		{@code null}.
+	 */
+	public BufferedImage getDestinationImage() {
+		return null;
+	}
 
 	@Override
 	public void setOutputFormatName(String format) {
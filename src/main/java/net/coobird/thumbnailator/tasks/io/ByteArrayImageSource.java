@@ -0,0 +1,109 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import net.coobird.thumbnailator.ThumbnailParameter;
+
+/**
+ * An {@link ImageSource} which reads the source image from the encoded
+ * image data held in a byte array.
+ * <p>
+ * The array is read in place, seeking directly over it, without being
+ * copied into a stream cache.
+ * 
+ * @author coobird
+ * @since	0.4.21
+ */
+public class ByteArrayImageSource implements SubsamplingImageSource<byte[]> {
+	/**
+	 * The array which holds the encoded source image.
+	 */
+	private final byte[] data;
+	
+	/**
+	 * The {@link ImageSource} which actually reads the source image.
+	 */
+	private final ByteBufferImageSource imageSource;
+	
+	/**
+	 * Instantiates a {@link ByteArrayImageSource} with the specified array
+	 * holding the encoded source image.
+	 * 
+	 * @param data			The array which holds the encoded source image.
+	 * @throws NullPointerException	If the array is {@code null}.
+	 */
+	public ByteArrayImageSource(byte[] data) {
+		super();
+		
+		if (data == null) {
+			throw new NullPointerException("Byte array cannot be null.");
+		}
+		
+		this.data = data;
+		this.imageSource = new ByteBufferImageSource(ByteBuffer.wrap(data));
+	}
+	
+	public BufferedImage read() throws IOException {
+		return imageSource.read();
+	}
+	
+	/**
+	 * Returns the array from which the source image is read.
+	 * 
+	 * @return		The array which holds the encoded source image.
+	 */
+	public byte[] getSource() {
+		return data;
+	}
+	
+	public String getInputFormatName() {
+		return imageSource.getInputFormatName();
+	}
+	
+	/**
+	 * Returns the size of the source image, or of the source region if one
+	 * was specified, at full resolution, if the image which was read has
+	 * been subsampled while being decoded.
+	 * 
+	 * @return			The size of the source image at full resolution, or
+	 * 					{@code null} if the image which was read has not been
+	 * 					subsampled.
+	 * @throws IllegalStateException	If the source image has not been
+	 * 									read yet.
+	 * @see AbstractImageSource#getOriginalSize()
+	 */
+	public Dimension getOriginalSize() {
+		return imageSource.getOriginalSize();
+	}
+	
+	public void setThumbnailParameter(ThumbnailParameter param) {
+		imageSource.setThumbnailParameter(param);
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import javax.imageio.stream.ImageInputStreamImpl;
+
+/**
+ * An {@link javax.imageio.stream.ImageInputStream} which reads from a
+ * {@link ByteBuffer}, such as a memory-mapped file.
+ * <p>
+ * As all the data is readily available, seeking is only a matter of
+ * changing the position in the buffer, and no data is copied apart from
+ * what is read.
+ * <p>
+ * The buffer is not modified, but it must not be modified by others while
+ * this stream is used.
+ *
+ * @author coobird
+ * @since	0.4.21
+ */
+final class ByteBufferImageInputStream extends ImageInputStreamImpl {
+	
+	/**
+	 * The data, from the position to the limit of the buffer which was
+	 * specified in the constructor.
+	 */
+	private final ByteBuffer buffer;
+	
+	/**
+	 * Instantiates a {@link ByteBufferImageInputStream} which reads the
+	 * data between the position and the limit of the specified buffer.
+	 *
+	 * @param buffer	The buffer to read from.
+	 * @throws NullPointerException		If the buffer is {@code null}.
+	 */
+	ByteBufferImageInputStream(ByteBuffer buffer) {
+		if (buffer == null) {
+			throw new NullPointerException("ByteBuffer cannot be null.");
+		}
+		
+		this.buffer = buffer.slice();
+	}
+	
+	@Override
+	public int read() throws IOException {
+		checkClosed();
+		bitOffset = 0;
+		
+		if (streamPos >= buffer.limit()) {
+			return -1;
+		}
+		return buffer.get((int)streamPos++) & 0xFF;
+	}
+	
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		checkClosed();
+		
+		if (b == null) {
+			throw new NullPointerException("Byte array cannot be null.");
+		}
+		if (off < 0 || len < 0 || off + len > b.length || off + len < 0) {
+			throw new IndexOutOfBoundsException(
+					"off: " + off + ", len: " + len + ", length: " + b.length
+			);
+		}
+		
+		bitOffset = 0;
+		
+		if (len == 0) {
+			return 0;
+		}
+		
+		long remaining = buffer.limit() - streamPos;
+		if (remaining <= 0) {
+			return -1;
+		}
+		
+		int count = (int)Math.min(len, remaining);
+		buffer.position((int)streamPos);
+		buffer.get(b, off, count);
+		streamPos += count;
+		
+		return count;
+	}
+	
+	@Override
+	public long length() {
+		return buffer.limit();
+	}
+	
+	@Override
+	public boolean isCached() {
+		return true;
+	}
+	
+	@Override
+	public boolean isCachedMemory() {
+		return true;
+	}
+}
@@ -0,0 +1,277 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.imageio.stream.ImageOutputStreamImpl;
+
+/**
+ * An {@link javax.imageio.stream.ImageOutputStream} which writes to memory,
+ * either to a specified {@link ByteBuffer}, or to blocks which are
+ * allocated as needed.
+ * <p>
+ * Unlike a {@link java.io.ByteArrayOutputStream}, the data which has been
+ * written is not copied as more data is written. When writing to blocks,
+ * the data is only copied once, by {@link #toByteBuffer()}.
+ *
+ * @author coobird
+ * @since	0.4.21
+ */
+final class ByteBufferImageOutputStream extends ImageOutputStreamImpl {
+	
+	/**
+	 * The size of the blocks which are allocated when there is no
+	 * specified buffer.
+	 */
+	private static final int BLOCK_SIZE = 64 * 1024;
+	
+	/**
+	 * The buffer to write to, from its position to its limit, or
+	 * {@code null} if writing to blocks.
+	 */
+	private final ByteBuffer buffer;
+	
+	/**
+	 * The blocks which hold the data, when there is no specified buffer.
+	 */
+	private final List<byte[]> blocks = new ArrayList<byte[]>();
+	
+	/**
+	 * The number of bytes which have been written.
+	 */
+	private long length;
+	
+	/**
+	 * Instantiates a {@link ByteBufferImageOutputStream} which writes to
+	 * blocks which are allocated as needed.
+	 */
+	ByteBufferImageOutputStream() {
+		this.buffer = null;
+	}
+	
+	/**
+	 * Instantiates a {@link ByteBufferImageOutputStream} which writes to
+	 * the specified buffer, from its position to its limit.
+	 * The position of the buffer is not changed.
+	 *
+	 * @param buffer	The buffer to write to.
+	 * @throws NullPointerException		If the buffer is {@code null}.
+	 */
+	ByteBufferImageOutputStream(ByteBuffer buffer) {
+		if (buffer == null) {
+			throw new NullPointerException("ByteBuffer cannot be null.");
+		}
+		
+		this.buffer = buffer.slice();
+	}
+	
+	@Override
+	public int read() throws IOException {
+		checkClosed();
+		bitOffset = 0;
+		
+		if (streamPos >= length) {
+			return -1;
+		}
+		
+		int b;
+		if (buffer != null) {
+			b = buffer.get((int)streamPos);
+		} else {
+			b = blocks.get((int)(streamPos / BLOCK_SIZE))[(int)(streamPos % BLOCK_SIZE)];
+		}
+		streamPos++;
+		return b & 0xFF;
+	}
+	
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		checkClosed();
+		checkBounds(b, off, len);
+		bitOffset = 0;
+		
+		if (len == 0) {
+			return 0;
+		}
+		
+		long remaining = length - streamPos;
+		if (remaining <= 0) {
+			return -1;
+		}
+		
+		int count = (int)Math.min(len, remaining);
+		if (buffer != null) {
+			buffer.position((int)streamPos);
+			buffer.get(b, off, count);
+			
+		} else {
+			int copied = 0;
+			while (copied < count) {
+				long pos = streamPos + copied;
+				int offsetInBlock = (int)(pos % BLOCK_SIZE);
+				int n = Math.min(count - copied, BLOCK_SIZE - offsetInBlock);
+				System.arraycopy(
+						blocks.get((int)(pos / BLOCK_SIZE)), offsetInBlock,
+						b, off + copied, n
+				);
+				copied += n;
+			}
+		}
+		streamPos += count;
+		return count;
+	}
+	
+	@Override
+	public void write(int b) throws IOException {
+		checkClosed();
+		flushBits();
+		
+		ensureCapacity(streamPos + 1);
+		if (buffer != null) {
+			buffer.put((int)streamPos, (byte)b);
+		} else {
+			blocks.get((int)(streamPos / BLOCK_SIZE))[(int)(streamPos % BLOCK_SIZE)] = (byte)b;
+		}
+		streamPos++;
+		length = Math.max(length, streamPos);
+	}
+	
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		checkClosed();
+		checkBounds(b, off, len);
+		flushBits();
+		
+		if (len == 0) {
+			return;
+		}
+		
+		ensureCapacity(streamPos + len);
+		if (buffer != null) {
+			buffer.position((int)streamPos);
+			buffer.put(b, off, len);
+			
+		} else {
+			int copied = 0;
+			while (copied < len) {
+				long pos = streamPos + copied;
+				int offsetInBlock = (int)(pos % BLOCK_SIZE);
+				int n = Math.min(len - copied, BLOCK_SIZE - offsetInBlock);
+				System.arraycopy(
+						b, off + copied,
+						blocks.get((int)(pos / BLOCK_SIZE)), offsetInBlock,
+						n
+				);
+				copied += n;
+			}
+		}
+		streamPos += len;
+		length = Math.max(length, streamPos);
+	}
+	
+	@Override
+	public long length() {
+		return length;
+	}
+	
+	@Override
+	public boolean isCached() {
+		return true;
+	}
+	
+	@Override
+	public boolean isCachedMemory() {
+		return true;
+	}
+	
+	/**
+	 * Returns the data which has been written.
+	 * <p>
+	 * When writing to a specified buffer, this is a view of the part of
+	 * that buffer which has been written to. Otherwise, this is a new
+	 * buffer holding a copy of the blocks.
+	 *
+	 * @return		The data which has been written, between the position
+	 * 				and the limit of the returned buffer.
+	 */
+	ByteBuffer toByteBuffer() {
+		if (buffer != null) {
+			ByteBuffer data = buffer.duplicate();
+			data.position(0);
+			data.limit((int)length);
+			return data.slice();
+		}
+		
+		byte[] data = new byte[(int)length];
+		int copied = 0;
+		for (byte[] block : blocks) {
+			int n = Math.min(data.length - copied, BLOCK_SIZE);
+			if (n <= 0) {
+				break;
+			}
+			System.arraycopy(block, 0, data, copied, n);
+			copied += n;
+		}
+		return ByteBuffer.wrap(data);
+	}
+	
+	/**
+	 * Makes room for data up to the specified position, filling any gap
+	 * between the written data and the current position with zeros.
+	 */
+	private void ensureCapacity(long end) throws IOException {
+		if (buffer != null) {
+			if (end > buffer.limit()) {
+				throw new IOException("Not enough space remaining in the ByteBuffer.");
+			}
+			for (long pos = length; pos < streamPos; pos++) {
+				buffer.put((int)pos, (byte)0);
+			}
+			return;
+		}
+		
+		if (end > Integer.MAX_VALUE) {
+			throw new IOException("Cannot write more than 2 GiB to a ByteBuffer.");
+		}
+		while ((long)blocks.size() * BLOCK_SIZE < end) {
+			blocks.add(new byte[BLOCK_SIZE]);
+		}
+	}
+	
+	private static void checkBounds(byte[] b, int off, int len) {
+		if (b == null) {
+			throw new NullPointerException("Byte array cannot be null.");
+		}
+		if (off < 0 || len < 0 || off + len > b.length || off + len < 0) {
+			throw new IndexOutOfBoundsException(
+					"off: " + off + ", len: " + len + ", length: " + b.length
+			);
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link ImageSink} which writes the encoded thumbnail to a
+ * {@link ByteBuffer}.
+ * <p>
+ * The thumbnail is either written to a specified buffer, or to memory
+ * which is allocated as needed and handed out as a new buffer once the
+ * thumbnail is written. In neither case is the encoded data repeatedly
+ * copied as it grows, as it would be with a
+ * {@link java.io.ByteArrayOutputStream}.
+ * 
+ * @author coobird
+ * @since	0.4.21
+ */
+public class ByteBufferImageSink extends AbstractImageSink<ByteBuffer> {
+	/**
+	 * The buffer specified to write the thumbnail to, or {@code null} if
+	 * memory is to be allocated as needed.
+	 */
+	private final ByteBuffer buffer;
+	
+	/**
+	 * The buffer holding the thumbnail, once it has been written, when no
+	 * buffer was specified.
+	 */
+	private ByteBuffer result;
+	
+	/**
+	 * Instantiates a {@link ByteBufferImageSink} which allocates memory to
+	 * hold the thumbnail as needed.
+	 * <p>
+	 * Once the thumbnail is written, {@link #getSink()} returns a new
+	 * buffer, whose position is zero and whose limit is the size of the
+	 * encoded thumbnail.
+	 */
+	public ByteBufferImageSink() {
+		super();
+		this.buffer = null;
+	}
+	
+	/**
+	 * Instantiates a {@link ByteBufferImageSink} which writes the
+	 * thumbnail to the specified buffer.
+	 * <p>
+	 * The thumbnail is written from the position of the buffer, which is
+	 * then advanced past the encoded thumbnail, as with
+	 * {@link ByteBuffer#put(byte[])}.
+	 * If there is not enough space remaining in the buffer, writing the
+	 * thumbnail fails with an {@link IOException}, and the position of the
+	 * buffer is not changed.
+	 * 
+	 * @param buffer		The buffer to write the thumbnail to.
+	 * @throws NullPointerException		If the buffer is {@code null}.
+	 */
+	public ByteBufferImageSink(ByteBuffer buffer) {
+		super();
+		
+		if (buffer == null) {
+			throw new NullPointerException("ByteBuffer cannot be null.");
+		}
+		
+		this.buffer = buffer;
+	}
+	
+	@Override
+	public void write(BufferedImage img) throws IOException {
+		super.write(img);
+		
+		ByteBufferImageOutputStream ios = (buffer == null)
+				? new ByteBufferImageOutputStream()
+				: new ByteBufferImageOutputStream(buffer);
+		
+		OutputStreamImageSink imageSink = new OutputStreamImageSink(ios);
+		imageSink.setThumbnailParameter(param);
+		imageSink.setOutputFormatName(outputFormat);
+		imageSink.write(img);
+		
+		ByteBuffer data = ios.toByteBuffer();
+		if (buffer == null) {
+			result = data;
+		} else {
+			buffer.position(buffer.position() + data.remaining());
+		}
+	}
+	
+	/**
+	 * Returns the buffer holding the thumbnail.
+	 * <p>
+	 * If a buffer was specified, it is returned, with its position after
+	 * the thumbnail. Otherwise, a new buffer holding the thumbnail from its
+	 * position to its limit is returned once the thumbnail is written.
+	 * 
+	 * @return							The buffer holding the thumbnail.
+	 * @throws IllegalStateException	If no buffer was specified, and the
+	 * 									thumbnail has not been written yet.
+	 */
+	public ByteBuffer getSink() {
+		if (buffer != null) {
+			return buffer;
+		}
+		if (result == null) {
+			throw new IllegalStateException("ByteBufferImageSink has not been written to yet.");
+		}
+		return result;
+	}
+}
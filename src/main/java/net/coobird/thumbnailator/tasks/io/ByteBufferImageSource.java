@@ -0,0 +1,109 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import net.coobird.thumbnailator.ThumbnailParameter;
+
+/**
+ * An {@link ImageSource} which reads the source image from the encoded
+ * image data held in a {@link ByteBuffer}.
+ * <p>
+ * The data between the position and the limit of the buffer is read in
+ * place, seeking directly over the buffer, without being copied into a
+ * stream cache. The position and limit of the buffer are not changed.
+ * 
+ * @author coobird
+ * @since	0.4.21
+ */
+public class ByteBufferImageSource implements SubsamplingImageSource<ByteBuffer> {
+	/**
+	 * The buffer which holds the encoded source image.
+	 */
+	private final ByteBuffer buffer;
+	
+	/**
+	 * The {@link ImageSource} which actually reads the source image.
+	 */
+	private final InputStreamImageSource imageSource = new InputStreamImageSource();
+	
+	/**
+	 * Instantiates a {@link ByteBufferImageSource} with the specified
+	 * buffer holding the encoded source image.
+	 * 
+	 * @param buffer		The buffer which holds the encoded source image.
+	 * @throws NullPointerException	If the buffer is {@code null}.
+	 */
+	public ByteBufferImageSource(ByteBuffer buffer) {
+		super();
+		
+		if (buffer == null) {
+			throw new NullPointerException("ByteBuffer cannot be null.");
+		}
+		
+		this.buffer = buffer;
+	}
+	
+	public BufferedImage read() throws IOException {
+		return imageSource.read(new ByteBufferImageInputStream(buffer));
+	}
+	
+	/**
+	 * Returns the buffer from which the source image is read.
+	 * 
+	 * @return		The buffer which holds the encoded source image.
+	 */
+	public ByteBuffer getSource() {
+		return buffer;
+	}
+	
+	public String getInputFormatName() {
+		return imageSource.getInputFormatName();
+	}
+	
+	/**
+	 * Returns the size of the source image, or of the source region if one
+	 * was specified, at full resolution, if the image which was read has
+	 * been subsampled while being decoded.
+	 * 
+	 * @return			The size of the source image at full resolution, or
+	 * 					{@code null} if the image which was read has not been
+	 * 					subsampled.
+	 * @throws IllegalStateException	If the source image has not been
+	 * 									read yet.
+	 * @see AbstractImageSource#getOriginalSize()
+	 */
+	public Dimension getOriginalSize() {
+		return imageSource.getOriginalSize();
+	}
+	
+	public void setThumbnailParameter(ThumbnailParameter param) {
+		imageSource.setThumbnailParameter(param);
+	}
+}
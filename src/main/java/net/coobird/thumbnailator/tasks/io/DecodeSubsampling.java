@@ -0,0 +1,90 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import javax.imageio.ImageReadParam;
+
+/**
+ * An enum which is used to specify whether images read by an
+ * {@link javax.imageio.ImageReader} may be subsampled while being decoded.
+ * <p>
+ * Subsampling while decoding, through
+ * {@link ImageReadParam#setSourceSubsampling(int, int, int, int)}, only
+ * keeps one pixel out of every few rows and columns of the source image,
+ * which reduces the time and memory it takes to decode large images for
+ * which a much smaller thumbnail is to be created.
+ * 
+ * @author coobird
+ * @since	0.4.21
+ */
+public enum DecodeSubsampling {
+	/**
+	 * The source image is decoded at full resolution.
+	 */
+	NONE,
+	
+	/**
+	 * The source image is decoded with the largest subsampling which still
+	 * leaves at least {@link #MIN_OVERSAMPLING} times as many pixels as the
+	 * thumbnail along each axis, so that the final resize still has enough
+	 * pixels to produce a good quality thumbnail.
+	 * <p>
+	 * The thumbnail has the same size as when decoding at full resolution,
+	 * but its contents may slightly differ.
+	 */
+	AUTO,
+	;
+	
+	/**
+	 * The minimum ratio between the size of a subsampled source image and
+	 * the size of the thumbnail, along each axis.
+	 */
+	public static final int MIN_OVERSAMPLING = 2;
+	
+	/**
+	 * Returns the largest subsampling which keeps at least
+	 * {@link #MIN_OVERSAMPLING} times as many pixels as the thumbnail.
+	 * 
+	 * @param srcWidth		The width of the source image, or of the source
+	 * 						region if one is used.
+	 * @param srcHeight		The height of the source image, or of the source
+	 * 						region if one is used.
+	 * @param scale			The largest ratio between the size of the
+	 * 						thumbnail and the size of the source image,
+	 * 						of both axes.
+	 * @return				The subsampling to use along both axes,
+	 * 						{@code 1} meaning no subsampling.
+	 */
+	public static int computeSubsampling(int srcWidth, int srcHeight, double scale) {
+		if (!(scale > 0.0)) {
+			return 1;
+		}
+		
+		double subsampling = Math.floor(1.0 / (scale * MIN_OVERSAMPLING));
+		subsampling = Math.min(subsampling, Math.min(srcWidth, srcHeight));
+		
+		return (int)Math.max(1.0, subsampling);
+	}
+}
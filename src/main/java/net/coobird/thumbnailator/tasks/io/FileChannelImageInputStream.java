@@ -0,0 +1,164 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import javax.imageio.stream.ImageInputStreamImpl;
+
+/**
+ * An {@link javax.imageio.stream.ImageInputStream} which reads from a
+ * {@link FileChannel}, at the positions readers seek to.
+ * <p>
+ * As the file itself can be read at any position, the data is not cached
+ * by the stream, and only the parts of the file which are read are copied,
+ * through a small buffer.
+ * <p>
+ * Closing this stream does not close the channel.
+ *
+ * @author coobird
+ * @since	0.4.21
+ */
+final class FileChannelImageInputStream extends ImageInputStreamImpl {
+	
+	/**
+	 * The size of the buffer through which the file is read.
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+	
+	/**
+	 * The channel to read from.
+	 */
+	private final FileChannel channel;
+	
+	/**
+	 * The data read from the file, from the start to the limit of the
+	 * buffer.
+	 */
+	private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+	
+	/**
+	 * The position in the file of the start of {@link #buffer}.
+	 */
+	private long bufferPos = 0;
+	
+	/**
+	 * Instantiates a {@link FileChannelImageInputStream} which reads from
+	 * the specified channel, from the start of the file.
+	 *
+	 * @param channel	The channel to read from.
+	 * @throws NullPointerException		If the channel is {@code null}.
+	 */
+	FileChannelImageInputStream(FileChannel channel) {
+		if (channel == null) {
+			throw new NullPointerException("FileChannel cannot be null.");
+		}
+		
+		this.channel = channel;
+		buffer.limit(0);
+	}
+	
+	@Override
+	public int read() throws IOException {
+		checkClosed();
+		bitOffset = 0;
+		
+		if (!isBuffered(streamPos) && !fill(streamPos)) {
+			return -1;
+		}
+		return buffer.get((int)(streamPos++ - bufferPos)) & 0xFF;
+	}
+	
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		checkClosed();
+		
+		if (b == null) {
+			throw new NullPointerException("Byte array cannot be null.");
+		}
+		if (off < 0 || len < 0 || off + len > b.length || off + len < 0) {
+			throw new IndexOutOfBoundsException(
+					"off: " + off + ", len: " + len + ", length: " + b.length
+			);
+		}
+		
+		bitOffset = 0;
+		
+		if (len == 0) {
+			return 0;
+		}
+		
+		if (!isBuffered(streamPos) && len >= BUFFER_SIZE) {
+			// Large reads go straight to the array.
+			int count = channel.read(ByteBuffer.wrap(b, off, len), streamPos);
+			if (count > 0) {
+				streamPos += count;
+			}
+			return count;
+		}
+		
+		if (!isBuffered(streamPos) && !fill(streamPos)) {
+			return -1;
+		}
+		
+		int offsetInBuffer = (int)(streamPos - bufferPos);
+		int count = Math.min(len, buffer.limit() - offsetInBuffer);
+		buffer.position(offsetInBuffer);
+		buffer.get(b, off, count);
+		streamPos += count;
+		
+		return count;
+	}
+	
+	@Override
+	public long length() {
+		try {
+			return channel.size();
+		} catch (IOException e) {
+			return -1L;
+		}
+	}
+	
+	private boolean isBuffered(long pos) {
+		return pos >= bufferPos && pos < bufferPos + buffer.limit();
+	}
+	
+	/**
+	 * Reads the file into the buffer, from the specified position.
+	 *
+	 * @return		{@code false} if the position is at or beyond the end
+	 * 				of the file.
+	 */
+	private boolean fill(long pos) throws IOException {
+		buffer.clear();
+		bufferPos = pos;
+		
+		int count = channel.read(buffer, pos);
+		buffer.flip();
+		return count > 0;
+	}
+}
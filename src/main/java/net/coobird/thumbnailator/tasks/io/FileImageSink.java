@@ -29,12 +29,8 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.Iterator;
-import java.util.NoSuchElementException;
 
-import javax.imageio.ImageIO;
-import javax.imageio.ImageReader;
-import javax.imageio.ImageWriter;
+import javax.imageio.spi.ImageWriterSpi;
 
 import net.coobird.thumbnailator.ThumbnailParameter;
 import net.coobird.thumbnailator.tasks.UnsupportedFormatException;
@@ -196,18 +192,15 @@ public class FileImageSink implements ImageSink<File> {
 			return false;
 		}
 		
-		ImageWriter iw;
-		try {
-			iw = ImageIO.getImageWritersByFormatName(formatName).next();
-
-		} catch (NoSuchElementException e) {
+		ImageWriterSpi spi = ImageCodecs.getWriterSpi(formatName);
+		if (spi == null) {
 			throw new UnsupportedFormatException(
 					formatName,
 					"No suitable ImageWriter found for " + formatName + "."
 			);
 		}
 		
-		String[] suffixes = iw.getOriginatingProvider().getFileSuffixes();
+		String[] suffixes = spi.getFileSuffixes();
 		
 		for (String suffix : suffixes) {
 			if (fileExtension.equalsIgnoreCase(suffix)) {
@@ -240,14 +233,13 @@ public class FileImageSink implements ImageSink<File> {
 		String fileExtension = getExtension(destinationFile);
 
 		if (fileExtension != null) {
-			Iterator<ImageReader> rIter = ImageIO.getImageReadersBySuffix(fileExtension);
-			
-			if (rIter.hasNext()) {
-				try {
-					return rIter.next().getFormatName();
-				} catch (IOException e) {
-					return ThumbnailParameter.ORIGINAL_FORMAT;
+			try {
+				String formatName = ImageCodecs.getReaderFormatNameBySuffix(fileExtension);
+				if (formatName != null) {
+					return formatName;
 				}
+			} catch (IOException e) {
+				return ThumbnailParameter.ORIGINAL_FORMAT;
 			}
 		}
 		
@@ -297,11 +289,7 @@ public class FileImageSink implements ImageSink<File> {
 		 * the file extension.
 		 */
 		if (formatName == null && fileExtension != null) {
-			Iterator<ImageReader> rIter = ImageIO.getImageReadersBySuffix(fileExtension);
-			
-			if (rIter.hasNext()) {
-				formatName = rIter.next().getFormatName();
-			}
+			formatName = ImageCodecs.getReaderFormatNameBySuffix(fileExtension);
 		}
 		
 		if (formatName == null) {
@@ -24,14 +24,22 @@
 
 package net.coobird.thumbnailator.tasks.io;
 
+import java.awt.Dimension;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.stream.ImageInputStream;
 
 import net.coobird.thumbnailator.ThumbnailParameter;
 import net.coobird.thumbnailator.tasks.UnsupportedFormatException;
+import net.coobird.thumbnailator.util.Configurations;
 
 /**
  * An {@link ImageSource} which reads the source image from a file.
@@ -39,7 +47,34 @@ import net.coobird.thumbnailator.tasks.UnsupportedFormatException;
  * @author coobird
  *
  */
-public class FileImageSource implements ImageSource<File> {
+public class FileImageSource implements SubsamplingImageSource<File> {
+	/**
+	 * The maximum size of source files which are read at once into a
+	 * buffer before being decoded. Larger files are read as the reader
+	 * seeks through them, or mapped into memory if
+	 * {@link Configurations#MAP_SOURCE_FILES} is enabled.
+	 */
+	static final int MAX_BUFFERED_SIZE = 1024 * 1024;
+	
+	/**
+	 * The maximum number of direct buffers of {@link #MAX_BUFFERED_SIZE}
+	 * bytes which are allocated to read small files, and then kept for
+	 * subsequent reads. When all of them are in use, a heap buffer of the
+	 * size of the file is used instead.
+	 */
+	static final int MAX_POOLED_BUFFERS = 8;
+	
+	/**
+	 * The direct buffers which are not in use.
+	 */
+	private static final ConcurrentLinkedQueue<ByteBuffer> BUFFER_POOL =
+			new ConcurrentLinkedQueue<ByteBuffer>();
+	
+	/**
+	 * The number of direct buffers which have been allocated.
+	 */
+	private static final AtomicInteger allocatedBufferCount = new AtomicInteger();
+	
 	/**
 	 * The file from which the image should be obtained.
 	 */
@@ -50,7 +85,7 @@ public class FileImageSource implements ImageSource<File> {
 	 * operations. This {@link ImageSource} can change during the lifecycle
 	 * of the {@link FileImageSource} class.
 	 */
-	private ImageSource<?> imageSource = new UninitializedImageSource();
+	private AbstractImageSource<?> imageSource = new UninitializedImageSource();
 	
 	/**
 	 * A {@link ThumbnailParameter} object that is given by 
@@ -121,10 +156,29 @@ public class FileImageSource implements ImageSource<File> {
 			);
 		}
 
+		ByteBuffer buffer = null;
 		try {
-			imageSource = new InputStreamImageSource(fis);
+			InputStreamImageSource source = new InputStreamImageSource(fis);
+			imageSource = source;
 			imageSource.setThumbnailParameter(param);
-			return imageSource.read();
+			
+			FileChannel channel = fis.getChannel();
+			long size = channel.size();
+			ImageInputStream iis;
+			if (size <= MAX_BUFFERED_SIZE) {
+				buffer = acquireBuffer((int)size);
+				iis = new ByteBufferImageInputStream(readFully(channel, buffer));
+				
+			} else if (Configurations.MAP_SOURCE_FILES.getBoolean()) {
+				iis = new ByteBufferImageInputStream(
+						channel.map(FileChannel.MapMode.READ_ONLY, 0, size)
+				);
+				
+			} else {
+				iis = new FileChannelImageInputStream(channel);
+			}
+			
+			return source.read(iis);
 
 		} catch (UnsupportedFormatException e) {
 			String sourcePath = sourceFile.getAbsolutePath();
@@ -134,6 +188,60 @@ public class FileImageSource implements ImageSource<File> {
 			);
 		} finally {
 			fis.close();
+			releaseBuffer(buffer);
+		}
+	}
+
+	/**
+	 * Reads the whole file into the specified buffer.
+	 *
+	 * @param channel		The channel of the source file.
+	 * @param buffer		The buffer to read into, whose limit is the size
+	 * 						of the file.
+	 * @return				The buffer, between the position and the limit
+	 * 						of which is the content of the file.
+	 * @throws IOException	When an error occurs during reading.
+	 */
+	private static ByteBuffer readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) == -1) {
+				// The file was truncated while being read.
+				break;
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+	
+	/**
+	 * Returns a buffer to read a small file into, whose limit is set to the
+	 * specified size.
+	 * <p>
+	 * This is a pooled direct buffer, unless {@link #MAX_POOLED_BUFFERS}
+	 * are in use, in which case it is a heap buffer of the specified size.
+	 */
+	private static ByteBuffer acquireBuffer(int size) {
+		ByteBuffer buffer = BUFFER_POOL.poll();
+		if (buffer == null) {
+			if (allocatedBufferCount.incrementAndGet() <= MAX_POOLED_BUFFERS) {
+				buffer = ByteBuffer.allocateDirect(MAX_BUFFERED_SIZE);
+			} else {
+				allocatedBufferCount.decrementAndGet();
+				return ByteBuffer.allocate(size);
+			}
+		}
+		buffer.clear();
+		buffer.limit(size);
+		return buffer;
+	}
+	
+	/**
+	 * Returns a buffer obtained from {@link #acquireBuffer(int)} to the
+	 * pool, if it is a pooled buffer.
+	 */
+	private static void releaseBuffer(ByteBuffer buffer) {
+		if (buffer != null && buffer.isDirect()) {
+			BUFFER_POOL.offer(buffer);
 		}
 	}
 
@@ -149,6 +257,23 @@ public class FileImageSource implements ImageSource<File> {
 	public String getInputFormatName() {
 		return imageSource.getInputFormatName();
 	}
+	
+	/**
+	 * Returns the size of the source image, or of the source region if one
+	 * was specified, at full resolution, if the image which was read has
+	 * been subsampled while being decoded.
+	 * 
+	 * @return			The size of the source image at full resolution, or
+	 * 					{@code null} if the image which was read has not been
+	 * 					subsampled.
+	 * @throws IllegalStateException	If the source image has not been
+	 * 									read yet.
+	 * @see AbstractImageSource#getOriginalSize()
+	 * @since	0.4.21
+	 */
+	public Dimension getOriginalSize() {
+		return imageSource.getOriginalSize();
+	}
 
 	public void setThumbnailParameter(ThumbnailParameter param) {
 		// We need to keep "param" when we replace "imageSource" in the
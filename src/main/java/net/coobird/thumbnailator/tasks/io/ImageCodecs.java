@@ -0,0 +1,373 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriter;
+import javax.imageio.spi.IIORegistry;
+import javax.imageio.spi.ImageReaderSpi;
+import javax.imageio.spi.ImageWriterSpi;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * Looks up {@link ImageReader}s and {@link ImageWriter}s, and keeps
+ * instances of them for reuse.
+ * <p>
+ * The lookups done through {@link javax.imageio.ImageIO} go through the
+ * synchronized {@link IIORegistry}, ordering the service providers each
+ * time, and every lookup creates new reader and writer instances.
+ * Here, the service providers are looked up once per format and kept, and
+ * the readers and writers are {@link ImageReader#reset() reset} after use
+ * and kept in bounded pools, rather than being disposed.
+ * <p>
+ * A kept service provider is checked to still be registered before it is
+ * used, and a lookup which finds no suitable service provider is retried
+ * against the registry. A service provider registered after a format has
+ * been looked up will therefore only be used for that format if the
+ * previously used one is deregistered.
+ * <p>
+ * This class is thread-safe. Instances obtained from it must only be used
+ * by one thread at a time, until they are released.
+ * 
+ * @author coobird
+ * @since	0.4.21
+ */
+final class ImageCodecs {
+	
+	/**
+	 * The maximum number of instances kept for each reader or writer.
+	 */
+	private static final int MAX_POOL_SIZE =
+			Runtime.getRuntime().availableProcessors();
+	
+	/**
+	 * The reader service providers, in the order of preference of the
+	 * registry, or {@code null} if they have to be looked up.
+	 */
+	private static volatile List<ImageReaderSpi> readerSpis;
+	
+	private static final ConcurrentMap<String, ImageReaderSpi> readerSpisBySuffix =
+			new ConcurrentHashMap<String, ImageReaderSpi>();
+	
+	private static final ConcurrentMap<String, ImageWriterSpi> writerSpisByFormat =
+			new ConcurrentHashMap<String, ImageWriterSpi>();
+	
+	private static final ConcurrentMap<Object, Pool<ImageReader>> readerPools =
+			new ConcurrentHashMap<Object, Pool<ImageReader>>();
+	
+	private static final ConcurrentMap<Object, Pool<ImageWriter>> writerPools =
+			new ConcurrentHashMap<Object, Pool<ImageWriter>>();
+	
+	/**
+	 * This class is not intended to be instantiated.
+	 */
+	private ImageCodecs() {}
+	
+	/**
+	 * A bounded pool of instances.
+	 */
+	private static final class Pool<T> {
+		private final Queue<T> instances = new ConcurrentLinkedQueue<T>();
+		private final AtomicInteger size = new AtomicInteger();
+		
+		private T poll() {
+			T instance = instances.poll();
+			if (instance != null) {
+				size.decrementAndGet();
+			}
+			return instance;
+		}
+		
+		private boolean offer(T instance) {
+			if (size.incrementAndGet() > MAX_POOL_SIZE) {
+				size.decrementAndGet();
+				return false;
+			}
+			instances.offer(instance);
+			return true;
+		}
+	}
+	
+	/**
+	 * Returns a reader which can decode the image in the specified stream,
+	 * as would the first reader returned by
+	 * {@link javax.imageio.ImageIO#getImageReaders(Object)}.
+	 * <p>
+	 * The position of the stream is left unchanged.
+	 * 
+	 * @param iis			The stream from which the image is to be read.
+	 * @return				A reader, or {@code null} if no suitable reader
+	 * 						was found. It should be returned with
+	 * 						{@link #release(ImageReader, boolean)} once
+	 * 						it is no longer used.
+	 * @throws IOException	When an error occurs while creating the reader.
+	 */
+	static ImageReader getReader(ImageInputStream iis) throws IOException {
+		List<ImageReaderSpi> spis = readerSpis;
+		boolean isLookedUp = false;
+		if (spis == null) {
+			spis = lookupReaderSpis();
+			isLookedUp = true;
+		}
+		
+		while (true) {
+			ImageReaderSpi spi = findReaderSpi(spis, iis);
+			if (spi != null && isRegistered(spi)) {
+				return borrow(spi);
+			}
+			if (isLookedUp) {
+				return null;
+			}
+			
+			// The providers have changed since they were looked up.
+			spis = lookupReaderSpis();
+			isLookedUp = true;
+		}
+	}
+	
+	/**
+	 * Returns the name of the format of the images decoded by the reader
+	 * which handles the specified file suffix, as would the first reader
+	 * returned by {@link javax.imageio.ImageIO#getImageReadersBySuffix(String)}.
+	 * 
+	 * @param suffix		The file suffix.
+	 * @return				The name of the format, or {@code null} if no
+	 * 						reader handles the specified suffix.
+	 * @throws IOException	When an error occurs while creating the reader.
+	 */
+	static String getReaderFormatNameBySuffix(String suffix) throws IOException {
+		ImageReaderSpi spi = readerSpisBySuffix.get(suffix);
+		if (spi == null || !isRegistered(spi)) {
+			spi = null;
+			for (ImageReaderSpi candidate : lookupReaderSpis()) {
+				if (contains(candidate.getFileSuffixes(), suffix)) {
+					spi = candidate;
+					break;
+				}
+			}
+			if (spi == null) {
+				return null;
+			}
+			readerSpisBySuffix.put(suffix, spi);
+		}
+		
+		ImageReader reader = borrow(spi);
+		try {
+			return reader.getFormatName();
+		} finally {
+			release(reader, true);
+		}
+	}
+	
+	/**
+	 * Returns the service provider of the writer for the specified format,
+	 * as would be the first writer returned by
+	 * {@link javax.imageio.ImageIO#getImageWritersByFormatName(String)}.
+	 * 
+	 * @param formatName	The name of the format.
+	 * @return				The service provider, or {@code null} if no
+	 * 						writer handles the specified format.
+	 */
+	static ImageWriterSpi getWriterSpi(String formatName) {
+		ImageWriterSpi spi = writerSpisByFormat.get(formatName);
+		if (spi != null && isRegistered(spi)) {
+			return spi;
+		}
+		
+		Iterator<ImageWriterSpi> spis = IIORegistry.getDefaultInstance()
+				.getServiceProviders(ImageWriterSpi.class, true);
+		while (spis.hasNext()) {
+			ImageWriterSpi candidate = spis.next();
+			if (contains(candidate.getFormatNames(), formatName)) {
+				writerSpisByFormat.put(formatName, candidate);
+				return candidate;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Returns a writer for the specified format.
+	 * 
+	 * @param formatName	The name of the format.
+	 * @return				A writer, or {@code null} if no writer handles
+	 * 						the specified format. It should be returned with
+	 * 						{@link #release(ImageWriter, boolean)} once
+	 * 						it is no longer used.
+	 * @throws IOException	When an error occurs while creating the writer.
+	 */
+	static ImageWriter getWriter(String formatName) throws IOException {
+		ImageWriterSpi spi = getWriterSpi(formatName);
+		if (spi == null) {
+			return null;
+		}
+		
+		Pool<ImageWriter> pool = writerPools.get(spi);
+		ImageWriter writer = (pool == null) ? null : pool.poll();
+		if (writer == null) {
+			writer = spi.createWriterInstance();
+		}
+		return writer;
+	}
+	
+	/**
+	 * Returns a reader obtained from this class, so that it can be reused.
+	 * 
+	 * @param reader		The reader.
+	 * @param isReusable	Whether the reader can be reused, which should be
+	 * 						{@code false} if reading did not complete
+	 * 						normally.
+	 */
+	static void release(ImageReader reader, boolean isReusable) {
+		ImageReaderSpi spi = reader.getOriginatingProvider();
+		if (isReusable && spi != null) {
+			try {
+				reader.reset();
+				if (getPool(readerPools, spi).offer(reader)) {
+					return;
+				}
+			} catch (RuntimeException e) {
+				// Fall through to dispose the reader.
+			}
+		}
+		reader.dispose();
+	}
+	
+	/**
+	 * Returns a writer obtained from this class, so that it can be reused.
+	 * 
+	 * @param writer		The writer.
+	 * @param isReusable	Whether the writer can be reused, which should be
+	 * 						{@code false} if writing did not complete
+	 * 						normally.
+	 */
+	static void release(ImageWriter writer, boolean isReusable) {
+		ImageWriterSpi spi = writer.getOriginatingProvider();
+		if (isReusable && spi != null) {
+			try {
+				writer.reset();
+				if (getPool(writerPools, spi).offer(writer)) {
+					return;
+				}
+			} catch (RuntimeException e) {
+				// Fall through to dispose the writer.
+			}
+		}
+		writer.dispose();
+	}
+	
+	private static ImageReader borrow(ImageReaderSpi spi) throws IOException {
+		Pool<ImageReader> pool = readerPools.get(spi);
+		ImageReader reader = (pool == null) ? null : pool.poll();
+		if (reader == null) {
+			reader = spi.createReaderInstance();
+		}
+		return reader;
+	}
+	
+	private static <T> Pool<T> getPool(ConcurrentMap<Object, Pool<T>> pools, Object spi) {
+		Pool<T> pool = pools.get(spi);
+		if (pool == null) {
+			Pool<T> newPool = new Pool<T>();
+			pool = pools.putIfAbsent(spi, newPool);
+			if (pool == null) {
+				pool = newPool;
+			}
+		}
+		return pool;
+	}
+	
+	private static ImageReaderSpi findReaderSpi(
+			List<ImageReaderSpi> spis,
+			ImageInputStream iis
+	) {
+		for (ImageReaderSpi spi : spis) {
+			boolean canDecode;
+			try {
+				iis.mark();
+				try {
+					canDecode = spi.canDecodeInput(iis);
+				} finally {
+					iis.reset();
+				}
+			} catch (IOException e) {
+				canDecode = false;
+			}
+			
+			if (canDecode) {
+				return spi;
+			}
+		}
+		return null;
+	}
+	
+	private static List<ImageReaderSpi> lookupReaderSpis() {
+		List<ImageReaderSpi> spis = new ArrayList<ImageReaderSpi>();
+		Iterator<ImageReaderSpi> iter = IIORegistry.getDefaultInstance()
+				.getServiceProviders(ImageReaderSpi.class, true);
+		while (iter.hasNext()) {
+			spis.add(iter.next());
+		}
+		
+		spis = Collections.unmodifiableList(spis);
+		readerSpis = spis;
+		
+		// Forget the instances of providers which are no longer registered.
+		readerPools.keySet().retainAll(spis);
+		return spis;
+	}
+	
+	private static boolean isRegistered(Object spi) {
+		if (IIORegistry.getDefaultInstance().contains(spi)) {
+			return true;
+		}
+		readerPools.remove(spi);
+		writerPools.remove(spi);
+		return false;
+	}
+	
+	private static boolean contains(String[] names, String name) {
+		if (names == null) {
+			return false;
+		}
+		for (String n : names) {
+			if (name.equalsIgnoreCase(n)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import net.coobird.thumbnailator.ImageInfo;
+import net.coobird.thumbnailator.tasks.UnsupportedFormatException;
+import net.coobird.thumbnailator.util.exif.ExifUtils;
+import net.coobird.thumbnailator.util.exif.Orientation;
+
+/**
+ * Reads {@link ImageInfo} from the headers of images, without decoding
+ * their pixels.
+ * <p>
+ * The images are read through the same streams and pooled readers as
+ * the {@link ImageSource}s of this package, so that probing an image
+ * neither writes a temporary cache file nor looks up the reader in the
+ * Image I/O registry each time.
+ * 
+ * @author coobird
+ * @since	0.4.21
+ */
+public final class ImageInfoReader {
+	
+	/**
+	 * The index used to obtain the first image in an image file.
+	 */
+	private static final int FIRST_IMAGE_INDEX = 0;
+	
+	/**
+	 * This class is not intended to be instantiated.
+	 */
+	private ImageInfoReader() {}
+	
+	/**
+	 * Reads the information about the image read from the specified
+	 * {@link InputStream}, which is not closed.
+	 * 
+	 * @param is			The stream from which the image is read.
+	 * @return				The information about the image.
+	 * @throws IOException	When a problem occurs while reading the headers.
+	 * @throws UnsupportedFormatException	If no {@link ImageReader} is
+	 * 										available for the image.
+	 */
+	public static ImageInfo read(InputStream is) throws IOException {
+		ImageInputStream iis = ImageStreams.createImageInputStream(is);
+		if (iis == null) {
+			throw new IOException("Could not open the image data.");
+		}
+		
+		try {
+			return read(iis);
+		} finally {
+			iis.close();
+		}
+	}
+	
+	/**
+	 * Reads the information about the image contained in the specified
+	 * byte array, which is read in place.
+	 * 
+	 * @param data			The encoded image.
+	 * @return				The information about the image.
+	 * @throws IOException	When a problem occurs while reading the headers.
+	 * @throws UnsupportedFormatException	If no {@link ImageReader} is
+	 * 										available for the image.
+	 */
+	public static ImageInfo read(byte[] data) throws IOException {
+		ImageInputStream iis = new ByteBufferImageInputStream(ByteBuffer.wrap(data));
+		try {
+			return read(iis);
+		} finally {
+			iis.close();
+		}
+	}
+	
+	/**
+	 * Reads the information about the first image of the specified
+	 * {@link ImageInputStream}, which is not closed.
+	 * 
+	 * @param iis			The stream from which the image is read.
+	 * @return				The information about the image.
+	 * @throws IOException	When a problem occurs while reading the headers.
+	 * @throws UnsupportedFormatException	If no {@link ImageReader} is
+	 * 										available for the image.
+	 */
+	public static ImageInfo read(ImageInputStream iis) throws IOException {
+		/*
+		 * The Exif orientation is obtained by scanning the marker segments,
+		 * as parsing the metadata of the reader is more expensive.
+		 */
+		Orientation orientation = null;
+		iis.mark();
+		try {
+			orientation = ExifUtils.getExifOrientation(iis);
+		} catch (RuntimeException e) {
+			// Malformed Exif data is treated as the lack of orientation.
+		} finally {
+			iis.reset();
+		}
+		
+		ImageReader reader = ImageCodecs.getReader(iis);
+		if (reader == null) {
+			throw new UnsupportedFormatException(
+					UnsupportedFormatException.UNKNOWN,
+					"No suitable ImageReader found for source data."
+			);
+		}
+		
+		boolean isReusable = false;
+		try {
+			reader.setInput(iis, true, true);
+			ImageInfo info = new ImageInfo(
+					reader.getWidth(FIRST_IMAGE_INDEX),
+					reader.getHeight(FIRST_IMAGE_INDEX),
+					reader.getFormatName(),
+					orientation
+			);
+			isReusable = true;
+			return info;
+		} finally {
+			ImageCodecs.release(reader, isReusable);
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import net.coobird.thumbnailator.util.Configurations;
+
+/**
+ * Creates the {@link ImageInputStream}s and {@link ImageOutputStream}s
+ * used to read and write images from and to streams.
+ * <p>
+ * By default, the streams are created by {@link ImageIO}, which caches
+ * the data in temporary files if {@link ImageIO#getUseCache()} is
+ * {@code true}. If {@link Configurations#USE_MEMORY_CACHE} is enabled,
+ * the data is cached in memory instead, up to
+ * {@link #MAX_MEMORY_CACHE_SIZE} bytes per stream, beyond which it is
+ * cached in a temporary file.
+ *
+ * @author coobird
+ * @since	0.4.21
+ */
+final class ImageStreams {
+	
+	/**
+	 * This class is not intended to be instantiated.
+	 */
+	private ImageStreams() {}
+	
+	/**
+	 * The maximum number of bytes which a stream caches in memory.
+	 */
+	static final long MAX_MEMORY_CACHE_SIZE = 64 * 1024 * 1024;
+	
+	/**
+	 * Returns an {@link ImageInputStream} which reads from the specified
+	 * {@link InputStream}.
+	 *
+	 * @param is			The stream to read from.
+	 * @return				The {@link ImageInputStream}, or {@code null}
+	 * 						if it could not be created.
+	 * @throws IOException	When a cache file could not be created.
+	 */
+	static ImageInputStream createImageInputStream(InputStream is) throws IOException {
+		if (Configurations.USE_MEMORY_CACHE.getBoolean()) {
+			return new BoundedMemoryCacheImageInputStream(is, MAX_MEMORY_CACHE_SIZE);
+		}
+		return ImageIO.createImageInputStream(is);
+	}
+	
+	/**
+	 * Returns an {@link ImageOutputStream} which writes to the specified
+	 * {@link OutputStream}.
+	 *
+	 * @param os			The stream to write to.
+	 * @return				The {@link ImageOutputStream}, or {@code null}
+	 * 						if it could not be created.
+	 * @throws IOException	When a cache file could not be created.
+	 */
+	static ImageOutputStream createImageOutputStream(OutputStream os) throws IOException {
+		if (Configurations.USE_MEMORY_CACHE.getBoolean()) {
+			return new BoundedMemoryCacheImageOutputStream(os, MAX_MEMORY_CACHE_SIZE);
+		}
+		return ImageIO.createImageOutputStream(os);
+	}
+}
@@ -24,28 +24,30 @@
 
 package net.coobird.thumbnailator.tasks.io;
 
+import java.awt.Dimension;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.nio.ByteBuffer;
-import java.util.Arrays;
-import java.util.Iterator;
 import java.util.List;
 
-import javax.imageio.ImageIO;
 import javax.imageio.ImageReadParam;
 import javax.imageio.ImageReader;
 import javax.imageio.stream.ImageInputStream;
 
-import net.coobird.thumbnailator.ThumbnailParameter;
+import net.coobird.thumbnailator.filters.Canvas;
 import net.coobird.thumbnailator.filters.ImageFilter;
+import net.coobird.thumbnailator.filters.SwapDimensions;
+import net.coobird.thumbnailator.geometry.AbsoluteSize;
+import net.coobird.thumbnailator.geometry.Coordinate;
 import net.coobird.thumbnailator.geometry.Region;
 import net.coobird.thumbnailator.tasks.UnsupportedFormatException;
 import net.coobird.thumbnailator.util.Configurations;
 import net.coobird.thumbnailator.util.exif.ExifFilterUtils;
 import net.coobird.thumbnailator.util.exif.ExifUtils;
+import net.coobird.thumbnailator.util.exif.JpegSegments;
 import net.coobird.thumbnailator.util.exif.Orientation;
 
 /**
@@ -82,362 +84,44 @@ public class InputStreamImageSource extends AbstractImageSource<InputStream> {
 			throw new NullPointerException("InputStream cannot be null.");
 		}
 
-		if (!Configurations.DISABLE_EXIF_WORKAROUND.getBoolean()) {
-			this.is = new ExifCaptureInputStream(is);
-		} else {
-			this.is = is;
-		}
-	}
-
-	@Override
-	public void setThumbnailParameter(ThumbnailParameter param) {
-		super.setThumbnailParameter(param);
-
-		if (param == null || !param.useExifOrientation()) {
-			if (is instanceof ExifCaptureInputStream) {
-				// Revert to original `InputStream` and use that directly.
-				is = ((ExifCaptureInputStream)is).is;
-			}
-		}
+		this.is = is;
 	}
 
 	/**
-	 * An {@link InputStream} which intercepts the data stream to find Exif
-	 * data and captures it if present.
+	 * Instantiates an {@link InputStreamImageSource} without an
+	 * {@link InputStream}, for image sources which read the source image
+	 * through {@link #read(ImageInputStream)}.
 	 */
-	private static final class ExifCaptureInputStream extends InputStream {
-		/**
-		 * Original {@link InputStream} which reads from the image source.
-		 */
-		private final InputStream is;
-
-		// Following are states for this input stream.
-
-		/**
-		 * Flag to indicate data stream should be intercepted and collected.
-		 */
-		private boolean doIntercept = true;
-
-		/**
-		 * A threshold on how much data to be intercepted.
-		 * This is a safety mechanism to prevent buffering too much information.
-		 */
-		private static final int INTERCEPT_THRESHOLD = 1024 * 1024;
-
-		/**
-		 * Buffer to collect the input data to read JPEG images for JFIF marker segments.
-		 * This will also be used to store the Exif data, if found.
- 		 */
-		private byte[] buffer = new byte[0];
-
-		/**
-		 * Current position for reading the buffer.
-		 */
-		int position = 0;
-
-		/**
-		 * Total bytes intercepted from the data stream.
-		 */
-		int totalRead = 0;
-
-		/**
-		 * Number of remaining bytes to skip ahead in the buffer.
-		 * This value is positive when next location to skip to is outside the
-		 * buffer's current contents.
-		 */
-		int remainingSkip = 0;
-
-		/**
-		 * Marker for the beginning of the APP1 marker segment.
-		 * Its position is where the APP1 marker starts, not the payload.
-		 */
-		private int startApp1 = Integer.MIN_VALUE;
-
-		/**
-		 * Marker for the end of the APP1 marker segment.
-		 */
-		private int endApp1 = Integer.MAX_VALUE;
-
-		/**
-		 * A flag to indicate that we expect APP1 payload (which contains Exif
-		 * contents) is being streamed, so they should be captured into the
-		 * {@code buffer}.
-		 */
-		private boolean doCaptureApp1 = false;
-
-		/**
-		 * A flag to indicate that the {@code buffer} contains the complete
-		 * Exif information.
-		 */
-		private boolean hasCapturedExif = false;
-
-		/**
-		 * A flag to indicate whether to output debug logs.
-		 */
-		private final boolean isDebug = Configurations.DEBUG_LOG_EXIF_WORKAROUND.getBoolean()
-				|| Configurations.DEBUG_LOG.getBoolean();
-
-		/**
-		 * Returns Exif data captured from the JPEG image.
-		 * @return	Returns captured Exif data, or {@code null} if unavailable.
-		 */
-		private byte[] getExifData() {
-			return hasCapturedExif ? buffer : null;
-		}
-
-		// TODO Any performance penalties?
-		private ExifCaptureInputStream(InputStream is) {
-			this.is = is;
-		}
-
-		/**
-		 * Terminate intercept.
-		 * Drops the collected buffer to relieve pressure on memory.
-		 *
-		 * Do not call this when Exif was found, as buffer (containing Exif)
-		 * will be lost.
-		 */
-		private void terminateIntercept() {
-			doIntercept = false;
-			buffer = null;
-		}
-
-		/**
-		 * Debug message.
-		 */
-		private void debugln(String format, Object... args) {
-			if (isDebug) {
-				System.err.printf("[thumbnailator.exifWorkaround] " + format + "%n", args);
-			}
-		}
-
-		/**
-		 * Debug message, optimized to reduce calls on Arrays.toString.
-		 */
-		private void debugln(String format, byte[] array) {
-			if (isDebug) {
-				debugln(format, Arrays.toString(array));
-			}
-		}
-
-		@Override
-		public int read(byte[] b, int off, int len) throws IOException {
-			int bytesRead = is.read(b, off, len);
-			if (bytesRead == -1) {
-				return bytesRead;
-			}
-
-			if (!doIntercept) {
-				debugln("Skip intercept.");
-				return bytesRead;
-			}
-
-			if (off != 0) {
-				debugln("Offset: %s != 0; terminating intercept.", off);
-				terminateIntercept();
-				return bytesRead;
-			}
-
-			totalRead += bytesRead;
-			if (totalRead > INTERCEPT_THRESHOLD) {
-				debugln("Exceeded intercept threshold, terminating intercept. %s > %s", totalRead, INTERCEPT_THRESHOLD);
-				terminateIntercept();
-				return bytesRead;
-			}
-
-			debugln("Total read: %s", totalRead);
-			debugln("Bytes read: %s", bytesRead);
-
-			byte[] tmpBuffer = new byte[totalRead];
-			System.arraycopy(buffer, 0, tmpBuffer, 0, Math.min(tmpBuffer.length, buffer.length));
-			System.arraycopy(b, off, tmpBuffer, totalRead - bytesRead, bytesRead);
-			buffer = tmpBuffer;
-
-			debugln("Source: %s", b);
-			debugln("Buffer: %s", buffer);
-
-			while (position < totalRead && (totalRead - position) >= 2) {
-				debugln("Start loop, position: %s", position);
-
-				if (remainingSkip > 0) {
-					position += remainingSkip;
-					remainingSkip = 0;
-					debugln("Skip requested, new position: %s", position);
-					continue;
-				}
-
-				if (doCaptureApp1) {
-					// Check we can buffer up to "Exif" identifier.
-					if (startApp1 + 8 > position) {
-						debugln("APP1 shorter than expected, terminating intercept.");
-						terminateIntercept();
-						break;
-					}
-					byte[] header = new byte[4];
-					System.arraycopy(buffer, startApp1 + 4, header, 0, header.length);
-
-					if (new String(header).equals("Exif")) {
-						debugln("Found Exif!");
-						hasCapturedExif = true;
-						doIntercept = false;
-						byte[] exifData = new byte[endApp1 - (startApp1 + 4)];
-						System.arraycopy(buffer, startApp1 + 4, exifData, 0, exifData.length);
-						buffer = exifData;
-						break;
-					} else {
-						debugln("APP1 was not Exif.");
-						hasCapturedExif = false;
-						doIntercept = true;
-						doCaptureApp1 = false;
-					}
-				}
-
-				if (position == 0 && totalRead >= 2) {
-					// Check the first two bytes of stream to see if SOI exists.
-					// If SOI is not found, this is not a JPEG.
-					debugln("Check if JPEG. buffer: %s", buffer);
-					if (!(buffer[position] == (byte) 0xFF && buffer[position + 1] == (byte) 0xD8)) {
-						// Not SOI, so it's not a JPEG.
-						// We no longer need to keep intercepting.
-						debugln("JFIF SOI not found. Not JPEG.");
-						terminateIntercept();
-						break;
-					}
-
-					position += 2;
-					continue;
-				}
-
-				debugln("Prior to 2-byte section. position: %s, total read: %s", position, totalRead);
-				if (position + 2 <= totalRead) {
-					if (buffer[position] == (byte) 0xFF) {
-						if (buffer[position + 1] >= (byte) 0xD0 && buffer[position + 1] <= (byte) 0xD7) {
-							// RSTn - a 2-byte marker.
-							debugln("Found RSTn marker.");
-							position += 2;
-							continue;
-						} else if (buffer[position + 1] == (byte) 0xDA || buffer[position + 1] == (byte) 0xD9) {
-							// 0xDA -> SOS - Start of Scan
-							// 0xD9 -> EOI - End of Image
-							// In both cases, terminate the scan for Exif data.
-							debugln("Stop scan for Exif. Found: %s, %s", buffer[position], buffer[position + 1]);
-							terminateIntercept();
-							break;
-						}
-					}
-				}
-
-				debugln("Prior to 4-byte section. position: %s, total read: %s", position, totalRead);
-				if (position + 4 <= totalRead) {
-					try {
-						if (buffer[position] == (byte) 0xFF) {
-							if (buffer[position + 1] == (byte) 0xE1) {
-								// APP1
-								doCaptureApp1 = true;
-								startApp1 = position;
-
-								// payload + marker
-								int incrementBy = getPayloadLength(buffer[position + 2], buffer[position + 3]) + 4;
-								debugln("Prior to 2-byte section. position: %s, total read: %s", position, totalRead);
-
-								int newPosition = incrementBy + position;
-								endApp1 = newPosition;
-								debugln("Found APP1. position: %s, total read: %s, increment by: %s", position, totalRead, incrementBy);
-								debugln("Found APP1. start: %s, end: %s", startApp1, endApp1);
-								if (newPosition > totalRead) {
-									remainingSkip = newPosition - totalRead;
-									position = totalRead;
-									debugln("Skip request; remaining skip: %s", remainingSkip);
-								} else {
-									position = newPosition;
-									debugln("No skip needed; new position: %s", newPosition);
-								}
-								continue;
-
-							} else if (buffer[1] == (byte) 0xDD) {
-								// DRI (this is a 4-byte marker w/o payload.)
-								debugln("Found DRI.");
-								position += 4;
-								continue;
-							}
-
-							// Other markers like APP0, DQT don't need any special processing.
-
-							int incrementBy = getPayloadLength(buffer[position + 2], buffer[position + 3]) + 4;
-							int newPosition = incrementBy + position;
-							debugln("Other 4-byte. position: %s, total read: %s, increment by: %s", position, totalRead, incrementBy);
-							debugln("Other 4-byte. start: %s, end: %s", startApp1, endApp1);
-							if (newPosition > totalRead) {
-								remainingSkip = newPosition - totalRead;
-								position = totalRead;
-								debugln("Skip request; remaining skip: %s", remainingSkip);
-							} else {
-								position = newPosition;
-								debugln("No skip needed; new position: %s", newPosition);
-							}
-							continue;
-						}
-					} catch (Exception e) {
-						// Immediately drop everything, as we can't recover.
-						// TODO Record what went wrong.
-						debugln("[Exception] Exception thrown. Terminating intercept.");
-						debugln("[Exception] %s", e.toString());
-						for (StackTraceElement el : e.getStackTrace()) {
-							debugln("[Exception] %s", el.toString());
-						}
-						terminateIntercept();
-						break;
-					}
-				}
-
-				if (totalRead <= 6) {
-					// SOI (2 bytes) + marker+length (4 bytes) == 6 bytes
-					// If we didn't find a 2-byte (standalone) marker, then
-					// we'll need to wait around to get enough one for 4-byte.
-					debugln("Not enough data read. Attempt one additional read.");
-					break;
-				}
-
-				terminateIntercept();
-				debugln("Shouldn't be here. Terminating intercept.");
-				break;
-			}
-
-			return bytesRead;
-		}
-
-		@Override
-		public int read() throws IOException {
-			return is.read();
-		}
-
-		/**
-		 * Returns the payload length from the marker header.
-		 * @param a			First byte of payload length.
-		 * @param b			Second byte of payload length.
-		 * @return			Length as an integer.
-		 */
-		private static int getPayloadLength(byte a, byte b) {
-			int length = ByteBuffer.wrap(new byte[] {a, b}).getShort() - 2;
-			if (length <= 0) {
-				throw new IllegalStateException(
-						"Expected a positive payload length, but was " + length
-				);
-			}
-
-			return length;
-		}
+	InputStreamImageSource() {
+		super();
 	}
 
 	public BufferedImage read() throws IOException {
-		ImageInputStream iis = ImageIO.createImageInputStream(is);
+		ImageInputStream iis = ImageStreams.createImageInputStream(is);
 		
 		if (iis == null) {
 			throw new IOException("Could not open InputStream.");
 		}
 		
-		Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
-		if (!readers.hasNext()) {
+		return read(iis);
+	}
+
+	/**
+	 * Reads the source image from the specified {@link ImageInputStream},
+	 * rather than from the {@link InputStream} of this image source.
+	 * <p>
+	 * This allows other image sources to read the source image through an
+	 * {@link ImageInputStream} which is better suited than the one which
+	 * would be created from the {@link InputStream}.
+	 * The {@link ImageInputStream} is closed once the image is read.
+	 *
+	 * @param iis			The stream from which the source image is read.
+	 * @return				The source image.
+	 * @throws IOException	When an error occurs during reading.
+	 */
+	BufferedImage read(ImageInputStream iis) throws IOException {
+		ImageReader reader = ImageCodecs.getReader(iis);
+		if (reader == null) {
 			iis.close();
 			throw new UnsupportedFormatException(
 					UnsupportedFormatException.UNKNOWN,
@@ -445,12 +129,38 @@ public class InputStreamImageSource extends AbstractImageSource<InputStream> {
 			);
 		}
 		
-		ImageReader reader = readers.next();
+		/*
+		 * Workaround for Issue #108:
+		 * https://github.com/coobird/thumbnailator/issues/108
+		 *
+		 * The Exif data is found by scanning the marker segments, rather than
+		 * by relying on the metadata of the reader, which can't be obtained
+		 * for JPEG images which don't have JFIF APP0 as the first marker
+		 * segment. This is also cheaper than building the metadata tree.
+		 */
+		JpegSegments segments = null;
+		if (!Configurations.DISABLE_EXIF_WORKAROUND.getBoolean() &&
+				param != null &&
+				(param.useExifOrientation() || param.useEmbeddedThumbnail())
+		) {
+			iis.mark();
+			try {
+				segments = JpegSegments.scan(iis);
+			} catch (Exception e) {
+				debugln("Could not scan marker segments: %s", e);
+			} finally {
+				iis.reset();
+			}
+			debugln("Marker segments: %s", segments == null ? null : segments.getSegments());
+		}
+
 		reader.setInput(iis);
 
 		boolean isExceptionThrown = false;
+		boolean isCompleted = false;
 		try {
-			BufferedImage img = readImage(reader);
+			BufferedImage img = readImage(reader, iis, segments);
+			isCompleted = true;
 			return finishedReading(img);
 
 		} catch (IOException e) {
@@ -459,16 +169,16 @@ public class InputStreamImageSource extends AbstractImageSource<InputStream> {
 
 		} finally {
 			/*
-			 * Dispose the reader to free resources.
+			 * Reset the reader for reuse, or dispose it, to free resources.
 			 *
-			 * This seems to be one of the culprits which was causing
+			 * Not doing so seems to be one of the culprits which was causing
 			 * `OutOfMemoryError`s which began appearing frequently with
 			 * Java 7 Update 21.
 			 *
 			 * Issue:
 			 * https://github.com/coobird/thumbnailator/issues/42
 			 */
-			reader.dispose();
+			ImageCodecs.release(reader, isCompleted);
 
 			try {
 				iis.close();
@@ -483,27 +193,57 @@ public class InputStreamImageSource extends AbstractImageSource<InputStream> {
 		}
 	}
 
-	private BufferedImage readImage(ImageReader reader) throws IOException {
-		Orientation orientation = null;
+	/**
+	 * Returns the Exif data of the source image.
+	 *
+	 * @param reader		The reader of the source image.
+	 * @param iis			The stream from which the source image is read.
+	 * @param segments		The marker segments of the source image, or
+	 * 						{@code null} if they weren't scanned.
+	 * @return				The Exif data, or {@code null} if not found.
+	 * @throws IOException	When an error occurs during reading.
+	 */
+	private byte[] getExifData(
+			ImageReader reader,
+			ImageInputStream iis,
+			JpegSegments segments
+	) throws IOException {
+		if (segments == null) {
+			// Not scanned, or not a JPEG image.
+			return ExifUtils.getExifData(reader, FIRST_IMAGE_INDEX);
+		}
+
+		JpegSegments.Segment exif = segments.getFirst(JpegSegments.SegmentType.EXIF);
+		if (exif == null) {
+			return null;
+		}
+
+		iis.mark();
 		try {
-			if (param.useExifOrientation()) {
+			return JpegSegments.readPayload(iis, exif);
+		} finally {
+			iis.reset();
+		}
+	}
 
-				// Attempt to use Exif reader of the ImageReader.
-				// If the ImageReader fails like seen in Issue #108, use the
-				// backup method of using the captured Exif data.
-				boolean useExifFromRawData = false;
-				try {
-					orientation = ExifUtils.getExifOrientation(reader, FIRST_IMAGE_INDEX);
-				} catch (Exception e) {
-					// TODO Would be useful to capture why it didn't work.
-					useExifFromRawData = true;
-				}
+	private BufferedImage readImage(
+			ImageReader reader,
+			ImageInputStream iis,
+			JpegSegments segments
+	) throws IOException {
+		// Looked up before the Exif orientation filter is added.
+		Canvas crop = getCrop();
 
-				if (useExifFromRawData && is instanceof ExifCaptureInputStream) {
-					byte[] exifData = ((ExifCaptureInputStream)is).getExifData();
-					if (exifData != null) {
-						orientation = ExifUtils.getOrientationFromExif(exifData);
-					}
+		byte[] exifData = null;
+		Orientation orientation = null;
+		try {
+			if (param.useExifOrientation() || param.useEmbeddedThumbnail()) {
+				exifData = getExifData(reader, iis, segments);
+			}
+
+			if (param.useExifOrientation()) {
+				if (exifData != null) {
+					orientation = ExifUtils.getOrientationFromExif(exifData);
 				}
 
 				// Skip this code block if there's no rotation needed.
@@ -528,11 +268,56 @@ public class InputStreamImageSource extends AbstractImageSource<InputStream> {
 		int width = reader.getWidth(FIRST_IMAGE_INDEX);
 		int height = reader.getHeight(FIRST_IMAGE_INDEX);
 
+		if (param != null && param.useEmbeddedThumbnail() && param.getSourceRegion() == null) {
+			BufferedImage img = readEmbeddedThumbnail(exifData, width, height, orientation);
+			if (img != null) {
+				if (img.getWidth() != width || img.getHeight() != height) {
+					originalSize = new Dimension(width, height);
+				}
+				return img;
+			}
+		}
+
+		Rectangle sourceRegion = new Rectangle(0, 0, width, height);
 		if (param != null && param.getSourceRegion() != null) {
 			Region region = param.getSourceRegion();
-			irParam.setSourceRegion(
-					calculateSourceRegion(width, height, orientation, region)
+			Rectangle calculatedRegion =
+					calculateSourceRegion(width, height, orientation, region);
+			irParam.setSourceRegion(calculatedRegion);
+			sourceRegion = sourceRegion.intersection(calculatedRegion);
+		}
+
+		/*
+		 * Only decode the part of the source image which will be kept once
+		 * the thumbnail is cropped.
+		 */
+		if (crop != null && !sourceRegion.isEmpty()) {
+			Rectangle cropRegion = calculateCropRegion(
+					sourceRegion.width, sourceRegion.height, orientation, crop
 			);
+			cropRegion.translate(sourceRegion.x, sourceRegion.y);
+			irParam.setSourceRegion(cropRegion);
+			sourceRegion = cropRegion;
+		}
+
+		if (param != null && param.getDecodeSubsampling() == DecodeSubsampling.AUTO) {
+			int subsampling = calculateDecodeSubsampling(
+					sourceRegion.width, sourceRegion.height, orientation
+			);
+			if (subsampling > 1) {
+				irParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+			}
+
+			BufferedImage img = reader.read(FIRST_IMAGE_INDEX, irParam);
+
+			/*
+			 * Comparing the actual size rather than relying on the
+			 * subsampling, in case the reader ignored it.
+			 */
+			if (img.getWidth() != sourceRegion.width || img.getHeight() != sourceRegion.height) {
+				originalSize = new Dimension(sourceRegion.width, sourceRegion.height);
+			}
+			return img;
 		}
 
 		/*
@@ -593,6 +378,215 @@ public class InputStreamImageSource extends AbstractImageSource<InputStream> {
 		return reader.read(FIRST_IMAGE_INDEX, irParam);
 	}
 
+	/**
+	 * Calculates the subsampling to use to decode the source image, from
+	 * the size of the thumbnail to create.
+	 * <p>
+	 * Unlike the memory conservation workaround, this does not depend on
+	 * the amount of free memory, and does not change the parameter, as
+	 * scaling factors are corrected from {@link #getOriginalSize()}.
+	 *
+	 * @param width			Width of the source image or region to decode.
+	 * @param height		Height of the source image or region to decode.
+	 * @param orientation	Exif orientation, or {@code null}.
+	 * @return				The subsampling to use.
+	 */
+	private int calculateDecodeSubsampling(int width, int height, Orientation orientation) {
+		double scale = calculateScale(width, height, orientation);
+		return DecodeSubsampling.computeSubsampling(width, height, scale);
+	}
+
+	/**
+	 * Calculates the scale from the source image to the thumbnail, along
+	 * the axis which is scaled the least when the aspect ratio is not kept.
+	 *
+	 * @param width			Width of the source image or region to decode.
+	 * @param height		Height of the source image or region to decode.
+	 * @param orientation	Exif orientation, or {@code null}.
+	 * @return				The scale.
+	 */
+	private double calculateScale(int width, int height, Orientation orientation) {
+		double scale;
+		if (param.getSize() != null) {
+			// Thumbnail size is for the image after applying the orientation.
+			boolean swapDimensions = orientation == Orientation.LEFT_TOP ||
+					orientation == Orientation.RIGHT_TOP ||
+					orientation == Orientation.RIGHT_BOTTOM ||
+					orientation == Orientation.LEFT_BOTTOM;
+			Dimension size = param.getSize();
+			int targetWidth = !swapDimensions ? size.width : size.height;
+			int targetHeight = !swapDimensions ? size.height : size.width;
+
+			double widthScaling = (double)targetWidth / (double)width;
+			double heightScaling = (double)targetHeight / (double)height;
+
+			// Handle cases where .width() or .height() is called.
+			widthScaling = targetWidth != Integer.MAX_VALUE ? widthScaling : heightScaling;
+			heightScaling = targetHeight != Integer.MAX_VALUE ? heightScaling : widthScaling;
+
+			if (param.isKeepAspectRatio() && param.fitWithinDimenions()) {
+				scale = Math.min(widthScaling, heightScaling);
+			} else {
+				scale = Math.max(widthScaling, heightScaling);
+			}
+
+		} else {
+			scale = Math.max(param.getWidthScalingFactor(), param.getHeightScalingFactor());
+		}
+
+		return scale;
+	}
+
+	/**
+	 * Reads the thumbnail embedded in the Exif metadata of the source image,
+	 * if it is at least as large as the thumbnail to create, and has the
+	 * same aspect ratio as the source image.
+	 *
+	 * @param exifData		The Exif data of the source image, or
+	 * 						{@code null}.
+	 * @param width			Width of the source image.
+	 * @param height		Height of the source image.
+	 * @param orientation	Exif orientation, or {@code null}.
+	 * @return				The embedded thumbnail, or {@code null} if it
+	 * 						can't be used.
+	 */
+	private BufferedImage readEmbeddedThumbnail(
+			byte[] exifData,
+			int width,
+			int height,
+			Orientation orientation
+	) {
+		if (exifData == null) {
+			return null;
+		}
+
+		byte[] thumbnailData = ExifUtils.getThumbnailFromExif(exifData);
+		if (thumbnailData == null) {
+			return null;
+		}
+
+		ImageInputStream iis = new ByteBufferImageInputStream(ByteBuffer.wrap(thumbnailData));
+		ImageReader reader = null;
+		boolean isReusable = false;
+		try {
+			reader = ImageCodecs.getReader(iis);
+			if (reader == null) {
+				return null;
+			}
+			reader.setInput(iis, true, true);
+
+			/*
+			 * The dimensions are checked from the headers, so that
+			 * thumbnails which can't be used are not decoded.
+			 */
+			int thumbnailWidth = reader.getWidth(FIRST_IMAGE_INDEX);
+			int thumbnailHeight = reader.getHeight(FIRST_IMAGE_INDEX);
+
+			/*
+			 * Embedded thumbnails are sometimes letterboxed to a fixed
+			 * aspect ratio, in which case they can't stand for the source
+			 * image.
+			 */
+			int expectedHeight = (int)Math.round(thumbnailWidth * (double)height / (double)width);
+			if (Math.abs(expectedHeight - thumbnailHeight) > 1) {
+				isReusable = true;
+				return null;
+			}
+
+			double scale = calculateScale(width, height, orientation);
+			if (thumbnailWidth < Math.round(width * scale) ||
+					thumbnailHeight < Math.round(height * scale)) {
+				isReusable = true;
+				return null;
+			}
+
+			BufferedImage img = reader.read(FIRST_IMAGE_INDEX);
+			isReusable = true;
+			return img;
+
+		} catch (IOException e) {
+			// A broken embedded thumbnail is not a reason to fail.
+			return null;
+
+		} finally {
+			if (reader != null) {
+				ImageCodecs.release(reader, isReusable);
+			}
+		}
+	}
+
+	/**
+	 * Returns the {@link Canvas} added by
+	 * {@link net.coobird.thumbnailator.Thumbnails.Builder#crop(net.coobird.thumbnailator.geometry.Position)}
+	 * if the part of the source image it keeps can be decoded alone.
+	 * <p>
+	 * This is the case when it is the first filter, and the thumbnail is
+	 * resized to cover its dimensions.
+	 *
+	 * @return				The {@link Canvas} which crops the thumbnail, or
+	 * 						{@code null} if there is none.
+	 */
+	private Canvas getCrop() {
+		if (param == null ||
+				param.getSize() == null ||
+				!param.isKeepAspectRatio() ||
+				param.fitWithinDimenions()
+		) {
+			return null;
+		}
+
+		List<ImageFilter> filters = param.getImageFilters();
+		if (filters.isEmpty() || !(filters.get(0) instanceof Canvas)) {
+			return null;
+		}
+		for (ImageFilter filter : filters) {
+			if (filter instanceof SwapDimensions) {
+				return null;
+			}
+		}
+
+		Canvas canvas = (Canvas)filters.get(0);
+		Dimension size = param.getSize();
+		if (!canvas.isCrop() ||
+				canvas.getFillColor() != null ||
+				canvas.getWidth() != size.width ||
+				canvas.getHeight() != size.height
+		) {
+			return null;
+		}
+
+		return canvas;
+	}
+
+	/**
+	 * Calculates the part of the source image which is kept by the
+	 * specified {@link Canvas}, once resized to cover it.
+	 *
+	 * @param width			Width of the source image or region to decode.
+	 * @param height		Height of the source image or region to decode.
+	 * @param orientation	Exif orientation, or {@code null}.
+	 * @param crop			The {@link Canvas} which crops the thumbnail.
+	 * @return				The region to decode, relative to the source
+	 * 						image or region.
+	 */
+	private Rectangle calculateCropRegion(int width, int height, Orientation orientation, Canvas crop) {
+		// Canvas is applied to the thumbnail after applying the orientation.
+		boolean swapDimensions = orientation == Orientation.LEFT_TOP ||
+				orientation == Orientation.RIGHT_TOP ||
+				orientation == Orientation.RIGHT_BOTTOM ||
+				orientation == Orientation.LEFT_BOTTOM;
+		int orientedWidth = !swapDimensions ? width : height;
+		int orientedHeight = !swapDimensions ? height : width;
+
+		Rectangle cropRegion = crop.calculateCropRegion(orientedWidth, orientedHeight);
+
+		Region region = new Region(
+				new Coordinate(cropRegion.x, cropRegion.y),
+				new AbsoluteSize(cropRegion.width, cropRegion.height)
+		);
+		return calculateSourceRegion(width, height, orientation, region);
+	}
+
 	private Rectangle calculateSourceRegion(int width, int height, Orientation orientation, Region region) {
 		boolean flipHorizontal = false;
 		boolean flipVertical = false;
@@ -639,6 +633,16 @@ public class InputStreamImageSource extends AbstractImageSource<InputStream> {
 		);
 	}
 
+	/**
+	 * Debug message for the Exif workaround.
+	 */
+	private static void debugln(String format, Object... args) {
+		if (Configurations.DEBUG_LOG_EXIF_WORKAROUND.getBoolean()
+				|| Configurations.DEBUG_LOG.getBoolean()) {
+			System.err.printf("[thumbnailator.exifWorkaround] " + format + "%n", args);
+		}
+	}
+
 	public InputStream getSource() {
 		return is;
 	}
@@ -27,11 +27,11 @@ package net.coobird.thumbnailator.tasks.io;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import javax.imageio.IIOImage;
-import javax.imageio.ImageIO;
 import javax.imageio.ImageWriteParam;
 import javax.imageio.ImageWriter;
 import javax.imageio.stream.ImageOutputStream;
@@ -55,6 +55,12 @@ public class OutputStreamImageSink extends AbstractImageSink<OutputStream> {
 	 */
 	private final OutputStream os;
 	
+	/**
+	 * The {@link ImageOutputStream} to which the thumbnail image is to be
+	 * written to, if it was specified rather than an {@link OutputStream}.
+	 */
+	private final ImageOutputStream ios;
+	
 	/**
 	 * Instantiates an {@link OutputStreamImageSink} with the
 	 * {@link OutputStream} to which the thumbnail should be written to.
@@ -71,6 +77,30 @@ public class OutputStreamImageSink extends AbstractImageSink<OutputStream> {
 		}
 		
 		this.os = os;
+		this.ios = null;
+	}
+	
+	/**
+	 * Instantiates an {@link OutputStreamImageSink} which writes the
+	 * thumbnail to the specified {@link ImageOutputStream}, for image sinks
+	 * which don't write to an {@link OutputStream}.
+	 * <p>
+	 * The {@link ImageOutputStream} is closed once the thumbnail is written.
+	 * 
+	 * @param ios		The {@link ImageOutputStream} to write the thumbnail
+	 * 					to.
+	 * @throws NullPointerException		If the {@link ImageOutputStream} is
+	 * 									{@code null}.
+	 */
+	OutputStreamImageSink(ImageOutputStream ios) {
+		super();
+		
+		if (ios == null) {
+			throw new NullPointerException("ImageOutputStream cannot be null.");
+		}
+		
+		this.os = null;
+		this.ios = ios;
 	}
 
 	/**
@@ -98,17 +128,36 @@ public class OutputStreamImageSink extends AbstractImageSink<OutputStream> {
 		
 		String formatName = outputFormat;
 			
-		Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(formatName);
+		ImageWriter writer = ImageCodecs.getWriter(formatName);
 		
-		if (!writers.hasNext()) {
+		if (writer == null) {
 			throw new UnsupportedFormatException(
 					formatName,
 					"No suitable ImageWriter found for " + formatName + "."
 			);
 		}
 		
-		ImageWriter writer = writers.next();
-		
+		boolean isCompleted = false;
+		try {
+			write(img, formatName, writer);
+			isCompleted = true;
+			
+		} finally {
+			/*
+			 * Reset the writer for reuse, or dispose it, to free resources.
+			 * 
+			 * Not doing so seems to be the main culprit of
+			 * `OutOfMemoryError`s which started to frequently appear with
+			 * Java 7 Update 21.
+			 * 
+			 * Issue:
+			 * https://github.com/coobird/thumbnailator/issues/42
+			 */
+			ImageCodecs.release(writer, isCompleted);
+		}
+	}
+	
+	private void write(BufferedImage img, String formatName, ImageWriter writer) throws IOException {
 		ImageWriteParam writeParam = writer.getDefaultWriteParam();
 		if (writeParam.canWriteCompressed()) {
 			/*
@@ -123,8 +172,7 @@ public class OutputStreamImageSink extends AbstractImageSink<OutputStream> {
 				compressionType = param.getOutputFormatType();
 
 			} else {
-				List<String> supportedFormats =
-						ThumbnailatorUtils.getSupportedOutputFormatTypes(formatName);
+				List<String> supportedFormats = getCompressionTypes(writeParam);
 
 				if (!supportedFormats.isEmpty()) {
 					compressionType = supportedFormats.get(0);
@@ -185,7 +233,9 @@ public class OutputStreamImageSink extends AbstractImageSink<OutputStream> {
 		 * Related issue:
 		 * https://github.com/coobird/thumbnailator/issues/37
 		 */
-		ImageOutputStream ios = ImageIO.createImageOutputStream(os);
+		ImageOutputStream ios = (this.ios != null)
+				? this.ios
+				: ImageStreams.createImageOutputStream(os);
 		
 		if (ios == null) {
 			throw new IOException("Could not open OutputStream.");
@@ -209,28 +259,48 @@ public class OutputStreamImageSink extends AbstractImageSink<OutputStream> {
 		 * 
 		 * Also, the BMP writer appears not to support ARGB, so an RGB image
 		 * will be produced before saving.
+		 * 
+		 * Thumbnailator makes such thumbnails as TYPE_INT_RGB in the first
+		 * place, in which case they are written as is.
 		 */
-		if (isJpegOrBmp(formatName)) {
-			img = BufferedImages.copy(img, BufferedImage.TYPE_INT_RGB);
+		if (ThumbnailatorUtils.isOpaqueOutputFormat(formatName)
+				&& img.getType() != BufferedImage.TYPE_INT_RGB) {
+			img = BufferedImages.copy(
+					img,
+					BufferedImage.TYPE_INT_RGB,
+					param != null ? param.getParallelExecutor() : null
+			);
 		}
 		
 		writer.setOutput(ios);
 		writer.write(null, new IIOImage(img, null, null), writeParam);
 		
-		/*
-		 * Dispose the writer to free resources.
-		 * 
-		 * This seems to be the main culprit of `OutOfMemoryError`s which
-		 * started to frequently appear with Java 7 Update 21.
-		 * 
-		 * Issue:
-		 * https://github.com/coobird/thumbnailator/issues/42
-		 */
-		writer.dispose();
-		
 		ios.close();
 	}
 
+	/**
+	 * Returns the compression types supported by a writer, as
+	 * {@link ThumbnailatorUtils#getSupportedOutputFormatTypes(String)} would
+	 * for its format, without looking up the writer again.
+	 *
+	 * @param writeParam	The default parameters of the writer.
+	 * @return				The supported compression types.
+	 */
+	private static List<String> getCompressionTypes(ImageWriteParam writeParam) {
+		String[] types;
+		try {
+			types = writeParam.getCompressionTypes();
+		} catch (UnsupportedOperationException e) {
+			return Collections.emptyList();
+		}
+
+		if (types == null) {
+			return Collections.emptyList();
+		} else {
+			return Arrays.asList(types);
+		}
+	}
+
 	/**
 	 * Sets the compression mode to explicit, if not already.
 	 * A check exists to prevent setting the explicit mode more than once,
@@ -244,12 +314,6 @@ public class OutputStreamImageSink extends AbstractImageSink<OutputStream> {
 		}
 	}
 
-	private boolean isJpegOrBmp(String formatName) {
-		return formatName.equalsIgnoreCase("jpg")
-				|| formatName.equalsIgnoreCase("jpeg")
-				|| formatName.equalsIgnoreCase("bmp");
-	}
-
 	private boolean isPng(String formatName) {
 		return formatName.equalsIgnoreCase("png");
 	}
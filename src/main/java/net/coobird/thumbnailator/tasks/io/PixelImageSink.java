@@ -0,0 +1,49 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2020 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * An {@link ImageSink} which stores the pixels of the thumbnail as they
+ * are, rather than encoding them into an image format.
+ * <p>
+ * As such sinks ignore the output format, it is not considered when
+ * choosing the image type of the thumbnail.
+ * 
+ * @param <T> 		The destination class to which the thumbnail is stored.
+ * @author coobird
+ * @since	0.4.21
+ */
+public interface PixelImageSink<T> extends ImageSink<T> {
+	/**
+	 * Returns an image into which the thumbnail can be resized directly,
+	 * so that writing it to this sink does not require copying it.
+	 * 
+	 * @return			The image to resize into, or {@code null} if this
+	 * 					sink does not provide one.
+	 */
+	public BufferedImage getDestinationImage();
+}
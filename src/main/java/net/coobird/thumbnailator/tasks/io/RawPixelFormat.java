@@ -0,0 +1,261 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.awt.Point;
+import java.awt.Transparency;
+import java.awt.color.ColorSpace;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.ComponentColorModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.PixelInterleavedSampleModel;
+import java.awt.image.Raster;
+import java.awt.image.SampleModel;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+
+/**
+ * The layouts of the raw pixels held in arrays by
+ * {@link RawPixelImageSource}s and {@link RawPixelImageSink}s.
+ * <p>
+ * Formats whose names start with {@code INT_} hold one pixel per
+ * {@code int}, with its components packed from the most significant byte
+ * to the least significant one in the order of the name.
+ * Formats whose names start with {@code BYTE_} hold one component per
+ * {@code byte}, in the order of the name.
+ * 
+ * @author coobird
+ * @since	0.4.21
+ */
+public enum RawPixelFormat {
+	/**
+	 * Pixels packed into {@code int}s as {@code 0xAARRGGBB}.
+	 */
+	INT_ARGB(0x00FF0000, 0x0000FF00, 0x000000FF, 0xFF000000),
+	
+	/**
+	 * Pixels packed into {@code int}s as {@code 0x..RRGGBB}, the most
+	 * significant byte being ignored.
+	 */
+	INT_RGB(0x00FF0000, 0x0000FF00, 0x000000FF, 0),
+	
+	/**
+	 * Pixels packed into {@code int}s as {@code 0xRRGGBBAA}.
+	 */
+	INT_RGBA(0xFF000000, 0x00FF0000, 0x0000FF00, 0x000000FF),
+	
+	/**
+	 * Pixels packed into {@code int}s as {@code 0xAABBGGRR}.
+	 */
+	INT_ABGR(0x000000FF, 0x0000FF00, 0x00FF0000, 0xFF000000),
+	
+	/**
+	 * Pixels packed into {@code int}s as {@code 0x..BBGGRR}, the most
+	 * significant byte being ignored.
+	 */
+	INT_BGR(0x000000FF, 0x0000FF00, 0x00FF0000, 0),
+	
+	/**
+	 * Three {@code byte}s per pixel, in red, green, blue order.
+	 */
+	BYTE_RGB(new int[] {0, 1, 2}),
+	
+	/**
+	 * Three {@code byte}s per pixel, in blue, green, red order.
+	 */
+	BYTE_BGR(new int[] {2, 1, 0}),
+	
+	/**
+	 * Four {@code byte}s per pixel, in red, green, blue, alpha order.
+	 */
+	BYTE_RGBA(new int[] {0, 1, 2, 3}),
+	
+	/**
+	 * Four {@code byte}s per pixel, in alpha, red, green, blue order.
+	 */
+	BYTE_ARGB(new int[] {1, 2, 3, 0}),
+	
+	/**
+	 * Four {@code byte}s per pixel, in blue, green, red, alpha order.
+	 */
+	BYTE_BGRA(new int[] {2, 1, 0, 3}),
+	
+	/**
+	 * Four {@code byte}s per pixel, in alpha, blue, green, red order.
+	 */
+	BYTE_ABGR(new int[] {3, 2, 1, 0}),
+	
+	/**
+	 * One {@code byte} per pixel, holding a gray level.
+	 */
+	BYTE_GRAY(new int[] {0}),
+	;
+	
+	/**
+	 * For {@code INT_} formats, the red, green, blue and alpha masks, the
+	 * alpha mask being zero if there is no alpha.
+	 */
+	private final int[] masks;
+	
+	/**
+	 * For {@code BYTE_} formats, the offsets of the red, green, blue and
+	 * alpha components, or of the gray component, within a pixel.
+	 */
+	private final int[] bandOffsets;
+	
+	private RawPixelFormat(int redMask, int greenMask, int blueMask, int alphaMask) {
+		this.masks = new int[] {redMask, greenMask, blueMask, alphaMask};
+		this.bandOffsets = null;
+	}
+	
+	private RawPixelFormat(int[] bandOffsets) {
+		this.masks = null;
+		this.bandOffsets = bandOffsets;
+	}
+	
+	/**
+	 * Returns whether the pixels of this format are held in {@code int}
+	 * arrays, rather than {@code byte} arrays.
+	 * 
+	 * @return		{@code true} if the pixels are held in {@code int}
+	 * 				arrays.
+	 */
+	public boolean isPacked() {
+		return masks != null;
+	}
+	
+	/**
+	 * Returns whether this format has an alpha component.
+	 * 
+	 * @return		{@code true} if this format has an alpha component.
+	 */
+	public boolean hasAlpha() {
+		return isPacked() ? masks[3] != 0 : bandOffsets.length == 4;
+	}
+	
+	/**
+	 * Returns the number of array elements used by each pixel.
+	 * 
+	 * @return		The number of array elements per pixel.
+	 */
+	public int getPixelStride() {
+		return isPacked() ? 1 : bandOffsets.length;
+	}
+	
+	/**
+	 * Returns an image whose pixels are held in the specified array,
+	 * without copying them.
+	 * 
+	 * @param pixels			The array holding the pixels, which is an
+	 * 							{@code int[]} or a {@code byte[]} depending
+	 * 							on this format.
+	 * @param offset			The index of the first element of the first
+	 * 							pixel.
+	 * @param scanlineStride	The number of elements from the start of a
+	 * 							row of pixels to the start of the next one.
+	 * @param width				The width of the image.
+	 * @param height			The height of the image.
+	 * @return					An image backed by the array.
+	 * @throws NullPointerException		If the array is {@code null}.
+	 * @throws IllegalArgumentException	If the array is not of the type
+	 * 									used by this format, or is too
+	 * 									small, or if the other arguments
+	 * 									are not valid.
+	 */
+	BufferedImage wrap(Object pixels, int offset, int scanlineStride, int width, int height) {
+		if (pixels == null) {
+			throw new NullPointerException("Pixel array cannot be null.");
+		}
+		if (isPacked() ? !(pixels instanceof int[]) : !(pixels instanceof byte[])) {
+			throw new IllegalArgumentException(
+					this + " requires a " + (isPacked() ? "int[]" : "byte[]") + "."
+			);
+		}
+		if (width <= 0 || height <= 0) {
+			throw new IllegalArgumentException(
+					"Width and height must be greater than zero."
+			);
+		}
+		
+		int pixelStride = getPixelStride();
+		if (offset < 0 || scanlineStride < width * pixelStride) {
+			throw new IllegalArgumentException(
+					"Invalid offset or scanline stride: " + offset + ", " + scanlineStride
+			);
+		}
+		
+		int length = isPacked() ? ((int[])pixels).length : ((byte[])pixels).length;
+		long end = offset + (long)(height - 1) * scanlineStride + (long)width * pixelStride;
+		if (end > length) {
+			throw new IllegalArgumentException(
+					"Pixel array is too small: " + length + " < " + end
+			);
+		}
+		
+		DataBuffer dataBuffer;
+		SampleModel sampleModel;
+		ColorModel colorModel;
+		if (isPacked()) {
+			dataBuffer = new DataBufferInt((int[])pixels, length - offset, offset);
+			
+			int[] bitMasks = hasAlpha() ? masks : new int[] {masks[0], masks[1], masks[2]};
+			sampleModel = new SinglePixelPackedSampleModel(
+					DataBuffer.TYPE_INT, width, height, scanlineStride, bitMasks
+			);
+			colorModel = hasAlpha()
+					? new DirectColorModel(32, masks[0], masks[1], masks[2], masks[3])
+					: new DirectColorModel(24, masks[0], masks[1], masks[2]);
+			
+		} else {
+			dataBuffer = new DataBufferByte((byte[])pixels, length);
+			
+			int[] offsets = new int[bandOffsets.length];
+			for (int i = 0; i < offsets.length; i++) {
+				offsets[i] = offset + bandOffsets[i];
+			}
+			sampleModel = new PixelInterleavedSampleModel(
+					DataBuffer.TYPE_BYTE, width, height,
+					pixelStride, scanlineStride, offsets
+			);
+			ColorSpace colorSpace = ColorSpace.getInstance(
+					bandOffsets.length == 1 ? ColorSpace.CS_GRAY : ColorSpace.CS_sRGB
+			);
+			colorModel = new ComponentColorModel(
+					colorSpace, hasAlpha(), false,
+					hasAlpha() ? Transparency.TRANSLUCENT : Transparency.OPAQUE,
+					DataBuffer.TYPE_BYTE
+			);
+		}
+		
+		WritableRaster raster = Raster.createWritableRaster(
+				sampleModel, dataBuffer, new Point(0, 0)
+		);
+		return new BufferedImage(colorModel, raster, false, null);
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+/**
+ * An {@link ImageSink} which stores the resulting thumbnail into pixels
+ * held in an {@code int} or {@code byte} array provided by the caller.
+ * <p>
+ * The thumbnail must have the dimensions given to the constructor.
+ * When used through {@link net.coobird.thumbnailator.tasks.SourceSinkThumbnailTask},
+ * thumbnails which do not need further processing after being resized
+ * are resized directly into the array, through the image returned by
+ * {@link PixelImageSink#getDestinationImage()}, without being copied
+ * afterwards.
+ * 
+ * @author coobird
+ * @since	0.4.21
+ */
+public class RawPixelImageSink extends AbstractImageSink<Object> implements PixelImageSink<Object> {
+	/**
+	 * The array holding the pixels.
+	 */
+	private final Object pixels;
+	
+	/**
+	 * The image backed by the array.
+	 */
+	private final BufferedImage img;
+	
+	/**
+	 * Indicates whether the thumbnail has been written to this object.
+	 */
+	private boolean written = false;
+	
+	/**
+	 * Instantiates a {@link RawPixelImageSink} storing pixels packed in an
+	 * {@code int} array, row after row, without padding.
+	 * 
+	 * @param pixels	The array to hold the pixels.
+	 * @param width		The width of the thumbnail.
+	 * @param height	The height of the thumbnail.
+	 * @param format	The layout of the pixels, which must be one of the
+	 * 					{@code INT_} formats.
+	 * @throws NullPointerException		If the array or the format is
+	 * 									{@code null}.
+	 * @throws IllegalArgumentException	If the format is not an
+	 * 									{@code INT_} format, if the array is
+	 * 									too small, or if the dimensions are
+	 * 									not valid.
+	 */
+	public RawPixelImageSink(int[] pixels, int width, int height, RawPixelFormat format) {
+		this(pixels, 0, width, width, height, format);
+	}
+	
+	/**
+	 * Instantiates a {@link RawPixelImageSink} storing pixels packed in an
+	 * {@code int} array.
+	 * 
+	 * @param pixels			The array to hold the pixels.
+	 * @param offset			The index of the first pixel.
+	 * @param scanlineStride	The number of elements from the start of a
+	 * 							row of pixels to the start of the next one.
+	 * @param width				The width of the thumbnail.
+	 * @param height			The height of the thumbnail.
+	 * @param format			The layout of the pixels, which must be one
+	 * 							of the {@code INT_} formats.
+	 * @throws NullPointerException		If the array or the format is
+	 * 									{@code null}.
+	 * @throws IllegalArgumentException	If the format is not an
+	 * 									{@code INT_} format, if the array is
+	 * 									too small, or if the other
+	 * 									arguments are not valid.
+	 */
+	public RawPixelImageSink(int[] pixels, int offset, int scanlineStride, int width, int height, RawPixelFormat format) {
+		this((Object)pixels, offset, scanlineStride, width, height, format);
+	}
+	
+	/**
+	 * Instantiates a {@link RawPixelImageSink} storing pixel components in
+	 * a {@code byte} array, row after row, without padding.
+	 * 
+	 * @param pixels	The array to hold the pixels.
+	 * @param width		The width of the thumbnail.
+	 * @param height	The height of the thumbnail.
+	 * @param format	The layout of the pixels, which must be one of the
+	 * 					{@code BYTE_} formats.
+	 * @throws NullPointerException		If the array or the format is
+	 * 									{@code null}.
+	 * @throws IllegalArgumentException	If the format is not a
+	 * 									{@code BYTE_} format, if the array
+	 * 									is too small, or if the dimensions
+	 * 									are not valid.
+	 */
+	public RawPixelImageSink(byte[] pixels, int width, int height, RawPixelFormat format) {
+		this(pixels, 0, width * format.getPixelStride(), width, height, format);
+	}
+	
+	/**
+	 * Instantiates a {@link RawPixelImageSink} storing pixel components in
+	 * a {@code byte} array.
+	 * 
+	 * @param pixels			The array to hold the pixels.
+	 * @param offset			The index of the first component of the
+	 * 							first pixel.
+	 * @param scanlineStride	The number of elements from the start of a
+	 * 							row of pixels to the start of the next one.
+	 * @param width				The width of the thumbnail.
+	 * @param height			The height of the thumbnail.
+	 * @param format			The layout of the pixels, which must be one
+	 * 							of the {@code BYTE_} formats.
+	 * @throws NullPointerException		If the array or the format is
+	 * 									{@code null}.
+	 * @throws IllegalArgumentException	If the format is not a
+	 * 									{@code BYTE_} format, if the array
+	 * 									is too small, or if the other
+	 * 									arguments are not valid.
+	 */
+	public RawPixelImageSink(byte[] pixels, int offset, int scanlineStride, int width, int height, RawPixelFormat format) {
+		this((Object)pixels, offset, scanlineStride, width, height, format);
+	}
+	
+	private RawPixelImageSink(Object pixels, int offset, int scanlineStride, int width, int height, RawPixelFormat format) {
+		super();
+		
+		if (format == null) {
+			throw new NullPointerException("Pixel format cannot be null.");
+		}
+		
+		this.img = format.wrap(pixels, offset, scanlineStride, width, height);
+		this.pixels = pixels;
+	}
+	
+	/**
+	 * Returns an image backed by the array of this sink, into which a
+	 * thumbnail can be drawn directly.
+	 * <p>
+	 * Writing this image to this sink does not copy any pixel.
+	 * 
+	 * @return		The image backed by the array.
+	 */
+	public BufferedImage getDestinationImage() {
+		return img;
+	}
+	
+	/**
+	 * Writes the thumbnail into the array, replacing its previous pixels.
+	 * 
+	 * @param img		The thumbnail.
+	 * @throws NullPointerException		If the thumbnail is {@code null}.
+	 * @throws IllegalArgumentException	If the dimensions of the thumbnail
+	 * 									are not the ones of this sink.
+	 * @throws IOException				Not thrown by this implementation.
+	 */
+	public void write(BufferedImage img) throws IOException {
+		super.write(img);
+		
+		if (img != this.img) {
+			if (img.getWidth() != this.img.getWidth() || img.getHeight() != this.img.getHeight()) {
+				throw new IllegalArgumentException(
+						"Thumbnail dimensions " + img.getWidth() + "x" + img.getHeight() +
+						" do not match the sink dimensions " +
+						this.img.getWidth() + "x" + this.img.getHeight() + "."
+				);
+			}
+			
+			Graphics2D g = this.img.createGraphics();
+			g.setComposite(AlphaComposite.Src);
+			g.drawImage(img, 0, 0, null);
+			g.dispose();
+		}
+		
+		written = true;
+	}
+	
+	/**
+	 * Returns the array holding the pixels of the thumbnail.
+	 * 
+	 * @return							The {@code int[]} or {@code byte[]}
+	 * 									holding the pixels.
+	 * @throws IllegalStateException	If a thumbnail has not been stored to
+	 * 									this {@link RawPixelImageSink} yet.
+	 */
+	public Object getSink() {
+		if (!written) {
+			throw new IllegalStateException("RawPixelImageSink has not been written to yet.");
+		}
+		return pixels;
+	}
+
+	@Override
+	public void setOutputFormatName(String format) {
+		// do nothing
+	}
+}
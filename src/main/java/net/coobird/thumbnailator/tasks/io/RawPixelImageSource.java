@@ -0,0 +1,175 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+import net.coobird.thumbnailator.geometry.Region;
+
+/**
+ * An {@link ImageSource} which uses pixels held in an {@code int} or
+ * {@code byte} array as the source image.
+ * <p>
+ * The array is used in place, without being copied or decoded, so it
+ * should not be modified while thumbnails are being made from it.
+ * 
+ * @author coobird
+ * @since	0.4.21
+ */
+public class RawPixelImageSource extends AbstractImageSource<Object> {
+	/**
+	 * The array holding the pixels.
+	 */
+	private final Object pixels;
+	
+	/**
+	 * The image backed by the array.
+	 */
+	private final BufferedImage img;
+	
+	/**
+	 * Instantiates a {@link RawPixelImageSource} with pixels packed in an
+	 * {@code int} array, row after row, without padding.
+	 * 
+	 * @param pixels	The array holding the pixels.
+	 * @param width		The width of the image.
+	 * @param height	The height of the image.
+	 * @param format	The layout of the pixels, which must be one of the
+	 * 					{@code INT_} formats.
+	 * @throws NullPointerException		If the array or the format is
+	 * 									{@code null}.
+	 * @throws IllegalArgumentException	If the format is not an
+	 * 									{@code INT_} format, if the array is
+	 * 									too small, or if the dimensions are
+	 * 									not valid.
+	 */
+	public RawPixelImageSource(int[] pixels, int width, int height, RawPixelFormat format) {
+		this(pixels, 0, width, width, height, format);
+	}
+	
+	/**
+	 * Instantiates a {@link RawPixelImageSource} with pixels packed in an
+	 * {@code int} array.
+	 * 
+	 * @param pixels			The array holding the pixels.
+	 * @param offset			The index of the first pixel.
+	 * @param scanlineStride	The number of elements from the start of a
+	 * 							row of pixels to the start of the next one.
+	 * @param width				The width of the image.
+	 * @param height			The height of the image.
+	 * @param format			The layout of the pixels, which must be one
+	 * 							of the {@code INT_} formats.
+	 * @throws NullPointerException		If the array or the format is
+	 * 									{@code null}.
+	 * @throws IllegalArgumentException	If the format is not an
+	 * 									{@code INT_} format, if the array is
+	 * 									too small, or if the other
+	 * 									arguments are not valid.
+	 */
+	public RawPixelImageSource(int[] pixels, int offset, int scanlineStride, int width, int height, RawPixelFormat format) {
+		this((Object)pixels, offset, scanlineStride, width, height, format);
+	}
+	
+	/**
+	 * Instantiates a {@link RawPixelImageSource} with pixel components held
+	 * in a {@code byte} array, row after row, without padding.
+	 * 
+	 * @param pixels	The array holding the pixels.
+	 * @param width		The width of the image.
+	 * @param height	The height of the image.
+	 * @param format	The layout of the pixels, which must be one of the
+	 * 					{@code BYTE_} formats.
+	 * @throws NullPointerException		If the array or the format is
+	 * 									{@code null}.
+	 * @throws IllegalArgumentException	If the format is not a
+	 * 									{@code BYTE_} format, if the array
+	 * 									is too small, or if the dimensions
+	 * 									are not valid.
+	 */
+	public RawPixelImageSource(byte[] pixels, int width, int height, RawPixelFormat format) {
+		this(pixels, 0, width * format.getPixelStride(), width, height, format);
+	}
+	
+	/**
+	 * Instantiates a {@link RawPixelImageSource} with pixel components held
+	 * in a {@code byte} array.
+	 * 
+	 * @param pixels			The array holding the pixels.
+	 * @param offset			The index of the first component of the
+	 * 							first pixel.
+	 * @param scanlineStride	The number of elements from the start of a
+	 * 							row of pixels to the start of the next one.
+	 * @param width				The width of the image.
+	 * @param height			The height of the image.
+	 * @param format			The layout of the pixels, which must be one
+	 * 							of the {@code BYTE_} formats.
+	 * @throws NullPointerException		If the array or the format is
+	 * 									{@code null}.
+	 * @throws IllegalArgumentException	If the format is not a
+	 * 									{@code BYTE_} format, if the array
+	 * 									is too small, or if the other
+	 * 									arguments are not valid.
+	 */
+	public RawPixelImageSource(byte[] pixels, int offset, int scanlineStride, int width, int height, RawPixelFormat format) {
+		this((Object)pixels, offset, scanlineStride, width, height, format);
+	}
+	
+	private RawPixelImageSource(Object pixels, int offset, int scanlineStride, int width, int height, RawPixelFormat format) {
+		super();
+		
+		if (format == null) {
+			throw new NullPointerException("Pixel format cannot be null.");
+		}
+		
+		this.img = format.wrap(pixels, offset, scanlineStride, width, height);
+		this.pixels = pixels;
+	}
+
+	public BufferedImage read() throws IOException {
+		inputFormatName = null;
+		
+		if (param != null && param.getSourceRegion() != null) {
+			Region region = param.getSourceRegion();
+			Rectangle r = region.calculate(
+					img.getWidth(), img.getHeight(), false, false, false
+			);
+			
+			return finishedReading(img.getSubimage(r.x, r.y, r.width, r.height));
+		} else {
+			return finishedReading(img);
+		}
+	}
+
+	/**
+	 * Returns the array holding the pixels of the source image.
+	 * 
+	 * @return		The {@code int[]} or {@code byte[]} holding the pixels.
+	 */
+	public Object getSource() {
+		return pixels;
+	}
+}
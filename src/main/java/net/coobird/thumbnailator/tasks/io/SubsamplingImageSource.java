@@ -0,0 +1,51 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2020 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.awt.Dimension;
+
+/**
+ * An {@link ImageSource} which may subsample the source image while
+ * decoding it, as requested by {@link DecodeSubsampling}.
+ * 
+ * @param <T> 		The source class from which the source image is retrieved
+ * 					or read.
+ * @author coobird
+ * @since	0.4.21
+ */
+public interface SubsamplingImageSource<T> extends ImageSource<T> {
+	/**
+	 * Returns the size of the source image, or of the source region if one
+	 * was specified, at full resolution, if the image which was read has
+	 * been subsampled while being decoded.
+	 * 
+	 * @return			The size of the source image at full resolution, or
+	 * 					{@code null} if the image which was read has not been
+	 * 					subsampled.
+	 * @throws IllegalStateException	If the source image has not been
+	 * 									read yet.
+	 */
+	public Dimension getOriginalSize();
+}
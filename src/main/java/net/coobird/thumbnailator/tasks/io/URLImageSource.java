@@ -158,6 +158,7 @@ public class URLImageSource extends AbstractImageSource<URL> {
 		}
 
 		this.inputFormatName = source.getInputFormatName();
+		this.originalSize = source.getOriginalSize();
 		
 		return finishedReading(img);
 	}
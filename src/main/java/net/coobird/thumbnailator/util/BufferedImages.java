@@ -25,9 +25,12 @@
 package net.coobird.thumbnailator.util;
 
 import net.coobird.thumbnailator.builders.BufferedImageBuilder;
+import net.coobird.thumbnailator.resizers.prl.PrlImageUtils;
+import net.coobird.thumbnailator.resizers.prl.RowRangeProcessor;
 
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
+import java.util.concurrent.Executor;
 
 /**
  * This class provides convenience methods for using {@link BufferedImage}s.
@@ -72,4 +75,52 @@ public final class BufferedImages {
 		
 		return newImage;
 	}
+	
+	/**
+	 * Returns a {@link BufferedImage} with the specified image type, where the
+	 * graphical content is a copy of the specified image, copied in parallel
+	 * bands of rows if an {@link Executor} is specified and the image is
+	 * large enough.
+	 * 
+	 * @param img				The image to copy.
+	 * @param imageType			The image type for the image to return.
+	 * @param parallelExecutor	The {@link Executor} to use for
+	 * 							parallelization, or {@code null} to copy
+	 * 							in the current thread.
+	 * @return					A copy of the specified image.
+	 * @since	0.4.21
+	 */
+	public static BufferedImage copy(
+			final BufferedImage img,
+			int imageType,
+			Executor parallelExecutor
+	) {
+		if (parallelExecutor == null) {
+			return copy(img, imageType);
+		}
+		
+		final int width = img.getWidth();
+		int height = img.getHeight();
+
+		final BufferedImage newImage = new BufferedImageBuilder(width, height, imageType).build();
+		
+		RowRangeProcessor processor = new RowRangeProcessor() {
+			public void processRows(int startRow, int endRow) {
+				Graphics g = newImage.createGraphics();
+				// Sub-image, for drawImage() to only convert this band.
+				g.drawImage(
+						img.getSubimage(0, startRow, width, endRow - startRow + 1),
+						0,
+						startRow,
+						null
+				);
+				g.dispose();
+			}
+		};
+		PrlImageUtils.processRowsEventuallyInParallel(
+				width, height, processor, parallelExecutor
+		);
+		
+		return newImage;
+	}
 }
\ No newline at end of file
@@ -33,6 +33,9 @@ public enum Configurations {
      * <p>
      * A workaround was introduced to resolve issue #108 by capturing the
      * Exif data from the bitstream rather than relying on the JPEG reader.
+     * As of 0.4.21, the Exif data is found by scanning the marker segments
+     * of the bitstream, which also avoids building the metadata tree of
+     * the JPEG reader.
      * <p>
      * Disabling this workaround will prevent Thumbnailator from properly
      * identifying the image orientation of JPEG images which have Exif as
@@ -84,7 +87,46 @@ public enum Configurations {
      *       than 1/4 of the available JVM free memory</li>
      * </ul>
      */
-    CONSERVE_MEMORY_WORKAROUND("thumbnailator.conserveMemoryWorkaround")
+    CONSERVE_MEMORY_WORKAROUND("thumbnailator.conserveMemoryWorkaround"),
+
+    /**
+     * Buffers the image data read from {@link java.io.InputStream}s and
+     * written to {@link java.io.OutputStream}s in memory, rather than in
+     * temporary files.
+     * <br>
+     * Property name: {@code thumbnailator.useMemoryCache}
+     * <p>
+     * When reading from and writing to streams, Image I/O uses temporary
+     * files to cache the data, unless {@link javax.imageio.ImageIO#setUseCache(boolean)}
+     * has been called with {@code false}, which affects the whole JVM.
+     * <p>
+     * When enabled, Thumbnailator caches the data in memory instead, in
+     * fixed-size blocks, which are retained until the stream is closed.
+     * Beyond 64 MiB per stream, the data is cached in a temporary file.
+     *
+     * @since 0.4.21
+     */
+    USE_MEMORY_CACHE("thumbnailator.useMemoryCache"),
+
+    /**
+     * Maps large source files into memory when reading them, rather than
+     * reading them through a buffer.
+     * <br>
+     * Property name: {@code thumbnailator.mapSourceFiles}
+     * <p>
+     * Source files of up to 1 MiB are read at once into a buffer. By
+     * default, larger files are read as the image reader seeks through
+     * them, which only copies the parts of the file which are read.
+     * <p>
+     * When enabled, larger files are mapped into memory instead, which
+     * copies nothing. However, a mapped file stays mapped until the
+     * mapping is garbage collected, which prevents it from being deleted
+     * or overwritten on Windows in the meantime, and a file truncated
+     * while being read causes an {@link InternalError} to be thrown.
+     *
+     * @since 0.4.21
+     */
+    MAP_SOURCE_FILES("thumbnailator.mapSourceFiles")
     ;
 
     private final String key;
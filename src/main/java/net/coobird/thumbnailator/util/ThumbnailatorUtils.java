@@ -84,6 +84,27 @@ public final class ThumbnailatorUtils {
 		return false;
 	}
 	
+	/**
+	 * Returns whether images are written in a specified output format without
+	 * their alpha channel, in which case they are drawn over black before
+	 * being written.
+	 *
+	 * @param format	The output format.
+	 * @return			{@code true} if the format does not store alpha,
+	 * 					{@code false} otherwise, or if the format is
+	 * 					{@code null}.
+	 * @since	0.4.21
+	 */
+	public static boolean isOpaqueOutputFormat(String format) {
+		if (format == null) {
+			return false;
+		}
+		
+		return format.equalsIgnoreCase("jpg")
+				|| format.equalsIgnoreCase("jpeg")
+				|| format.equalsIgnoreCase("bmp");
+	}
+	
 	/**
 	 * Returns a {@link List} of supported output formats types for a specified
 	 * output format.
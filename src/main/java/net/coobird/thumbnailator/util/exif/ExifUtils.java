@@ -31,6 +31,7 @@ import java.nio.ByteOrder;
 import javax.imageio.ImageReader;
 import javax.imageio.metadata.IIOMetadata;
 import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
 
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -67,6 +68,30 @@ public final class ExifUtils {
 	 * 									reader does not have a JPEG open.
 	 */
 	public static Orientation getExifOrientation(ImageReader reader, int imageIndex) throws IOException {
+		byte[] exifData = getExifData(reader, imageIndex);
+		if (exifData == null) {
+			return null;
+		}
+		return getOrientationFromExif(exifData);
+	}
+	
+	/**
+	 * Returns the Exif data from the APP1 marker segment of a JPEG image.
+	 * 
+	 * @param reader		An {@link ImageReader} which is reading the
+	 * 						target image.
+	 * @param imageIndex	The index of the image from which the Exif
+	 * 						metadata should be read from.
+	 * @return				The payload of the APP1 marker segment, starting
+	 * 						with the Exif identifier, or {@code null} if the
+	 * 						image does not have Exif data.
+	 * @throws IOException				When an error occurs during reading.
+	 * @throws IllegalArgumentException	If the {@link ImageReader} does not
+	 * 									have the target image set, or if the
+	 * 									reader does not have a JPEG open.
+	 * @since	0.4.21
+	 */
+	public static byte[] getExifData(ImageReader reader, int imageIndex) throws IOException {
 		IIOMetadata metadata = reader.getImageMetadata(imageIndex);
 		Node rootNode = metadata.getAsTree("javax_imageio_jpeg_image_1.0");
 
@@ -81,21 +106,118 @@ public final class ExifUtils {
 					IIOMetadataNode metadataNode = (IIOMetadataNode) (markerSequenceChildren.item(j));
 
 					byte[] bytes = (byte[]) metadataNode.getUserObject();
-					if (bytes == null) {
-						continue;
+					if (bytes != null && startsWithExifMagicString(bytes)) {
+						return bytes;
 					}
+				}
+			}
+		}
 
-					byte[] magicNumber = new byte[4];
-					ByteBuffer.wrap(bytes).get(magicNumber);
+		return null;
+	}
+	
+	/**
+	 * Returns the thumbnail embedded in the Exif data, which is stored in
+	 * IFD1 as a JPEG image.
+	 * 
+	 * @param exifData		A byte array containing Exif data.
+	 * @return				The embedded JPEG image, or {@code null} if the
+	 * 						Exif data does not have one.
+	 * @since	0.4.21
+	 */
+	public static byte[] getThumbnailFromExif(byte[] exifData) {
+		// "Exif" + \0 + padding byte
+		final int tiffStart = 6;
+		
+		if (!startsWithExifMagicString(exifData)) {
+			return null;
+		}
+		
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(exifData);
 
-					if (EXIF_MAGIC_STRING.equals(new String(magicNumber))) {
-						return getOrientationFromExif(bytes);
-					}
+			ByteOrder bo;
+			if (exifData[tiffStart] == 'I' && exifData[tiffStart + 1] == 'I') {
+				bo = ByteOrder.LITTLE_ENDIAN;
+			} else {
+				bo = ByteOrder.BIG_ENDIAN;
+			}
+			buffer.order(bo);
+
+			// Skip IFD0 to get to IFD1.
+			int ifd0Offset = buffer.getInt(tiffStart + 4);
+			int nFields0 = buffer.getShort(tiffStart + ifd0Offset) & 0xFFFF;
+			int ifd1Offset = buffer.getInt(tiffStart + ifd0Offset + 2 + nFields0 * 12);
+			if (ifd1Offset == 0) {
+				return null;
+			}
+
+			int ifd1Start = tiffStart + ifd1Offset;
+			int nFields1 = buffer.getShort(ifd1Start) & 0xFFFF;
+
+			int jpegOffset = -1;
+			int jpegLength = -1;
+			byte[] ifd = new byte[12];
+			for (int i = 0; i < nFields1; i++) {
+				buffer.position(ifd1Start + 2 + i * 12);
+				buffer.get(ifd);
+				IfdStructure ifdStructure = readIFD(ifd, bo);
+
+				// JPEGInterchangeFormat and JPEGInterchangeFormatLength
+				if (ifdStructure.getTag() == 0x0201) {
+					jpegOffset = ifdStructure.getOffsetValue();
+				} else if (ifdStructure.getTag() == 0x0202) {
+					jpegLength = ifdStructure.getOffsetValue();
 				}
 			}
+
+			if (jpegOffset <= 0 || jpegLength <= 0 ||
+					tiffStart + jpegOffset + jpegLength > exifData.length) {
+				return null;
+			}
+
+			byte[] thumbnail = new byte[jpegLength];
+			System.arraycopy(exifData, tiffStart + jpegOffset, thumbnail, 0, jpegLength);
+			return thumbnail;
+
+		} catch (RuntimeException e) {
+			// Malformed Exif data, such as offsets out of bounds.
+			return null;
 		}
+	}
 
-		return null;
+	/**
+	 * Returns the orientation obtained from the Exif metadata, by scanning
+	 * the marker segments of a JPEG image up to its first scan.
+	 * <p>
+	 * Unlike {@link #getExifOrientation(ImageReader, int)}, this does not
+	 * require an {@link ImageReader} to parse the metadata of the image.
+	 * <p>
+	 * The stream is read from its current position, which is expected to
+	 * be the start of the image. Its position after this method returns is
+	 * unspecified.
+	 *
+	 * @param iis			An {@link ImageInputStream} from which the image
+	 * 						is read.
+	 * @return				The orientation information obtained from the
+	 * 						Exif metadata, as a {@link Orientation} enum.
+	 * 						Returns {@code null} if the image is not a JPEG
+	 * 						image, or if no orientation is found.
+	 * @throws IOException	When an error occurs during reading.
+	 * @since	0.4.21
+	 */
+	public static Orientation getExifOrientation(ImageInputStream iis) throws IOException {
+		JpegSegments segments = JpegSegments.scan(iis);
+		if (segments == null) {
+			return null;
+		}
+		
+		JpegSegments.Segment exif = segments.getFirst(JpegSegments.SegmentType.EXIF);
+		if (exif == null) {
+			return null;
+		}
+		
+		return getOrientationFromExif(JpegSegments.readPayload(iis, exif));
 	}
 
 	/**
@@ -107,16 +229,15 @@ public final class ExifUtils {
 	 * 						Returns {@code null} if no orientation is found.
 	 */
 	public static Orientation getOrientationFromExif(byte[] exifData) {
-		// Needed to make byte-wise reading easier.
-		ByteBuffer buffer = ByteBuffer.wrap(exifData);
-
-		byte[] exifId = new byte[4];
-		buffer.get(exifId);
-
-		if (!EXIF_MAGIC_STRING.equals(new String(exifId))) {
+		if (!startsWithExifMagicString(exifData)) {
 			return null;
 		}
 
+		// Needed to make byte-wise reading easier.
+		ByteBuffer buffer = ByteBuffer.wrap(exifData);
+
+		// skip the Exif
+		buffer.position(EXIF_MAGIC_STRING.length());
 		// read the \0 after the Exif
 		buffer.get();
 		// read the padding byte
@@ -156,6 +277,22 @@ public final class ExifUtils {
 		return null;
 	}
 
+	/**
+	 * Returns whether the data starts with the Exif identifier, comparing
+	 * bytes rather than decoding them with the platform's charset.
+	 */
+	private static boolean startsWithExifMagicString(byte[] data) {
+		if (data.length < EXIF_MAGIC_STRING.length()) {
+			return false;
+		}
+		for (int i = 0; i < EXIF_MAGIC_STRING.length(); i++) {
+			if (data[i] != EXIF_MAGIC_STRING.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private static IfdStructure readIFD(byte[] ifd, ByteOrder bo) {
 		ByteBuffer buffer = ByteBuffer.wrap(ifd).order(bo);
 
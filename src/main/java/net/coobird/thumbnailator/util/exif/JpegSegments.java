@@ -0,0 +1,284 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.util.exif;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * The application (APPn) marker segments of a JPEG image, as found by
+ * scanning its marker segments up to its first scan.
+ * <p>
+ * Only the position and length of each segment, and the identifier at the
+ * start of its payload, are read while scanning. The payload of a segment
+ * is only read when requested by {@link #readPayload(ImageInputStream, Segment)}.
+ * 
+ * @author coobird
+ * @since	0.4.21
+ */
+public final class JpegSegments {
+	/**
+	 * The kind of data held by an application marker segment, as given by
+	 * the identifier at the start of its payload.
+	 */
+	public enum SegmentType {
+		/**
+		 * Exif data, in an APP1 marker segment.
+		 */
+		EXIF(0xE1, "Exif\0"),
+		
+		/**
+		 * XMP data, in an APP1 marker segment.
+		 */
+		XMP(0xE1, "http://ns.adobe.com/xap/1.0/\0"),
+		
+		/**
+		 * A chunk of an ICC profile, in an APP2 marker segment.
+		 */
+		ICC_PROFILE(0xE2, "ICC_PROFILE\0"),
+		
+		/**
+		 * Any other application data.
+		 */
+		OTHER(-1, null),
+		;
+		
+		private final int marker;
+		private final String identifier;
+		
+		private SegmentType(int marker, String identifier) {
+			this.marker = marker;
+			this.identifier = identifier;
+		}
+	}
+	
+	/**
+	 * The longest identifier which is looked for.
+	 */
+	private static final int MAX_IDENTIFIER_LENGTH =
+		SegmentType.XMP.identifier.length();
+	
+	/**
+	 * An application marker segment.
+	 */
+	public static final class Segment {
+		private final int marker;
+		private final SegmentType type;
+		private final long offset;
+		private final int length;
+		
+		private Segment(int marker, SegmentType type, long offset, int length) {
+			this.marker = marker;
+			this.type = type;
+			this.offset = offset;
+			this.length = length;
+		}
+		
+		/**
+		 * Returns the marker of this segment, from {@code 0xE0} (APP0) to
+		 * {@code 0xEF} (APP15).
+		 * 
+		 * @return		The marker of this segment.
+		 */
+		public int getMarker() {
+			return marker;
+		}
+		
+		/**
+		 * Returns the kind of data held by this segment.
+		 * 
+		 * @return		The kind of data held by this segment.
+		 */
+		public SegmentType getType() {
+			return type;
+		}
+		
+		/**
+		 * Returns the position of the payload of this segment in the
+		 * stream, which is just after its length field.
+		 * 
+		 * @return		The position of the payload.
+		 */
+		public long getOffset() {
+			return offset;
+		}
+		
+		/**
+		 * Returns the length of the payload of this segment, excluding its
+		 * length field.
+		 * 
+		 * @return		The length of the payload.
+		 */
+		public int getLength() {
+			return length;
+		}
+		
+		@Override
+		public String toString() {
+			return "Segment [marker=" + Integer.toHexString(marker) +
+					", type=" + type + ", offset=" + offset +
+					", length=" + length + "]";
+		}
+	}
+	
+	private final List<Segment> segments;
+	
+	private JpegSegments(List<Segment> segments) {
+		this.segments = Collections.unmodifiableList(segments);
+	}
+	
+	/**
+	 * Scans the marker segments of a JPEG image, from the current position
+	 * of the specified stream, which is expected to be the start of the
+	 * image, up to the first scan.
+	 * <p>
+	 * The position of the stream after this method returns is unspecified.
+	 * Callers wanting to read the image afterwards are expected to
+	 * {@link ImageInputStream#mark() mark} and
+	 * {@link ImageInputStream#reset() reset} the stream.
+	 * 
+	 * @param iis			The stream from which the image is read.
+	 * @return				The application marker segments which were
+	 * 						found, or {@code null} if the image is not a
+	 * 						JPEG image.
+	 * @throws IOException	When an error occurs during reading.
+	 */
+	public static JpegSegments scan(ImageInputStream iis) throws IOException {
+		// SOI
+		if (iis.read() != 0xFF || iis.read() != 0xD8) {
+			return null;
+		}
+		
+		List<Segment> segments = new ArrayList<Segment>();
+		byte[] identifier = new byte[MAX_IDENTIFIER_LENGTH];
+		
+		while (true) {
+			if (iis.read() != 0xFF) {
+				// End of stream, or not at a marker as expected.
+				break;
+			}
+			
+			// Markers can be preceded by any number of fill bytes.
+			int marker;
+			do {
+				marker = iis.read();
+			} while (marker == 0xFF);
+			
+			if (marker == -1 || marker == 0xDA || marker == 0xD9) {
+				// End of stream, SOS or EOI.
+				break;
+			}
+			if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) {
+				// TEM and RSTn have no payload.
+				continue;
+			}
+			
+			int length = (iis.read() << 8) | iis.read();
+			if (length < 2) {
+				break;
+			}
+			length -= 2;
+			
+			long offset = iis.getStreamPosition();
+			if (marker >= 0xE0 && marker <= 0xEF) {
+				int identifierLength = Math.min(length, MAX_IDENTIFIER_LENGTH);
+				iis.readFully(identifier, 0, identifierLength);
+				
+				SegmentType type = typeOf(marker, identifier, identifierLength);
+				segments.add(new Segment(marker, type, offset, length));
+			}
+			iis.seek(offset + length);
+		}
+		
+		return new JpegSegments(segments);
+	}
+	
+	private static SegmentType typeOf(int marker, byte[] identifier, int length) {
+		for (SegmentType type : SegmentType.values()) {
+			if (type.marker != marker || type.identifier.length() > length) {
+				continue;
+			}
+			
+			boolean matches = true;
+			for (int i = 0; i < type.identifier.length(); i++) {
+				if (identifier[i] != type.identifier.charAt(i)) {
+					matches = false;
+					break;
+				}
+			}
+			if (matches) {
+				return type;
+			}
+		}
+		return SegmentType.OTHER;
+	}
+	
+	/**
+	 * Returns the application marker segments, in the order in which they
+	 * appear in the image.
+	 * 
+	 * @return		The application marker segments.
+	 */
+	public List<Segment> getSegments() {
+		return segments;
+	}
+	
+	/**
+	 * Returns the first application marker segment of the specified type.
+	 * 
+	 * @param type	The kind of segment to look for.
+	 * @return		The first segment of the specified type, or {@code null}
+	 * 				if there is none.
+	 */
+	public Segment getFirst(SegmentType type) {
+		for (Segment segment : segments) {
+			if (segment.type == type) {
+				return segment;
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * Reads the payload of the specified segment.
+	 * <p>
+	 * The position of the stream after this method returns is unspecified.
+	 * 
+	 * @param iis			The stream which was scanned.
+	 * @param segment		The segment to read.
+	 * @return				The payload of the segment.
+	 * @throws IOException	When an error occurs during reading.
+	 */
+	public static byte[] readPayload(ImageInputStream iis, Segment segment) throws IOException {
+		byte[] payload = new byte[segment.length];
+		iis.seek(segment.offset);
+		iis.readFully(payload);
+		return payload;
+	}
+}
@@ -27,12 +27,14 @@ package net.coobird.thumbnailator;
 import org.junit.rules.TemporaryFolder;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
 
 import javax.imageio.ImageIO;
 
@@ -134,4 +136,72 @@ public class TestUtils {
 			is.close();
 		}
 	}
+
+	/**
+	 * Returns Exif data, as found in the APP1 marker segment, with the
+	 * specified orientation in IFD0, and the specified JPEG image as the
+	 * embedded thumbnail in IFD1.
+	 *
+	 * @param orientation		The Exif orientation.
+	 * @param thumbnail			The embedded thumbnail, as a JPEG image.
+	 * @return					The Exif data.
+	 */
+	public static byte[] makeExifWithThumbnail(int orientation, byte[] thumbnail) {
+		ByteBuffer buffer = ByteBuffer.allocate(62 + thumbnail.length);
+		buffer.put(new byte[] {'E', 'x', 'i', 'f', 0, 0});
+		// TIFF header, with IFD0 right after it.
+		buffer.put(new byte[] {'M', 'M', 0, 42});
+		buffer.putInt(8);
+		// IFD0, with the orientation.
+		buffer.putShort((short)1);
+		buffer.putShort((short)0x0112).putShort((short)3).putInt(1);
+		buffer.putShort((short)orientation).putShort((short)0);
+		buffer.putInt(26);
+		// IFD1, with the offset and length of the thumbnail.
+		buffer.putShort((short)2);
+		buffer.putShort((short)0x0201).putShort((short)4).putInt(1).putInt(56);
+		buffer.putShort((short)0x0202).putShort((short)4).putInt(1).putInt(thumbnail.length);
+		buffer.putInt(0);
+		buffer.put(thumbnail);
+		return buffer.array();
+	}
+
+	/**
+	 * Returns a JPEG image with the specified Exif data.
+	 *
+	 * @param img				The image.
+	 * @param exifData			The Exif data.
+	 * @return					The JPEG image.
+	 * @throws IOException		If an IOException is thrown.
+	 */
+	public static byte[] makeJpegWithExif(BufferedImage img, byte[] exifData) throws IOException {
+		byte[] jpeg = toJpeg(img);
+
+		// Inserted after the JFIF APP0 marker segment, which must be first.
+		int insertAt = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(jpeg, 0, insertAt);
+		out.write(0xFF);
+		out.write(0xE1);
+		int length = exifData.length + 2;
+		out.write(length >> 8);
+		out.write(length & 0xFF);
+		out.write(exifData);
+		out.write(jpeg, insertAt, jpeg.length - insertAt);
+		return out.toByteArray();
+	}
+
+	/**
+	 * Returns the specified image encoded as a JPEG image.
+	 *
+	 * @param img				The image.
+	 * @return					The JPEG image.
+	 * @throws IOException		If an IOException is thrown.
+	 */
+	public static byte[] toJpeg(BufferedImage img) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		ImageIO.write(img, "jpg", baos);
+		return baos.toByteArray();
+	}
 }
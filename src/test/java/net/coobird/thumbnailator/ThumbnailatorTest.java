@@ -40,19 +40,26 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
 import javax.imageio.ImageIO;
 
 import net.coobird.thumbnailator.builders.BufferedImageBuilder;
 import net.coobird.thumbnailator.builders.ThumbnailParameterBuilder;
+import net.coobird.thumbnailator.filters.ImageFilter;
 import net.coobird.thumbnailator.name.Rename;
 import net.coobird.thumbnailator.resizers.DefaultResizerFactory;
+import net.coobird.thumbnailator.resizers.FixedResizerFactory;
+import net.coobird.thumbnailator.resizers.Resizer;
 import net.coobird.thumbnailator.resizers.ResizerFactory;
+import net.coobird.thumbnailator.resizers.Resizers;
 import net.coobird.thumbnailator.tasks.SourceSinkThumbnailTask;
 import net.coobird.thumbnailator.tasks.UnsupportedFormatException;
 import net.coobird.thumbnailator.tasks.io.BufferedImageSink;
 import net.coobird.thumbnailator.tasks.io.BufferedImageSource;
+import net.coobird.thumbnailator.util.exif.ExifFilterUtils;
+import net.coobird.thumbnailator.util.exif.Orientation;
 
 import org.junit.Ignore;
 import org.junit.Rule;
@@ -688,6 +695,98 @@ public class ThumbnailatorTest {
 			verify(resizerFactory)
 					.getResizer(new Dimension(200, 200), new Dimension(100, 100));
 		}
+
+		/**
+		 * Test for
+		 * {@link Thumbnailator#createThumbnail(net.coobird.thumbnailator.tasks.ThumbnailTask)}
+		 * where,
+		 * <p>
+		 * 1) The filters orient the image according to an Exif orientation.
+		 * 2) The resizer rotates and flips while resizing, or not.
+		 * <p>
+		 * Expected outcome is,
+		 * <p>
+		 * 1) The thumbnail is the same as the one resized and then
+		 *    filtered.
+		 */
+		@Test
+		public void testCreateThumbnail_ThumbnailTask_OrientationSameAsFiltered() {
+			// given
+			BufferedImage img =
+					new BufferedImageBuilder(400, 200, BufferedImage.TYPE_INT_RGB).build();
+			Random random = new Random(123L);
+			for (int y = 0; y < img.getHeight(); y++) {
+				for (int x = 0; x < img.getWidth(); x++) {
+					img.setRGB(x, y, random.nextInt());
+				}
+			}
+			Resizer nonTransformingResizer = new Resizer() {
+				public void resize(BufferedImage srcImage, BufferedImage destImage) {
+					Resizers.BILINEAR.resize(srcImage, destImage);
+				}
+			};
+			List<ResizerFactory> resizerFactories = Arrays.asList(
+					DefaultResizerFactory.getInstance(),
+					new FixedResizerFactory(Resizers.PROGRESSIVE),
+					new FixedResizerFactory(nonTransformingResizer)
+			);
+
+			for (ResizerFactory resizerFactory : resizerFactories) {
+				for (Orientation orientation : Orientation.values()) {
+					ImageFilter filter = ExifFilterUtils.getFilterForOrientation(orientation);
+
+					// when
+					BufferedImage thumbnail = createThumbnail(
+							img, resizerFactory, Collections.singletonList(filter)
+					);
+					BufferedImage expected = filter.apply(createThumbnail(
+							img, resizerFactory, Collections.<ImageFilter>emptyList()
+					));
+
+					// then
+					assertEquals(expected.getWidth(), thumbnail.getWidth());
+					assertEquals(expected.getHeight(), thumbnail.getHeight());
+					for (int y = 0; y < expected.getHeight(); y++) {
+						for (int x = 0; x < expected.getWidth(); x++) {
+							int expectedRgb = expected.getRGB(x, y);
+							int rgb = thumbnail.getRGB(x, y);
+							for (int shift = 0; shift < 32; shift += 8) {
+								assertTrue(
+										orientation + " at (" + x + "," + y + ")",
+										Math.abs(((expectedRgb >>> shift) & 0xFF) - ((rgb >>> shift) & 0xFF)) <= 1
+								);
+							}
+						}
+					}
+				}
+			}
+		}
+
+		private static BufferedImage createThumbnail(
+				BufferedImage img,
+				ResizerFactory resizerFactory,
+				List<ImageFilter> filters
+		) {
+			ThumbnailParameter param =
+					new ThumbnailParameterBuilder()
+							.size(100, 100)
+							.resizerFactory(resizerFactory)
+							.filters(filters)
+							.build();
+			BufferedImageSink sink = new BufferedImageSink();
+
+			try {
+				Thumbnailator.createThumbnail(
+						new SourceSinkThumbnailTask<BufferedImage, BufferedImage>(
+								param, new BufferedImageSource(img), sink
+						)
+				);
+			} catch (IOException e) {
+				throw new AssertionError(e);
+			}
+
+			return sink.getSink();
+		}
 	}
 
 	public static class FileIOTests {
@@ -0,0 +1,264 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.coobird.thumbnailator.builders.BufferedImageBuilder;
+import net.coobird.thumbnailator.filters.ImageFilter;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ThumbnailsBuilderBatchTest {
+	
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+	
+	/**
+	 * Counts the number of images being filtered at once.
+	 */
+	private static class ConcurrencyCountingFilter implements ImageFilter {
+		private final AtomicInteger current = new AtomicInteger();
+		private final AtomicInteger max = new AtomicInteger();
+		
+		public BufferedImage apply(BufferedImage img) {
+			int count = current.incrementAndGet();
+			while (true) {
+				int prev = max.get();
+				if (count <= prev || max.compareAndSet(prev, count)) {
+					break;
+				}
+			}
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				current.decrementAndGet();
+			}
+			return img;
+		}
+	}
+	
+	/**
+	 * An {@link OutputStream} which always fails.
+	 */
+	private static class FailingOutputStream extends OutputStream {
+		@Override
+		public void write(int b) throws IOException {
+			throw new IOException("write failed");
+		}
+	}
+	
+	private static BufferedImage[] makeImages(int count) {
+		BufferedImage[] images = new BufferedImage[count];
+		for (int i = 0; i < count; i++) {
+			images[i] = new BufferedImageBuilder(10 + 10 * i, 50).build();
+		}
+		return images;
+	}
+	
+	@Test
+	public void asBufferedImages_ResultsInInputOrder() throws IOException {
+		// given
+		BufferedImage[] images = makeImages(20);
+		
+		// when
+		List<BufferedImage> thumbnails = Thumbnails.of(images)
+			.scale(0.5)
+			.addFilter(new ConcurrencyCountingFilter())
+			.batchParallelism(4)
+			.asBufferedImages();
+		
+		// then
+		assertEquals(images.length, thumbnails.size());
+		for (int i = 0; i < images.length; i++) {
+			assertEquals(images[i].getWidth() / 2, thumbnails.get(i).getWidth());
+		}
+	}
+	
+	@Test
+	public void asBufferedImages_InFlightBoundedByParallelism() throws IOException {
+		// given
+		ConcurrencyCountingFilter filter = new ConcurrencyCountingFilter();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		
+		try {
+			// when
+			Thumbnails.of(makeImages(16))
+				.scale(0.5)
+				.addFilter(filter)
+				.batchExecutor(executor)
+				.batchParallelism(2)
+				.asBufferedImages();
+			
+		} finally {
+			executor.shutdown();
+		}
+		
+		// then
+		assertTrue(filter.max.get() <= 2);
+	}
+	
+	@Test
+	public void asBufferedImages_ExecutorNotShutDown() throws IOException {
+		// given
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		
+		try {
+			// when
+			Thumbnails.of(makeImages(4))
+				.scale(0.5)
+				.batchExecutor(executor)
+				.asBufferedImages();
+			
+			// then
+			assertFalse(executor.isShutdown());
+			
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void toOutputStreams_FailuresCollected() throws IOException {
+		// given
+		ByteArrayOutputStream os0 = new ByteArrayOutputStream();
+		OutputStream os1 = new FailingOutputStream();
+		ByteArrayOutputStream os2 = new ByteArrayOutputStream();
+		OutputStream os3 = new FailingOutputStream();
+		ByteArrayOutputStream os4 = new ByteArrayOutputStream();
+		BufferedImage[] images = makeImages(5);
+		
+		// when
+		try {
+			Thumbnails.of(images)
+				.scale(0.5)
+				.outputFormat("png")
+				.batchParallelism(3)
+				.toOutputStreams(Arrays.asList(os0, os1, os2, os3, os4));
+			fail();
+			
+		} catch (ThumbnailBatchException e) {
+			// then
+			List<ThumbnailBatchException.Failure> failures = e.getFailures();
+			assertEquals(2, failures.size());
+			assertEquals(1, failures.get(0).getIndex());
+			assertSame(images[1], failures.get(0).getSource());
+			assertTrue(failures.get(0).getCause() instanceof IOException);
+			assertEquals(3, failures.get(1).getIndex());
+			assertSame(images[3], failures.get(1).getSource());
+			assertSame(failures.get(0).getCause(), e.getCause());
+		}
+		
+		// Other sources were processed nonetheless.
+		assertTrue(os0.size() > 0);
+		assertTrue(os2.size() > 0);
+		assertTrue(os4.size() > 0);
+	}
+	
+	@Test
+	public void toOutputStreams_SequentialFailureAborts() throws IOException {
+		// given
+		ByteArrayOutputStream os0 = new ByteArrayOutputStream();
+		OutputStream os1 = new FailingOutputStream();
+		ByteArrayOutputStream os2 = new ByteArrayOutputStream();
+		
+		// when
+		try {
+			Thumbnails.of(makeImages(3))
+				.scale(0.5)
+				.outputFormat("png")
+				.toOutputStreams(Arrays.asList(os0, os1, os2));
+			fail();
+			
+		} catch (ThumbnailBatchException e) {
+			fail();
+		} catch (IOException e) {
+			// then
+			// Failure of the first failing source propagated as-is.
+		}
+		
+		assertTrue(os0.size() > 0);
+		assertEquals(0, os2.size());
+	}
+	
+	@Test
+	public void asFiles_ExistingFilesSkipped() throws IOException {
+		// given
+		List<File> destinations = new ArrayList<File>();
+		for (int i = 0; i < 6; i++) {
+			destinations.add(new File(tempFolder.getRoot(), "thumbnail" + i + ".png"));
+		}
+		assertTrue(destinations.get(2).createNewFile());
+		
+		// when
+		List<File> files = Thumbnails.of(makeImages(6))
+			.scale(0.5)
+			.outputFormat("png")
+			.allowOverwrite(false)
+			.batchParallelism(3)
+			.asFiles(destinations);
+		
+		// then
+		List<File> expected = new ArrayList<File>(destinations);
+		expected.remove(2);
+		assertEquals(expected, files);
+		assertEquals(0, destinations.get(2).length());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void batchParallelism_Zero() {
+		Thumbnails.of(makeImages(1)).batchParallelism(0);
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void batchParallelism_SetTwice() {
+		Thumbnails.of(makeImages(1)).batchParallelism(2).batchParallelism(2);
+	}
+	
+	@Test(expected=NullPointerException.class)
+	public void batchExecutor_Null() {
+		Thumbnails.of(makeImages(1)).batchExecutor(null);
+	}
+}
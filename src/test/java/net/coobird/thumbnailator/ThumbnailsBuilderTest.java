@@ -38,6 +38,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.imageio.ImageIO;
 
@@ -58,6 +61,7 @@ import net.coobird.thumbnailator.resizers.configurations.Antialiasing;
 import net.coobird.thumbnailator.resizers.configurations.Dithering;
 import net.coobird.thumbnailator.resizers.configurations.Rendering;
 import net.coobird.thumbnailator.resizers.configurations.ScalingMode;
+import net.coobird.thumbnailator.tasks.io.DecodeSubsampling;
 import net.coobird.thumbnailator.test.BufferedImageComparer;
 
 import org.junit.Rule;
@@ -3435,6 +3439,100 @@ public class ThumbnailsBuilderTest {
 			}
 		}
 
+		@Test
+		public void cropOnlyResizesKeptRegion() throws IOException {
+			// given
+			BufferedImage img = makeThreeColumnImage();
+			ResizerFactory resizerFactory = mock(ResizerFactory.class);
+			when(
+					resizerFactory.getResizer(any(Dimension.class), any(Dimension.class))
+			).thenReturn(Resizers.NULL);
+
+			// when
+			BufferedImage thumbnail = Thumbnails.of(img)
+					.resizerFactory(resizerFactory)
+					.size(50, 50)
+					.crop(Positions.CENTER)
+					.asBufferedImage();
+
+			// then
+			assertEquals(50, thumbnail.getWidth());
+			assertEquals(50, thumbnail.getHeight());
+			verify(resizerFactory).getResizer(new Dimension(100, 100), new Dimension(50, 50));
+		}
+
+		@Test
+		public void cropKeepsRegionAtPosition() throws IOException {
+			// given
+			BufferedImage img = makeThreeColumnImage();
+
+			// when
+			BufferedImage left = Thumbnails.of(img)
+					.size(50, 50)
+					.crop(Positions.CENTER_LEFT)
+					.asBufferedImage();
+			BufferedImage center = Thumbnails.of(img)
+					.size(50, 50)
+					.crop(Positions.CENTER)
+					.asBufferedImage();
+			BufferedImage right = Thumbnails.of(img)
+					.size(50, 50)
+					.crop(Positions.CENTER_RIGHT)
+					.asBufferedImage();
+
+			// then
+			for (int y = 0; y < 50; y++) {
+				for (int x = 0; x < 50; x++) {
+					assertEquals(Color.red.getRGB(), left.getRGB(x, y));
+					assertEquals(Color.green.getRGB(), center.getRGB(x, y));
+					assertEquals(Color.blue.getRGB(), right.getRGB(x, y));
+				}
+			}
+		}
+
+		@Test
+		public void cropPositionCalculatedOncePerSource() throws IOException {
+			// given
+			BufferedImage img = makeThreeColumnImage();
+			final AtomicInteger calls = new AtomicInteger();
+			Position position = new Position() {
+				public java.awt.Point calculate(
+						int enclosingWidth, int enclosingHeight,
+						int width, int height,
+						int insetLeft, int insetRight,
+						int insetTop, int insetBottom
+				) {
+					calls.incrementAndGet();
+					return Positions.CENTER.calculate(
+							enclosingWidth, enclosingHeight, width, height,
+							insetLeft, insetRight, insetTop, insetBottom
+					);
+				}
+			};
+
+			// when
+			Thumbnails.of(img, img, img)
+					.size(50, 50)
+					.crop(position)
+					.asBufferedImages();
+
+			// then
+			assertEquals(3, calls.get());
+		}
+
+		private static BufferedImage makeThreeColumnImage() {
+			BufferedImage img = new BufferedImageBuilder(300, 100).build();
+			Graphics g = img.getGraphics();
+			g.setColor(Color.red);
+			g.fillRect(0, 0, 100, 100);
+			g.setColor(Color.green);
+			g.fillRect(100, 0, 100, 100);
+			g.setColor(Color.blue);
+			g.fillRect(200, 0, 100, 100);
+			g.dispose();
+			return img;
+		}
+
 		@Test
 		public void cropTwice() throws IOException {
 			// given
@@ -3944,6 +4042,204 @@ public class ThumbnailsBuilderTest {
 			// then
 			assertTrue(BufferedImageComparer.isSame(expected, insetsResult));
 		}
+
+		@Test
+		public void parallelExecutorUsedToResize() throws IOException {
+			// given
+			final AtomicInteger executeCount = new AtomicInteger();
+			Executor executor = new Executor() {
+				public void execute(Runnable command) {
+					executeCount.incrementAndGet();
+					new Thread(command).start();
+				}
+			};
+			BufferedImage img = new BufferedImageBuilder(1000, 1000).build();
+
+			// when
+			BufferedImage thumbnail = Thumbnails.of(img)
+					.size(500, 500)
+					.scalingMode(ScalingMode.LANCZOS3)
+					.parallel(executor)
+					.asBufferedImage();
+
+			// then
+			assertEquals(500, thumbnail.getWidth());
+			assertEquals(500, thumbnail.getHeight());
+			assertTrue(executeCount.get() > 0);
+		}
+
+		@Test
+		public void parallelSharedPool() throws IOException {
+			// given
+			BufferedImage img = new BufferedImageBuilder(1000, 1000).build();
+
+			// when
+			BufferedImage thumbnail = Thumbnails.of(img)
+					.size(500, 500)
+					.scalingMode(ScalingMode.LANCZOS3)
+					.parallel()
+					.asBufferedImage();
+
+			// then
+			assertEquals(500, thumbnail.getWidth());
+			assertEquals(500, thumbnail.getHeight());
+		}
+
+		@Test(expected = IllegalStateException.class)
+		public void parallelCalledTwice() {
+			Thumbnails.of(ORIGINAL_IMAGE)
+					.parallel()
+					.parallel();
+		}
+
+		@Test
+		public void decodeSubsamplingAutoKeepsScaledSize() throws IOException {
+			// given
+			BufferedImage img = new BufferedImageBuilder(1001, 799).build();
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			ImageIO.write(img, "png", baos);
+			byte[] data = baos.toByteArray();
+
+			// when
+			BufferedImage thumbnail = Thumbnails.of(new ByteArrayInputStream(data))
+					.scale(0.1)
+					.decodeSubsampling(DecodeSubsampling.AUTO)
+					.asBufferedImage();
+
+			// then
+			assertEquals(100, thumbnail.getWidth());
+			assertEquals(80, thumbnail.getHeight());
+		}
+
+		@Test
+		public void decodeSubsamplingAutoKeepsSizedDimensions() throws IOException {
+			// given
+			BufferedImage img = new BufferedImageBuilder(1000, 817).build();
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			ImageIO.write(img, "png", baos);
+			byte[] data = baos.toByteArray();
+
+			// when
+			BufferedImage thumbnail = Thumbnails.of(new ByteArrayInputStream(data))
+					.size(200, 200)
+					.asBufferedImage();
+			BufferedImage subsampledThumbnail = Thumbnails.of(new ByteArrayInputStream(data))
+					.size(200, 200)
+					.decodeSubsampling(DecodeSubsampling.AUTO)
+					.asBufferedImage();
+
+			// then
+			assertEquals(200, thumbnail.getWidth());
+			assertEquals(163, thumbnail.getHeight());
+			assertEquals(thumbnail.getWidth(), subsampledThumbnail.getWidth());
+			assertEquals(thumbnail.getHeight(), subsampledThumbnail.getHeight());
+		}
+
+		@Test(expected = IllegalStateException.class)
+		public void decodeSubsamplingCalledTwice() {
+			Thumbnails.of(ORIGINAL_IMAGE)
+					.decodeSubsampling(DecodeSubsampling.AUTO)
+					.decodeSubsampling(DecodeSubsampling.NONE);
+		}
+
+		@Test(expected = NullPointerException.class)
+		public void parallelNullExecutor() {
+			Thumbnails.of(ORIGINAL_IMAGE)
+					.parallel(null);
+		}
+
+		@Test
+		public void useEmbeddedThumbnailWithOrientation() throws IOException {
+			// given
+			BufferedImage img = new BufferedImageBuilder(800, 600, BufferedImage.TYPE_INT_RGB).build();
+			Graphics g = img.getGraphics();
+			g.setColor(Color.red);
+			g.fillRect(0, 0, 800, 600);
+			g.dispose();
+			BufferedImage preview = new BufferedImageBuilder(160, 120, BufferedImage.TYPE_INT_RGB).build();
+			g = preview.getGraphics();
+			g.setColor(Color.blue);
+			g.fillRect(0, 0, 160, 120);
+			g.dispose();
+			byte[] exifData = TestUtils.makeExifWithThumbnail(6, TestUtils.toJpeg(preview));
+			InputStream is = new ByteArrayInputStream(TestUtils.makeJpegWithExif(img, exifData));
+
+			// when
+			BufferedImage thumbnail = Thumbnails.of(is)
+					.size(100, 100)
+					.useEmbeddedThumbnail(true)
+					.asBufferedImage();
+
+			// then
+			assertEquals(75, thumbnail.getWidth());
+			assertEquals(100, thumbnail.getHeight());
+			assertTrue((thumbnail.getRGB(37, 50) & 0xFF) > 200);
+		}
+
+		@Test(expected = IllegalStateException.class)
+		public void useEmbeddedThumbnailCalledTwice() {
+			Thumbnails.of(ORIGINAL_IMAGE)
+					.useEmbeddedThumbnail(true)
+					.useEmbeddedThumbnail(false);
+		}
+
+		@Test
+		public void ofByteArrayAsByteBuffer() throws IOException {
+			// given
+			byte[] data = TestUtils.toJpeg(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB));
+
+			// when
+			ByteBuffer result = Thumbnails.of(data)
+					.size(50, 50)
+					.asByteBuffer();
+
+			// then
+			byte[] thumbnail = new byte[result.remaining()];
+			result.get(thumbnail);
+			BufferedImage img = ImageIO.read(new ByteArrayInputStream(thumbnail));
+			assertEquals(50, img.getWidth());
+			assertEquals(25, img.getHeight());
+		}
+
+		@Test
+		public void ofByteBufferToByteBuffer() throws IOException {
+			// given
+			ByteBuffer source = ByteBuffer.wrap(
+					TestUtils.toJpeg(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB))
+			);
+			ByteBuffer destination = ByteBuffer.allocate(64 * 1024);
+
+			// when
+			Thumbnails.of(source)
+					.size(50, 50)
+					.outputFormat("png")
+					.toByteBuffer(destination);
+
+			// then
+			destination.flip();
+			byte[] thumbnail = new byte[destination.remaining()];
+			destination.get(thumbnail);
+			BufferedImage img = ImageIO.read(new ByteArrayInputStream(thumbnail));
+			assertEquals(50, img.getWidth());
+			assertEquals(25, img.getHeight());
+			assertEquals(0, source.position());
+		}
+
+		@Test(expected=IllegalArgumentException.class)
+		public void multipleByteArraysAsByteBuffer() throws IOException {
+			byte[] data = TestUtils.toJpeg(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB));
+
+			Thumbnails.of(data, data)
+					.size(50, 50)
+					.asByteBuffer();
+		}
+
+		@Test(expected=IllegalStateException.class)
+		public void bufferedImageAsByteBufferWithoutOutputFormat() throws IOException {
+			Thumbnails.of(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB))
+					.size(50, 50)
+					.asByteBuffer();
+		}
 	}
 
 	public static class InputOutputFilesTests {
@@ -4607,6 +4903,75 @@ public class ThumbnailsBuilderTest {
 		}
 	}
 
+	@RunWith(Parameterized.class)
+	public static class CropWithOrientationTests {
+		// Error tolerance to deal with JPEG artifacts.
+		private static final int MAX_ERROR = 3;
+		private static final BufferedImage ORIGINAL_F_IMAGE;
+
+		static {
+			try {
+				InputStream is = TestUtils.getResourceStream("Exif/original.png");
+				ORIGINAL_F_IMAGE = ImageIO.read(is);
+				is.close();
+
+			} catch (Exception e) {
+				throw new RuntimeException("Shouldn't happen.", e);
+			}
+		}
+
+		@Parameterized.Parameters(name = "orientation={0}")
+		public static Object[] values() {
+			return new Integer[]{1, 2, 3, 4, 5, 6, 7, 8};
+		}
+
+		@Parameterized.Parameter
+		public int orientation;
+
+		@Rule
+		public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+		private BufferedImage crop(int width, int height, Position position) throws IOException {
+			String resourceName = String.format("Exif/source_%s.jpg", orientation);
+			File sourceFile = TestUtils.copyResourceToTemporaryFile(resourceName, temporaryFolder);
+
+			return Thumbnails.of(sourceFile)
+					.size(width, height)
+					.crop(position)
+					.asBufferedImage();
+		}
+
+		@Test
+		public void cropTopLeft() throws IOException {
+			// when
+			BufferedImage thumbnail = crop(80, 160, Positions.TOP_LEFT);
+
+			// then
+			BufferedImage expected = ORIGINAL_F_IMAGE.getSubimage(0, 0, 80, 160);
+			assertTrue(BufferedImageComparer.isRGBSimilar(thumbnail, expected, MAX_ERROR));
+		}
+
+		@Test
+		public void cropBottomRight() throws IOException {
+			// when
+			BufferedImage thumbnail = crop(80, 160, Positions.BOTTOM_RIGHT);
+
+			// then
+			BufferedImage expected = ORIGINAL_F_IMAGE.getSubimage(80, 0, 80, 160);
+			assertTrue(BufferedImageComparer.isRGBSimilar(thumbnail, expected, MAX_ERROR));
+		}
+
+		@Test
+		public void cropCenter() throws IOException {
+			// when
+			BufferedImage thumbnail = crop(160, 80, Positions.CENTER);
+
+			// then
+			BufferedImage expected = ORIGINAL_F_IMAGE.getSubimage(0, 40, 160, 80);
+			assertTrue(BufferedImageComparer.isRGBSimilar(thumbnail, expected, MAX_ERROR));
+		}
+	}
+
 	@RunWith(Parameterized.class)
 	public static class WatermarkPositioningTests {
 		@Parameterized.Parameters(name = "position={0}, x={1}, y={2}")
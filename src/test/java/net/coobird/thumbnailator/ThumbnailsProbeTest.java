@@ -0,0 +1,214 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import net.coobird.thumbnailator.tasks.UnsupportedFormatException;
+import net.coobird.thumbnailator.util.exif.Orientation;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ThumbnailsProbeTest {
+	
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+	
+	@Test
+	public void probeFile() throws IOException {
+		// given
+		File f = TestUtils.copyResourceToTemporaryFile("Thumbnailator/grid.png", temporaryFolder);
+		
+		// when
+		ImageInfo info = Thumbnails.probe(f);
+		
+		// then
+		assertEquals(100, info.getWidth());
+		assertEquals(100, info.getHeight());
+		assertEquals("png", info.getFormatName());
+		assertNull(info.getOrientation());
+	}
+	
+	@Test
+	public void probeInputStreamWithOrientation() throws IOException {
+		// given
+		InputStream is = TestUtils.getResourceStream("Exif/sourceWide_6.jpg");
+		
+		// when
+		ImageInfo info = Thumbnails.probe(is);
+		is.close();
+		
+		// then
+		assertEquals(80, info.getWidth());
+		assertEquals(160, info.getHeight());
+		assertEquals(160, info.getOrientedWidth());
+		assertEquals(80, info.getOrientedHeight());
+		assertEquals("JPEG", info.getFormatName());
+		assertEquals(Orientation.RIGHT_TOP, info.getOrientation());
+	}
+	
+	@Test
+	public void probeURL() throws IOException {
+		// when
+		ImageInfo info = Thumbnails.probe(TestUtils.getResource("Exif/sourceWide_1.jpg"));
+		
+		// then
+		assertEquals(160, info.getWidth());
+		assertEquals(80, info.getHeight());
+		assertEquals(Orientation.TOP_LEFT, info.getOrientation());
+	}
+	
+	private static byte[] readResource(String name) throws IOException {
+		InputStream is = TestUtils.getResourceStream(name);
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		byte[] buf = new byte[4096];
+		int n;
+		while ((n = is.read(buf)) != -1) {
+			baos.write(buf, 0, n);
+		}
+		is.close();
+		return baos.toByteArray();
+	}
+	
+	@Test
+	public void probeByteArray() throws IOException {
+		// given
+		byte[] data = readResource("Exif/sourceWide_8.jpg");
+		
+		// when
+		ImageInfo info = Thumbnails.probe(data);
+		
+		// then
+		assertEquals(80, info.getWidth());
+		assertEquals(160, info.getHeight());
+		assertEquals(Orientation.LEFT_BOTTOM, info.getOrientation());
+	}
+	
+	@Test
+	public void probeDifferentFormatsWithReusedReaders() throws IOException {
+		// given
+		byte[] jpg = readResource("Thumbnailator/grid.jpg");
+		byte[] png = readResource("Thumbnailator/grid.png");
+		
+		// when
+		ImageInfo jpgInfo1 = Thumbnails.probe(jpg);
+		ImageInfo pngInfo = Thumbnails.probe(png);
+		ImageInfo jpgInfo2 = Thumbnails.probe(jpg);
+		
+		// then
+		assertEquals("JPEG", jpgInfo1.getFormatName());
+		assertEquals("png", pngInfo.getFormatName());
+		assertEquals(jpgInfo1.toString(), jpgInfo2.toString());
+	}
+	
+	@Test(expected=UnsupportedFormatException.class)
+	public void probeUnsupportedFormat() throws IOException {
+		Thumbnails.probe(new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+	}
+	
+	@Test(expected=FileNotFoundException.class)
+	public void probeNonExistentFile() throws IOException {
+		Thumbnails.probe(new File(temporaryFolder.getRoot(), "nonexistent.png"));
+	}
+	
+	@Test(expected=NullPointerException.class)
+	public void probeNullFile() throws IOException {
+		Thumbnails.probe((File)null);
+	}
+	
+	@Test
+	public void probeFilesWithExecutor() throws IOException {
+		// given
+		List<File> files = new ArrayList<File>();
+		for (int i = 1; i <= 8; i++) {
+			files.add(TestUtils.copyResourceToTemporaryFile(
+					"Exif/sourceWide_" + i + ".jpg", temporaryFolder
+			));
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		
+		// when
+		List<ImageInfo> infos;
+		try {
+			infos = Thumbnails.probe(files, executor);
+		} finally {
+			executor.shutdown();
+		}
+		
+		// then
+		assertEquals(8, infos.size());
+		for (int i = 0; i < 8; i++) {
+			ImageInfo info = infos.get(i);
+			assertEquals(Orientation.typeOf(i + 1), info.getOrientation());
+			assertEquals(160, info.getOrientedWidth());
+			assertEquals(80, info.getOrientedHeight());
+		}
+	}
+	
+	@Test
+	public void probeFilesWithExecutorReportsFailures() throws IOException {
+		// given
+		File valid = TestUtils.copyResourceToTemporaryFile("Thumbnailator/grid.png", temporaryFolder);
+		File missing = new File(temporaryFolder.getRoot(), "nonexistent.png");
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		
+		// when
+		try {
+			Thumbnails.probe(Arrays.asList(valid, missing, valid), executor);
+			fail();
+			
+		} catch (ThumbnailBatchException e) {
+			// then
+			assertEquals(1, e.getFailures().size());
+			assertEquals(1, e.getFailures().get(0).getIndex());
+			assertEquals(2, e.getResults().size());
+			
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test(expected=FileNotFoundException.class)
+	public void probeFilesSequentialThrowsFirstFailure() throws IOException {
+		// given
+		File missing = new File(temporaryFolder.getRoot(), "nonexistent.png");
+		
+		// when
+		Thumbnails.probe(Arrays.asList(missing), null);
+	}
+}
@@ -28,6 +28,7 @@ import static org.junit.Assert.*;
 
 import java.awt.Dimension;
 import java.util.Collections;
+import java.util.concurrent.Executor;
 
 import net.coobird.thumbnailator.ThumbnailParameter;
 import net.coobird.thumbnailator.resizers.Resizer;
@@ -326,5 +327,69 @@ public class ThumbnailParameterBuilderTest {
 		
 		assertEquals(rf, param.getResizerFactory());
 	}
+	
+	/**
+	 * Test for the {@link ThumbnailParameterBuilder#build()} method, where
+	 * <ol>
+	 * <li>parallel is not called</li>
+	 * </ol>
+	 * and the expected outcome is,
+	 * <ol>
+	 * <li>A ThumbnailParameter will contain no executor.</li>
+	 * </ol>
+	 */
+	@Test
+	public void build_parallelNotCalled() {
+		ThumbnailParameter param = new ThumbnailParameterBuilder()
+			.scale(0.5)
+			.build();
+		
+		assertNull(param.getParallelExecutor());
+	}
+	
+	/**
+	 * Test for the {@link ThumbnailParameterBuilder#build()} method, where
+	 * <ol>
+	 * <li>parallel is called with a specific Executor</li>
+	 * </ol>
+	 * and the expected outcome is,
+	 * <ol>
+	 * <li>A ThumbnailParameter will contain the specified Executor.</li>
+	 * </ol>
+	 */
+	@Test
+	public void build_calledParallel() {
+		Executor executor = new Executor() {
+			public void execute(Runnable command) {
+				command.run();
+			}
+		};
+		
+		ThumbnailParameter param = new ThumbnailParameterBuilder()
+			.size(100, 100)
+			.parallel(executor)
+			.build();
+		
+		assertEquals(executor, param.getParallelExecutor());
+	}
+	
+	@Test
+	public void build_useEmbeddedThumbnailNotCalled() {
+		ThumbnailParameter param = new ThumbnailParameterBuilder()
+			.size(100, 100)
+			.build();
+		
+		assertFalse(param.useEmbeddedThumbnail());
+	}
+	
+	@Test
+	public void build_calledUseEmbeddedThumbnail() {
+		ThumbnailParameter param = new ThumbnailParameterBuilder()
+			.size(100, 100)
+			.useEmbeddedThumbnail(true)
+			.build();
+		
+		assertTrue(param.useEmbeddedThumbnail());
+	}
 
 }
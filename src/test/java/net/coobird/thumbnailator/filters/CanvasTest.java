@@ -28,6 +28,7 @@ import static net.coobird.thumbnailator.filters.ImageFilterTestUtils.assertImage
 import static org.junit.Assert.*;
 
 import java.awt.Color;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 
 import net.coobird.thumbnailator.geometry.Positions;
@@ -329,4 +330,40 @@ public class CanvasTest {
 		assertEquals(Color.blue.getRGB(), resultImage.getRGB(1, 50));
 		assertEquals(Color.blue.getRGB(), resultImage.getRGB(99, 50));
 	}
+
+	@Test
+	public void calculateCropRegionCenter() {
+		// given
+		Canvas canvas = new Canvas(100, 100, Positions.CENTER, true);
+		
+		// when
+		Rectangle region = canvas.calculateCropRegion(400, 200);
+		
+		// then
+		assertEquals(new Rectangle(100, 0, 200, 200), region);
+	}
+	
+	@Test
+	public void calculateCropRegionBottomRight() {
+		// given
+		Canvas canvas = new Canvas(100, 100, Positions.BOTTOM_RIGHT, true);
+		
+		// when
+		Rectangle region = canvas.calculateCropRegion(200, 400);
+		
+		// then
+		assertEquals(new Rectangle(0, 200, 200, 200), region);
+	}
+	
+	@Test
+	public void calculateCropRegionSameRatio() {
+		// given
+		Canvas canvas = new Canvas(100, 50, Positions.TOP_LEFT, true);
+		
+		// when
+		Rectangle region = canvas.calculateCropRegion(400, 200);
+		
+		// then
+		assertEquals(new Rectangle(0, 0, 400, 200), region);
+	}
 }
@@ -29,6 +29,7 @@ import static org.junit.Assert.*;
 
 import java.awt.Color;
 import java.awt.Font;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 
 import net.coobird.thumbnailator.geometry.Position;
@@ -153,4 +154,27 @@ public class CaptionTest {
 				-1
 		);
 	}
+	
+	@Test
+	public void applyToRegion_SameResultAsApply() {
+		// given
+		BufferedImage originalImage = new BufferedImage(300, 200, BufferedImage.TYPE_INT_ARGB);
+		Caption filter = new Caption(
+				"Hello World!", new Font("Serif", Font.ITALIC, 32), Color.white,
+				0.8f, Positions.BOTTOM_LEFT, 5
+		);
+		BufferedImage expectedImage = filter.apply(originalImage);
+		
+		// when
+		Rectangle bounds = filter.getAffectedBounds(originalImage)
+				.intersection(new Rectangle(0, 0, 300, 200));
+		filter.applyToRegion(
+				originalImage.getSubimage(bounds.x, bounds.y, bounds.width, bounds.height),
+				bounds.x, bounds.y, 300, 200
+		);
+		
+		// then
+		assertTrue(bounds.width * bounds.height < 300 * 200 / 2);
+		assertTrue(BufferedImageComparer.isSame(expectedImage, originalImage));
+	}
 }
@@ -24,12 +24,21 @@
 
 package net.coobird.thumbnailator.filters;
 
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import net.coobird.thumbnailator.geometry.Positions;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
@@ -528,4 +537,254 @@ public class PipelineTest {
 		// then
 		assertEquals(Arrays.asList(filter2, filter1), returned);
 	}
+	
+	@Test
+	public void inPlaceFilters_ImageNotModifiable_SingleCopyMade() {
+		// given
+		BufferedImage img = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+		
+		InPlaceImageFilter filter1 = mock(InPlaceImageFilter.class);
+		InPlaceImageFilter filter2 = mock(InPlaceImageFilter.class);
+		when(filter1.canApplyInPlace(any(BufferedImage.class))).thenReturn(true);
+		when(filter2.canApplyInPlace(any(BufferedImage.class))).thenReturn(true);
+		
+		// when
+		BufferedImage result = new Pipeline(filter1, filter2).apply(img);
+		
+		// then
+		assertNotSame(img, result);
+		verify(filter1).applyInPlace(result);
+		verify(filter2).applyInPlace(result);
+		verify(filter1, never()).apply(any(BufferedImage.class));
+		verify(filter2, never()).apply(any(BufferedImage.class));
+	}
+	
+	@Test
+	public void inPlaceFilters_ImageModifiable_NoCopyMade() {
+		// given
+		BufferedImage img = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+		
+		InPlaceImageFilter filter1 = mock(InPlaceImageFilter.class);
+		when(filter1.canApplyInPlace(img)).thenReturn(true);
+		
+		// when
+		BufferedImage result = new Pipeline(filter1).apply(img, true);
+		
+		// then
+		assertSame(img, result);
+		verify(filter1).applyInPlace(img);
+	}
+	
+	@Test
+	public void inPlaceFilterAfterFilter_AppliedToReturnedImage() {
+		// given
+		BufferedImage img = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+		BufferedImage filteredImg = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+		
+		ImageFilter filter1 = mock(ImageFilter.class);
+		when(filter1.apply(img)).thenReturn(filteredImg);
+		InPlaceImageFilter filter2 = mock(InPlaceImageFilter.class);
+		when(filter2.canApplyInPlace(filteredImg)).thenReturn(true);
+		
+		// when
+		BufferedImage result = new Pipeline(filter1, filter2).apply(img);
+		
+		// then
+		assertSame(filteredImg, result);
+		verify(filter2).applyInPlace(filteredImg);
+	}
+	
+	@Test
+	public void inPlaceFilterAfterFilterReturningSubimage_ImageNotModifiable_SourceNotModified() {
+		// given
+		BufferedImage img = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+		
+		ImageFilter filter1 = new ImageFilter() {
+			public BufferedImage apply(BufferedImage img) {
+				return img.getSubimage(50, 50, 100, 100);
+			}
+		};
+		ImageFilter filter2 = new Colorize(Color.blue, 1.0f);
+		
+		// when
+		BufferedImage result = new Pipeline(filter1, filter2).apply(img);
+		
+		// then
+		assertNotSame(img.getRaster().getDataBuffer(), result.getRaster().getDataBuffer());
+		assertEquals(0, img.getRGB(100, 100));
+		assertEquals(Color.blue.getRGB(), result.getRGB(50, 50));
+	}
+	
+	@Test
+	public void inPlaceFilterAfterFilterReturningSubimage_ImageModifiable_SourceModified() {
+		// given
+		BufferedImage img = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+		
+		ImageFilter filter1 = new ImageFilter() {
+			public BufferedImage apply(BufferedImage img) {
+				return img.getSubimage(50, 50, 100, 100);
+			}
+		};
+		ImageFilter filter2 = new Colorize(Color.blue, 1.0f);
+		
+		// when
+		BufferedImage result = new Pipeline(filter1, filter2).apply(img, true);
+		
+		// then
+		assertSame(img.getRaster().getDataBuffer(), result.getRaster().getDataBuffer());
+		assertEquals(Color.blue.getRGB(), img.getRGB(100, 100));
+	}
+	
+	@Test
+	public void inPlaceFilterWhichCannotApply_ApplyUsed() {
+		// given
+		BufferedImage img = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+		BufferedImage filteredImg = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+		
+		InPlaceImageFilter filter1 = mock(InPlaceImageFilter.class);
+		when(filter1.canApplyInPlace(any(BufferedImage.class))).thenReturn(false);
+		when(filter1.apply(any(BufferedImage.class))).thenReturn(filteredImg);
+		
+		// when
+		BufferedImage result = new Pipeline(filter1).apply(img, true);
+		
+		// then
+		assertSame(filteredImg, result);
+		verify(filter1, never()).applyInPlace(any(BufferedImage.class));
+	}
+	
+	@Test
+	public void inPlaceFilterWhichCannotApply_ImageNotModifiable_NoCopyMade() {
+		// given
+		BufferedImage img = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+		BufferedImage filteredImg = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+		
+		InPlaceImageFilter filter1 = mock(InPlaceImageFilter.class);
+		when(filter1.canApplyInPlace(any(BufferedImage.class))).thenReturn(false);
+		when(filter1.apply(img)).thenReturn(filteredImg);
+		
+		// when
+		BufferedImage result = new Pipeline(filter1).apply(img);
+		
+		// then
+		assertSame(filteredImg, result);
+		verify(filter1).apply(img);
+		verify(filter1, never()).applyInPlace(any(BufferedImage.class));
+	}
+	
+	@Test
+	public void inPlaceFilters_SameResultAsApply() {
+		// given
+		BufferedImage img = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < 100; y++) {
+			for (int x = 0; x < 100; x++) {
+				img.setRGB(x, y, x * 0x020000 + y * 0x000200);
+			}
+		}
+		List<ImageFilter> filters = Arrays.<ImageFilter>asList(
+				new Colorize(Color.blue, 0.3f),
+				new Watermark(
+						Positions.CENTER,
+						new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB),
+						0.5f
+				),
+				new Transparency(0.5f)
+		);
+		
+		BufferedImage expected = img;
+		for (ImageFilter filter : filters) {
+			expected = filter.apply(expected);
+		}
+		
+		// when
+		BufferedImage result = new Pipeline(filters).apply(img);
+		
+		// then
+		assertNotSame(img, result);
+		assertEquals(expected.getType(), result.getType());
+		for (int y = 0; y < 100; y++) {
+			for (int x = 0; x < 100; x++) {
+				assertEquals(expected.getRGB(x, y), result.getRGB(x, y));
+			}
+		}
+	}
+	
+	@Test
+	public void bandedFilters_Parallel_SameResultAsSequential() {
+		// given
+		BufferedImage img = new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB);
+		Random random = new Random(42L);
+		for (int y = 0; y < img.getHeight(); y++) {
+			for (int x = 0; x < img.getWidth(); x++) {
+				img.setRGB(x, y, random.nextInt());
+			}
+		}
+		BufferedImage watermarkImg = new BufferedImage(300, 200, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 0; y < watermarkImg.getHeight(); y++) {
+			for (int x = 0; x < watermarkImg.getWidth(); x++) {
+				watermarkImg.setRGB(x, y, random.nextInt());
+			}
+		}
+		Pipeline pipeline = new Pipeline(
+				new Colorize(Color.red, 0.4f),
+				new Watermark(Positions.CENTER, watermarkImg, 0.7f),
+				new Caption("caption", new Font("Monospaced", Font.PLAIN, 120), Color.white, Positions.CENTER, 0),
+				new Transparency(0.5f)
+		);
+		
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			// when
+			BufferedImage sequential = pipeline.apply(img);
+			BufferedImage parallel = pipeline.apply(img, false, executor);
+			
+			// then
+			for (int y = 0; y < img.getHeight(); y++) {
+				for (int x = 0; x < img.getWidth(); x++) {
+					assertEquals(sequential.getRGB(x, y), parallel.getRGB(x, y));
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void regionFilter_OnlyRegionFiltered() {
+		// given
+		BufferedImage img = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+		
+		RegionImageFilter filter1 = mock(RegionImageFilter.class);
+		when(filter1.canApplyInPlace(img)).thenReturn(true);
+		when(filter1.getAffectedBounds(img)).thenReturn(new Rectangle(150, -10, 100, 40));
+		
+		// when
+		new Pipeline(filter1).apply(img, true);
+		
+		// then
+		ArgumentCaptor<BufferedImage> captor = ArgumentCaptor.forClass(BufferedImage.class);
+		verify(filter1).applyToRegion(captor.capture(), eq(150), eq(0), eq(200), eq(200));
+		assertEquals(50, captor.getValue().getWidth());
+		assertEquals(30, captor.getValue().getHeight());
+		verify(filter1, never()).applyInPlace(any(BufferedImage.class));
+	}
+	
+	@Test
+	public void regionFilter_OutsideImage_NothingFiltered() {
+		// given
+		BufferedImage img = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+		
+		RegionImageFilter filter1 = mock(RegionImageFilter.class);
+		when(filter1.canApplyInPlace(img)).thenReturn(true);
+		when(filter1.getAffectedBounds(img)).thenReturn(new Rectangle(300, 0, 100, 40));
+		
+		// when
+		new Pipeline(filter1).apply(img, true);
+		
+		// then
+		verify(filter1, never()).applyToRegion(
+				any(BufferedImage.class), anyInt(), anyInt(), anyInt(), anyInt()
+		);
+		verify(filter1, never()).applyInPlace(any(BufferedImage.class));
+	}
 }
@@ -89,4 +89,40 @@ public class TransparencyTest {
 	public void imageTypeForInputAndOutputIsTheSame_FloatConstructor() {
 		assertImageTypeRetained(new Transparency(0.5f));
 	}
+	
+	@Test
+	public void applyInPlace_SameResultAsApply() {
+		// given
+		BufferedImage img = new BufferedImage(256, 256, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 0; y < 256; y++) {
+			for (int x = 0; x < 256; x++) {
+				img.setRGB(x, y, (y << 24) | (x << 16) | 0x8040);
+			}
+		}
+		Transparency filter = new Transparency(0.3f);
+		BufferedImage expected = filter.apply(img);
+		
+		// when
+		assertTrue(filter.canApplyInPlace(img));
+		filter.applyInPlace(img);
+		
+		// then
+		for (int y = 0; y < 256; y++) {
+			for (int x = 0; x < 256; x++) {
+				int e = expected.getRGB(x, y);
+				int a = img.getRGB(x, y);
+				assertTrue(Math.abs((e >>> 24) - (a >>> 24)) <= 1);
+				if ((e >>> 24) > 16) {
+					assertTrue(Math.abs(((e >> 16) & 0xFF) - ((a >> 16) & 0xFF)) <= 16);
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void canApplyInPlace_OnlyForIntArgb() {
+		Transparency filter = new Transparency(0.5f);
+		assertTrue(filter.canApplyInPlace(new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB)));
+		assertFalse(filter.canApplyInPlace(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB)));
+	}
 }
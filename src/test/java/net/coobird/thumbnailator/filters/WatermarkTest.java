@@ -29,6 +29,7 @@ import static org.junit.Assert.*;
 
 import java.awt.Color;
 import java.awt.Graphics;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 
@@ -262,4 +263,47 @@ public class WatermarkTest {
 
 		assertTrue(BufferedImageComparer.isSame(actual, expected));
 	}
+	
+	@Test
+	public void getAffectedBounds() {
+		// given
+		BufferedImage originalImage = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+		BufferedImage watermarkImg = new BufferedImage(50, 20, BufferedImage.TYPE_INT_ARGB);
+		Watermark filter = new Watermark(Positions.BOTTOM_RIGHT, watermarkImg, 0.5f, 10);
+		
+		// when
+		Rectangle bounds = filter.getAffectedBounds(originalImage);
+		
+		// then
+		assertEquals(new Rectangle(140, 170, 50, 20), bounds);
+	}
+	
+	@Test
+	public void applyToRegion_SameResultAsApply() {
+		// given
+		BufferedImage originalImage = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+		Graphics g = originalImage.getGraphics();
+		g.setColor(Color.blue);
+		g.fillRect(0, 0, 200, 200);
+		g.dispose();
+		
+		BufferedImage watermarkImg = new BufferedImage(50, 20, BufferedImage.TYPE_INT_ARGB);
+		g = watermarkImg.getGraphics();
+		g.setColor(Color.red);
+		g.fillRect(0, 0, 50, 20);
+		g.dispose();
+		
+		Watermark filter = new Watermark(Positions.CENTER, watermarkImg, 0.5f);
+		BufferedImage expectedImage = filter.apply(originalImage);
+		
+		// when
+		Rectangle bounds = filter.getAffectedBounds(originalImage);
+		filter.applyToRegion(
+				originalImage.getSubimage(bounds.x, bounds.y, bounds.width, bounds.height),
+				bounds.x, bounds.y, 200, 200
+		);
+		
+		// then
+		assertTrue(BufferedImageComparer.isSame(expectedImage, originalImage));
+	}
 }
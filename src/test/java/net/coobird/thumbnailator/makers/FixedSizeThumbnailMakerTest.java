@@ -24,7 +24,10 @@
 
 package net.coobird.thumbnailator.makers;
 
+import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 
 import net.coobird.thumbnailator.builders.BufferedImageBuilder;
@@ -857,4 +860,40 @@ public class FixedSizeThumbnailMakerTest {
 		assertEquals(10, thumbnail.getHeight());
 	}	
 	
+	/**
+	 * Test for the {@link FixedSizeThumbnailMaker} class where,
+	 * <ol>
+	 * <li>A rotation by 90 degrees is set by transform().</li>
+	 * </ol>
+	 * and the expected outcome is,
+	 * <ol>
+	 * <li>The thumbnail has the specified dimensions swapped, and is
+	 * rotated clockwise.</li>
+	 * </ol>
+	 */
+	@Test
+	public void transformRotatingBy90Degrees() {
+		// given
+		BufferedImage img = new BufferedImageBuilder(400, 200).build();
+		Graphics g = img.getGraphics();
+		g.setColor(Color.red);
+		g.fillRect(0, 0, 200, 200);
+		g.setColor(Color.blue);
+		g.fillRect(200, 0, 200, 200);
+		g.dispose();
+		
+		// when
+		BufferedImage thumbnail = new FixedSizeThumbnailMaker(200, 100)
+				.keepAspectRatio(true)
+				.fitWithinDimensions(true)
+				.transform(AffineTransform.getRotateInstance(Math.PI / 2))
+				.make(img);
+		
+		// then
+		assertEquals(100, thumbnail.getWidth());
+		assertEquals(200, thumbnail.getHeight());
+		assertEquals(Color.red.getRGB(), thumbnail.getRGB(50, 20));
+		assertEquals(Color.blue.getRGB(), thumbnail.getRGB(50, 180));
+	}
+	
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import static org.junit.Assert.*;
+
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import net.coobird.thumbnailator.resizers.Resizers;
+
+import org.junit.Test;
+
+public class ParallelBoxResizerTest {
+	
+	@Test(expected=NullPointerException.class)
+	public void resizeNullAndSpecified() {
+		BufferedImage destImage = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+		
+		new ParallelBoxResizer().resize(null, destImage);
+	}
+	
+	@Test(expected=NullPointerException.class)
+	public void resizeSpecifiedAndNull() {
+		BufferedImage srcImage = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+		
+		new ParallelBoxResizer().resize(srcImage, null);
+	}
+	
+	/**
+	 * Black and white checkerboard must average into uniform gray
+	 * when boxes cover an even number of cells.
+	 */
+	@Test
+	public void resizeCheckerboardIntoGray() {
+		final BufferedImage srcImage =
+			new BufferedImage(64, 32, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < 32; y++) {
+			for (int x = 0; x < 64; x++) {
+				srcImage.setRGB(x, y, (((x + y) & 1) == 0) ? 0xFFFFFFFF : 0xFF000000);
+			}
+		}
+		final BufferedImage destImage =
+			new BufferedImage(16, 8, BufferedImage.TYPE_INT_RGB);
+		
+		Resizers.PARALLEL_BOX.resize(srcImage, destImage);
+		
+		for (int y = 0; y < 8; y++) {
+			for (int x = 0; x < 16; x++) {
+				final int blue = destImage.getRGB(x, y) & 0xFF;
+				assertTrue("" + blue, Math.abs(blue - 128) <= 1);
+			}
+		}
+	}
+	
+	/**
+	 * 3 pixels into 2: each destination pixel takes a full source pixel
+	 * and half of the middle one.
+	 */
+	@Test
+	public void resizeFractionalCoverage() {
+		final BufferedImage srcImage =
+			new BufferedImage(3, 1, BufferedImage.TYPE_INT_RGB);
+		srcImage.setRGB(0, 0, 0xFF000000);
+		srcImage.setRGB(1, 0, 0xFF0000F0);
+		srcImage.setRGB(2, 0, 0xFF000060);
+		final BufferedImage destImage =
+			new BufferedImage(2, 1, BufferedImage.TYPE_INT_RGB);
+		
+		new ParallelBoxResizer().resize(srcImage, destImage);
+		
+		// (0 * 1 + 240 * 0.5) / 1.5 = 80
+		assertEquals(80, destImage.getRGB(0, 0) & 0xFF);
+		// (240 * 0.5 + 96 * 1) / 1.5 = 144
+		assertEquals(144, destImage.getRGB(1, 0) & 0xFF);
+	}
+	
+	@Test
+	public void resizeTranslucentWeightsByAlpha() {
+		final BufferedImage srcImage =
+			new BufferedImage(2, 1, BufferedImage.TYPE_INT_ARGB);
+		srcImage.setRGB(0, 0, 0xFFFF0000);
+		srcImage.setRGB(1, 0, 0x000000FF);
+		final BufferedImage destImage =
+			new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+		
+		new ParallelBoxResizer().resize(srcImage, destImage);
+		
+		// Fully transparent blue doesn't contribute to color.
+		assertEquals(0x80FF0000, destImage.getRGB(0, 0));
+	}
+	
+	@Test
+	public void resizeParallelSameAsSequential() {
+		final BufferedImage srcImage =
+			new BufferedImage(1000, 700, BufferedImage.TYPE_INT_ARGB);
+		final Random random = new Random(123L);
+		for (int y = 0; y < srcImage.getHeight(); y++) {
+			for (int x = 0; x < srcImage.getWidth(); x++) {
+				srcImage.setRGB(x, y, random.nextInt());
+			}
+		}
+		
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			for (int[] size : new int[][] {{7, 5}, {333, 211}, {999, 699}}) {
+				final BufferedImage seqImage =
+					new BufferedImage(size[0], size[1], BufferedImage.TYPE_INT_ARGB);
+				final BufferedImage prlImage =
+					new BufferedImage(size[0], size[1], BufferedImage.TYPE_INT_ARGB);
+				
+				Resizers.PARALLEL_BOX.resize(srcImage, seqImage);
+				Resizers.PARALLEL_BOX.resize(srcImage, prlImage, executor);
+				
+				for (int y = 0; y < size[1]; y++) {
+					for (int x = 0; x < size[0]; x++) {
+						assertEquals(seqImage.getRGB(x, y), prlImage.getRGB(x, y));
+					}
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Must be the same as resizing and then rotating and/or flipping,
+	 * for int, byte and generic destination layouts.
+	 */
+	@Test
+	public void resizeTransformedSameAsResizeThenTransform() {
+		final BufferedImage srcImage =
+			new BufferedImage(600, 400, BufferedImage.TYPE_INT_ARGB);
+		final Random random = new Random(123L);
+		for (int y = 0; y < srcImage.getHeight(); y++) {
+			for (int x = 0; x < srcImage.getWidth(); x++) {
+				srcImage.setRGB(x, y, random.nextInt());
+			}
+		}
+		
+		final int[] typeArr = new int[] {
+			BufferedImage.TYPE_INT_ARGB,
+			BufferedImage.TYPE_INT_RGB,
+			BufferedImage.TYPE_4BYTE_ABGR,
+			BufferedImage.TYPE_3BYTE_BGR,
+			BufferedImage.TYPE_USHORT_565_RGB,
+		};
+		// {m00, m10, m01, m11} of rotations, and then of flipped rotations.
+		final double[][] matrixArr = new double[][] {
+			{1, 0, 0, 1}, {0, 1, -1, 0}, {-1, 0, 0, -1}, {0, -1, 1, 0},
+			{-1, 0, 0, 1}, {0, 1, 1, 0}, {1, 0, 0, -1}, {0, -1, -1, 0},
+		};
+		
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			for (int type : typeArr) {
+				final BufferedImage resizedImage = new BufferedImage(70, 40, type);
+				Resizers.PARALLEL_BOX.resize(srcImage, resizedImage);
+				
+				for (double[] m : matrixArr) {
+					final AffineTransform transform =
+						new AffineTransform(m[0], m[1], m[2], m[3], 0, 0);
+					final Rectangle bounds = transform.createTransformedShape(
+						new Rectangle(0, 0, 70, 40)).getBounds();
+					transform.preConcatenate(
+						AffineTransform.getTranslateInstance(-bounds.x, -bounds.y));
+					
+					// Moving pixels around, without drawing that could round.
+					final BufferedImage expectedImage =
+						new BufferedImage(bounds.width, bounds.height, type);
+					for (int y = 0; y < 40; y++) {
+						for (int x = 0; x < 70; x++) {
+							final Point2D p = transform.transform(
+								new Point2D.Double(x + 0.5, y + 0.5), null);
+							expectedImage.setRGB(
+								(int) Math.floor(p.getX()),
+								(int) Math.floor(p.getY()),
+								resizedImage.getRGB(x, y));
+						}
+					}
+					
+					final BufferedImage destImage =
+						new BufferedImage(bounds.width, bounds.height, type);
+					Resizers.PARALLEL_BOX.resizeTransformed(
+						srcImage, destImage, transform, executor);
+					
+					for (int y = 0; y < bounds.height; y++) {
+						for (int x = 0; x < bounds.width; x++) {
+							assertEquals(expectedImage.getRGB(x, y), destImage.getRGB(x, y));
+						}
+					}
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
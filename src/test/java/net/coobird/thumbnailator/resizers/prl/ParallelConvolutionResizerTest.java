@@ -0,0 +1,232 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import static org.junit.Assert.*;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import net.coobird.thumbnailator.Thumbnails;
+import net.coobird.thumbnailator.resizers.Resizers;
+import net.coobird.thumbnailator.resizers.configurations.ScalingMode;
+
+import org.junit.Test;
+
+public class ParallelConvolutionResizerTest {
+	
+	private static final int[] IMAGE_TYPES = new int[] {
+		BufferedImage.TYPE_INT_ARGB,
+		BufferedImage.TYPE_INT_ARGB_PRE,
+		BufferedImage.TYPE_INT_RGB,
+		BufferedImage.TYPE_3BYTE_BGR,
+		BufferedImage.TYPE_4BYTE_ABGR,
+		BufferedImage.TYPE_4BYTE_ABGR_PRE,
+		// Generic layout.
+		BufferedImage.TYPE_INT_BGR,
+	};
+	
+	@Test(expected=NullPointerException.class)
+	public void constructorNullKernel() {
+		new ParallelConvolutionResizer(null);
+	}
+	
+	@Test(expected=NullPointerException.class)
+	public void resizeNullAndSpecified() {
+		BufferedImage destImage = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+		
+		new ParallelConvolutionResizer(ConvolutionKernel.LANCZOS3).resize(null, destImage);
+	}
+	
+	@Test(expected=NullPointerException.class)
+	public void resizeSpecifiedAndNull() {
+		BufferedImage srcImage = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+		
+		new ParallelConvolutionResizer(ConvolutionKernel.LANCZOS3).resize(srcImage, null);
+	}
+	
+	@Test
+	public void kernelsAreOneAtZero() {
+		for (ConvolutionKernel kernel : ConvolutionKernel.values()) {
+			if (kernel == ConvolutionKernel.MITCHELL) {
+				// Not interpolating.
+				assertEquals(8.0 / 9.0, kernel.value(0.0), 1e-12);
+			} else {
+				assertEquals(1.0, kernel.value(0.0), 1e-12);
+				assertEquals(0.0, kernel.value(1.0), 1e-12);
+			}
+			assertEquals(0.0, kernel.value(kernel.getSupport()), 1e-12);
+		}
+	}
+	
+	/**
+	 * A uniform image must remain uniform, whatever the scaling,
+	 * the kernel and the image types.
+	 */
+	@Test
+	public void resizeUniformColor() {
+		final Color color = new Color(10, 100, 200);
+		for (ConvolutionKernel kernel : ConvolutionKernel.values()) {
+			final ParallelConvolutionResizer resizer =
+				new ParallelConvolutionResizer(kernel);
+			for (int srcType : IMAGE_TYPES) {
+				for (int destType : IMAGE_TYPES) {
+					final BufferedImage srcImage = newFilledImage(97, 61, srcType, color);
+					for (int[] size : new int[][] {{10, 7}, {97, 61}, {300, 13}}) {
+						final BufferedImage destImage =
+							new BufferedImage(size[0], size[1], destType);
+						resizer.resize(srcImage, destImage);
+						assertUniform(destImage, color.getRGB());
+					}
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void resizeTranslucentKeepsColor() {
+		final Color color = new Color(200, 50, 10, 128);
+		final BufferedImage srcImage =
+			newFilledImage(80, 80, BufferedImage.TYPE_INT_ARGB, color);
+		final BufferedImage destImage =
+			new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB);
+		
+		Resizers.PARALLEL_LANCZOS3.resize(srcImage, destImage);
+		
+		assertUniform(destImage, color.getRGB());
+	}
+	
+	@Test
+	public void resizeParallelSameAsSequential() {
+		final BufferedImage srcImage = newNoiseImage(640, 480);
+		final ParallelConvolutionResizer resizer =
+			new ParallelConvolutionResizer(ConvolutionKernel.LANCZOS3);
+		
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			for (int[] size : new int[][] {{64, 48}, {400, 300}, {1000, 700}}) {
+				final BufferedImage seqImage =
+					new BufferedImage(size[0], size[1], BufferedImage.TYPE_INT_ARGB);
+				final BufferedImage prlImage =
+					new BufferedImage(size[0], size[1], BufferedImage.TYPE_INT_ARGB);
+				
+				resizer.resize(srcImage, seqImage);
+				resizer.resize(srcImage, prlImage, executor);
+				
+				for (int y = 0; y < size[1]; y++) {
+					for (int x = 0; x < size[0]; x++) {
+						assertEquals(seqImage.getRGB(x, y), prlImage.getRGB(x, y));
+					}
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void resizeSubImage() {
+		final BufferedImage image =
+			new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+		final Graphics2D g = image.createGraphics();
+		g.setColor(Color.RED);
+		g.fillRect(0, 0, 100, 100);
+		g.setColor(Color.BLUE);
+		g.fillRect(50, 50, 50, 50);
+		g.dispose();
+		
+		final BufferedImage destImage =
+			new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB);
+		Resizers.PARALLEL_LANCZOS3.resize(
+			image.getSubimage(50, 50, 50, 50),
+			destImage);
+		
+		assertUniform(destImage, Color.BLUE.getRGB());
+	}
+	
+	@Test
+	public void thumbnailsScalingMode() throws Exception {
+		final BufferedImage srcImage = newFilledImage(
+			200, 100, BufferedImage.TYPE_INT_RGB, Color.GREEN);
+		for (ScalingMode mode : new ScalingMode[] {
+			ScalingMode.LANCZOS3,
+			ScalingMode.MITCHELL,
+			ScalingMode.CATMULL_ROM}) {
+			final BufferedImage thumbnail = Thumbnails.of(srcImage)
+				.size(50, 50)
+				.scalingMode(mode)
+				.asBufferedImage();
+			
+			assertEquals(50, thumbnail.getWidth());
+			assertEquals(25, thumbnail.getHeight());
+			assertUniform(thumbnail, Color.GREEN.getRGB());
+		}
+	}
+	
+	/*
+	 * 
+	 */
+	
+	private static BufferedImage newFilledImage(int width, int height, int type, Color color) {
+		final BufferedImage image = new BufferedImage(width, height, type);
+		final Graphics2D g = image.createGraphics();
+		g.setComposite(AlphaComposite.Src);
+		g.setColor(color);
+		g.fillRect(0, 0, width, height);
+		g.dispose();
+		return image;
+	}
+	
+	private static BufferedImage newNoiseImage(int width, int height) {
+		final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		final Random random = new Random(123L);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setRGB(x, y, random.nextInt());
+			}
+		}
+		return image;
+	}
+	
+	/**
+	 * Allows for 1 of error per component, due to rounding.
+	 */
+	private static void assertUniform(BufferedImage image, int expectedArgb) {
+		final boolean hasAlpha = image.getColorModel().hasAlpha();
+		for (int y = 0; y < image.getHeight(); y++) {
+			for (int x = 0; x < image.getWidth(); x++) {
+				final int argb = image.getRGB(x, y);
+				for (int shift = 0; shift < 32; shift += 8) {
+					int expected = (expectedArgb >>> shift) & 0xFF;
+					if ((shift == 24) && !hasAlpha) {
+						expected = 0xFF;
+					}
+					final int actual = (argb >>> shift) & 0xFF;
+					if (Math.abs(expected - actual) > 1) {
+						fail("at (" + x + "," + y + "): expected "
+							+ Integer.toHexString(expectedArgb)
+							+ ", got " + Integer.toHexString(argb));
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import static org.junit.Assert.*;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ScratchBufferPoolTest {
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void constructorNegativeBound() {
+		new ScratchBufferPool(-1L);
+	}
+	
+	@Test
+	public void acquireLengthBySizeClass() {
+		final ScratchBufferPool pool = new ScratchBufferPool(0L);
+		
+		assertEquals(4096, pool.acquire(0).length);
+		assertEquals(4096, pool.acquire(4096).length);
+		assertEquals(5120, pool.acquire(4097).length);
+		assertEquals(8192, pool.acquire(8000).length);
+		assertEquals(6 * 1024 * 1024, pool.acquire(6000 * 1000).length);
+		assertEquals(7 * 1024 * 1024, pool.acquire(6000 * 1100).length);
+	}
+	
+	@Test
+	public void acquireReleasedArray() {
+		final ScratchBufferPool pool = new ScratchBufferPool(1024 * 1024);
+		
+		final int[] arr = pool.acquire(10000);
+		assertEquals(0, pool.getHitCount());
+		assertEquals(1, pool.getMissCount());
+		
+		pool.release(arr);
+		assertEquals(4L * arr.length, pool.getRetainedByteCount());
+		
+		// Same size class.
+		assertSame(arr, pool.acquire(arr.length - 1));
+		assertEquals(0L, pool.getRetainedByteCount());
+		assertEquals(1, pool.getHitCount());
+		assertEquals(0.5, pool.getHitRate(), 0.0);
+		
+		// Other size class.
+		pool.release(arr);
+		assertNotSame(arr, pool.acquire(2 * arr.length));
+	}
+	
+	@Test
+	public void releaseBounded() {
+		final ScratchBufferPool pool = new ScratchBufferPool(3 * 4 * 4096);
+		
+		final int[] arr1 = pool.acquire(4096);
+		final int[] arr2 = pool.acquire(4096);
+		final int[] arr3 = pool.acquire(8192);
+		final int[] arr4 = pool.acquire(4096);
+		
+		pool.release(arr1);
+		pool.release(arr2);
+		// Would exceed bound.
+		pool.release(arr3);
+		pool.release(arr4);
+		
+		assertEquals(3 * 4 * 4096, pool.getRetainedByteCount());
+	}
+	
+	@Test
+	public void releaseForeignArrayIgnored() {
+		final ScratchBufferPool pool = new ScratchBufferPool(1024 * 1024);
+		
+		pool.release(new int[5000]);
+		pool.release(null);
+		
+		assertEquals(0L, pool.getRetainedByteCount());
+	}
+	
+	@Test
+	public void newArgbPreImageUsesArrayStart() {
+		final int[] arr = new int[100];
+		
+		final BufferedImage image = ScratchBufferPool.newArgbPreImage(arr, 3, 2);
+		image.setRGB(2, 1, 0xFFFFFFFF);
+		
+		assertEquals(BufferedImage.TYPE_INT_ARGB_PRE, image.getType());
+		assertEquals(0xFFFFFFFF, arr[5]);
+		assertEquals(0, arr[6]);
+	}
+	
+	@Test
+	public void progressiveResizerReusesBuffers() {
+		final BufferedImage srcImage =
+			new BufferedImage(1000, 800, BufferedImage.TYPE_INT_ARGB);
+		final Random random = new Random(123L);
+		for (int y = 0; y < srcImage.getHeight(); y++) {
+			for (int x = 0; x < srcImage.getWidth(); x++) {
+				srcImage.setRGB(x, y, random.nextInt());
+			}
+		}
+		final ScratchBufferPool noPool = new ScratchBufferPool(0L);
+		final ScratchBufferPool pool = new ScratchBufferPool(16 * 1024 * 1024);
+		final ProgressiveResizer noPoolResizer =
+			new ProgressiveResizer(new ParallelBilinearResizer(), noPool);
+		final ProgressiveResizer resizer =
+			new ProgressiveResizer(new ParallelBilinearResizer(), pool);
+		
+		final BufferedImage expectedImage =
+			new BufferedImage(100, 80, BufferedImage.TYPE_INT_ARGB);
+		noPoolResizer.resize(srcImage, expectedImage);
+		
+		for (int i = 0; i < 3; i++) {
+			final BufferedImage destImage =
+				new BufferedImage(100, 80, BufferedImage.TYPE_INT_ARGB);
+			resizer.resize(srcImage, destImage);
+			
+			for (int y = 0; y < 80; y++) {
+				for (int x = 0; x < 100; x++) {
+					assertEquals(expectedImage.getRGB(x, y), destImage.getRGB(x, y));
+				}
+			}
+		}
+		
+		// Two arrays (3 steps), missed on first resize only.
+		assertEquals(2, pool.getMissCount());
+		assertEquals(4, pool.getHitCount());
+		assertEquals(0.0, noPool.getHitRate(), 0.0);
+	}
+}
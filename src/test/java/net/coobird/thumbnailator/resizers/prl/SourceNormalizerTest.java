@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import static org.junit.Assert.*;
+
+import java.awt.Transparency;
+import java.awt.color.ColorSpace;
+import java.awt.image.BufferedImage;
+import java.awt.image.ComponentColorModel;
+import java.awt.image.DataBuffer;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import net.coobird.thumbnailator.resizers.Resizers;
+
+import org.junit.Test;
+
+public class SourceNormalizerTest {
+	
+	/**
+	 * @return A TYPE_CUSTOM image with 16 bits per component,
+	 *         as read from some PNGs, filled with opaque noise.
+	 */
+	private static BufferedImage newUshortRgbaImage(int width, int height) {
+		final ComponentColorModel cm = new ComponentColorModel(
+			ColorSpace.getInstance(ColorSpace.CS_sRGB),
+			true,
+			false,
+			Transparency.TRANSLUCENT,
+			DataBuffer.TYPE_USHORT);
+		final BufferedImage ret = new BufferedImage(
+			cm,
+			cm.createCompatibleWritableRaster(width, height),
+			false,
+			null);
+		final Random random = new Random(123L);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				ret.setRGB(x, y, 0xFF000000 | random.nextInt());
+			}
+		}
+		return ret;
+	}
+	
+	@Test
+	public void isSlowType() {
+		assertTrue(SourceNormalizer.isSlowType(newUshortRgbaImage(1, 1)));
+		assertTrue(SourceNormalizer.isSlowType(
+			new BufferedImage(1, 1, BufferedImage.TYPE_USHORT_GRAY)));
+		assertFalse(SourceNormalizer.isSlowType(
+			new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB)));
+		assertFalse(SourceNormalizer.isSlowType(
+			new BufferedImage(1, 1, BufferedImage.TYPE_BYTE_INDEXED)));
+	}
+	
+	@Test
+	public void normalizeKeepsPixels() {
+		final BufferedImage image = newUshortRgbaImage(300, 200);
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final long countBefore = SourceNormalizer.getNormalizedImageCount();
+			final long pixelCountBefore = SourceNormalizer.getNormalizedPixelCount();
+			
+			final BufferedImage normalized = SourceNormalizer.normalize(image, executor);
+			
+			assertEquals(BufferedImage.TYPE_INT_ARGB_PRE, normalized.getType());
+			for (int y = 0; y < 200; y++) {
+				for (int x = 0; x < 300; x++) {
+					assertEquals(image.getRGB(x, y), normalized.getRGB(x, y));
+				}
+			}
+			assertTrue(SourceNormalizer.getNormalizedImageCount() >= countBefore + 1);
+			assertTrue(SourceNormalizer.getNormalizedPixelCount() >= pixelCountBefore + 300 * 200);
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void normalizeOpaqueIntoRgb() {
+		final BufferedImage image = new BufferedImage(10, 10, BufferedImage.TYPE_USHORT_GRAY);
+		image.setRGB(3, 4, 0xFFFFFFFF);
+		
+		final BufferedImage normalized = SourceNormalizer.normalize(image, null);
+		
+		assertEquals(BufferedImage.TYPE_INT_RGB, normalized.getType());
+		assertEquals(0xFFFFFFFF, normalized.getRGB(3, 4));
+		assertEquals(0xFF000000, normalized.getRGB(4, 4));
+	}
+	
+	@Test
+	public void parallelResizeOfSlowTypeSameAsOfNormalized() {
+		final BufferedImage srcImage = newUshortRgbaImage(600, 400);
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final BufferedImage expectedImage =
+				new BufferedImage(300, 200, BufferedImage.TYPE_INT_ARGB);
+			Resizers.PARALLEL_BICUBIC.resize(
+				SourceNormalizer.normalize(srcImage, null),
+				expectedImage,
+				executor);
+			
+			final long countBefore = SourceNormalizer.getNormalizedImageCount();
+			final BufferedImage actualImage =
+				new BufferedImage(300, 200, BufferedImage.TYPE_INT_ARGB);
+			Resizers.PARALLEL_BICUBIC.resize(srcImage, actualImage, executor);
+			
+			assertTrue(SourceNormalizer.getNormalizedImageCount() >= countBefore + 1);
+			for (int y = 0; y < 200; y++) {
+				for (int x = 0; x < 300; x++) {
+					assertEquals(expectedImage.getRGB(x, y), actualImage.getRGB(x, y));
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
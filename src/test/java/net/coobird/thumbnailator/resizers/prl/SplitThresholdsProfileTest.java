@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import static org.junit.Assert.*;
+
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class SplitThresholdsProfileTest {
+	
+	private static final String NEAREST_KEY = ParallelNearestResizer.class.getName();
+	
+	/**
+	 * Records max part count it's called with, and runs sequentially.
+	 */
+	private static class MyRecordingPrlEngine implements PrlEngine {
+		final AtomicInteger maxPartCount = new AtomicInteger();
+		@Override
+		public void processRows(
+			int rowCount,
+			int maxPartCount,
+			RowRangeProcessor processor,
+			Executor parallelExecutor) {
+			this.maxPartCount.set(maxPartCount);
+			processor.processRows(0, rowCount - 1);
+		}
+	}
+	
+	@After
+	public void after() {
+		SplitThresholdsProfile.setCurrent(null);
+	}
+	
+	@Test
+	public void withThresholds() {
+		final SplitThresholdsProfile profile = SplitThresholdsProfile.EMPTY.withThresholds(
+			NEAREST_KEY, BufferedImage.TYPE_INT_RGB, 1000, 2000);
+		
+		assertEquals(1000, profile.getSrcAreaThreshold(NEAREST_KEY, BufferedImage.TYPE_INT_RGB));
+		assertEquals(2000, profile.getDestAreaThreshold(NEAREST_KEY, BufferedImage.TYPE_INT_RGB));
+		assertEquals(0, profile.getDestAreaThreshold(NEAREST_KEY, BufferedImage.TYPE_INT_ARGB));
+		assertEquals(0, SplitThresholdsProfile.EMPTY.getDestAreaThreshold(NEAREST_KEY, BufferedImage.TYPE_INT_RGB));
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void withThresholdsTooSmall() {
+		SplitThresholdsProfile.EMPTY.withThresholds(
+			NEAREST_KEY, BufferedImage.TYPE_INT_RGB, 1000, 1);
+	}
+	
+	@Test
+	public void propertiesRoundTrip() {
+		final SplitThresholdsProfile profile = SplitThresholdsProfile.EMPTY.withThresholds(
+			NEAREST_KEY, BufferedImage.TYPE_INT_RGB, Integer.MAX_VALUE, 2000);
+		
+		final Properties properties = profile.toProperties();
+		assertEquals("2000", properties.getProperty(NEAREST_KEY + ".1.dest"));
+		
+		final SplitThresholdsProfile loaded = SplitThresholdsProfile.fromProperties(properties);
+		assertEquals(Integer.MAX_VALUE, loaded.getSrcAreaThreshold(NEAREST_KEY, BufferedImage.TYPE_INT_RGB));
+		assertEquals(2000, loaded.getDestAreaThreshold(NEAREST_KEY, BufferedImage.TYPE_INT_RGB));
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void fromPropertiesNotAnInt() {
+		final Properties properties = new Properties();
+		properties.setProperty(NEAREST_KEY + ".1.dest", "big");
+		
+		SplitThresholdsProfile.fromProperties(properties);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void fromPropertiesUnexpectedKey() {
+		final Properties properties = new Properties();
+		properties.setProperty(NEAREST_KEY + ".1.foo", "1000");
+		
+		SplitThresholdsProfile.fromProperties(properties);
+	}
+	
+	@Test
+	public void currentProfileUsedByResizers() {
+		final MyRecordingPrlEngine engine = new MyRecordingPrlEngine();
+		final ParallelNearestResizer resizer = new ParallelNearestResizer(
+			Collections.<RenderingHints.Key, Object>emptyMap(),
+			engine);
+		final BufferedImage srcImage = new BufferedImage(200, 200, BufferedImage.TYPE_INT_RGB);
+		final BufferedImage destImage = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			// Built-in threshold: too small to split.
+			resizer.resize(srcImage, destImage, executor);
+			assertEquals(0, engine.maxPartCount.get());
+			
+			SplitThresholdsProfile.setCurrent(SplitThresholdsProfile.EMPTY.withThresholds(
+				NEAREST_KEY, BufferedImage.TYPE_INT_RGB, Integer.MAX_VALUE, 1000));
+			resizer.resize(srcImage, destImage, executor);
+			assertEquals(11, engine.maxPartCount.get());
+			
+			// Other image type: built-in threshold.
+			engine.maxPartCount.set(0);
+			final BufferedImage argbImage = new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB);
+			resizer.resize(argbImage, destImage, executor);
+			assertEquals(0, engine.maxPartCount.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void calibrate() {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final SplitThresholdsCalibrator calibrator = new SplitThresholdsCalibrator(executor);
+			
+			final SplitThresholdsProfile profile = calibrator.calibrate(
+				SplitThresholdsProfile.EMPTY,
+				new ParallelNearestResizer(),
+				BufferedImage.TYPE_INT_RGB);
+			
+			// Not using source area.
+			assertEquals(Integer.MAX_VALUE, profile.getSrcAreaThreshold(NEAREST_KEY, BufferedImage.TYPE_INT_RGB));
+			assertTrue(profile.getDestAreaThreshold(NEAREST_KEY, BufferedImage.TYPE_INT_RGB) >= 1024);
+			// Calibration profile not leaking.
+			assertNull(SplitThresholdsProfile.getEffective());
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void calibrateCustomType() {
+		new SplitThresholdsCalibrator(Executors.newSingleThreadExecutor()).calibrate(
+			SplitThresholdsProfile.EMPTY,
+			new ParallelNearestResizer(),
+			BufferedImage.TYPE_CUSTOM);
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 Jeff Hain
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.coobird.thumbnailator.resizers.prl;
+
+import static org.junit.Assert.*;
+
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import net.coobird.thumbnailator.resizers.Resizers;
+
+import org.junit.Test;
+
+public class StealingPrlEngineTest {
+	
+	/**
+	 * Counts how many times each row is processed,
+	 * and the smallest range processed.
+	 */
+	private static class MyCountingProcessor implements RowRangeProcessor {
+		final AtomicIntegerArray countByRow;
+		volatile int minRangeHeight = Integer.MAX_VALUE;
+		public MyCountingProcessor(int rowCount) {
+			this.countByRow = new AtomicIntegerArray(rowCount);
+		}
+		@Override
+		public void processRows(int startRow, int endRow) {
+			synchronized (this) {
+				this.minRangeHeight = Math.min(this.minRangeHeight, endRow - startRow + 1);
+			}
+			for (int y = startRow; y <= endRow; y++) {
+				this.countByRow.incrementAndGet(y);
+			}
+			// Giving thieves a chance.
+			Thread.yield();
+		}
+		public void assertAllRowsProcessedOnce() {
+			for (int y = 0; y < this.countByRow.length(); y++) {
+				assertEquals("row " + y, 1, this.countByRow.get(y));
+			}
+		}
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void constructorZeroParallelism() {
+		new StealingPrlEngine(0);
+	}
+	
+	@Test
+	public void processRowsAllRowsOnce() {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			for (int parallelism : new int[] {1, 2, 3, 8}) {
+				final StealingPrlEngine engine = new StealingPrlEngine(parallelism);
+				for (int[] counts : new int[][] {{2, 2}, {7, 3}, {100, 100}, {1000, 7}, {999, 64}}) {
+					final int rowCount = counts[0];
+					final int maxPartCount = counts[1];
+					final MyCountingProcessor processor = new MyCountingProcessor(rowCount);
+					
+					engine.processRows(rowCount, maxPartCount, processor, executor);
+					
+					processor.assertAllRowsProcessedOnce();
+					final int minPartHeight = (int) Math.ceil(rowCount / (double) maxPartCount);
+					// Only the last chunk of a range can be smaller.
+					assertTrue(processor.minRangeHeight >= 1);
+					assertTrue(processor.minRangeHeight <= minPartHeight);
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Helpers that never get to run must not prevent completion.
+	 */
+	@Test
+	public void processRowsWithStarvingExecutor() {
+		final Executor executor = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				// Queued forever.
+			}
+		};
+		final MyCountingProcessor processor = new MyCountingProcessor(100);
+		
+		new StealingPrlEngine(4).processRows(100, 10, processor, executor);
+		
+		processor.assertAllRowsProcessedOnce();
+	}
+	
+	@Test
+	public void processRowsWithRejectingExecutor() {
+		final Executor executor = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				throw new RejectedExecutionException();
+			}
+		};
+		final MyCountingProcessor processor = new MyCountingProcessor(100);
+		
+		try {
+			new StealingPrlEngine(4).processRows(100, 10, processor, executor);
+			fail();
+		} catch (RejectedExecutionException e) {
+			// ok
+		}
+		
+		processor.assertAllRowsProcessedOnce();
+	}
+	
+	@Test
+	public void processRowsExceptionRethrownAfterCompletion() {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final RowRangeProcessor processor = new RowRangeProcessor() {
+				@Override
+				public void processRows(int startRow, int endRow) {
+					if (startRow <= 50 && 50 <= endRow) {
+						throw new IllegalStateException("row 50");
+					}
+				}
+			};
+			try {
+				new StealingPrlEngine(4).processRows(100, 100, processor, executor);
+				fail();
+			} catch (IllegalStateException e) {
+				assertEquals("row 50", e.getMessage());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	@Test
+	public void resizeSameAsWithChunkingEngine() {
+		final BufferedImage srcImage =
+			new BufferedImage(800, 600, BufferedImage.TYPE_INT_ARGB);
+		final Random random = new Random(123L);
+		for (int y = 0; y < srcImage.getHeight(); y++) {
+			for (int x = 0; x < srcImage.getWidth(); x++) {
+				srcImage.setRGB(x, y, random.nextInt());
+			}
+		}
+		final ParallelResizer resizer = new ParallelConvolutionResizer(
+			ConvolutionKernel.LANCZOS3,
+			Collections.<RenderingHints.Key, Object>emptyMap(),
+			new StealingPrlEngine());
+		
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final BufferedImage expectedImage =
+				new BufferedImage(300, 200, BufferedImage.TYPE_INT_ARGB);
+			final BufferedImage actualImage =
+				new BufferedImage(300, 200, BufferedImage.TYPE_INT_ARGB);
+			
+			Resizers.PARALLEL_LANCZOS3.resize(srcImage, expectedImage, executor);
+			resizer.resize(srcImage, actualImage, executor);
+			
+			for (int y = 0; y < 200; y++) {
+				for (int x = 0; x < 300; x++) {
+					assertEquals(expectedImage.getRGB(x, y), actualImage.getRGB(x, y));
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
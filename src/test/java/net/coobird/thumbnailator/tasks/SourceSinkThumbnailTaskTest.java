@@ -40,6 +40,7 @@ import net.coobird.thumbnailator.Thumbnailator;
 import net.coobird.thumbnailator.builders.BufferedImageBuilder;
 import net.coobird.thumbnailator.builders.ThumbnailParameterBuilder;
 import net.coobird.thumbnailator.tasks.io.BufferedImageSink;
+import net.coobird.thumbnailator.tasks.io.BufferedImageSource;
 import net.coobird.thumbnailator.tasks.io.FileImageSource;
 import net.coobird.thumbnailator.tasks.io.ImageSink;
 import net.coobird.thumbnailator.tasks.io.ImageSource;
@@ -52,6 +53,7 @@ import static org.mockito.Mockito.*;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
 
 public class SourceSinkThumbnailTaskTest {
 
@@ -227,4 +229,49 @@ public class SourceSinkThumbnailTaskTest {
 		String formatName = TestUtils.getFormatName(destIs);
 		assertEquals("JPEG", formatName);
 	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void task_OpaqueOutputFormat_ThumbnailMadeWithoutAlpha() throws Exception {
+		// given
+		ThumbnailParameter param =
+			new ThumbnailParameterBuilder().size(50, 50).format("jpg").build();
+		
+		BufferedImage sourceImage = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+		sourceImage.setRGB(0, 0, 0x80FFFFFF);
+		ImageSource source = new BufferedImageSource(sourceImage);
+		ImageSink destination = mock(ImageSink.class);
+		ArgumentCaptor<BufferedImage> captor = ArgumentCaptor.forClass(BufferedImage.class);
+		SourceSinkThumbnailTask task = new SourceSinkThumbnailTask(param, source, destination);
+		
+		// when
+		Thumbnailator.createThumbnail(task);
+		
+		// then
+		assertEquals("jpg", task.getOutputFormatName());
+		verify(destination).write(captor.capture());
+		assertEquals(BufferedImage.TYPE_INT_RGB, captor.getValue().getType());
+	}
+	
+	@Test
+	public void task_BufferedImageSink_ThumbnailKeepsAlpha() throws Exception {
+		// given
+		ThumbnailParameter param =
+			new ThumbnailParameterBuilder().size(50, 50).format("jpg").build();
+		
+		BufferedImageSink destination = new BufferedImageSink();
+		SourceSinkThumbnailTask<BufferedImage, BufferedImage> task =
+			new SourceSinkThumbnailTask<BufferedImage, BufferedImage>(
+					param,
+					new BufferedImageSource(new BufferedImageBuilder(100, 100).build()),
+					destination
+			);
+		
+		// when
+		Thumbnailator.createThumbnail(task);
+		
+		// then
+		assertNull(task.getOutputFormatName());
+		assertEquals(BufferedImage.TYPE_INT_ARGB, destination.getSink().getType());
+	}
 }
@@ -0,0 +1,110 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class BoundedMemoryCacheImageInputStreamTest {
+	
+	private static byte[] makeData(int length) {
+		byte[] data = new byte[length];
+		for (int i = 0; i < length; i++) {
+			data[i] = (byte)(i * 31);
+		}
+		return data;
+	}
+	
+	@Test
+	public void readBelowMaxMemorySize_CachedInMemory() throws IOException {
+		// given
+		byte[] data = makeData(1000);
+		BoundedMemoryCacheImageInputStream iis =
+				new BoundedMemoryCacheImageInputStream(new ByteArrayInputStream(data), 2000);
+		byte[] result = new byte[data.length];
+		
+		// when
+		iis.readFully(result);
+		
+		// then
+		assertArrayEquals(data, result);
+		assertEquals(-1, iis.read());
+		assertTrue(iis.isCachedMemory());
+		assertFalse(iis.isCachedFile());
+		iis.close();
+	}
+	
+	@Test
+	public void readAboveMaxMemorySize_CachedInFile() throws IOException {
+		// given
+		byte[] data = makeData(100 * 1000);
+		BoundedMemoryCacheImageInputStream iis =
+				new BoundedMemoryCacheImageInputStream(new ByteArrayInputStream(data), 1000);
+		byte[] start = new byte[500];
+		byte[] result = new byte[data.length];
+		
+		// when
+		iis.readFully(start);
+		boolean cachedMemoryBefore = iis.isCachedMemory();
+		iis.skipBytes(600);
+		iis.read();
+		boolean cachedFileAfter = iis.isCachedFile();
+		iis.seek(0);
+		iis.readFully(result);
+		
+		// then
+		assertTrue(cachedMemoryBefore);
+		assertTrue(cachedFileAfter);
+		assertArrayEquals(data, result);
+		assertEquals(-1, iis.read());
+		iis.close();
+	}
+	
+	@Test
+	public void seekBackwardsInMemory() throws IOException {
+		// given
+		byte[] data = makeData(1000);
+		BoundedMemoryCacheImageInputStream iis =
+				new BoundedMemoryCacheImageInputStream(new ByteArrayInputStream(data), 2000);
+		
+		// when
+		iis.seek(800);
+		int b800 = iis.read();
+		iis.seek(10);
+		int b10 = iis.read();
+		
+		// then
+		assertEquals(data[800] & 0xFF, b800);
+		assertEquals(data[10] & 0xFF, b10);
+		iis.close();
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class BoundedMemoryCacheImageOutputStreamTest {
+	
+	private static byte[] makeData(int length) {
+		byte[] data = new byte[length];
+		for (int i = 0; i < length; i++) {
+			data[i] = (byte)(i * 31);
+		}
+		return data;
+	}
+	
+	@Test
+	public void writeBelowMaxMemorySize_CachedInMemory() throws IOException {
+		// given
+		byte[] data = makeData(1000);
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		BoundedMemoryCacheImageOutputStream ios = new BoundedMemoryCacheImageOutputStream(os, 1000);
+		
+		// when
+		ios.write(data);
+		boolean cachedMemory = ios.isCachedMemory();
+		boolean cachedFile = ios.isCachedFile();
+		int writtenBeforeClose = os.size();
+		ios.close();
+		
+		// then
+		assertTrue(cachedMemory);
+		assertFalse(cachedFile);
+		assertEquals(0, writtenBeforeClose);
+		assertArrayEquals(data, os.toByteArray());
+	}
+	
+	@Test
+	public void writeAboveMaxMemorySize_CachedInFile() throws IOException {
+		// given
+		byte[] data = makeData(100 * 1000);
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		BoundedMemoryCacheImageOutputStream ios = new BoundedMemoryCacheImageOutputStream(os, 1000);
+		
+		// when
+		ios.write(data, 0, 500);
+		boolean cachedMemoryBefore = ios.isCachedMemory();
+		ios.write(data, 500, data.length - 500);
+		boolean cachedFileAfter = ios.isCachedFile();
+		ios.close();
+		
+		// then
+		assertTrue(cachedMemoryBefore);
+		assertTrue(cachedFileAfter);
+		assertArrayEquals(data, os.toByteArray());
+	}
+	
+	@Test
+	public void seekBackAndOverwrite() throws IOException {
+		// given
+		byte[] data = makeData(5000);
+		byte[] expected = data.clone();
+		expected[10] = 1;
+		expected[4000] = 2;
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		BoundedMemoryCacheImageOutputStream ios = new BoundedMemoryCacheImageOutputStream(os, 1000);
+		
+		// when
+		ios.write(data, 0, 800);
+		ios.seek(10);
+		ios.write(1);
+		ios.seek(800);
+		ios.write(data, 800, data.length - 800);
+		ios.seek(4000);
+		ios.write(2);
+		ios.seek(10);
+		int readBack = ios.read();
+		ios.close();
+		
+		// then
+		assertEquals(1, readBack);
+		assertEquals(data.length, os.size());
+		assertArrayEquals(expected, os.toByteArray());
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+public class ByteBufferImageInputStreamTest {
+	
+	private static ByteBuffer makeBuffer() {
+		ByteBuffer buffer = ByteBuffer.allocate(8);
+		for (int i = 0; i < 8; i++) {
+			buffer.put((byte)(0xF0 + i));
+		}
+		buffer.position(2);
+		buffer.limit(6);
+		return buffer;
+	}
+	
+	@Test(expected=NullPointerException.class)
+	public void nullBuffer() {
+		new ByteBufferImageInputStream(null);
+	}
+	
+	@Test
+	public void readsFromPositionToLimit() throws IOException {
+		// given
+		ByteBufferImageInputStream iis = new ByteBufferImageInputStream(makeBuffer());
+		
+		// when, then
+		assertEquals(4, iis.length());
+		assertEquals(0xF2, iis.read());
+		assertEquals(0xF3, iis.read());
+		assertEquals(0xF4, iis.read());
+		assertEquals(0xF5, iis.read());
+		assertEquals(-1, iis.read());
+	}
+	
+	@Test
+	public void readIntoArray() throws IOException {
+		// given
+		ByteBufferImageInputStream iis = new ByteBufferImageInputStream(makeBuffer());
+		byte[] b = new byte[6];
+		
+		// when
+		int count = iis.read(b, 1, 5);
+		
+		// then
+		assertEquals(4, count);
+		assertArrayEquals(
+				new byte[] {0, (byte)0xF2, (byte)0xF3, (byte)0xF4, (byte)0xF5, 0},
+				b
+		);
+		assertEquals(4, iis.getStreamPosition());
+		assertEquals(-1, iis.read(b, 0, 1));
+		assertEquals(0, iis.read(b, 0, 0));
+	}
+	
+	@Test
+	public void seekBackwardsAndForwards() throws IOException {
+		// given
+		ByteBufferImageInputStream iis = new ByteBufferImageInputStream(makeBuffer());
+		
+		// when, then
+		iis.seek(3);
+		assertEquals(0xF5, iis.read());
+		iis.seek(1);
+		assertEquals(0xF3F4, iis.readUnsignedShort());
+		iis.mark();
+		iis.skipBytes(1);
+		iis.reset();
+		assertEquals(3, iis.getStreamPosition());
+	}
+	
+	@Test
+	public void bufferIsNotModified() throws IOException {
+		// given
+		ByteBuffer buffer = makeBuffer();
+		ByteBufferImageInputStream iis = new ByteBufferImageInputStream(buffer);
+		
+		// when
+		iis.readFully(new byte[4]);
+		
+		// then
+		assertEquals(2, buffer.position());
+		assertEquals(6, buffer.limit());
+	}
+	
+	@Test(expected=IOException.class)
+	public void readAfterClose() throws IOException {
+		// given
+		ByteBufferImageInputStream iis = new ByteBufferImageInputStream(makeBuffer());
+		iis.close();
+		
+		// when
+		iis.read();
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+public class ByteBufferImageOutputStreamTest {
+	
+	private static byte[] makeData(int length) {
+		byte[] data = new byte[length];
+		for (int i = 0; i < length; i++) {
+			data[i] = (byte)(i * 31);
+		}
+		return data;
+	}
+	
+	@Test
+	public void writeAcrossBlocks() throws IOException {
+		// given
+		byte[] data = makeData(200 * 1024 + 7);
+		ByteBufferImageOutputStream ios = new ByteBufferImageOutputStream();
+		
+		// when
+		ios.write(data, 0, 10);
+		ios.write(data, 10, data.length - 10);
+		
+		// then
+		ByteBuffer result = ios.toByteBuffer();
+		assertEquals(data.length, ios.length());
+		assertEquals(0, result.position());
+		assertEquals(data.length, result.limit());
+		for (int i = 0; i < data.length; i++) {
+			assertEquals(data[i], result.get(i));
+		}
+	}
+	
+	@Test
+	public void seekBackAndOverwrite() throws IOException {
+		// given
+		ByteBufferImageOutputStream ios = new ByteBufferImageOutputStream();
+		ios.writeInt(0);
+		ios.write(makeData(100000));
+		
+		// when
+		ios.seek(0);
+		ios.writeInt(0x12345678);
+		
+		// then
+		ByteBuffer result = ios.toByteBuffer();
+		assertEquals(100004, result.remaining());
+		assertEquals(0x12345678, result.getInt(0));
+		
+		ios.seek(0);
+		assertEquals(0x12345678, ios.readInt());
+	}
+	
+	@Test
+	public void writeToSpecifiedBuffer() throws IOException {
+		// given
+		ByteBuffer buffer = ByteBuffer.allocate(16);
+		buffer.position(4);
+		ByteBufferImageOutputStream ios = new ByteBufferImageOutputStream(buffer);
+		
+		// when
+		ios.write(new byte[] {1, 2, 3});
+		
+		// then
+		ByteBuffer result = ios.toByteBuffer();
+		assertEquals(3, result.remaining());
+		assertEquals(1, result.get(0));
+		assertEquals(1, buffer.get(4));
+		assertEquals(3, buffer.get(6));
+		assertEquals(4, buffer.position());
+	}
+	
+	@Test
+	public void writeBeyondSpecifiedBuffer() throws IOException {
+		// given
+		ByteBuffer buffer = ByteBuffer.allocate(4);
+		ByteBufferImageOutputStream ios = new ByteBufferImageOutputStream(buffer);
+		ios.write(new byte[] {1, 2, 3});
+		
+		// when
+		try {
+			ios.write(new byte[] {4, 5});
+			fail();
+		} catch (IOException e) {
+			// then
+			assertEquals(3, ios.length());
+		}
+	}
+}
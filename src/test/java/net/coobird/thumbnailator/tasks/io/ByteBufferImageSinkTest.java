@@ -0,0 +1,114 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+public class ByteBufferImageSinkTest {
+	
+	private static BufferedImage read(ByteBuffer buffer) throws IOException {
+		byte[] data = new byte[buffer.remaining()];
+		buffer.duplicate().get(data);
+		return ImageIO.read(new ByteArrayInputStream(data));
+	}
+	
+	@Test(expected=NullPointerException.class)
+	public void nullBuffer() {
+		new ByteBufferImageSink(null);
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void getSinkBeforeWrite() {
+		new ByteBufferImageSink().getSink();
+	}
+	
+	@Test
+	public void writeToAllocatedBuffer() throws IOException {
+		// given
+		BufferedImage img = new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB);
+		ByteBufferImageSink sink = new ByteBufferImageSink();
+		sink.setOutputFormatName("png");
+		
+		// when
+		sink.write(img);
+		
+		// then
+		ByteBuffer result = sink.getSink();
+		assertEquals(0, result.position());
+		BufferedImage writtenImg = read(result);
+		assertEquals(100, writtenImg.getWidth());
+		assertEquals(50, writtenImg.getHeight());
+	}
+	
+	@Test
+	public void writeToSpecifiedBuffer() throws IOException {
+		// given
+		BufferedImage img = new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB);
+		ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+		buffer.position(10);
+		ByteBufferImageSink sink = new ByteBufferImageSink(buffer);
+		sink.setOutputFormatName("jpg");
+		
+		// when
+		sink.write(img);
+		
+		// then
+		assertSame(buffer, sink.getSink());
+		buffer.flip();
+		buffer.position(10);
+		BufferedImage writtenImg = read(buffer);
+		assertEquals(100, writtenImg.getWidth());
+		assertEquals(50, writtenImg.getHeight());
+	}
+	
+	@Test
+	public void specifiedBufferTooSmall() throws IOException {
+		// given
+		BufferedImage img = new BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB);
+		ByteBuffer buffer = ByteBuffer.allocate(16);
+		ByteBufferImageSink sink = new ByteBufferImageSink(buffer);
+		sink.setOutputFormatName("png");
+		
+		// when
+		try {
+			sink.write(img);
+			fail();
+		} catch (IOException e) {
+			// then
+			assertEquals(0, buffer.position());
+		}
+	}
+}
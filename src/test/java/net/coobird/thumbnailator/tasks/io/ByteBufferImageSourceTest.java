@@ -0,0 +1,125 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import net.coobird.thumbnailator.TestUtils;
+import net.coobird.thumbnailator.ThumbnailParameter;
+import net.coobird.thumbnailator.builders.ThumbnailParameterBuilder;
+import net.coobird.thumbnailator.geometry.AbsoluteSize;
+import net.coobird.thumbnailator.geometry.Coordinate;
+import net.coobird.thumbnailator.geometry.Region;
+import net.coobird.thumbnailator.tasks.UnsupportedFormatException;
+
+import org.junit.Test;
+
+public class ByteBufferImageSourceTest {
+	
+	private static byte[] readResource(String name) throws IOException {
+		InputStream is = TestUtils.getResourceStream(name);
+		try {
+			byte[] data = new byte[is.available()];
+			int offset = 0;
+			int n;
+			while (offset < data.length && (n = is.read(data, offset, data.length - offset)) != -1) {
+				offset += n;
+			}
+			return data;
+		} finally {
+			is.close();
+		}
+	}
+	
+	@Test(expected=NullPointerException.class)
+	public void nullBuffer() {
+		new ByteBufferImageSource(null);
+	}
+	
+	@Test(expected=NullPointerException.class)
+	public void nullArray() {
+		new ByteArrayImageSource(null);
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void getInputFormatNameBeforeRead() throws IOException {
+		new ByteBufferImageSource(ByteBuffer.allocate(0)).getInputFormatName();
+	}
+	
+	@Test
+	public void readFromPositionToLimit() throws IOException {
+		// given
+		byte[] data = readResource("Thumbnailator/grid.png");
+		ByteBuffer buffer = ByteBuffer.allocate(data.length + 20);
+		buffer.position(10);
+		buffer.put(data);
+		buffer.position(10);
+		buffer.limit(10 + data.length);
+		ByteBufferImageSource source = new ByteBufferImageSource(buffer);
+		
+		// when
+		BufferedImage img = source.read();
+		
+		// then
+		assertEquals(100, img.getWidth());
+		assertEquals(100, img.getHeight());
+		assertEquals("png", source.getInputFormatName());
+		assertSame(buffer, source.getSource());
+		assertEquals(10, buffer.position());
+		assertEquals(10 + data.length, buffer.limit());
+	}
+	
+	@Test
+	public void readFromArrayWithParameter() throws IOException {
+		// given
+		byte[] data = readResource("Thumbnailator/grid.jpg");
+		ByteArrayImageSource source = new ByteArrayImageSource(data);
+		ThumbnailParameter param = new ThumbnailParameterBuilder()
+				.region(new Region(new Coordinate(0, 0), new AbsoluteSize(40, 40)))
+				.size(20, 20)
+				.build();
+		source.setThumbnailParameter(param);
+		
+		// when
+		BufferedImage img = source.read();
+		
+		// then
+		assertEquals(40, img.getWidth());
+		assertEquals(40, img.getHeight());
+		assertEquals("JPEG", source.getInputFormatName());
+		assertSame(data, source.getSource());
+	}
+	
+	@Test(expected=UnsupportedFormatException.class)
+	public void readUnsupportedData() throws IOException {
+		new ByteArrayImageSource(new byte[] {1, 2, 3, 4}).read();
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileChannelImageInputStreamTest {
+	
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+	
+	private static byte[] makeData(int length) {
+		byte[] data = new byte[length];
+		for (int i = 0; i < length; i++) {
+			data[i] = (byte)(i * 31);
+		}
+		return data;
+	}
+	
+	private File makeFile(byte[] data) throws IOException {
+		File file = temporaryFolder.newFile();
+		FileOutputStream fos = new FileOutputStream(file);
+		fos.write(data);
+		fos.close();
+		return file;
+	}
+	
+	@Test(expected=NullPointerException.class)
+	public void nullChannel() {
+		new FileChannelImageInputStream(null);
+	}
+	
+	@Test
+	public void readsWholeFile() throws IOException {
+		// given
+		byte[] data = makeData(200 * 1000 + 7);
+		FileInputStream fis = new FileInputStream(makeFile(data));
+		FileChannelImageInputStream iis = new FileChannelImageInputStream(fis.getChannel());
+		byte[] result = new byte[data.length];
+		
+		// when
+		iis.readFully(result, 0, 10);
+		iis.readFully(result, 10, data.length - 10);
+		
+		// then
+		assertArrayEquals(data, result);
+		assertEquals(data.length, iis.length());
+		assertEquals(-1, iis.read());
+		iis.close();
+		fis.close();
+	}
+	
+	@Test
+	public void seeksBackAndForth() throws IOException {
+		// given
+		byte[] data = makeData(200 * 1000);
+		FileInputStream fis = new FileInputStream(makeFile(data));
+		FileChannelImageInputStream iis = new FileChannelImageInputStream(fis.getChannel());
+		byte[] result = new byte[100];
+		
+		// when, then
+		iis.seek(150 * 1000);
+		assertEquals(data[150 * 1000] & 0xFF, iis.read());
+		iis.seek(10);
+		assertEquals(data[10] & 0xFF, iis.read());
+		iis.seek(70 * 1000 - 50);
+		iis.readFully(result);
+		for (int i = 0; i < result.length; i++) {
+			assertEquals(data[70 * 1000 - 50 + i], result[i]);
+		}
+		iis.seek(data.length);
+		assertEquals(-1, iis.read());
+		iis.close();
+		fis.close();
+	}
+}
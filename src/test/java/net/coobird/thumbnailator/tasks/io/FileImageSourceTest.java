@@ -28,6 +28,13 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.imageio.ImageIO;
 
@@ -366,6 +373,128 @@ public class FileImageSourceTest {
 			assertTrue(inputFile.delete());
 			assertFalse(inputFile.exists());
 		}
+
+		private BufferedImage makeLargeImage() {
+			BufferedImage img = new BufferedImage(700, 700, BufferedImage.TYPE_INT_RGB);
+			Random random = new Random(0);
+			for (int y = 0; y < img.getHeight(); y++) {
+				for (int x = 0; x < img.getWidth(); x++) {
+					img.setRGB(x, y, random.nextInt());
+				}
+			}
+			return img;
+		}
+
+		@Test
+		public void readsLargeFile() throws IOException {
+			// given
+			BufferedImage img = makeLargeImage();
+			File inputFile = temporaryFolder.newFile("large.png");
+			ImageIO.write(img, "png", inputFile);
+			assertTrue(inputFile.length() > FileImageSource.MAX_BUFFERED_SIZE);
+			FileImageSource source = new FileImageSource(inputFile);
+
+			// when
+			BufferedImage result = source.read();
+
+			// then
+			assertEquals("png", source.getInputFormatName());
+			assertTrue(BufferedImageComparer.isRGBSimilar(img, result));
+		}
+
+		@Test
+		public void readsLargeFileMapped() throws IOException {
+			// given
+			BufferedImage img = makeLargeImage();
+			File inputFile = temporaryFolder.newFile("large.png");
+			ImageIO.write(img, "png", inputFile);
+			assertTrue(inputFile.length() > FileImageSource.MAX_BUFFERED_SIZE);
+			FileImageSource source = new FileImageSource(inputFile);
+
+			// when
+			BufferedImage result;
+			System.setProperty("thumbnailator.mapSourceFiles", "true");
+			try {
+				result = source.read();
+			} finally {
+				System.clearProperty("thumbnailator.mapSourceFiles");
+			}
+
+			// then
+			assertEquals("png", source.getInputFormatName());
+			assertTrue(BufferedImageComparer.isRGBSimilar(img, result));
+		}
+
+		@Test
+		public void readsMoreSmallFilesConcurrentlyThanPooledBuffers() throws Exception {
+			// given
+			final File inputFile = TestUtils.copyResourceToTemporaryFile(
+					"Thumbnailator/grid.png", temporaryFolder
+			);
+			final BufferedImage expected = ImageIO.read(inputFile);
+			int threadCount = FileImageSource.MAX_POOLED_BUFFERS * 2;
+			ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+			List<Future<BufferedImage>> results = new ArrayList<Future<BufferedImage>>();
+
+			// when
+			try {
+				for (int i = 0; i < threadCount * 4; i++) {
+					results.add(executor.submit(new Callable<BufferedImage>() {
+						public BufferedImage call() throws Exception {
+							return new FileImageSource(inputFile).read();
+						}
+					}));
+				}
+
+				// then
+				for (Future<BufferedImage> result : results) {
+					assertTrue(BufferedImageComparer.isRGBSimilar(expected, result.get()));
+				}
+			} finally {
+				executor.shutdown();
+			}
+		}
+
+		@Test
+		public void sourceFileCanBeOverwrittenAfterRead() throws IOException {
+			// given
+			File inputFile = TestUtils.copyResourceToTemporaryFile(
+					"Thumbnailator/grid.png", temporaryFolder
+			);
+			FileImageSource source = new FileImageSource(inputFile);
+			source.read();
+
+			// when
+			BufferedImage img = new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB);
+			boolean written = ImageIO.write(img, "png", inputFile);
+
+			// then
+			assertTrue(written);
+			assertEquals(10, ImageIO.read(inputFile).getWidth());
+		}
+
+		@Test
+		public void readsSuccessiveSmallFiles() throws IOException {
+			// given
+			File pngFile = TestUtils.copyResourceToTemporaryFile(
+					"Thumbnailator/grid.png", temporaryFolder
+			);
+			File jpgFile = TestUtils.copyResourceToTemporaryFile(
+					"Thumbnailator/grid.jpg", temporaryFolder
+			);
+
+			// when
+			FileImageSource pngSource = new FileImageSource(pngFile);
+			BufferedImage pngResult = pngSource.read();
+			FileImageSource jpgSource = new FileImageSource(jpgFile);
+			BufferedImage jpgResult = jpgSource.read();
+
+			// then
+			assertEquals("png", pngSource.getInputFormatName());
+			assertEquals("JPEG", jpgSource.getInputFormatName());
+			assertTrue(BufferedImageComparer.isRGBSimilar(ImageIO.read(pngFile), pngResult));
+			assertTrue(BufferedImageComparer.isRGBSimilar(ImageIO.read(jpgFile), jpgResult));
+		}
 	}
 
 	@RunWith(Parameterized.class)
@@ -0,0 +1,191 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriter;
+import javax.imageio.spi.IIORegistry;
+import javax.imageio.spi.ImageWriterSpi;
+import javax.imageio.stream.ImageInputStream;
+
+import net.coobird.thumbnailator.TestUtils;
+
+import org.junit.Test;
+
+import static org.mockito.Mockito.*;
+
+import static org.junit.Assert.*;
+
+public class ImageCodecsTest {
+	
+	private static ImageInputStream open(String resource) throws IOException {
+		return ImageIO.createImageInputStream(TestUtils.getResourceStream(resource));
+	}
+	
+	@Test
+	public void getReaderFindsSameReaderAsImageIO() throws IOException {
+		// given
+		ImageInputStream iis = open("Thumbnailator/grid.png");
+		
+		// when
+		ImageReader reader = ImageCodecs.getReader(iis);
+		
+		// then
+		try {
+			assertEquals("png", reader.getFormatName().toLowerCase());
+			assertEquals(
+					ImageIO.getImageReaders(iis).next().getClass(),
+					reader.getClass()
+			);
+			assertEquals(0, iis.getStreamPosition());
+		} finally {
+			ImageCodecs.release(reader, true);
+			iis.close();
+		}
+	}
+	
+	@Test
+	public void getReaderUnsupportedData() throws IOException {
+		// given
+		ImageInputStream iis = ImageIO.createImageInputStream(
+				new ByteArrayInputStream(new byte[] {1, 2, 3, 4})
+		);
+		
+		// when
+		ImageReader reader = ImageCodecs.getReader(iis);
+		
+		// then
+		assertNull(reader);
+		iis.close();
+	}
+	
+	@Test
+	public void releasedReaderIsReused() throws IOException {
+		// given
+		ImageInputStream iis = open("Thumbnailator/grid.jpg");
+		ImageReader reader = ImageCodecs.getReader(iis);
+		reader.setInput(iis);
+		reader.read(0);
+		
+		// when
+		ImageCodecs.release(reader, true);
+		iis.seek(0);
+		ImageReader reusedReader = ImageCodecs.getReader(iis);
+		
+		// then
+		try {
+			assertSame(reader, reusedReader);
+			assertNull(reusedReader.getInput());
+		} finally {
+			ImageCodecs.release(reusedReader, true);
+			iis.close();
+		}
+	}
+	
+	@Test
+	public void readerNotReusableIsDisposed() throws IOException {
+		// given
+		ImageInputStream iis = open("Thumbnailator/grid.jpg");
+		ImageReader reader = ImageCodecs.getReader(iis);
+		
+		// when
+		ImageCodecs.release(reader, false);
+		ImageReader otherReader = ImageCodecs.getReader(iis);
+		
+		// then
+		try {
+			assertNotSame(reader, otherReader);
+		} finally {
+			ImageCodecs.release(otherReader, true);
+			iis.close();
+		}
+	}
+	
+	@Test
+	public void releasedWriterIsReused() throws IOException {
+		// given
+		ImageWriter writer = ImageCodecs.getWriter("png");
+		
+		// when
+		ImageCodecs.release(writer, true);
+		ImageWriter reusedWriter = ImageCodecs.getWriter("PNG");
+		
+		// then
+		assertSame(writer, reusedWriter);
+		ImageCodecs.release(reusedWriter, true);
+	}
+	
+	@Test
+	public void getWriterUnsupportedFormat() throws IOException {
+		assertNull(ImageCodecs.getWriter("foobar"));
+		assertNull(ImageCodecs.getWriterSpi("foobar"));
+	}
+	
+	@Test
+	public void getReaderFormatNameBySuffix() throws IOException {
+		assertEquals(
+				ImageIO.getImageReadersBySuffix("jpg").next().getFormatName(),
+				ImageCodecs.getReaderFormatNameBySuffix("jpg")
+		);
+		assertNull(ImageCodecs.getReaderFormatNameBySuffix("foobar"));
+	}
+	
+	@Test
+	public void deregisteredWriterIsNotUsed() throws IOException {
+		// given
+		ImageWriterSpi spi = mock(ImageWriterSpi.class);
+		when(spi.getFormatNames()).thenReturn(new String[] {"foo"});
+		IIORegistry.getDefaultInstance().registerServiceProvider(spi);
+		assertSame(spi, ImageCodecs.getWriterSpi("foo"));
+		
+		// when
+		IIORegistry.getDefaultInstance().deregisterServiceProvider(spi);
+		
+		// then
+		assertNull(ImageCodecs.getWriterSpi("foo"));
+	}
+	
+	@Test
+	public void newlyRegisteredWriterIsFound() throws IOException {
+		// given
+		assertNull(ImageCodecs.getWriterSpi("bar"));
+		ImageWriterSpi spi = mock(ImageWriterSpi.class);
+		when(spi.getFormatNames()).thenReturn(new String[] {"bar"});
+		
+		// when
+		IIORegistry.getDefaultInstance().registerServiceProvider(spi);
+		
+		// then
+		try {
+			assertSame(spi, ImageCodecs.getWriterSpi("bar"));
+		} finally {
+			IIORegistry.getDefaultInstance().deregisterServiceProvider(spi);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import net.coobird.thumbnailator.TestUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ImageStreamsTest {
+	
+	private boolean useCache;
+	
+	@Before
+	public void setUp() {
+		useCache = ImageIO.getUseCache();
+		ImageIO.setUseCache(true);
+	}
+	
+	@After
+	public void tearDown() {
+		ImageIO.setUseCache(useCache);
+		System.clearProperty("thumbnailator.useMemoryCache");
+	}
+	
+	@Test
+	public void memoryCacheUsedWhenEnabled() throws IOException {
+		// given
+		System.setProperty("thumbnailator.useMemoryCache", "true");
+		
+		// when
+		ImageInputStream iis = ImageStreams.createImageInputStream(new ByteArrayInputStream(new byte[0]));
+		ImageOutputStream ios = ImageStreams.createImageOutputStream(new ByteArrayOutputStream());
+		
+		// then
+		assertEquals(BoundedMemoryCacheImageInputStream.class, iis.getClass());
+		assertEquals(BoundedMemoryCacheImageOutputStream.class, ios.getClass());
+		iis.close();
+		ios.close();
+	}
+	
+	@Test
+	public void imageIOUsedByDefault() throws IOException {
+		// when
+		ImageInputStream iis = ImageStreams.createImageInputStream(new ByteArrayInputStream(new byte[0]));
+		ImageOutputStream ios = ImageStreams.createImageOutputStream(new ByteArrayOutputStream());
+		
+		// then
+		assertEquals(
+				ImageIO.createImageInputStream(new ByteArrayInputStream(new byte[0])).getClass(),
+				iis.getClass()
+		);
+		assertEquals(
+				ImageIO.createImageOutputStream(new ByteArrayOutputStream()).getClass(),
+				ios.getClass()
+		);
+		iis.close();
+		ios.close();
+	}
+	
+	@Test
+	public void readAndWriteWithMemoryCache() throws IOException {
+		// given
+		System.setProperty("thumbnailator.useMemoryCache", "true");
+		ByteArrayOutputStream os = new ByteArrayOutputStream();
+		
+		// when
+		InputStreamImageSource source = new InputStreamImageSource(
+				TestUtils.getResourceStream("Thumbnailator/grid.jpg")
+		);
+		BufferedImage img = source.read();
+		
+		OutputStreamImageSink sink = new OutputStreamImageSink(os);
+		sink.setOutputFormatName("png");
+		sink.write(img);
+		
+		// then
+		BufferedImage writtenImg = ImageIO.read(new ByteArrayInputStream(os.toByteArray()));
+		assertEquals(img.getWidth(), writtenImg.getWidth());
+		assertEquals(img.getHeight(), writtenImg.getHeight());
+		assertTrue(os.size() > 0);
+	}
+}
@@ -29,13 +29,23 @@ import static net.coobird.thumbnailator.TestUtils.getResourceStream;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
 
+import javax.imageio.ImageIO;
+
+import net.coobird.thumbnailator.TestUtils;
 import net.coobird.thumbnailator.ThumbnailParameter;
 import net.coobird.thumbnailator.builders.ThumbnailParameterBuilder;
+import net.coobird.thumbnailator.filters.Canvas;
+import net.coobird.thumbnailator.filters.ImageFilter;
 import net.coobird.thumbnailator.geometry.AbsoluteSize;
 import net.coobird.thumbnailator.geometry.Coordinate;
 import net.coobird.thumbnailator.geometry.Positions;
@@ -755,4 +765,313 @@ public class InputStreamImageSourceTest {
 		assertEquals(100, img.getHeight());
 		verify(is, never()).close();
 	}
+
+	private static InputStream makePngStream(int width, int height) throws IOException {
+		BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		ImageIO.write(img, "png", baos);
+		return new ByteArrayInputStream(baos.toByteArray());
+	}
+
+	@Test
+	public void decodeSubsamplingNoneByDefault() throws IOException {
+		// given
+		InputStreamImageSource source = new InputStreamImageSource(makePngStream(1000, 800));
+		source.setThumbnailParameter(
+				new ThumbnailParameterBuilder()
+						.size(100, 100)
+						.build()
+		);
+
+		// when
+		BufferedImage img = source.read();
+
+		// then
+		assertEquals(1000, img.getWidth());
+		assertEquals(800, img.getHeight());
+		assertNull(source.getOriginalSize());
+	}
+
+	@Test
+	public void decodeSubsamplingAutoWithSize() throws IOException {
+		// given
+		InputStreamImageSource source = new InputStreamImageSource(makePngStream(1000, 800));
+		source.setThumbnailParameter(
+				new ThumbnailParameterBuilder()
+						.size(100, 100)
+						.decodeSubsampling(DecodeSubsampling.AUTO)
+						.build()
+		);
+
+		// when
+		BufferedImage img = source.read();
+
+		// then
+		// Scale is 0.1, so subsampling is 5 to keep twice the thumbnail size.
+		assertEquals(200, img.getWidth());
+		assertEquals(160, img.getHeight());
+		assertEquals(new Dimension(1000, 800), source.getOriginalSize());
+	}
+
+	@Test
+	public void decodeSubsamplingAutoWithScale() throws IOException {
+		// given
+		ThumbnailParameter param = new ThumbnailParameterBuilder()
+				.scale(0.25)
+				.decodeSubsampling(DecodeSubsampling.AUTO)
+				.build();
+		InputStreamImageSource source = new InputStreamImageSource(makePngStream(1000, 800));
+		source.setThumbnailParameter(param);
+
+		// when
+		BufferedImage img = source.read();
+
+		// then
+		assertEquals(500, img.getWidth());
+		assertEquals(400, img.getHeight());
+		assertEquals(new Dimension(1000, 800), source.getOriginalSize());
+		// Parameter is left untouched.
+		assertEquals(0.25, param.getWidthScalingFactor(), 0.0);
+		assertEquals(0.25, param.getHeightScalingFactor(), 0.0);
+	}
+
+	@Test
+	public void decodeSubsamplingAutoWithSourceRegion() throws IOException {
+		// given
+		InputStreamImageSource source = new InputStreamImageSource(makePngStream(1000, 800));
+		source.setThumbnailParameter(
+				new ThumbnailParameterBuilder()
+						.region(new Region(new Coordinate(0, 0), new AbsoluteSize(600, 400)))
+						.size(50, 50)
+						.decodeSubsampling(DecodeSubsampling.AUTO)
+						.build()
+		);
+
+		// when
+		BufferedImage img = source.read();
+
+		// then
+		// Scale is 1/12 (fit within), so subsampling is 6.
+		assertEquals(100, img.getWidth());
+		assertEquals(67, img.getHeight());
+		assertEquals(new Dimension(600, 400), source.getOriginalSize());
+	}
+
+	@Test
+	public void decodeSubsamplingAutoNotWhenUpscaling() throws IOException {
+		// given
+		InputStreamImageSource source = new InputStreamImageSource(makePngStream(100, 80));
+		source.setThumbnailParameter(
+				new ThumbnailParameterBuilder()
+						.scale(2.0)
+						.decodeSubsampling(DecodeSubsampling.AUTO)
+						.build()
+		);
+
+		// when
+		BufferedImage img = source.read();
+
+		// then
+		assertEquals(100, img.getWidth());
+		assertNull(source.getOriginalSize());
+	}
+
+	@Test
+	public void cropDecodesKeptRegionOnly() throws IOException {
+		// given
+		InputStreamImageSource source = new InputStreamImageSource(makePngStream(1000, 800));
+		source.setThumbnailParameter(
+				new ThumbnailParameterBuilder()
+						.size(100, 100)
+						.fitWithinDimensions(false)
+						.filters(Collections.<ImageFilter>singletonList(
+								new Canvas(100, 100, Positions.CENTER)
+						))
+						.build()
+		);
+
+		// when
+		BufferedImage img = source.read();
+
+		// then
+		assertEquals(800, img.getWidth());
+		assertEquals(800, img.getHeight());
+	}
+
+	@Test
+	public void cropDecodesKeptRegionWithSubsampling() throws IOException {
+		// given
+		InputStreamImageSource source = new InputStreamImageSource(makePngStream(1000, 800));
+		source.setThumbnailParameter(
+				new ThumbnailParameterBuilder()
+						.size(100, 100)
+						.fitWithinDimensions(false)
+						.filters(Collections.<ImageFilter>singletonList(
+								new Canvas(100, 100, Positions.CENTER)
+						))
+						.decodeSubsampling(DecodeSubsampling.AUTO)
+						.build()
+		);
+
+		// when
+		BufferedImage img = source.read();
+
+		// then
+		// Scale is 1/8, so subsampling is 4.
+		assertEquals(200, img.getWidth());
+		assertEquals(200, img.getHeight());
+		assertEquals(new Dimension(800, 800), source.getOriginalSize());
+	}
+
+	@Test
+	public void cropNotAppliedWhenFittingWithinDimensions() throws IOException {
+		// given
+		InputStreamImageSource source = new InputStreamImageSource(makePngStream(1000, 800));
+		source.setThumbnailParameter(
+				new ThumbnailParameterBuilder()
+						.size(100, 100)
+						.filters(Collections.<ImageFilter>singletonList(
+								new Canvas(100, 100, Positions.CENTER)
+						))
+						.build()
+		);
+
+		// when
+		BufferedImage img = source.read();
+
+		// then
+		assertEquals(1000, img.getWidth());
+		assertEquals(800, img.getHeight());
+	}
+
+	/**
+	 * Returns a red JPEG image with a blue embedded thumbnail.
+	 */
+	private static InputStream makeJpegWithEmbeddedThumbnail(
+			int width, int height,
+			int thumbnailWidth, int thumbnailHeight,
+			int orientation
+	) throws IOException {
+		BufferedImage img = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics g = img.getGraphics();
+		g.setColor(Color.red);
+		g.fillRect(0, 0, width, height);
+		g.dispose();
+
+		BufferedImage thumbnail = new BufferedImage(thumbnailWidth, thumbnailHeight, BufferedImage.TYPE_INT_RGB);
+		g = thumbnail.getGraphics();
+		g.setColor(Color.blue);
+		g.fillRect(0, 0, thumbnailWidth, thumbnailHeight);
+		g.dispose();
+
+		byte[] exifData = TestUtils.makeExifWithThumbnail(orientation, TestUtils.toJpeg(thumbnail));
+		return new ByteArrayInputStream(TestUtils.makeJpegWithExif(img, exifData));
+	}
+
+	@Test
+	public void embeddedThumbnailUsedWhenLargeEnough() throws IOException {
+		// given
+		InputStreamImageSource source = new InputStreamImageSource(
+				makeJpegWithEmbeddedThumbnail(800, 600, 160, 120, 1)
+		);
+		source.setThumbnailParameter(
+				new ThumbnailParameterBuilder()
+						.size(100, 100)
+						.useEmbeddedThumbnail(true)
+						.build()
+		);
+
+		// when
+		BufferedImage img = source.read();
+
+		// then
+		assertEquals(160, img.getWidth());
+		assertEquals(120, img.getHeight());
+		assertEquals(0, img.getRGB(80, 60) & 0xFF0000);
+		assertEquals(new Dimension(800, 600), source.getOriginalSize());
+	}
+
+	@Test
+	public void embeddedThumbnailNotUsedByDefault() throws IOException {
+		// given
+		InputStreamImageSource source = new InputStreamImageSource(
+				makeJpegWithEmbeddedThumbnail(800, 600, 160, 120, 1)
+		);
+		source.setThumbnailParameter(
+				new ThumbnailParameterBuilder()
+						.size(100, 100)
+						.build()
+		);
+
+		// when
+		BufferedImage img = source.read();
+
+		// then
+		assertEquals(800, img.getWidth());
+		assertEquals(600, img.getHeight());
+	}
+
+	@Test
+	public void embeddedThumbnailNotUsedWhenTooSmall() throws IOException {
+		// given
+		InputStreamImageSource source = new InputStreamImageSource(
+				makeJpegWithEmbeddedThumbnail(800, 600, 160, 120, 1)
+		);
+		source.setThumbnailParameter(
+				new ThumbnailParameterBuilder()
+						.size(200, 200)
+						.useEmbeddedThumbnail(true)
+						.build()
+		);
+
+		// when
+		BufferedImage img = source.read();
+
+		// then
+		assertEquals(800, img.getWidth());
+		assertEquals(600, img.getHeight());
+	}
+
+	@Test
+	public void embeddedThumbnailNotUsedWhenLetterboxed() throws IOException {
+		// given
+		InputStreamImageSource source = new InputStreamImageSource(
+				makeJpegWithEmbeddedThumbnail(900, 600, 160, 120, 1)
+		);
+		source.setThumbnailParameter(
+				new ThumbnailParameterBuilder()
+						.size(50, 50)
+						.useEmbeddedThumbnail(true)
+						.build()
+		);
+
+		// when
+		BufferedImage img = source.read();
+
+		// then
+		assertEquals(900, img.getWidth());
+		assertEquals(600, img.getHeight());
+	}
+
+	@Test
+	public void embeddedThumbnailWithOrientation() throws IOException {
+		// given
+		ThumbnailParameter param = new ThumbnailParameterBuilder()
+				.size(60, 100)
+				.useEmbeddedThumbnail(true)
+				.build();
+		InputStreamImageSource source = new InputStreamImageSource(
+				makeJpegWithEmbeddedThumbnail(800, 600, 160, 120, 6)
+		);
+		source.setThumbnailParameter(param);
+
+		// when
+		BufferedImage img = source.read();
+
+		// then
+		assertEquals(160, img.getWidth());
+		assertEquals(120, img.getHeight());
+		// Orientation is applied by the filter added for it.
+		assertEquals(1, param.getImageFilters().size());
+	}
 }
@@ -0,0 +1,178 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Arrays;
+
+import net.coobird.thumbnailator.ThumbnailParameter;
+import net.coobird.thumbnailator.Thumbnailator;
+import net.coobird.thumbnailator.builders.ThumbnailParameterBuilder;
+import net.coobird.thumbnailator.tasks.SourceSinkThumbnailTask;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class RawPixelImageSinkTest {
+	@Test
+	public void writeCopiesIntoArray() throws IOException {
+		// given
+		BufferedImage img = new BufferedImage(2, 1, BufferedImage.TYPE_INT_ARGB);
+		img.setRGB(0, 0, 0xFF112233);
+		img.setRGB(1, 0, 0x80445566);
+		int[] pixels = new int[2];
+		RawPixelImageSink sink =
+			new RawPixelImageSink(pixels, 2, 1, RawPixelFormat.INT_ARGB);
+		
+		// when
+		sink.write(img);
+		
+		// then
+		assertSame(pixels, sink.getSink());
+		assertEquals(0xFF112233, pixels[0]);
+		assertEquals(0x80445566, pixels[1]);
+	}
+	
+	@Test
+	public void writeReplacesPreviousContent() throws IOException {
+		// given
+		BufferedImage img = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+		int[] pixels = new int[] {0xFFFFFFFF};
+		
+		// when
+		new RawPixelImageSink(pixels, 1, 1, RawPixelFormat.INT_ARGB).write(img);
+		
+		// then
+		assertEquals(0, pixels[0]);
+	}
+	
+	@Test
+	public void writeIntoByteArrayWithStride() throws IOException {
+		// given
+		BufferedImage img = new BufferedImage(1, 2, BufferedImage.TYPE_INT_RGB);
+		img.setRGB(0, 0, 0x010203);
+		img.setRGB(0, 1, 0x040506);
+		byte[] pixels = new byte[8];
+		
+		// when
+		new RawPixelImageSink(pixels, 1, 4, 1, 2, RawPixelFormat.BYTE_BGR).write(img);
+		
+		// then
+		assertArrayEquals(
+				new byte[] {0, 3, 2, 1, 0, 6, 5, 4},
+				pixels
+		);
+	}
+	
+	@Test
+	public void writeOwnImage() throws IOException {
+		// given
+		int[] pixels = new int[4];
+		RawPixelImageSink sink =
+			new RawPixelImageSink(pixels, 2, 2, RawPixelFormat.INT_RGB);
+		sink.getDestinationImage().setRGB(1, 1, 0x123456);
+		
+		// when
+		sink.write(sink.getDestinationImage());
+		
+		// then
+		assertEquals(0x123456, pixels[3] & 0xFFFFFF);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void writeImageOfOtherDimensions() throws IOException {
+		// given
+		BufferedImage img = new BufferedImage(3, 2, BufferedImage.TYPE_INT_ARGB);
+		
+		// when
+		new RawPixelImageSink(new int[4], 2, 2, RawPixelFormat.INT_ARGB).write(img);
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void getSink_BeforeWrite() throws IOException {
+		try {
+			// when
+			new RawPixelImageSink(new int[4], 2, 2, RawPixelFormat.INT_ARGB).getSink();
+			fail();
+		} catch (IllegalStateException e) {
+			// then
+			assertEquals("RawPixelImageSink has not been written to yet.", e.getMessage());
+			throw e;
+		}
+	}
+	
+	@Test
+	public void thumbnailResizedDirectlyIntoArray() throws IOException {
+		// given
+		int[] srcPixels = new int[100 * 100];
+		Arrays.fill(srcPixels, 0xFF336699);
+		int[] destPixels = new int[10 * 10];
+		Arrays.fill(destPixels, 0xFFFFFFFF);
+		
+		RawPixelImageSource source =
+			new RawPixelImageSource(srcPixels, 100, 100, RawPixelFormat.INT_ARGB);
+		RawPixelImageSink sink =
+			new RawPixelImageSink(destPixels, 10, 10, RawPixelFormat.INT_ARGB);
+		ThumbnailParameter param =
+			new ThumbnailParameterBuilder().size(10, 10).build();
+		SourceSinkThumbnailTask<Object, Object> task =
+			new SourceSinkThumbnailTask<Object, Object>(param, source, sink);
+		
+		// when
+		Thumbnailator.createThumbnail(task);
+		
+		// then
+		assertSame(sink.getDestinationImage(), task.getDestinationImage());
+		for (int pixel : destPixels) {
+			assertEquals(0xFF336699, pixel);
+		}
+	}
+	
+	@Test
+	public void translucentThumbnailNotBlendedWithPreviousContent() throws IOException {
+		// given
+		int[] srcPixels = new int[20 * 20];
+		int[] destPixels = new int[10 * 10];
+		Arrays.fill(destPixels, 0xFFFFFFFF);
+		
+		ThumbnailParameter param =
+			new ThumbnailParameterBuilder().size(10, 10).build();
+		SourceSinkThumbnailTask<Object, Object> task =
+			new SourceSinkThumbnailTask<Object, Object>(
+					param,
+					new RawPixelImageSource(srcPixels, 20, 20, RawPixelFormat.INT_ARGB),
+					new RawPixelImageSink(destPixels, 10, 10, RawPixelFormat.INT_ARGB)
+			);
+		
+		// when
+		Thumbnailator.createThumbnail(task);
+		
+		// then
+		for (int pixel : destPixels) {
+			assertEquals(0, pixel);
+		}
+	}
+}
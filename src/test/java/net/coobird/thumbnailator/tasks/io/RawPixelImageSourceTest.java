@@ -0,0 +1,193 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.tasks.io;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+import net.coobird.thumbnailator.ThumbnailParameter;
+import net.coobird.thumbnailator.builders.ThumbnailParameterBuilder;
+import net.coobird.thumbnailator.geometry.Coordinate;
+import net.coobird.thumbnailator.geometry.AbsoluteSize;
+import net.coobird.thumbnailator.geometry.Region;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class RawPixelImageSourceTest {
+	@Test
+	public void readIntArgb() throws IOException {
+		// given
+		int[] pixels = new int[] {
+				0xFFFF0000, 0x8000FF00,
+				0x000000FF, 0xFF123456
+		};
+		RawPixelImageSource source =
+			new RawPixelImageSource(pixels, 2, 2, RawPixelFormat.INT_ARGB);
+		
+		// when
+		BufferedImage img = source.read();
+		
+		// then
+		assertEquals(BufferedImage.TYPE_INT_ARGB, img.getType());
+		assertEquals(0xFFFF0000, img.getRGB(0, 0));
+		assertEquals(0x8000FF00, img.getRGB(1, 0));
+		assertEquals(0xFF123456, img.getRGB(1, 1));
+		assertNull(source.getInputFormatName());
+		assertSame(pixels, source.getSource());
+	}
+	
+	@Test
+	public void readDoesNotCopyPixels() throws IOException {
+		// given
+		int[] pixels = new int[4];
+		RawPixelImageSource source =
+			new RawPixelImageSource(pixels, 2, 2, RawPixelFormat.INT_RGB);
+		BufferedImage img = source.read();
+		
+		// when
+		pixels[3] = 0x00ABCDEF;
+		
+		// then
+		assertEquals(0xFFABCDEF, img.getRGB(1, 1));
+	}
+	
+	@Test
+	public void readIntRgbaWithOffsetAndStride() throws IOException {
+		// given
+		int[] pixels = new int[] {
+				-1, -1, -1, -1,
+				-1, 0x11223344, 0x55667788, -1,
+				-1, 0x99AABBCC, 0xDDEEFF00, -1
+		};
+		
+		// when
+		BufferedImage img = new RawPixelImageSource(
+				pixels, 5, 4, 2, 2, RawPixelFormat.INT_RGBA
+		).read();
+		
+		// then
+		assertEquals(0x44112233, img.getRGB(0, 0));
+		assertEquals(0x88556677, img.getRGB(1, 0));
+		assertEquals(0xCC99AABB, img.getRGB(0, 1));
+		assertEquals(0x00DDEEFF, img.getRGB(1, 1));
+	}
+	
+	@Test
+	public void readByteBgr() throws IOException {
+		// given
+		byte[] pixels = new byte[] {
+				0x01, 0x02, 0x03, 0x04, 0x05, 0x06
+		};
+		
+		// when
+		BufferedImage img = new RawPixelImageSource(
+				pixels, 2, 1, RawPixelFormat.BYTE_BGR
+		).read();
+		
+		// then
+		assertEquals(BufferedImage.TYPE_3BYTE_BGR, img.getType());
+		assertEquals(0xFF030201, img.getRGB(0, 0));
+		assertEquals(0xFF060504, img.getRGB(1, 0));
+	}
+	
+	@Test
+	public void readByteRgbaWithStride() throws IOException {
+		// given
+		byte[] pixels = new byte[] {
+				0x11, 0x22, 0x33, (byte)0xFF, 0, 0,
+				0x44, 0x55, 0x66, (byte)0x80, 0, 0
+		};
+		
+		// when
+		BufferedImage img = new RawPixelImageSource(
+				pixels, 0, 6, 1, 2, RawPixelFormat.BYTE_RGBA
+		).read();
+		
+		// then
+		assertEquals(0xFF112233, img.getRGB(0, 0));
+		assertEquals(0x80, img.getRGB(0, 1) >>> 24);
+	}
+	
+	@Test
+	public void readByteGray() throws IOException {
+		// given
+		byte[] pixels = new byte[] {0, (byte)0xFF};
+		
+		// when
+		BufferedImage img = new RawPixelImageSource(
+				pixels, 2, 1, RawPixelFormat.BYTE_GRAY
+		).read();
+		
+		// then
+		assertEquals(0xFF000000, img.getRGB(0, 0));
+		assertEquals(0xFFFFFFFF, img.getRGB(1, 0));
+	}
+	
+	@Test
+	public void readWithSourceRegion() throws IOException {
+		// given
+		int[] pixels = new int[] {
+				1, 2, 3,
+				4, 5, 6
+		};
+		ThumbnailParameter param = new ThumbnailParameterBuilder()
+				.size(1, 1)
+				.region(new Region(new Coordinate(1, 1), new AbsoluteSize(2, 1)))
+				.build();
+		RawPixelImageSource source =
+			new RawPixelImageSource(pixels, 3, 2, RawPixelFormat.INT_RGB);
+		source.setThumbnailParameter(param);
+		
+		// when
+		BufferedImage img = source.read();
+		
+		// then
+		assertEquals(2, img.getWidth());
+		assertEquals(1, img.getHeight());
+		assertEquals(5, img.getRGB(0, 0) & 0xFFFFFF);
+		assertEquals(6, img.getRGB(1, 0) & 0xFFFFFF);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void arrayTooSmall() {
+		new RawPixelImageSource(new int[5], 3, 2, RawPixelFormat.INT_ARGB);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void strideTooSmall() {
+		new RawPixelImageSource(new byte[12], 0, 5, 2, 2, RawPixelFormat.BYTE_RGB);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void formatDoesNotMatchArrayType() {
+		new RawPixelImageSource(new byte[16], 2, 2, RawPixelFormat.INT_ARGB);
+	}
+	
+	@Test(expected=NullPointerException.class)
+	public void nullArray() {
+		new RawPixelImageSource((int[])null, 2, 2, RawPixelFormat.INT_ARGB);
+	}
+}
@@ -25,12 +25,17 @@
 package net.coobird.thumbnailator.util.exif;
 
 import static net.coobird.thumbnailator.TestUtils.getResourceStream;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import java.io.InputStream;
 
 import javax.imageio.ImageIO;
 import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import net.coobird.thumbnailator.TestUtils;
 
 import org.junit.Test;
 
@@ -166,4 +171,86 @@ public class ExifUtilsTest {
 		// then
 		assertEquals(Orientation.typeOf(8), orientation);
 	}
+
+	@Test
+	public void exifOrientationFromStreamForAllOrientations() throws Exception {
+		for (int i = 1; i <= 8; i++) {
+			// given
+			InputStream is = getResourceStream("Exif/orientation_" + i + ".jpg");
+			ImageInputStream iis = ImageIO.createImageInputStream(is);
+
+			// when
+			Orientation orientation = ExifUtils.getExifOrientation(iis);
+			iis.close();
+			is.close();
+
+			// then
+			assertEquals(Orientation.typeOf(i), orientation);
+		}
+	}
+
+	@Test
+	public void exifOrientationFromStreamNotJpeg() throws Exception {
+		// given
+		InputStream is = getResourceStream("Exif/original.png");
+		ImageInputStream iis = ImageIO.createImageInputStream(is);
+
+		// when
+		Orientation orientation = ExifUtils.getExifOrientation(iis);
+		iis.close();
+		is.close();
+
+		// then
+		assertNull(orientation);
+	}
+
+	@Test
+	public void thumbnailFromExif() throws Exception {
+		// given
+		byte[] thumbnail = new byte[] {(byte)0xFF, (byte)0xD8, 1, 2, 3, (byte)0xFF, (byte)0xD9};
+		byte[] exifData = TestUtils.makeExifWithThumbnail(6, thumbnail);
+
+		// when
+		byte[] result = ExifUtils.getThumbnailFromExif(exifData);
+
+		// then
+		assertArrayEquals(thumbnail, result);
+		assertEquals(Orientation.RIGHT_TOP, ExifUtils.getOrientationFromExif(exifData));
+	}
+
+	@Test
+	public void thumbnailFromExifWithoutIfd1() throws Exception {
+		// given
+		InputStream is = getResourceStream("Exif/orientation_6.jpg");
+		ImageReader reader = ImageIO.getImageReadersByFormatName("jpg").next();
+		reader.setInput(ImageIO.createImageInputStream(is));
+		byte[] exifData = ExifUtils.getExifData(reader, 0);
+		is.close();
+
+		// when
+		byte[] result = ExifUtils.getThumbnailFromExif(exifData);
+
+		// then
+		assertNull(result);
+	}
+
+	@Test
+	public void orientationFromDataShorterThanExifIdentifier() {
+		// when
+		Orientation orientation = ExifUtils.getOrientationFromExif(new byte[] {'E', 'x'});
+		
+		// then
+		assertNull(orientation);
+	}
+	
+	@Test
+	public void orientationFromDataWithoutExifIdentifier() {
+		// when
+		Orientation orientation = ExifUtils.getOrientationFromExif(
+				new byte[] {'E', 'x', 'i', 'x', 0, 0, 'M', 'M', 0, 42, 0, 0, 0, 8}
+		);
+		
+		// then
+		assertNull(orientation);
+	}
 }
@@ -0,0 +1,184 @@
+/*
+ * Thumbnailator - a thumbnail generation library
+ *
+ * Copyright (c) 2008-2023 Chris Kroells
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.coobird.thumbnailator.util.exif;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageInputStream;
+
+import net.coobird.thumbnailator.TestUtils;
+import net.coobird.thumbnailator.util.exif.JpegSegments.Segment;
+import net.coobird.thumbnailator.util.exif.JpegSegments.SegmentType;
+
+import org.junit.Test;
+
+public class JpegSegmentsTest {
+	
+	private static byte[] makeJpeg(String... fragments) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		for (String fragment : fragments) {
+			InputStream is = TestUtils.getResourceStream("Exif/fragments/" + fragment);
+			try {
+				byte[] buf = new byte[4096];
+				int n;
+				while ((n = is.read(buf)) != -1) {
+					baos.write(buf, 0, n);
+				}
+			} finally {
+				is.close();
+			}
+		}
+		return baos.toByteArray();
+	}
+	
+	private static JpegSegments scan(byte[] data) throws IOException {
+		ImageInputStream iis = ImageIO.createImageInputStream(new ByteArrayInputStream(data));
+		try {
+			return JpegSegments.scan(iis);
+		} finally {
+			iis.close();
+		}
+	}
+	
+	@Test
+	public void segmentsFoundInOrder() throws IOException {
+		// given
+		byte[] data = makeJpeg("soi.segment", "app0.segment", "exif.segment", "xmp.segment", "rest");
+		
+		// when
+		JpegSegments segments = scan(data);
+		
+		// then
+		List<Segment> list = segments.getSegments();
+		assertEquals(3, list.size());
+		assertEquals(0xE0, list.get(0).getMarker());
+		assertEquals(SegmentType.OTHER, list.get(0).getType());
+		assertEquals(SegmentType.EXIF, list.get(1).getType());
+		assertEquals(SegmentType.XMP, list.get(2).getType());
+	}
+	
+	@Test
+	public void segmentOffsetAndLength() throws IOException {
+		// given
+		byte[] data = makeJpeg("soi.segment", "exif.segment", "app0.segment", "rest");
+		
+		// when
+		JpegSegments segments = scan(data);
+		
+		// then
+		Segment exif = segments.getFirst(SegmentType.EXIF);
+		assertEquals(2 + 4, exif.getOffset());
+		assertEquals(0x62 - 2, exif.getLength());
+		
+		Segment app0 = segments.getSegments().get(1);
+		assertEquals(2 + 2 + 0x62 + 4, app0.getOffset());
+		assertEquals(0x10 - 2, app0.getLength());
+	}
+	
+	@Test
+	public void readPayload() throws IOException {
+		// given
+		byte[] data = makeJpeg("soi.segment", "xmp.segment", "exif.segment", "rest");
+		ImageInputStream iis = ImageIO.createImageInputStream(new ByteArrayInputStream(data));
+		
+		// when
+		byte[] payload;
+		try {
+			JpegSegments segments = JpegSegments.scan(iis);
+			payload = JpegSegments.readPayload(iis, segments.getFirst(SegmentType.EXIF));
+		} finally {
+			iis.close();
+		}
+		
+		// then
+		byte[] expected = new byte[0x62 - 2];
+		System.arraycopy(data, 2 + 0x0b0b + 2 + 4, expected, 0, expected.length);
+		assertArrayEquals(expected, payload);
+		assertEquals(Orientation.TOP_RIGHT, ExifUtils.getOrientationFromExif(payload));
+	}
+	
+	@Test
+	public void segmentNotFound() throws IOException {
+		// given
+		byte[] data = makeJpeg("soi.segment", "app0.segment", "rest");
+		
+		// when
+		JpegSegments segments = scan(data);
+		
+		// then
+		assertEquals(1, segments.getSegments().size());
+		assertNull(segments.getFirst(SegmentType.EXIF));
+		assertNull(segments.getFirst(SegmentType.ICC_PROFILE));
+	}
+	
+	@Test
+	public void scanStopsAtStartOfScan() throws IOException {
+		// given
+		ImageInputStream iis = ImageIO.createImageInputStream(
+				new File("src/test/resources/Exif/orientation_6.jpg")
+		);
+		
+		// when
+		JpegSegments segments;
+		try {
+			segments = JpegSegments.scan(iis);
+		} finally {
+			iis.close();
+		}
+		
+		// then
+		assertNotNull(segments.getFirst(SegmentType.EXIF));
+	}
+	
+	@Test
+	public void notJpeg() throws IOException {
+		// given
+		ImageInputStream iis = ImageIO.createImageInputStream(
+				new File("src/test/resources/Thumbnailator/grid.png")
+		);
+		
+		// when
+		JpegSegments segments;
+		try {
+			segments = JpegSegments.scan(iis);
+		} finally {
+			iis.close();
+		}
+		
+		// then
+		assertNull(segments);
+	}
+}